@@ -165,6 +165,10 @@ public class Field102 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -251,6 +255,10 @@ public class Field102 extends Field implements Serializable {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("LT Address");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("lTAddress");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -260,9 +268,7 @@ public class Field102 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("LT Address");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -271,9 +277,7 @@ public class Field102 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "lTAddress");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -282,13 +286,7 @@ public class Field102 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("ltaddress", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -164,6 +164,10 @@ public class Field104 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -250,6 +254,10 @@ public class Field104 extends Field implements Serializable {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Message Priority");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("messagePriority");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -259,9 +267,7 @@ public class Field104 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Message Priority");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -270,9 +276,7 @@ public class Field104 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "messagePriority");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -281,13 +285,7 @@ public class Field104 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("messagepriority", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
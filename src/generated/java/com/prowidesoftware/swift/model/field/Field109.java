@@ -189,6 +189,10 @@ public class Field109 extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -292,6 +296,10 @@ public class Field109 extends Field implements Serializable, DateContainer {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Date", "Time", "MIR");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("date", "time", "mIR");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -301,11 +309,7 @@ public class Field109 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Time");
-        result.add("MIR");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -314,11 +318,7 @@ public class Field109 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "time");
-        result.put(3, "mIR");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -327,15 +327,7 @@ public class Field109 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("time", 2);
-        super.labelMap.put("mir", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
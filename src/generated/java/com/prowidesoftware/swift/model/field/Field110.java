@@ -166,6 +166,10 @@ public class Field110 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -252,6 +256,10 @@ public class Field110 extends Field implements Serializable {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Window Size");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("windowSize");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -261,9 +269,7 @@ public class Field110 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Window Size");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -272,9 +278,7 @@ public class Field110 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "windowSize");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -283,13 +287,7 @@ public class Field110 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("windowsize", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
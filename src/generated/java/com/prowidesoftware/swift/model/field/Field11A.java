@@ -176,6 +176,10 @@ public class Field11A extends Field implements Serializable, CurrencyContainer,
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -270,6 +274,10 @@ public class Field11A extends Field implements Serializable, CurrencyContainer,
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Currency Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "currencyCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "currency", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -279,10 +287,7 @@ public class Field11A extends Field implements Serializable, CurrencyContainer,
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Currency Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -291,10 +296,7 @@ public class Field11A extends Field implements Serializable, CurrencyContainer,
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "currencyCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -303,16 +305,7 @@ public class Field11A extends Field implements Serializable, CurrencyContainer,
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("currencycode", 2);
-        // alias name
-        super.labelMap.put("currency", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
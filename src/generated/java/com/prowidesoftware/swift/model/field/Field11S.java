@@ -207,6 +207,10 @@ public class Field11S extends Field implements Serializable, DateContainer, Mult
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null) {
@@ -324,6 +328,10 @@ public class Field11S extends Field implements Serializable, DateContainer, Mult
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("MT Number", "Date", "Session Number", "ISN");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("mTNumber", "date", "sessionNumber", "iSN");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "mt", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -333,12 +341,7 @@ public class Field11S extends Field implements Serializable, DateContainer, Mult
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("MT Number");
-        result.add("Date");
-        result.add("Session Number");
-        result.add("ISN");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -347,12 +350,7 @@ public class Field11S extends Field implements Serializable, DateContainer, Mult
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "mTNumber");
-        result.put(2, "date");
-        result.put(3, "sessionNumber");
-        result.put(4, "iSN");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -361,18 +359,7 @@ public class Field11S extends Field implements Serializable, DateContainer, Mult
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("mtnumber", 1);
-        // alias name
-        super.labelMap.put("mt", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("sessionnumber", 3);
-        super.labelMap.put("isn", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
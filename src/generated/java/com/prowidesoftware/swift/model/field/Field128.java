@@ -174,6 +174,10 @@ public class Field128 extends Field implements Serializable, BICContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -267,6 +271,10 @@ public class Field128 extends Field implements Serializable, BICContainer {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Priority", "BIC");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("priority", "bIC");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -276,10 +284,7 @@ public class Field128 extends Field implements Serializable, BICContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Priority");
-        result.add("BIC");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -288,10 +293,7 @@ public class Field128 extends Field implements Serializable, BICContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "priority");
-        result.put(2, "bIC");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -300,14 +302,7 @@ public class Field128 extends Field implements Serializable, BICContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("priority", 1);
-        super.labelMap.put("bic", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
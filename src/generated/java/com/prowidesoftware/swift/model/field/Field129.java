@@ -173,6 +173,10 @@ public class Field129 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -266,6 +270,10 @@ public class Field129 extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Section", "Total");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("section", "total");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -275,10 +283,7 @@ public class Field129 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Section");
-        result.add("Total");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -287,10 +292,7 @@ public class Field129 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "section");
-        result.put(2, "total");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -299,14 +301,7 @@ public class Field129 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("section", 1);
-        super.labelMap.put("total", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -180,6 +180,10 @@ public class Field12A extends Field implements Serializable, GenericField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -283,6 +287,10 @@ public class Field12A extends Field implements Serializable, GenericField {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Data Source Scheme", "Instrument Code Or Description");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "dataSourceScheme", "instrumentCodeOrDescription");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "instrumentcode", 3);
+
     /**
      * Returns english label for components.
      * <br>
@@ -292,11 +300,7 @@ public class Field12A extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Instrument Code Or Description");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -305,11 +309,7 @@ public class Field12A extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "instrumentCodeOrDescription");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -318,17 +318,7 @@ public class Field12A extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("instrumentcodeordescription", 3);
-        // alias name
-        super.labelMap.put("instrumentcode", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -185,6 +185,10 @@ public class Field12B extends Field implements Serializable, GenericField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -288,6 +292,10 @@ public class Field12B extends Field implements Serializable, GenericField {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Data Source Scheme", "Instrument Type Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "dataSourceScheme", "instrumentTypeCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "type", 3);
+
     /**
      * Returns english label for components.
      * <br>
@@ -297,11 +305,7 @@ public class Field12B extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Instrument Type Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -310,11 +314,7 @@ public class Field12B extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "instrumentTypeCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -323,17 +323,7 @@ public class Field12B extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("instrumenttypecode", 3);
-        // alias name
-        super.labelMap.put("type", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
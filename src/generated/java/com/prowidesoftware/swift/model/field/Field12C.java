@@ -172,6 +172,10 @@ public class Field12C extends Field implements Serializable, GenericField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -266,6 +270,10 @@ public class Field12C extends Field implements Serializable, GenericField {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "CFI Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "cFICode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -275,10 +283,7 @@ public class Field12C extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("CFI Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -287,10 +292,7 @@ public class Field12C extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "cFICode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -299,14 +301,7 @@ public class Field12C extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("cficode", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -193,6 +193,10 @@ public class Field130 extends Field implements Serializable, MultiLineField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append("/");
         append(result, 1);
@@ -302,6 +306,10 @@ public class Field130 extends Field implements Serializable, MultiLineField {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Heading Code", "Heading Text", "Heading Code 2", "Heading Text 2");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("headingCode", "headingText", "headingCode2", "headingText2");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -311,12 +319,7 @@ public class Field130 extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Heading Code");
-        result.add("Heading Text");
-        result.add("Heading Code 2");
-        result.add("Heading Text 2");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -325,12 +328,7 @@ public class Field130 extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "headingCode");
-        result.put(2, "headingText");
-        result.put(3, "headingCode2");
-        result.put(4, "headingText2");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -339,16 +337,7 @@ public class Field130 extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("headingcode", 1);
-        super.labelMap.put("headingtext", 2);
-        super.labelMap.put("headingcode2", 3);
-        super.labelMap.put("headingtext2", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -189,6 +189,10 @@ public class Field134 extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         appendInLines(result, 1, 3);
         return result.toString();
@@ -284,6 +288,10 @@ public class Field134 extends Field implements Serializable, BICContainer, Multi
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("BIC", "Broadcast Requester Name", "Broadcast Requester City");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("bIC", "broadcastRequesterName", "broadcastRequesterCity");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -293,11 +301,7 @@ public class Field134 extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("BIC");
-        result.add("Broadcast Requester Name");
-        result.add("Broadcast Requester City");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -306,11 +310,7 @@ public class Field134 extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "bIC");
-        result.put(2, "broadcastRequesterName");
-        result.put(3, "broadcastRequesterCity");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -319,15 +319,7 @@ public class Field134 extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("bic", 1);
-        super.labelMap.put("broadcastrequestername", 2);
-        super.labelMap.put("broadcastrequestercity", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -173,6 +173,10 @@ public class Field136 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -264,6 +268,10 @@ public class Field136 extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Broadcast Indicator", "Broadcast Number");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("broadcastIndicator", "broadcastNumber");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -273,10 +281,7 @@ public class Field136 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Broadcast Indicator");
-        result.add("Broadcast Number");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -285,10 +290,7 @@ public class Field136 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "broadcastIndicator");
-        result.put(2, "broadcastNumber");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -297,14 +299,7 @@ public class Field136 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("broadcastindicator", 1);
-        super.labelMap.put("broadcastnumber", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -198,6 +198,10 @@ public class Field137 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -297,6 +301,10 @@ public class Field137 extends Field implements Serializable {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Broadcast Indicator", "Unsequenced Broadcast", "Broadcast Issuer", "Broadcast Number");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("broadcastIndicator", "unsequencedBroadcast", "broadcastIssuer", "broadcastNumber");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -306,12 +314,7 @@ public class Field137 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Broadcast Indicator");
-        result.add("Unsequenced Broadcast");
-        result.add("Broadcast Issuer");
-        result.add("Broadcast Number");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -320,12 +323,7 @@ public class Field137 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "broadcastIndicator");
-        result.put(2, "unsequencedBroadcast");
-        result.put(3, "broadcastIssuer");
-        result.put(4, "broadcastNumber");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -334,16 +332,7 @@ public class Field137 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("broadcastindicator", 1);
-        super.labelMap.put("unsequencedbroadcast", 2);
-        super.labelMap.put("broadcastissuer", 3);
-        super.labelMap.put("broadcastnumber", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -178,6 +178,10 @@ public class Field13A extends Field implements Serializable, GenericField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -272,6 +276,10 @@ public class Field13A extends Field implements Serializable, GenericField {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Number Id");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "numberId");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "numberidentification", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -281,10 +289,7 @@ public class Field13A extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Number Id");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -293,10 +298,7 @@ public class Field13A extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "numberId");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -305,16 +307,7 @@ public class Field13A extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("numberid", 2);
-        // alias name
-        super.labelMap.put("numberidentification", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
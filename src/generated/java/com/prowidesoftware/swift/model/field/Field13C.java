@@ -197,6 +197,10 @@ public class Field13C extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append("/");
         append(result, 1);
@@ -305,6 +309,10 @@ public class Field13C extends Field implements Serializable {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Code", "Time Indication", "Sign", "Time Offset");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("code", "timeIndication", "sign", "timeOffset");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "time", 2, "offset", 4);
+
     /**
      * Returns english label for components.
      * <br>
@@ -314,12 +322,7 @@ public class Field13C extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code");
-        result.add("Time Indication");
-        result.add("Sign");
-        result.add("Time Offset");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -328,12 +331,7 @@ public class Field13C extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code");
-        result.put(2, "timeIndication");
-        result.put(3, "sign");
-        result.put(4, "timeOffset");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -342,20 +340,7 @@ public class Field13C extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code", 1);
-        super.labelMap.put("timeindication", 2);
-        // alias name
-        super.labelMap.put("time", 2);
-        super.labelMap.put("sign", 3);
-        super.labelMap.put("timeoffset", 4);
-        // alias name
-        super.labelMap.put("offset", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -198,6 +198,10 @@ public class Field13D extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -305,6 +309,10 @@ public class Field13D extends Field implements Serializable, DateContainer {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Date", "Time", "Sign", "Offset");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("date", "time", "sign", "offset");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -314,12 +322,7 @@ public class Field13D extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Time");
-        result.add("Sign");
-        result.add("Offset");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -328,12 +331,7 @@ public class Field13D extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "time");
-        result.put(3, "sign");
-        result.put(4, "offset");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -342,16 +340,7 @@ public class Field13D extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("time", 2);
-        super.labelMap.put("sign", 3);
-        super.labelMap.put("offset", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
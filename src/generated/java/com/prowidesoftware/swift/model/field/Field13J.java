@@ -173,6 +173,10 @@ public class Field13J extends Field implements Serializable, GenericField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -267,6 +271,10 @@ public class Field13J extends Field implements Serializable, GenericField {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Extended Number Id");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "extendedNumberId");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "code", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -276,10 +284,7 @@ public class Field13J extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Extended Number Id");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -288,10 +293,7 @@ public class Field13J extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "extendedNumberId");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -300,16 +302,7 @@ public class Field13J extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("extendednumberid", 2);
-        // alias name
-        super.labelMap.put("code", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
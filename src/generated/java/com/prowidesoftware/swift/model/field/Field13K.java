@@ -185,6 +185,10 @@ public class Field13K extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -291,6 +295,10 @@ public class Field13K extends Field implements Serializable, AmountContainer, Ge
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Number Id", "Quantity");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "numberId", "quantity");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "amount", 3);
+
     /**
      * Returns english label for components.
      * <br>
@@ -300,11 +308,7 @@ public class Field13K extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Number Id");
-        result.add("Quantity");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -313,11 +317,7 @@ public class Field13K extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "numberId");
-        result.put(3, "quantity");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -326,17 +326,7 @@ public class Field13K extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("numberid", 2);
-        super.labelMap.put("quantity", 3);
-        // alias name
-        super.labelMap.put("amount", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -159,6 +159,10 @@ public class Field14Q extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -245,6 +249,10 @@ public class Field14Q extends Field implements Serializable {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels((String) null);
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap();
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -254,9 +262,7 @@ public class Field14Q extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add(null);
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -265,8 +271,7 @@ public class Field14Q extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -275,12 +280,7 @@ public class Field14Q extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
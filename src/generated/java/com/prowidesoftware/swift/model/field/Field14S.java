@@ -201,6 +201,10 @@ public class Field14S extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         append(result, 2);
@@ -317,6 +321,10 @@ public class Field14S extends Field implements Serializable {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Source", "Number", "Time", "Location");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("source", "number", "time", "location");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -326,12 +334,7 @@ public class Field14S extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Source");
-        result.add("Number");
-        result.add("Time");
-        result.add("Location");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -340,12 +343,7 @@ public class Field14S extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "source");
-        result.put(2, "number");
-        result.put(3, "time");
-        result.put(4, "location");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -354,16 +352,7 @@ public class Field14S extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("source", 1);
-        super.labelMap.put("number", 2);
-        super.labelMap.put("time", 3);
-        super.labelMap.put("location", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
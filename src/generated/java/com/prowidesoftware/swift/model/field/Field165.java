@@ -171,6 +171,10 @@ public class Field165 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append("/");
         append(result, 1);
@@ -265,6 +269,10 @@ public class Field165 extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Service Code", "Payment Information");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("serviceCode", "paymentInformation");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -274,10 +282,7 @@ public class Field165 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Service Code");
-        result.add("Payment Information");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -286,10 +291,7 @@ public class Field165 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "serviceCode");
-        result.put(2, "paymentInformation");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -298,14 +300,7 @@ public class Field165 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("servicecode", 1);
-        super.labelMap.put("paymentinformation", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -167,6 +167,10 @@ public class Field171 extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -258,6 +262,10 @@ public class Field171 extends Field implements Serializable, DateContainer {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Date");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("date");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -267,9 +275,7 @@ public class Field171 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -278,9 +284,7 @@ public class Field171 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -289,13 +293,7 @@ public class Field171 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
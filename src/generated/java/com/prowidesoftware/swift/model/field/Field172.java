@@ -180,6 +180,10 @@ public class Field172 extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -280,6 +284,10 @@ public class Field172 extends Field implements Serializable, DateContainer {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Start Date", "End Date");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("startDate", "endDate");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -289,10 +297,7 @@ public class Field172 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Start Date");
-        result.add("End Date");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -301,10 +306,7 @@ public class Field172 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "startDate");
-        result.put(2, "endDate");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -313,14 +315,7 @@ public class Field172 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("startdate", 1);
-        super.labelMap.put("enddate", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
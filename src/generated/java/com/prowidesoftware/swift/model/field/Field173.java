@@ -167,6 +167,10 @@ public class Field173 extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -259,6 +263,10 @@ public class Field173 extends Field implements Serializable, DateContainer {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Day Time");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("dayTime");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -268,9 +276,7 @@ public class Field173 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Day Time");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -279,9 +285,7 @@ public class Field173 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dayTime");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -290,13 +294,7 @@ public class Field173 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("daytime", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
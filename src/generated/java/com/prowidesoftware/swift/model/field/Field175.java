@@ -165,6 +165,10 @@ public class Field175 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -256,6 +260,10 @@ public class Field175 extends Field implements Serializable {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Time");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("time");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -265,9 +273,7 @@ public class Field175 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Time");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -276,9 +282,7 @@ public class Field175 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "time");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -287,13 +291,7 @@ public class Field175 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("time", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
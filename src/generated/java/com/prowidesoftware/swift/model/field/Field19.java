@@ -168,6 +168,10 @@ public class Field19 extends Field implements Serializable, AmountContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -260,6 +264,10 @@ public class Field19 extends Field implements Serializable, AmountContainer {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Amount");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("amount");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -269,9 +277,7 @@ public class Field19 extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Amount");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -280,9 +286,7 @@ public class Field19 extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "amount");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -291,13 +295,7 @@ public class Field19 extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("amount", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
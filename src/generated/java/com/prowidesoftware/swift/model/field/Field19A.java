@@ -201,6 +201,10 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -314,6 +318,10 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Sign", "Currency Code", "Amount");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "sign", "currencyCode", "amount");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "currency", 3);
+
     /**
      * Returns english label for components.
      * <br>
@@ -323,12 +331,7 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Sign");
-        result.add("Currency Code");
-        result.add("Amount");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -337,12 +340,7 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "sign");
-        result.put(3, "currencyCode");
-        result.put(4, "amount");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -351,18 +349,7 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("sign", 2);
-        super.labelMap.put("currencycode", 3);
-        // alias name
-        super.labelMap.put("currency", 3);
-        super.labelMap.put("amount", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -186,6 +186,10 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -291,6 +295,10 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Currency Code", "Amount");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "currencyCode", "amount");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "currency", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -300,11 +308,7 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Currency Code");
-        result.add("Amount");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -313,11 +317,7 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "currencyCode");
-        result.put(3, "amount");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -326,17 +326,7 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("currencycode", 2);
-        // alias name
-        super.labelMap.put("currency", 2);
-        super.labelMap.put("amount", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
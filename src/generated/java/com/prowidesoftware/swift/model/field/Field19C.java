@@ -176,6 +176,10 @@ public class Field19C extends Field implements Serializable, AmountContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -276,6 +280,10 @@ public class Field19C extends Field implements Serializable, AmountContainer {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Sign", "Adjustment Factor");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("sign", "adjustmentFactor");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "amount", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -285,10 +293,7 @@ public class Field19C extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Sign");
-        result.add("Adjustment Factor");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -297,10 +302,7 @@ public class Field19C extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "sign");
-        result.put(2, "adjustmentFactor");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -309,16 +311,7 @@ public class Field19C extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("sign", 1);
-        super.labelMap.put("adjustmentfactor", 2);
-        // alias name
-        super.labelMap.put("amount", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
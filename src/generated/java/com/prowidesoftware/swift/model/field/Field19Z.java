@@ -169,6 +169,10 @@ public class Field19Z extends Field implements Serializable, AmountContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -261,6 +265,10 @@ public class Field19Z extends Field implements Serializable, AmountContainer {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Weight");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("weight");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "amount", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -270,9 +278,7 @@ public class Field19Z extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Weight");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -281,9 +287,7 @@ public class Field19Z extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "weight");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -292,15 +296,7 @@ public class Field19Z extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("weight", 1);
-        // alias name
-        super.labelMap.put("amount", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -176,6 +176,10 @@ public class Field21B extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -262,6 +266,10 @@ public class Field21B extends Field implements Serializable {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Reference");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("reference");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "contractnumber", 1, "number", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -271,9 +279,7 @@ public class Field21B extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Reference");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -282,9 +288,7 @@ public class Field21B extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "reference");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -293,17 +297,7 @@ public class Field21B extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("reference", 1);
-        // alias name
-        super.labelMap.put("contractnumber", 1);
-        // alias name
-        super.labelMap.put("number", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -206,6 +206,10 @@ public class Field22C extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -309,6 +313,10 @@ public class Field22C extends Field implements Serializable {
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Party Prefix 1", "Party Suffix 1", "Reference Code", "Party Prefix 2", "Party Suffix 2");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("partyPrefix1", "partySuffix1", "referenceCode", "partyPrefix2", "partySuffix2");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -318,13 +326,7 @@ public class Field22C extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Party Prefix 1");
-        result.add("Party Suffix 1");
-        result.add("Reference Code");
-        result.add("Party Prefix 2");
-        result.add("Party Suffix 2");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -333,13 +335,7 @@ public class Field22C extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "partyPrefix1");
-        result.put(2, "partySuffix1");
-        result.put(3, "referenceCode");
-        result.put(4, "partyPrefix2");
-        result.put(5, "partySuffix2");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -348,17 +344,7 @@ public class Field22C extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("partyprefix1", 1);
-        super.labelMap.put("partysuffix1", 2);
-        super.labelMap.put("referencecode", 3);
-        super.labelMap.put("partyprefix2", 4);
-        super.labelMap.put("partysuffix2", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
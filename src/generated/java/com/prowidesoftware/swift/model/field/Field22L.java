@@ -165,6 +165,10 @@ public class Field22L extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -251,6 +255,10 @@ public class Field22L extends Field implements Serializable {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Reporting Jurisdiction");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("reportingJurisdiction");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "type", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -260,9 +268,7 @@ public class Field22L extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Reporting Jurisdiction");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -271,9 +277,7 @@ public class Field22L extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "reportingJurisdiction");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -282,15 +286,7 @@ public class Field22L extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("reportingjurisdiction", 1);
-        // alias name
-        super.labelMap.put("type", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
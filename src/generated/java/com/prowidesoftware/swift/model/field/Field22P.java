@@ -177,6 +177,10 @@ public class Field22P extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -263,6 +267,10 @@ public class Field22P extends Field implements Serializable {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Namespace");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("namespace");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "putinamespace", 1, "issuercode", 1, "type", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -272,9 +280,7 @@ public class Field22P extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Namespace");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -283,9 +289,7 @@ public class Field22P extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "namespace");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -294,19 +298,7 @@ public class Field22P extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("namespace", 1);
-        // alias name
-        super.labelMap.put("putinamespace", 1);
-        // alias name
-        super.labelMap.put("issuercode", 1);
-        // alias name
-        super.labelMap.put("type", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -171,6 +171,10 @@ public class Field22Y extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -257,6 +261,10 @@ public class Field22Y extends Field implements Serializable {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Required");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("required");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "period", 1, "type", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -266,9 +274,7 @@ public class Field22Y extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Required");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -277,9 +283,7 @@ public class Field22Y extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "required");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -288,17 +292,7 @@ public class Field22Y extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("required", 1);
-        // alias name
-        super.labelMap.put("period", 1);
-        // alias name
-        super.labelMap.put("type", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -218,6 +218,10 @@ public class Field23 extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null || getComponent3() != null || getComponent4() != null) {
@@ -339,6 +343,10 @@ public class Field23 extends Field implements Serializable, CurrencyContainer {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Code 1", "Code 2", "Code 3", "Currency");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("code1", "code2", "code3", "currency");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "buysellindicator", 1, "callputindicator", 2, "styleindicator", 3, "manualautomaticindicator", 4);
+
     /**
      * Returns english label for components.
      * <br>
@@ -348,12 +356,7 @@ public class Field23 extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code 1");
-        result.add("Code 2");
-        result.add("Code 3");
-        result.add("Currency");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -362,12 +365,7 @@ public class Field23 extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code1");
-        result.put(2, "code2");
-        result.put(3, "code3");
-        result.put(4, "currency");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -376,24 +374,7 @@ public class Field23 extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code1", 1);
-        // alias name
-        super.labelMap.put("buysellindicator", 1);
-        super.labelMap.put("code2", 2);
-        // alias name
-        super.labelMap.put("callputindicator", 2);
-        super.labelMap.put("code3", 3);
-        // alias name
-        super.labelMap.put("styleindicator", 3);
-        super.labelMap.put("currency", 4);
-        // alias name
-        super.labelMap.put("manualautomaticindicator", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
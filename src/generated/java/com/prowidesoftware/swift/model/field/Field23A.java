@@ -173,6 +173,10 @@ public class Field23A extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -266,6 +270,10 @@ public class Field23A extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Type Of Swap", "Settlement Method");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("typeOfSwap", "settlementMethod");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "code", 1, "additionalinformation", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -275,10 +283,7 @@ public class Field23A extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Type Of Swap");
-        result.add("Settlement Method");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -287,10 +292,7 @@ public class Field23A extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "typeOfSwap");
-        result.put(2, "settlementMethod");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -299,18 +301,7 @@ public class Field23A extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("typeofswap", 1);
-        // alias name
-        super.labelMap.put("code", 1);
-        super.labelMap.put("settlementmethod", 2);
-        // alias name
-        super.labelMap.put("additionalinformation", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
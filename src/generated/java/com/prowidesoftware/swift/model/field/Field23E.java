@@ -184,6 +184,10 @@ public class Field23E extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null) {
@@ -281,6 +285,10 @@ public class Field23E extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Instruction Code", "Additional Information");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("instructionCode", "additionalInformation");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "type", 1, "code", 1, "narrative", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -290,10 +298,7 @@ public class Field23E extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Instruction Code");
-        result.add("Additional Information");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -302,10 +307,7 @@ public class Field23E extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "instructionCode");
-        result.put(2, "additionalInformation");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -314,20 +316,7 @@ public class Field23E extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("instructioncode", 1);
-        // alias name
-        super.labelMap.put("type", 1);
-        // alias name
-        super.labelMap.put("code", 1);
-        super.labelMap.put("additionalinformation", 2);
-        // alias name
-        super.labelMap.put("narrative", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
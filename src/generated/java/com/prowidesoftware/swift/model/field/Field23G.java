@@ -171,6 +171,10 @@ public class Field23G extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null) {
@@ -268,6 +272,10 @@ public class Field23G extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Function", "Subfunction");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("function", "subfunction");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -277,10 +285,7 @@ public class Field23G extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Function");
-        result.add("Subfunction");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -289,10 +294,7 @@ public class Field23G extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "function");
-        result.put(2, "subfunction");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -301,14 +303,7 @@ public class Field23G extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("function", 1);
-        super.labelMap.put("subfunction", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
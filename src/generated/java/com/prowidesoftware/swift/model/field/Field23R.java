@@ -177,6 +177,10 @@ public class Field23R extends Field implements Serializable, MultiLineField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         appendInLines(result, 1, 7);
         return result.toString();
@@ -306,6 +310,10 @@ public class Field23R extends Field implements Serializable, MultiLineField {
         return 7;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Code", "Text", "Text 2", "Text 3", "Text 4", "Text 5", "Text 6");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("code", "text", "text2", "text3", "text4", "text5", "text6");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -315,15 +323,7 @@ public class Field23R extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code");
-        result.add("Text");
-        result.add("Text 2");
-        result.add("Text 3");
-        result.add("Text 4");
-        result.add("Text 5");
-        result.add("Text 6");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -332,15 +332,7 @@ public class Field23R extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code");
-        result.put(2, "text");
-        result.put(3, "text2");
-        result.put(4, "text3");
-        result.put(5, "text4");
-        result.put(6, "text5");
-        result.put(7, "text6");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -349,19 +341,7 @@ public class Field23R extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code", 1);
-        super.labelMap.put("text", 2);
-        super.labelMap.put("text2", 3);
-        super.labelMap.put("text3", 4);
-        super.labelMap.put("text4", 5);
-        super.labelMap.put("text5", 6);
-        super.labelMap.put("text6", 7);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
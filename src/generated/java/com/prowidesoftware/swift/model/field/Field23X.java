@@ -171,6 +171,10 @@ public class Field23X extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -264,6 +268,10 @@ public class Field23X extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Code", "File Name Or Reference");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("code", "fileNameOrReference");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -273,10 +281,7 @@ public class Field23X extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code");
-        result.add("File Name Or Reference");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -285,10 +290,7 @@ public class Field23X extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code");
-        result.put(2, "fileNameOrReference");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -297,14 +299,7 @@ public class Field23X extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code", 1);
-        super.labelMap.put("filenameorreference", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
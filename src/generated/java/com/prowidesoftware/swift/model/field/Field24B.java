@@ -179,6 +179,10 @@ public class Field24B extends Field implements Serializable, GenericField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -282,6 +286,10 @@ public class Field24B extends Field implements Serializable, GenericField {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Data Source Scheme", "Reason Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "dataSourceScheme", "reasonCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -291,11 +299,7 @@ public class Field24B extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Reason Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -304,11 +308,7 @@ public class Field24B extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "reasonCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -317,15 +317,7 @@ public class Field24B extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("reasoncode", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
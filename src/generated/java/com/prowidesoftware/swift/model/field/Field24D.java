@@ -177,6 +177,10 @@ public class Field24D extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null) {
@@ -274,6 +278,10 @@ public class Field24D extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Code", "Additional Information");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("code", "additionalInformation");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "method", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -283,10 +291,7 @@ public class Field24D extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code");
-        result.add("Additional Information");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -295,10 +300,7 @@ public class Field24D extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code");
-        result.put(2, "additionalInformation");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -307,16 +309,7 @@ public class Field24D extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code", 1);
-        // alias name
-        super.labelMap.put("method", 1);
-        super.labelMap.put("additionalinformation", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
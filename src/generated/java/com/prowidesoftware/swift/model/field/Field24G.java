@@ -184,6 +184,10 @@ public class Field24G extends Field implements Serializable, MultiLineField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         appendInLines(result, 1, 13);
         return result.toString();
@@ -355,6 +359,10 @@ public class Field24G extends Field implements Serializable, MultiLineField {
         return 13;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Code", "Narrative", "Narrative 2", "Narrative 3", "Narrative 4", "Narrative 5", "Narrative 6", "Narrative 7", "Narrative 8", "Narrative 9", "Narrative 10", "Narrative 11", "Narrative 12");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("code", "narrative", "narrative2", "narrative3", "narrative4", "narrative5", "narrative6", "narrative7", "narrative8", "narrative9", "narrative10", "narrative11", "narrative12");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "nameandaddress", 2, "nameandaddress2", 3, "nameandaddress3", 4, "nameandaddress4", 5, "nameandaddress5", 6, "nameandaddress6", 7, "nameandaddress7", 8, "nameandaddress8", 9, "nameandaddress9", 10, "nameandaddress10", 11, "nameandaddress11", 12, "nameandaddress12", 13);
+
     /**
      * Returns english label for components.
      * <br>
@@ -364,21 +372,7 @@ public class Field24G extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code");
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        result.add("Narrative 5");
-        result.add("Narrative 6");
-        result.add("Narrative 7");
-        result.add("Narrative 8");
-        result.add("Narrative 9");
-        result.add("Narrative 10");
-        result.add("Narrative 11");
-        result.add("Narrative 12");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -387,21 +381,7 @@ public class Field24G extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code");
-        result.put(2, "narrative");
-        result.put(3, "narrative2");
-        result.put(4, "narrative3");
-        result.put(5, "narrative4");
-        result.put(6, "narrative5");
-        result.put(7, "narrative6");
-        result.put(8, "narrative7");
-        result.put(9, "narrative8");
-        result.put(10, "narrative9");
-        result.put(11, "narrative10");
-        result.put(12, "narrative11");
-        result.put(13, "narrative12");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -410,49 +390,7 @@ public class Field24G extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code", 1);
-        super.labelMap.put("narrative", 2);
-        // alias name
-        super.labelMap.put("nameandaddress", 2);
-        super.labelMap.put("narrative2", 3);
-        // alias name
-        super.labelMap.put("nameandaddress2", 3);
-        super.labelMap.put("narrative3", 4);
-        // alias name
-        super.labelMap.put("nameandaddress3", 4);
-        super.labelMap.put("narrative4", 5);
-        // alias name
-        super.labelMap.put("nameandaddress4", 5);
-        super.labelMap.put("narrative5", 6);
-        // alias name
-        super.labelMap.put("nameandaddress5", 6);
-        super.labelMap.put("narrative6", 7);
-        // alias name
-        super.labelMap.put("nameandaddress6", 7);
-        super.labelMap.put("narrative7", 8);
-        // alias name
-        super.labelMap.put("nameandaddress7", 8);
-        super.labelMap.put("narrative8", 9);
-        // alias name
-        super.labelMap.put("nameandaddress8", 9);
-        super.labelMap.put("narrative9", 10);
-        // alias name
-        super.labelMap.put("nameandaddress9", 10);
-        super.labelMap.put("narrative10", 11);
-        // alias name
-        super.labelMap.put("nameandaddress10", 11);
-        super.labelMap.put("narrative11", 12);
-        // alias name
-        super.labelMap.put("nameandaddress11", 12);
-        super.labelMap.put("narrative12", 13);
-        // alias name
-        super.labelMap.put("nameandaddress12", 13);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
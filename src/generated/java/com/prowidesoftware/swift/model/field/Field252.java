@@ -197,6 +197,10 @@ public class Field252 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         append(result, 2);
@@ -308,6 +312,10 @@ public class Field252 extends Field implements Serializable {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Start MIR", "End MIR", "Start Time", "End Time");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("startMIR", "endMIR", "startTime", "endTime");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -317,12 +325,7 @@ public class Field252 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Start MIR");
-        result.add("End MIR");
-        result.add("Start Time");
-        result.add("End Time");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -331,12 +334,7 @@ public class Field252 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "startMIR");
-        result.put(2, "endMIR");
-        result.put(3, "startTime");
-        result.put(4, "endTime");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -345,16 +343,7 @@ public class Field252 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("startmir", 1);
-        super.labelMap.put("endmir", 2);
-        super.labelMap.put("starttime", 3);
-        super.labelMap.put("endtime", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -219,6 +219,10 @@ public class Field258 extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         append(result, 2);
@@ -344,6 +348,10 @@ public class Field258 extends Field implements Serializable, DateContainer {
         return 6;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("LT Address", "Session Number", "Message Type", "Date", "Start Time", "End Time");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("lTAddress", "sessionNumber", "messageType", "date", "startTime", "endTime");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -353,14 +361,7 @@ public class Field258 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("LT Address");
-        result.add("Session Number");
-        result.add("Message Type");
-        result.add("Date");
-        result.add("Start Time");
-        result.add("End Time");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -369,14 +370,7 @@ public class Field258 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "lTAddress");
-        result.put(2, "sessionNumber");
-        result.put(3, "messageType");
-        result.put(4, "date");
-        result.put(5, "startTime");
-        result.put(6, "endTime");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -385,18 +379,7 @@ public class Field258 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("ltaddress", 1);
-        super.labelMap.put("sessionnumber", 2);
-        super.labelMap.put("messagetype", 3);
-        super.labelMap.put("date", 4);
-        super.labelMap.put("starttime", 5);
-        super.labelMap.put("endtime", 6);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
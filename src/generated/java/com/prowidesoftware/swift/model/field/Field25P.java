@@ -181,6 +181,10 @@ public class Field25P extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         appendInLines(result, 1, 2);
         return result.toString();
@@ -275,6 +279,10 @@ public class Field25P extends Field implements Serializable, BICContainer, Multi
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Account", "Identifier Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("account", "identifierCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "bic", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -284,10 +292,7 @@ public class Field25P extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Account");
-        result.add("Identifier Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -296,10 +301,7 @@ public class Field25P extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "account");
-        result.put(2, "identifierCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -308,16 +310,7 @@ public class Field25P extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("account", 1);
-        super.labelMap.put("identifiercode", 2);
-        // alias name
-        super.labelMap.put("bic", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
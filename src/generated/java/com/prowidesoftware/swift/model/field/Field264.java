@@ -210,6 +210,10 @@ public class Field264 extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         append(result, 2);
@@ -329,6 +333,10 @@ public class Field264 extends Field implements Serializable, DateContainer {
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("LT Address", "Date", "Start Time", "End Time", "Session Number");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("lTAddress", "date", "startTime", "endTime", "sessionNumber");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -338,13 +346,7 @@ public class Field264 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("LT Address");
-        result.add("Date");
-        result.add("Start Time");
-        result.add("End Time");
-        result.add("Session Number");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -353,13 +355,7 @@ public class Field264 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "lTAddress");
-        result.put(2, "date");
-        result.put(3, "startTime");
-        result.put(4, "endTime");
-        result.put(5, "sessionNumber");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -368,17 +364,7 @@ public class Field264 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("ltaddress", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("starttime", 3);
-        super.labelMap.put("endtime", 4);
-        super.labelMap.put("sessionnumber", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -219,6 +219,10 @@ public class Field26C extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -344,6 +348,10 @@ public class Field26C extends Field implements Serializable {
         return 6;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Delivery Details", "Delivery Location", "Allocation", "Type", "Denomination", "Form");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("deliveryDetails", "deliveryLocation", "allocation", "type", "denomination", "form");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -353,14 +361,7 @@ public class Field26C extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Delivery Details");
-        result.add("Delivery Location");
-        result.add("Allocation");
-        result.add("Type");
-        result.add("Denomination");
-        result.add("Form");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -369,14 +370,7 @@ public class Field26C extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "deliveryDetails");
-        result.put(2, "deliveryLocation");
-        result.put(3, "allocation");
-        result.put(4, "type");
-        result.put(5, "denomination");
-        result.put(6, "form");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -385,18 +379,7 @@ public class Field26C extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("deliverydetails", 1);
-        super.labelMap.put("deliverylocation", 2);
-        super.labelMap.put("allocation", 3);
-        super.labelMap.put("type", 4);
-        super.labelMap.put("denomination", 5);
-        super.labelMap.put("form", 6);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
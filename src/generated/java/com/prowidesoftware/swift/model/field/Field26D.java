@@ -195,6 +195,10 @@ public class Field26D extends Field implements Serializable, MultiLineField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         appendInLines(result, 1, 30);
         return result.toString();
@@ -485,6 +489,10 @@ public class Field26D extends Field implements Serializable, MultiLineField {
         return 30;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Narrative", "Narrative 2", "Narrative 3", "Narrative 4", "Narrative 5", "Narrative 6", "Narrative 7", "Narrative 8", "Narrative 9", "Narrative 10", "Narrative 11", "Narrative 12", "Narrative 13", "Narrative 14", "Narrative 15", "Narrative 16", "Narrative 17", "Narrative 18", "Narrative 19", "Narrative 20", "Narrative 21", "Narrative 22", "Narrative 23", "Narrative 24", "Narrative 25", "Narrative 26", "Narrative 27", "Narrative 28", "Narrative 29", "Narrative 30");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("narrative", "narrative2", "narrative3", "narrative4", "narrative5", "narrative6", "narrative7", "narrative8", "narrative9", "narrative10", "narrative11", "narrative12", "narrative13", "narrative14", "narrative15", "narrative16", "narrative17", "narrative18", "narrative19", "narrative20", "narrative21", "narrative22", "narrative23", "narrative24", "narrative25", "narrative26", "narrative27", "narrative28", "narrative29", "narrative30");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -494,38 +502,7 @@ public class Field26D extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        result.add("Narrative 5");
-        result.add("Narrative 6");
-        result.add("Narrative 7");
-        result.add("Narrative 8");
-        result.add("Narrative 9");
-        result.add("Narrative 10");
-        result.add("Narrative 11");
-        result.add("Narrative 12");
-        result.add("Narrative 13");
-        result.add("Narrative 14");
-        result.add("Narrative 15");
-        result.add("Narrative 16");
-        result.add("Narrative 17");
-        result.add("Narrative 18");
-        result.add("Narrative 19");
-        result.add("Narrative 20");
-        result.add("Narrative 21");
-        result.add("Narrative 22");
-        result.add("Narrative 23");
-        result.add("Narrative 24");
-        result.add("Narrative 25");
-        result.add("Narrative 26");
-        result.add("Narrative 27");
-        result.add("Narrative 28");
-        result.add("Narrative 29");
-        result.add("Narrative 30");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -534,38 +511,7 @@ public class Field26D extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "narrative");
-        result.put(2, "narrative2");
-        result.put(3, "narrative3");
-        result.put(4, "narrative4");
-        result.put(5, "narrative5");
-        result.put(6, "narrative6");
-        result.put(7, "narrative7");
-        result.put(8, "narrative8");
-        result.put(9, "narrative9");
-        result.put(10, "narrative10");
-        result.put(11, "narrative11");
-        result.put(12, "narrative12");
-        result.put(13, "narrative13");
-        result.put(14, "narrative14");
-        result.put(15, "narrative15");
-        result.put(16, "narrative16");
-        result.put(17, "narrative17");
-        result.put(18, "narrative18");
-        result.put(19, "narrative19");
-        result.put(20, "narrative20");
-        result.put(21, "narrative21");
-        result.put(22, "narrative22");
-        result.put(23, "narrative23");
-        result.put(24, "narrative24");
-        result.put(25, "narrative25");
-        result.put(26, "narrative26");
-        result.put(27, "narrative27");
-        result.put(28, "narrative28");
-        result.put(29, "narrative29");
-        result.put(30, "narrative30");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -574,42 +520,7 @@ public class Field26D extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("narrative", 1);
-        super.labelMap.put("narrative2", 2);
-        super.labelMap.put("narrative3", 3);
-        super.labelMap.put("narrative4", 4);
-        super.labelMap.put("narrative5", 5);
-        super.labelMap.put("narrative6", 6);
-        super.labelMap.put("narrative7", 7);
-        super.labelMap.put("narrative8", 8);
-        super.labelMap.put("narrative9", 9);
-        super.labelMap.put("narrative10", 10);
-        super.labelMap.put("narrative11", 11);
-        super.labelMap.put("narrative12", 12);
-        super.labelMap.put("narrative13", 13);
-        super.labelMap.put("narrative14", 14);
-        super.labelMap.put("narrative15", 15);
-        super.labelMap.put("narrative16", 16);
-        super.labelMap.put("narrative17", 17);
-        super.labelMap.put("narrative18", 18);
-        super.labelMap.put("narrative19", 19);
-        super.labelMap.put("narrative20", 20);
-        super.labelMap.put("narrative21", 21);
-        super.labelMap.put("narrative22", 22);
-        super.labelMap.put("narrative23", 23);
-        super.labelMap.put("narrative24", 24);
-        super.labelMap.put("narrative25", 25);
-        super.labelMap.put("narrative26", 26);
-        super.labelMap.put("narrative27", 27);
-        super.labelMap.put("narrative28", 28);
-        super.labelMap.put("narrative29", 29);
-        super.labelMap.put("narrative30", 30);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -173,6 +173,10 @@ public class Field26E extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -259,6 +263,10 @@ public class Field26E extends Field implements Serializable {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Number Of Amendment");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("numberOfAmendment");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "automaticextensionnotificationperiod", 1, "number", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -268,9 +276,7 @@ public class Field26E extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Number Of Amendment");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -279,9 +285,7 @@ public class Field26E extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "numberOfAmendment");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -290,17 +294,7 @@ public class Field26E extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("numberofamendment", 1);
-        // alias name
-        super.labelMap.put("automaticextensionnotificationperiod", 1);
-        // alias name
-        super.labelMap.put("number", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -171,6 +171,10 @@ public class Field26H extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -257,6 +261,10 @@ public class Field26H extends Field implements Serializable {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Counterparty Reference");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("counterpartyReference");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "collateraltype", 1, "reference", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -266,9 +274,7 @@ public class Field26H extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Counterparty Reference");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -277,9 +283,7 @@ public class Field26H extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "counterpartyReference");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -288,17 +292,7 @@ public class Field26H extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("counterpartyreference", 1);
-        // alias name
-        super.labelMap.put("collateraltype", 1);
-        // alias name
-        super.labelMap.put("reference", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
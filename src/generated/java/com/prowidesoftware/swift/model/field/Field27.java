@@ -185,6 +185,10 @@ public class Field27 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -278,6 +282,10 @@ public class Field27 extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Number", "Total");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("number", "total");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "messagenumber", 1, "sequencenumber", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -287,10 +295,7 @@ public class Field27 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Number");
-        result.add("Total");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -299,10 +304,7 @@ public class Field27 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "number");
-        result.put(2, "total");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -311,18 +313,7 @@ public class Field27 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("number", 1);
-        // alias name
-        super.labelMap.put("messagenumber", 1);
-        super.labelMap.put("total", 2);
-        // alias name
-        super.labelMap.put("sequencenumber", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -180,6 +180,10 @@ public class Field270 extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -276,6 +280,10 @@ public class Field270 extends Field implements Serializable, DateContainer {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Timestamp", "Login Block");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("timestamp", "loginBlock");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -285,10 +293,7 @@ public class Field270 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Timestamp");
-        result.add("Login Block");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -297,10 +302,7 @@ public class Field270 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "timestamp");
-        result.put(2, "loginBlock");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -309,14 +311,7 @@ public class Field270 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("timestamp", 1);
-        super.labelMap.put("loginblock", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
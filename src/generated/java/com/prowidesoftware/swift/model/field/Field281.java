@@ -197,6 +197,10 @@ public class Field281 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -300,6 +304,10 @@ public class Field281 extends Field implements Serializable {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Output Time", "MOR", "Accepted", "Error");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("outputTime", "mOR", "accepted", "error");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -309,12 +317,7 @@ public class Field281 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Output Time");
-        result.add("MOR");
-        result.add("Accepted");
-        result.add("Error");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -323,12 +326,7 @@ public class Field281 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "outputTime");
-        result.put(2, "mOR");
-        result.put(3, "accepted");
-        result.put(4, "error");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -337,16 +335,7 @@ public class Field281 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("outputtime", 1);
-        super.labelMap.put("mor", 2);
-        super.labelMap.put("accepted", 3);
-        super.labelMap.put("error", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -173,6 +173,10 @@ public class Field28C extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null) {
@@ -270,6 +274,10 @@ public class Field28C extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Statement Number", "Sequence Number");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("statementNumber", "sequenceNumber");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -279,10 +287,7 @@ public class Field28C extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Statement Number");
-        result.add("Sequence Number");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -291,10 +296,7 @@ public class Field28C extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "statementNumber");
-        result.put(2, "sequenceNumber");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -303,14 +305,7 @@ public class Field28C extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("statementnumber", 1);
-        super.labelMap.put("sequencenumber", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -175,6 +175,10 @@ public class Field28D extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -268,6 +272,10 @@ public class Field28D extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Message Index", "Total");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("messageIndex", "total");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "statementnumber", 1, "sequencenumber", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -277,10 +285,7 @@ public class Field28D extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Message Index");
-        result.add("Total");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -289,10 +294,7 @@ public class Field28D extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "messageIndex");
-        result.put(2, "total");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -301,18 +303,7 @@ public class Field28D extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("messageindex", 1);
-        // alias name
-        super.labelMap.put("statementnumber", 1);
-        super.labelMap.put("total", 2);
-        // alias name
-        super.labelMap.put("sequencenumber", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -169,6 +169,10 @@ public class Field29B extends Field implements Serializable, MultiLineField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         appendInLines(result, 1, 4);
         return result.toString();
@@ -277,6 +281,10 @@ public class Field29B extends Field implements Serializable, MultiLineField {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Narrative", "Narrative 2", "Narrative 3", "Narrative 4");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("narrative", "narrative2", "narrative3", "narrative4");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -286,12 +294,7 @@ public class Field29B extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -300,12 +303,7 @@ public class Field29B extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "narrative");
-        result.put(2, "narrative2");
-        result.put(3, "narrative3");
-        result.put(4, "narrative4");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -314,16 +312,7 @@ public class Field29B extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("narrative", 1);
-        super.labelMap.put("narrative2", 2);
-        super.labelMap.put("narrative3", 3);
-        super.labelMap.put("narrative4", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
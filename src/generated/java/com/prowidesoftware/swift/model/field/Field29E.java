@@ -172,6 +172,10 @@ public class Field29E extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -270,6 +274,10 @@ public class Field29E extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Location", "Time");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("location", "time");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -279,10 +287,7 @@ public class Field29E extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Location");
-        result.add("Time");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -291,10 +296,7 @@ public class Field29E extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "location");
-        result.put(2, "time");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -303,14 +305,7 @@ public class Field29E extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("location", 1);
-        super.labelMap.put("time", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
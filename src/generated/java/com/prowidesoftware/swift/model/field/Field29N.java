@@ -182,6 +182,10 @@ public class Field29N extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -290,6 +294,10 @@ public class Field29N extends Field implements Serializable, DateContainer {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Date", "Location", "Time");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("date", "location", "time");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -299,11 +307,7 @@ public class Field29N extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Location");
-        result.add("Time");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -312,11 +316,7 @@ public class Field29N extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "location");
-        result.put(3, "time");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -325,15 +325,7 @@ public class Field29N extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("location", 2);
-        super.labelMap.put("time", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
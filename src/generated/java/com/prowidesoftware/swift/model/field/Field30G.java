@@ -186,6 +186,10 @@ public class Field30G extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -288,6 +292,10 @@ public class Field30G extends Field implements Serializable, DateContainer {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Start Date", "End Date");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("startDate", "endDate");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "periodstartdate", 1, "periodenddate", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -297,10 +305,7 @@ public class Field30G extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Start Date");
-        result.add("End Date");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -309,10 +314,7 @@ public class Field30G extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "startDate");
-        result.put(2, "endDate");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -321,18 +323,7 @@ public class Field30G extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("startdate", 1);
-        // alias name
-        super.labelMap.put("periodstartdate", 1);
-        super.labelMap.put("enddate", 2);
-        // alias name
-        super.labelMap.put("periodenddate", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
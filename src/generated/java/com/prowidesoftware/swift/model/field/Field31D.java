@@ -180,6 +180,10 @@ public class Field31D extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -275,6 +279,10 @@ public class Field31D extends Field implements Serializable, DateContainer {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Date", "Place");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("date", "place");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -284,10 +292,7 @@ public class Field31D extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Place");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -296,10 +301,7 @@ public class Field31D extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "place");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -308,14 +310,7 @@ public class Field31D extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("place", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -182,6 +182,10 @@ public class Field31F extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null) {
@@ -297,6 +301,10 @@ public class Field31F extends Field implements Serializable, DateContainer {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Date", "Period Date", "Period Details");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("date", "periodDate", "periodDetails");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -306,11 +314,7 @@ public class Field31F extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Period Date");
-        result.add("Period Details");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -319,11 +323,7 @@ public class Field31F extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "periodDate");
-        result.put(3, "periodDetails");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -332,15 +332,7 @@ public class Field31F extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("perioddate", 2);
-        super.labelMap.put("perioddetails", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -181,6 +181,10 @@ public class Field31G extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -288,6 +292,10 @@ public class Field31G extends Field implements Serializable, DateContainer {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Date", "Time", "Location");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("date", "time", "location");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -297,11 +305,7 @@ public class Field31G extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Time");
-        result.add("Location");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -310,11 +314,7 @@ public class Field31G extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "time");
-        result.put(3, "location");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -323,15 +323,7 @@ public class Field31G extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("time", 2);
-        super.labelMap.put("location", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -174,6 +174,10 @@ public class Field31R extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null) {
@@ -280,6 +284,10 @@ public class Field31R extends Field implements Serializable, DateContainer {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Date 1", "Date 2");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("date1", "date2");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -289,10 +297,7 @@ public class Field31R extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date 1");
-        result.add("Date 2");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -301,10 +306,7 @@ public class Field31R extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date1");
-        result.put(2, "date2");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -313,14 +315,7 @@ public class Field31R extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date1", 1);
-        super.labelMap.put("date2", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -190,6 +190,10 @@ public class Field31X extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         if (getComponent1() != null || getComponent2() != null) {
             append(result, 1);
@@ -307,6 +311,10 @@ public class Field31X extends Field implements Serializable, DateContainer {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Date", "Time", "Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("date", "time", "code");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -316,11 +324,7 @@ public class Field31X extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Time");
-        result.add("Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -329,11 +333,7 @@ public class Field31X extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "time");
-        result.put(3, "code");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -342,15 +342,7 @@ public class Field31X extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("time", 2);
-        super.labelMap.put("code", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -191,6 +191,10 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -296,6 +300,10 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Date", "Currency", "Amount");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("date", "currency", "amount");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -305,11 +313,7 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Currency");
-        result.add("Amount");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -318,11 +322,7 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "currency");
-        result.put(3, "amount");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -331,15 +331,7 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("currency", 2);
-        super.labelMap.put("amount", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -182,6 +182,10 @@ public class Field32B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -279,6 +283,10 @@ public class Field32B extends Field implements Serializable, MonetaryAmountConta
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Currency", "Amount");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("currency", "amount");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "price", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -288,10 +296,7 @@ public class Field32B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Currency");
-        result.add("Amount");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -300,10 +305,7 @@ public class Field32B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "currency");
-        result.put(2, "amount");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -312,16 +314,7 @@ public class Field32B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("currency", 1);
-        super.labelMap.put("amount", 2);
-        // alias name
-        super.labelMap.put("price", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -167,6 +167,10 @@ public class Field32E extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -253,6 +257,10 @@ public class Field32E extends Field implements Serializable, CurrencyContainer {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Currency");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("currency");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -262,9 +270,7 @@ public class Field32E extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Currency");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -273,9 +279,7 @@ public class Field32E extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "currency");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -284,13 +288,7 @@ public class Field32E extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("currency", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
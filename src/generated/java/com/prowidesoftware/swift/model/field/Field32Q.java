@@ -174,6 +174,10 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -267,6 +271,10 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Currency 1", "Currency 2");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("currency1", "currency2");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -276,10 +284,7 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Currency 1");
-        result.add("Currency 2");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -288,10 +293,7 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "currency1");
-        result.put(2, "currency2");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -300,14 +302,7 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("currency1", 1);
-        super.labelMap.put("currency2", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
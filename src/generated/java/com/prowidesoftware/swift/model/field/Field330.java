@@ -215,6 +215,10 @@ public class Field330 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -322,6 +326,10 @@ public class Field330 extends Field implements Serializable {
         return 6;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Session Number", "ISN", "ISN NAK", "OSN", "OSN NAK", "ACK Replay Indicator");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("sessionNumber", "iSN", "iSNNAK", "oSN", "oSNNAK", "aCKReplayIndicator");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -331,14 +339,7 @@ public class Field330 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Session Number");
-        result.add("ISN");
-        result.add("ISN NAK");
-        result.add("OSN");
-        result.add("OSN NAK");
-        result.add("ACK Replay Indicator");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -347,14 +348,7 @@ public class Field330 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "sessionNumber");
-        result.put(2, "iSN");
-        result.put(3, "iSNNAK");
-        result.put(4, "oSN");
-        result.put(5, "oSNNAK");
-        result.put(6, "aCKReplayIndicator");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -363,18 +357,7 @@ public class Field330 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("sessionnumber", 1);
-        super.labelMap.put("isn", 2);
-        super.labelMap.put("isnnak", 3);
-        super.labelMap.put("osn", 4);
-        super.labelMap.put("osnnak", 5);
-        super.labelMap.put("ackreplayindicator", 6);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -256,6 +256,10 @@ public class Field331 extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -403,6 +407,10 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return 12;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Session Number", "Date Session Opened", "Time Session Opened", "Date Session Closed", "Time Session Closed", "Reason For Closure", "Quantity Of Messages Sent", "Quantity Of Messages Received", "First Input Sequence Number", "Last Input Sequence Number", "First Output Sequence Number", "Last Output Sequence Number");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("sessionNumber", "dateSessionOpened", "timeSessionOpened", "dateSessionClosed", "timeSessionClosed", "reasonForClosure", "quantityOfMessagesSent", "quantityOfMessagesReceived", "firstInputSequenceNumber", "lastInputSequenceNumber", "firstOutputSequenceNumber", "lastOutputSequenceNumber");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -412,20 +420,7 @@ public class Field331 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Session Number");
-        result.add("Date Session Opened");
-        result.add("Time Session Opened");
-        result.add("Date Session Closed");
-        result.add("Time Session Closed");
-        result.add("Reason For Closure");
-        result.add("Quantity Of Messages Sent");
-        result.add("Quantity Of Messages Received");
-        result.add("First Input Sequence Number");
-        result.add("Last Input Sequence Number");
-        result.add("First Output Sequence Number");
-        result.add("Last Output Sequence Number");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -434,20 +429,7 @@ public class Field331 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "sessionNumber");
-        result.put(2, "dateSessionOpened");
-        result.put(3, "timeSessionOpened");
-        result.put(4, "dateSessionClosed");
-        result.put(5, "timeSessionClosed");
-        result.put(6, "reasonForClosure");
-        result.put(7, "quantityOfMessagesSent");
-        result.put(8, "quantityOfMessagesReceived");
-        result.put(9, "firstInputSequenceNumber");
-        result.put(10, "lastInputSequenceNumber");
-        result.put(11, "firstOutputSequenceNumber");
-        result.put(12, "lastOutputSequenceNumber");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -456,24 +438,7 @@ public class Field331 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("sessionnumber", 1);
-        super.labelMap.put("datesessionopened", 2);
-        super.labelMap.put("timesessionopened", 3);
-        super.labelMap.put("datesessionclosed", 4);
-        super.labelMap.put("timesessionclosed", 5);
-        super.labelMap.put("reasonforclosure", 6);
-        super.labelMap.put("quantityofmessagessent", 7);
-        super.labelMap.put("quantityofmessagesreceived", 8);
-        super.labelMap.put("firstinputsequencenumber", 9);
-        super.labelMap.put("lastinputsequencenumber", 10);
-        super.labelMap.put("firstoutputsequencenumber", 11);
-        super.labelMap.put("lastoutputsequencenumber", 12);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
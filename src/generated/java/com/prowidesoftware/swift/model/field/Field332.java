@@ -179,6 +179,10 @@ public class Field332 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -270,6 +274,10 @@ public class Field332 extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Total Messages Sent", "Total Messages Received");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("totalMessagesSent", "totalMessagesReceived");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -279,10 +287,7 @@ public class Field332 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Total Messages Sent");
-        result.add("Total Messages Received");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -291,10 +296,7 @@ public class Field332 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "totalMessagesSent");
-        result.put(2, "totalMessagesReceived");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -303,14 +305,7 @@ public class Field332 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("totalmessagessent", 1);
-        super.labelMap.put("totalmessagesreceived", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -236,6 +236,10 @@ public class Field333 extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -367,6 +371,10 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return 8;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Date Last Session Opened", "Time Last Session Opened", "Session Number", "Date Last Session Closed", "Time Last Session Closed", "Reason For Closure", "Last Input Sequence Number Received", "Last Output Sequence Number Sent");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("dateLastSessionOpened", "timeLastSessionOpened", "sessionNumber", "dateLastSessionClosed", "timeLastSessionClosed", "reasonForClosure", "lastInputSequenceNumberReceived", "lastOutputSequenceNumberSent");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -376,16 +384,7 @@ public class Field333 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date Last Session Opened");
-        result.add("Time Last Session Opened");
-        result.add("Session Number");
-        result.add("Date Last Session Closed");
-        result.add("Time Last Session Closed");
-        result.add("Reason For Closure");
-        result.add("Last Input Sequence Number Received");
-        result.add("Last Output Sequence Number Sent");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -394,16 +393,7 @@ public class Field333 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dateLastSessionOpened");
-        result.put(2, "timeLastSessionOpened");
-        result.put(3, "sessionNumber");
-        result.put(4, "dateLastSessionClosed");
-        result.put(5, "timeLastSessionClosed");
-        result.put(6, "reasonForClosure");
-        result.put(7, "lastInputSequenceNumberReceived");
-        result.put(8, "lastOutputSequenceNumberSent");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -412,20 +402,7 @@ public class Field333 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("datelastsessionopened", 1);
-        super.labelMap.put("timelastsessionopened", 2);
-        super.labelMap.put("sessionnumber", 3);
-        super.labelMap.put("datelastsessionclosed", 4);
-        super.labelMap.put("timelastsessionclosed", 5);
-        super.labelMap.put("reasonforclosure", 6);
-        super.labelMap.put("lastinputsequencenumberreceived", 7);
-        super.labelMap.put("lastoutputsequencenumbersent", 8);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
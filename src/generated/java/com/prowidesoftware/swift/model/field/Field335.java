@@ -211,6 +211,10 @@ public class Field335 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -323,6 +327,10 @@ public class Field335 extends Field implements Serializable {
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Time Message Entered", "MIR", "MT", "Receiver", "Time Last Delivery Attempt");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("timeMessageEntered", "mIR", "mT", "receiver", "timeLastDeliveryAttempt");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -332,13 +340,7 @@ public class Field335 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Time Message Entered");
-        result.add("MIR");
-        result.add("MT");
-        result.add("Receiver");
-        result.add("Time Last Delivery Attempt");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -347,13 +349,7 @@ public class Field335 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "timeMessageEntered");
-        result.put(2, "mIR");
-        result.put(3, "mT");
-        result.put(4, "receiver");
-        result.put(5, "timeLastDeliveryAttempt");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -362,17 +358,7 @@ public class Field335 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("timemessageentered", 1);
-        super.labelMap.put("mir", 2);
-        super.labelMap.put("mt", 3);
-        super.labelMap.put("receiver", 4);
-        super.labelMap.put("timelastdeliveryattempt", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
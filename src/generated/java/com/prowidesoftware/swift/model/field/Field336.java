@@ -188,6 +188,10 @@ public class Field336 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -283,6 +287,10 @@ public class Field336 extends Field implements Serializable {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Delivery Subset Name", "Number Of Messages", "Codes");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("deliverySubsetName", "numberOfMessages", "codes");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -292,11 +300,7 @@ public class Field336 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Delivery Subset Name");
-        result.add("Number Of Messages");
-        result.add("Codes");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -305,11 +309,7 @@ public class Field336 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "deliverySubsetName");
-        result.put(2, "numberOfMessages");
-        result.put(3, "codes");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -318,15 +318,7 @@ public class Field336 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("deliverysubsetname", 1);
-        super.labelMap.put("numberofmessages", 2);
-        super.labelMap.put("codes", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
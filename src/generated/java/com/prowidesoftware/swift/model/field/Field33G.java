@@ -185,6 +185,10 @@ public class Field33G extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -288,6 +292,10 @@ public class Field33G extends Field implements Serializable, MonetaryAmountConta
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Currency", "Price", "Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("currency", "price", "code");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "amount", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -297,11 +305,7 @@ public class Field33G extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Currency");
-        result.add("Price");
-        result.add("Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -310,11 +314,7 @@ public class Field33G extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "currency");
-        result.put(2, "price");
-        result.put(3, "code");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -323,17 +323,7 @@ public class Field33G extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("currency", 1);
-        super.labelMap.put("price", 2);
-        // alias name
-        super.labelMap.put("amount", 2);
-        super.labelMap.put("code", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
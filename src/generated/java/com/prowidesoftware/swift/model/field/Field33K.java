@@ -219,6 +219,10 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -328,6 +332,10 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("DayMonth", "Number Of Days/Months", "Code", "Currency", "Amount");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("dayMonth", "numberOfDaysMonths", "code", "currency", "amount");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "dmmark", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -337,13 +345,7 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("DayMonth");
-        result.add("Number Of Days/Months");
-        result.add("Code");
-        result.add("Currency");
-        result.add("Amount");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -352,13 +354,7 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dayMonth");
-        result.put(2, "numberOfDaysMonths");
-        result.put(3, "code");
-        result.put(4, "currency");
-        result.put(5, "amount");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -367,21 +363,7 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("daymonth", 1);
-        // alias name
-        super.labelMap.put("dmmark", 1);
-        super.labelMap.put("numberofdaysmonths", 2);
-        // alias name
-        super.labelMap.put("numberofdaysmonths", 2);
-        super.labelMap.put("code", 3);
-        super.labelMap.put("currency", 4);
-        super.labelMap.put("amount", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -178,6 +178,10 @@ public class Field342 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -274,6 +278,10 @@ public class Field342 extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Region", "Time");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("region", "time");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -283,10 +291,7 @@ public class Field342 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Region");
-        result.add("Time");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -295,10 +300,7 @@ public class Field342 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "region");
-        result.put(2, "time");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -307,14 +309,7 @@ public class Field342 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("region", 1);
-        super.labelMap.put("time", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -191,6 +191,10 @@ public class Field343 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append(" ");
@@ -296,6 +300,10 @@ public class Field343 extends Field implements Serializable {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Region Time Count 1", "Region Time Count 2", "Region Time Count 3", "Region Time Count 4");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("regionTimeCount1", "regionTimeCount2", "regionTimeCount3", "regionTimeCount4");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -305,12 +313,7 @@ public class Field343 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Region Time Count 1");
-        result.add("Region Time Count 2");
-        result.add("Region Time Count 3");
-        result.add("Region Time Count 4");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -319,12 +322,7 @@ public class Field343 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "regionTimeCount1");
-        result.put(2, "regionTimeCount2");
-        result.put(3, "regionTimeCount3");
-        result.put(4, "regionTimeCount4");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -333,16 +331,7 @@ public class Field343 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("regiontimecount1", 1);
-        super.labelMap.put("regiontimecount2", 2);
-        super.labelMap.put("regiontimecount3", 3);
-        super.labelMap.put("regiontimecount4", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -179,6 +179,10 @@ public class Field344 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         append(result, 2);
@@ -271,6 +275,10 @@ public class Field344 extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Priority", "Message Categories");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("priority", "messageCategories");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -280,10 +288,7 @@ public class Field344 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Priority");
-        result.add("Message Categories");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -292,10 +297,7 @@ public class Field344 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "priority");
-        result.put(2, "messageCategories");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -304,14 +306,7 @@ public class Field344 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("priority", 1);
-        super.labelMap.put("messagecategories", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -222,6 +222,10 @@ public class Field345 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -345,6 +349,10 @@ public class Field345 extends Field implements Serializable {
         return 10;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("MT1", "MT2", "MT3", "MT4", "MT5", "MT6", "MT7", "MT8", "MT9", "MT10");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("mT1", "mT2", "mT3", "mT4", "mT5", "mT6", "mT7", "mT8", "mT9", "mT10");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -354,18 +362,7 @@ public class Field345 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("MT1");
-        result.add("MT2");
-        result.add("MT3");
-        result.add("MT4");
-        result.add("MT5");
-        result.add("MT6");
-        result.add("MT7");
-        result.add("MT8");
-        result.add("MT9");
-        result.add("MT10");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -374,18 +371,7 @@ public class Field345 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "mT1");
-        result.put(2, "mT2");
-        result.put(3, "mT3");
-        result.put(4, "mT4");
-        result.put(5, "mT5");
-        result.put(6, "mT6");
-        result.put(7, "mT7");
-        result.put(8, "mT8");
-        result.put(9, "mT9");
-        result.put(10, "mT10");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -394,22 +380,7 @@ public class Field345 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("mt1", 1);
-        super.labelMap.put("mt2", 2);
-        super.labelMap.put("mt3", 3);
-        super.labelMap.put("mt4", 4);
-        super.labelMap.put("mt5", 5);
-        super.labelMap.put("mt6", 6);
-        super.labelMap.put("mt7", 7);
-        super.labelMap.put("mt8", 8);
-        super.labelMap.put("mt9", 9);
-        super.labelMap.put("mt10", 10);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
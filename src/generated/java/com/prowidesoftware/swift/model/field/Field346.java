@@ -220,6 +220,10 @@ public class Field346 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -343,6 +347,10 @@ public class Field346 extends Field implements Serializable {
         return 10;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Branch1", "Branch2", "Branch3", "Branch4", "Branch5", "Branch6", "Branch7", "Branch8", "Branch9", "Branch10");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("branch1", "branch2", "branch3", "branch4", "branch5", "branch6", "branch7", "branch8", "branch9", "branch10");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -352,18 +360,7 @@ public class Field346 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Branch1");
-        result.add("Branch2");
-        result.add("Branch3");
-        result.add("Branch4");
-        result.add("Branch5");
-        result.add("Branch6");
-        result.add("Branch7");
-        result.add("Branch8");
-        result.add("Branch9");
-        result.add("Branch10");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -372,18 +369,7 @@ public class Field346 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "branch1");
-        result.put(2, "branch2");
-        result.put(3, "branch3");
-        result.put(4, "branch4");
-        result.put(5, "branch5");
-        result.put(6, "branch6");
-        result.put(7, "branch7");
-        result.put(8, "branch8");
-        result.put(9, "branch9");
-        result.put(10, "branch10");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -392,22 +378,7 @@ public class Field346 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("branch1", 1);
-        super.labelMap.put("branch2", 2);
-        super.labelMap.put("branch3", 3);
-        super.labelMap.put("branch4", 4);
-        super.labelMap.put("branch5", 5);
-        super.labelMap.put("branch6", 6);
-        super.labelMap.put("branch7", 7);
-        super.labelMap.put("branch8", 8);
-        super.labelMap.put("branch9", 9);
-        super.labelMap.put("branch10", 10);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
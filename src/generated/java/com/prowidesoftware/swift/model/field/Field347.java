@@ -220,6 +220,10 @@ public class Field347 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -343,6 +347,10 @@ public class Field347 extends Field implements Serializable {
         return 10;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Field 1", "Field 2", "Field 3", "Field 4", "Field 5", "Field 6", "Field 7", "Field 8", "Field 9", "Field 10");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("field1", "field2", "field3", "field4", "field5", "field6", "field7", "field8", "field9", "field10");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -352,18 +360,7 @@ public class Field347 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Field 1");
-        result.add("Field 2");
-        result.add("Field 3");
-        result.add("Field 4");
-        result.add("Field 5");
-        result.add("Field 6");
-        result.add("Field 7");
-        result.add("Field 8");
-        result.add("Field 9");
-        result.add("Field 10");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -372,18 +369,7 @@ public class Field347 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "field1");
-        result.put(2, "field2");
-        result.put(3, "field3");
-        result.put(4, "field4");
-        result.put(5, "field5");
-        result.put(6, "field6");
-        result.put(7, "field7");
-        result.put(8, "field8");
-        result.put(9, "field9");
-        result.put(10, "field10");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -392,22 +378,7 @@ public class Field347 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("field1", 1);
-        super.labelMap.put("field2", 2);
-        super.labelMap.put("field3", 3);
-        super.labelMap.put("field4", 4);
-        super.labelMap.put("field5", 5);
-        super.labelMap.put("field6", 6);
-        super.labelMap.put("field7", 7);
-        super.labelMap.put("field8", 8);
-        super.labelMap.put("field9", 9);
-        super.labelMap.put("field10", 10);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -200,6 +200,10 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -312,6 +316,10 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Commission Type", "Sign", "Currency/Percent", "Amount/Rate");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("commissionType", "sign", "currencyPercent", "amountRate");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "currency", 3, "amount", 4);
+
     /**
      * Returns english label for components.
      * <br>
@@ -321,12 +329,7 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Commission Type");
-        result.add("Sign");
-        result.add("Currency/Percent");
-        result.add("Amount/Rate");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -335,12 +338,7 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "commissionType");
-        result.put(2, "sign");
-        result.put(3, "currencyPercent");
-        result.put(4, "amountRate");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -349,20 +347,7 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("commissiontype", 1);
-        super.labelMap.put("sign", 2);
-        super.labelMap.put("currencypercent", 3);
-        // alias name
-        super.labelMap.put("currency", 3);
-        super.labelMap.put("amountrate", 4);
-        // alias name
-        super.labelMap.put("amount", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -211,6 +211,10 @@ public class Field35B extends Field implements Serializable, MultiLineField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null) {
@@ -343,6 +347,10 @@ public class Field35B extends Field implements Serializable, MultiLineField {
         return 6;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "ISIN", "Description", "Description 2", "Description 3", "Description 4");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "iSIN", "description", "description2", "description3", "description4");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "identificationofinstrument", 2, "identificationofsecurity", 2, "descriptionofinstrument", 3, "descriptionofsecurity", 3, "descriptionofinstrument2", 4, "descriptionofsecurity2", 4, "descriptionofinstrument3", 5, "descriptionofsecurity3", 5, "descriptionofinstrument4", 6, "descriptionofsecurity4", 6);
+
     /**
      * Returns english label for components.
      * <br>
@@ -352,14 +360,7 @@ public class Field35B extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("ISIN");
-        result.add("Description");
-        result.add("Description 2");
-        result.add("Description 3");
-        result.add("Description 4");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -368,14 +369,7 @@ public class Field35B extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "iSIN");
-        result.put(3, "description");
-        result.put(4, "description2");
-        result.put(5, "description3");
-        result.put(6, "description4");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -384,38 +378,7 @@ public class Field35B extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("isin", 2);
-        // alias name
-        super.labelMap.put("identificationofinstrument", 2);
-        // alias name
-        super.labelMap.put("identificationofsecurity", 2);
-        super.labelMap.put("description", 3);
-        // alias name
-        super.labelMap.put("descriptionofinstrument", 3);
-        // alias name
-        super.labelMap.put("descriptionofsecurity", 3);
-        super.labelMap.put("description2", 4);
-        // alias name
-        super.labelMap.put("descriptionofinstrument2", 4);
-        // alias name
-        super.labelMap.put("descriptionofsecurity2", 4);
-        super.labelMap.put("description3", 5);
-        // alias name
-        super.labelMap.put("descriptionofinstrument3", 5);
-        // alias name
-        super.labelMap.put("descriptionofsecurity3", 5);
-        super.labelMap.put("description4", 6);
-        // alias name
-        super.labelMap.put("descriptionofinstrument4", 6);
-        // alias name
-        super.labelMap.put("descriptionofsecurity4", 6);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
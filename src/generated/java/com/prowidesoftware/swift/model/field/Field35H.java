@@ -190,6 +190,10 @@ public class Field35H extends Field implements Serializable, AmountContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -294,6 +298,10 @@ public class Field35H extends Field implements Serializable, AmountContainer {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Sign", "Currency", "Quantity");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("sign", "currency", "quantity");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "amount", 3);
+
     /**
      * Returns english label for components.
      * <br>
@@ -303,11 +311,7 @@ public class Field35H extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Sign");
-        result.add("Currency");
-        result.add("Quantity");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -316,11 +320,7 @@ public class Field35H extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "sign");
-        result.put(2, "currency");
-        result.put(3, "quantity");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -329,17 +329,7 @@ public class Field35H extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("sign", 1);
-        super.labelMap.put("currency", 2);
-        super.labelMap.put("quantity", 3);
-        // alias name
-        super.labelMap.put("amount", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -177,6 +177,10 @@ public class Field35N extends Field implements Serializable, AmountContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -274,6 +278,10 @@ public class Field35N extends Field implements Serializable, AmountContainer {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Type", "Quantity");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("type", "quantity");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "currency", 1, "amount", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -283,10 +291,7 @@ public class Field35N extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Type");
-        result.add("Quantity");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -295,10 +300,7 @@ public class Field35N extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "type");
-        result.put(2, "quantity");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -307,18 +309,7 @@ public class Field35N extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("type", 1);
-        // alias name
-        super.labelMap.put("currency", 1);
-        super.labelMap.put("quantity", 2);
-        // alias name
-        super.labelMap.put("amount", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -184,6 +184,10 @@ public class Field35U extends Field implements Serializable, AmountContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         append(result, 2);
@@ -289,6 +293,10 @@ public class Field35U extends Field implements Serializable, AmountContainer {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Currency", "Price", "Period");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("currency", "price", "period");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "amount", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -298,11 +306,7 @@ public class Field35U extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Currency");
-        result.add("Price");
-        result.add("Period");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -311,11 +315,7 @@ public class Field35U extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "currency");
-        result.put(2, "price");
-        result.put(3, "period");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -324,17 +324,7 @@ public class Field35U extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("currency", 1);
-        super.labelMap.put("price", 2);
-        // alias name
-        super.labelMap.put("amount", 2);
-        super.labelMap.put("period", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -184,6 +184,10 @@ public class Field36B extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -290,6 +294,10 @@ public class Field36B extends Field implements Serializable, AmountContainer, Ge
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Quantity Type Code", "Quantity");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "quantityTypeCode", "quantity");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -299,11 +307,7 @@ public class Field36B extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Quantity Type Code");
-        result.add("Quantity");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -312,11 +316,7 @@ public class Field36B extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "quantityTypeCode");
-        result.put(3, "quantity");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -325,15 +325,7 @@ public class Field36B extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("quantitytypecode", 2);
-        super.labelMap.put("quantity", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -182,6 +182,10 @@ public class Field36D extends Field implements Serializable, GenericField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -282,6 +286,10 @@ public class Field36D extends Field implements Serializable, GenericField {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Quantity Type Code", "Quantity Of Digital Tokens");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "quantityTypeCode", "quantityOfDigitalTokens");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -291,11 +299,7 @@ public class Field36D extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Quantity Type Code");
-        result.add("Quantity Of Digital Tokens");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -304,11 +308,7 @@ public class Field36D extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "quantityTypeCode");
-        result.put(3, "quantityOfDigitalTokens");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -317,15 +317,7 @@ public class Field36D extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("quantitytypecode", 2);
-        super.labelMap.put("quantityofdigitaltokens", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -193,6 +193,10 @@ public class Field36E extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -307,6 +311,10 @@ public class Field36E extends Field implements Serializable, AmountContainer, Ge
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Quantity Type Code", "Sign", "Quantity");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "quantityTypeCode", "sign", "quantity");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "amount", 4);
+
     /**
      * Returns english label for components.
      * <br>
@@ -316,12 +324,7 @@ public class Field36E extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Quantity Type Code");
-        result.add("Sign");
-        result.add("Quantity");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -330,12 +333,7 @@ public class Field36E extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "quantityTypeCode");
-        result.put(3, "sign");
-        result.put(4, "quantity");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -344,18 +342,7 @@ public class Field36E extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("quantitytypecode", 2);
-        super.labelMap.put("sign", 3);
-        super.labelMap.put("quantity", 4);
-        // alias name
-        super.labelMap.put("amount", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
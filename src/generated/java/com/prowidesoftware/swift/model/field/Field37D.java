@@ -212,6 +212,10 @@ public class Field37D extends Field implements Serializable, AmountContainer, Da
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null || getComponent3() != null || getComponent4() != null) {
@@ -345,6 +349,10 @@ public class Field37D extends Field implements Serializable, AmountContainer, Da
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Rate", "End Date", "Period", "Number", "Information");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("rate", "endDate", "period", "number", "information");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "date", 2, "dmmark", 3, "numberofdaysmonths", 4);
+
     /**
      * Returns english label for components.
      * <br>
@@ -354,13 +362,7 @@ public class Field37D extends Field implements Serializable, AmountContainer, Da
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Rate");
-        result.add("End Date");
-        result.add("Period");
-        result.add("Number");
-        result.add("Information");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -369,13 +371,7 @@ public class Field37D extends Field implements Serializable, AmountContainer, Da
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "rate");
-        result.put(2, "endDate");
-        result.put(3, "period");
-        result.put(4, "number");
-        result.put(5, "information");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -384,23 +380,7 @@ public class Field37D extends Field implements Serializable, AmountContainer, Da
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("rate", 1);
-        super.labelMap.put("enddate", 2);
-        // alias name
-        super.labelMap.put("date", 2);
-        super.labelMap.put("period", 3);
-        // alias name
-        super.labelMap.put("dmmark", 3);
-        super.labelMap.put("number", 4);
-        // alias name
-        super.labelMap.put("numberofdaysmonths", 4);
-        super.labelMap.put("information", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -175,6 +175,10 @@ public class Field37G extends Field implements Serializable, AmountContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -275,6 +279,10 @@ public class Field37G extends Field implements Serializable, AmountContainer {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Sign", "Rate");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("sign", "rate");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -284,10 +292,7 @@ public class Field37G extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Sign");
-        result.add("Rate");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -296,10 +301,7 @@ public class Field37G extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "sign");
-        result.put(2, "rate");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -308,14 +310,7 @@ public class Field37G extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("sign", 1);
-        super.labelMap.put("rate", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
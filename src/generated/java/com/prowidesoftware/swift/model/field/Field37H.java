@@ -188,6 +188,10 @@ public class Field37H extends Field implements Serializable, AmountContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         append(result, 2);
@@ -294,6 +298,10 @@ public class Field37H extends Field implements Serializable, AmountContainer {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Indicator", "Sign", "Rate");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("indicator", "sign", "rate");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "dcmark", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -303,11 +311,7 @@ public class Field37H extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Indicator");
-        result.add("Sign");
-        result.add("Rate");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -316,11 +320,7 @@ public class Field37H extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "indicator");
-        result.put(2, "sign");
-        result.put(3, "rate");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -329,17 +329,7 @@ public class Field37H extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("indicator", 1);
-        // alias name
-        super.labelMap.put("dcmark", 1);
-        super.labelMap.put("sign", 2);
-        super.labelMap.put("rate", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
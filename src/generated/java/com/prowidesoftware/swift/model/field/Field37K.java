@@ -175,6 +175,10 @@ public class Field37K extends Field implements Serializable, AmountContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -272,6 +276,10 @@ public class Field37K extends Field implements Serializable, AmountContainer {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Currency", "Rate");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("currency", "rate");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -281,10 +289,7 @@ public class Field37K extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Currency");
-        result.add("Rate");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -293,10 +298,7 @@ public class Field37K extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "currency");
-        result.put(2, "rate");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -305,14 +307,7 @@ public class Field37K extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("currency", 1);
-        super.labelMap.put("rate", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
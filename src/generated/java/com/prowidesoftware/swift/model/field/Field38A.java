@@ -167,6 +167,10 @@ public class Field38A extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -253,6 +257,10 @@ public class Field38A extends Field implements Serializable {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Period");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("period");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "number", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -262,9 +270,7 @@ public class Field38A extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Period");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -273,9 +279,7 @@ public class Field38A extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "period");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -284,15 +288,7 @@ public class Field38A extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("period", 1);
-        // alias name
-        super.labelMap.put("number", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -188,6 +188,10 @@ public class Field38G extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         append(result, 2);
@@ -291,6 +295,10 @@ public class Field38G extends Field implements Serializable {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Number From", "Period From", "Number To", "Period To");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("numberFrom", "periodFrom", "numberTo", "periodTo");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -300,12 +308,7 @@ public class Field38G extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Number From");
-        result.add("Period From");
-        result.add("Number To");
-        result.add("Period To");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -314,12 +317,7 @@ public class Field38G extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "numberFrom");
-        result.put(2, "periodFrom");
-        result.put(3, "numberTo");
-        result.put(4, "periodTo");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -328,16 +326,7 @@ public class Field38G extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("numberfrom", 1);
-        super.labelMap.put("periodfrom", 2);
-        super.labelMap.put("numberto", 3);
-        super.labelMap.put("periodto", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
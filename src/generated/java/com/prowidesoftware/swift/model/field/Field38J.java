@@ -174,6 +174,10 @@ public class Field38J extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -265,6 +269,10 @@ public class Field38J extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Indicator", "Number");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("indicator", "number");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "dmmark", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -274,10 +282,7 @@ public class Field38J extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Indicator");
-        result.add("Number");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -286,10 +291,7 @@ public class Field38J extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "indicator");
-        result.put(2, "number");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -298,16 +300,7 @@ public class Field38J extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("indicator", 1);
-        // alias name
-        super.labelMap.put("dmmark", 1);
-        super.labelMap.put("number", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
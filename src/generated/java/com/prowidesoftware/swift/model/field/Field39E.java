@@ -177,6 +177,10 @@ public class Field39E extends Field implements Serializable, MultiLineField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         appendInLines(result, 1, 12);
         return result.toString();
@@ -341,6 +345,10 @@ public class Field39E extends Field implements Serializable, MultiLineField {
         return 12;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Narrative", "Narrative 2", "Narrative 3", "Narrative 4", "Narrative 5", "Narrative 6", "Narrative 7", "Narrative 8", "Narrative 9", "Narrative 10", "Narrative 11", "Narrative 12");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("narrative", "narrative2", "narrative3", "narrative4", "narrative5", "narrative6", "narrative7", "narrative8", "narrative9", "narrative10", "narrative11", "narrative12");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -350,20 +358,7 @@ public class Field39E extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        result.add("Narrative 5");
-        result.add("Narrative 6");
-        result.add("Narrative 7");
-        result.add("Narrative 8");
-        result.add("Narrative 9");
-        result.add("Narrative 10");
-        result.add("Narrative 11");
-        result.add("Narrative 12");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -372,20 +367,7 @@ public class Field39E extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "narrative");
-        result.put(2, "narrative2");
-        result.put(3, "narrative3");
-        result.put(4, "narrative4");
-        result.put(5, "narrative5");
-        result.put(6, "narrative6");
-        result.put(7, "narrative7");
-        result.put(8, "narrative8");
-        result.put(9, "narrative9");
-        result.put(10, "narrative10");
-        result.put(11, "narrative11");
-        result.put(12, "narrative12");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -394,24 +376,7 @@ public class Field39E extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("narrative", 1);
-        super.labelMap.put("narrative2", 2);
-        super.labelMap.put("narrative3", 3);
-        super.labelMap.put("narrative4", 4);
-        super.labelMap.put("narrative5", 5);
-        super.labelMap.put("narrative6", 6);
-        super.labelMap.put("narrative7", 7);
-        super.labelMap.put("narrative8", 8);
-        super.labelMap.put("narrative9", 9);
-        super.labelMap.put("narrative10", 10);
-        super.labelMap.put("narrative11", 11);
-        super.labelMap.put("narrative12", 12);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
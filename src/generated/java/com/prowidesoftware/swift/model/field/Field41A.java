@@ -181,6 +181,10 @@ public class Field41A extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         appendInLines(result, 1, 2);
         return result.toString();
@@ -272,6 +276,10 @@ public class Field41A extends Field implements Serializable, BICContainer, Multi
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Identifier Code", "Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("identifierCode", "code");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "bic", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -281,10 +289,7 @@ public class Field41A extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Identifier Code");
-        result.add("Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -293,10 +298,7 @@ public class Field41A extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "identifierCode");
-        result.put(2, "code");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -305,16 +307,7 @@ public class Field41A extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("identifiercode", 1);
-        // alias name
-        super.labelMap.put("bic", 1);
-        super.labelMap.put("code", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
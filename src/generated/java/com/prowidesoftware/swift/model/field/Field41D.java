@@ -193,6 +193,10 @@ public class Field41D extends Field implements Serializable, MultiLineField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         appendInLines(result, 1, 5);
         return result.toString();
@@ -305,6 +309,10 @@ public class Field41D extends Field implements Serializable, MultiLineField {
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Name And Address", "Name And Address 2", "Name And Address 3", "Name And Address 4", "Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("nameAndAddress", "nameAndAddress2", "nameAndAddress3", "nameAndAddress4", "code");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -314,13 +322,7 @@ public class Field41D extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Name And Address");
-        result.add("Name And Address 2");
-        result.add("Name And Address 3");
-        result.add("Name And Address 4");
-        result.add("Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -329,13 +331,7 @@ public class Field41D extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "nameAndAddress");
-        result.put(2, "nameAndAddress2");
-        result.put(3, "nameAndAddress3");
-        result.put(4, "nameAndAddress4");
-        result.put(5, "code");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -344,17 +340,7 @@ public class Field41D extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("nameandaddress", 1);
-        super.labelMap.put("nameandaddress2", 2);
-        super.labelMap.put("nameandaddress3", 3);
-        super.labelMap.put("nameandaddress4", 4);
-        super.labelMap.put("code", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -224,6 +224,10 @@ public class Field425 extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         //FIXME serialization 20*(S/S)
         // @NotImplemented
@@ -468,6 +472,10 @@ public class Field425 extends Field implements Serializable {
         return 40;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels(null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap();
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -477,48 +485,7 @@ public class Field425 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        result.add(null);
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -527,8 +494,7 @@ public class Field425 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -537,12 +503,7 @@ public class Field425 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
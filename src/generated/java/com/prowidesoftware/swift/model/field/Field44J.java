@@ -182,6 +182,10 @@ public class Field44J extends Field implements Serializable, MultiLineField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null) {
@@ -290,6 +294,10 @@ public class Field44J extends Field implements Serializable, MultiLineField {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Country Code", "Country Sub Division", "Narrative");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("countryCode", "countrySubDivision", "narrative");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -299,11 +307,7 @@ public class Field44J extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Country Code");
-        result.add("Country Sub Division");
-        result.add("Narrative");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -312,11 +316,7 @@ public class Field44J extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "countryCode");
-        result.put(2, "countrySubDivision");
-        result.put(3, "narrative");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -325,15 +325,7 @@ public class Field44J extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("countrycode", 1);
-        super.labelMap.put("countrysubdivision", 2);
-        super.labelMap.put("narrative", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
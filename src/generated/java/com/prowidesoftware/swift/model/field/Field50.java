@@ -169,6 +169,10 @@ public class Field50 extends Field implements Serializable, MultiLineField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         appendInLines(result, 1, 4);
         return result.toString();
@@ -277,6 +281,10 @@ public class Field50 extends Field implements Serializable, MultiLineField {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Name And Address", "Name And Address 2", "Name And Address 3", "Name And Address 4");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("nameAndAddress", "nameAndAddress2", "nameAndAddress3", "nameAndAddress4");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -286,12 +294,7 @@ public class Field50 extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Name And Address");
-        result.add("Name And Address 2");
-        result.add("Name And Address 3");
-        result.add("Name And Address 4");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -300,12 +303,7 @@ public class Field50 extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "nameAndAddress");
-        result.put(2, "nameAndAddress2");
-        result.put(3, "nameAndAddress3");
-        result.put(4, "nameAndAddress4");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -314,16 +312,7 @@ public class Field50 extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("nameandaddress", 1);
-        super.labelMap.put("nameandaddress2", 2);
-        super.labelMap.put("nameandaddress3", 3);
-        super.labelMap.put("nameandaddress4", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -168,6 +168,10 @@ public class Field50C extends Field implements Serializable, BICContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -254,6 +258,10 @@ public class Field50C extends Field implements Serializable, BICContainer {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Identifier Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("identifierCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "bic", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -263,9 +271,7 @@ public class Field50C extends Field implements Serializable, BICContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Identifier Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -274,9 +280,7 @@ public class Field50C extends Field implements Serializable, BICContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "identifierCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -285,15 +289,7 @@ public class Field50C extends Field implements Serializable, BICContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("identifiercode", 1);
-        // alias name
-        super.labelMap.put("bic", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -234,6 +234,10 @@ public class Field50F extends Field implements Serializable, MultiLineField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null || getComponent3() != null) {
@@ -398,6 +402,10 @@ public class Field50F extends Field implements Serializable, MultiLineField {
         return 9;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Party Identifier", "Number 1", "Name And Address 1", "Number 2", "Name And Address 2", "Number 3", "Name And Address 3", "Number 4", "Name And Address 4");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("partyIdentifier", "number1", "nameAndAddress1", "number2", "nameAndAddress2", "number3", "nameAndAddress3", "number4", "nameAndAddress4");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -407,17 +415,7 @@ public class Field50F extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Party Identifier");
-        result.add("Number 1");
-        result.add("Name And Address 1");
-        result.add("Number 2");
-        result.add("Name And Address 2");
-        result.add("Number 3");
-        result.add("Name And Address 3");
-        result.add("Number 4");
-        result.add("Name And Address 4");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -426,17 +424,7 @@ public class Field50F extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "partyIdentifier");
-        result.put(2, "number1");
-        result.put(3, "nameAndAddress1");
-        result.put(4, "number2");
-        result.put(5, "nameAndAddress2");
-        result.put(6, "number3");
-        result.put(7, "nameAndAddress3");
-        result.put(8, "number4");
-        result.put(9, "nameAndAddress4");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -445,21 +433,7 @@ public class Field50F extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("partyidentifier", 1);
-        super.labelMap.put("number1", 2);
-        super.labelMap.put("nameandaddress1", 3);
-        super.labelMap.put("number2", 4);
-        super.labelMap.put("nameandaddress2", 5);
-        super.labelMap.put("number3", 6);
-        super.labelMap.put("nameandaddress3", 7);
-        super.labelMap.put("number4", 8);
-        super.labelMap.put("nameandaddress4", 9);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -183,6 +183,10 @@ public class Field59A extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         if (getComponent1() != null) {
             result.append("/").append(getComponent1());
@@ -280,6 +284,10 @@ public class Field59A extends Field implements Serializable, BICContainer, Multi
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Account", "Identifier Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("account", "identifierCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "bic", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -289,10 +297,7 @@ public class Field59A extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Account");
-        result.add("Identifier Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -301,10 +306,7 @@ public class Field59A extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "account");
-        result.put(2, "identifierCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -313,16 +315,7 @@ public class Field59A extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("account", 1);
-        super.labelMap.put("identifiercode", 2);
-        // alias name
-        super.labelMap.put("bic", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -201,6 +201,10 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(joinComponents());
         return result.toString();
@@ -310,6 +314,10 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("D/C Mark", "Date", "Currency", "Amount");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("dCMark", "date", "currency", "amount");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "unit", 3);
+
     /**
      * Returns english label for components.
      * <br>
@@ -319,12 +327,7 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("D/C Mark");
-        result.add("Date");
-        result.add("Currency");
-        result.add("Amount");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -333,12 +336,7 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dCMark");
-        result.put(2, "date");
-        result.put(3, "currency");
-        result.put(4, "amount");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -347,18 +345,7 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("dcmark", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("currency", 3);
-        // alias name
-        super.labelMap.put("unit", 3);
-        super.labelMap.put("amount", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
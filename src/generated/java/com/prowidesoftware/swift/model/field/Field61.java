@@ -234,6 +234,10 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         // CUSTOM pattern for field 61
         append(result, 1);
@@ -398,6 +402,10 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
         return 10;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Value Date", "Entry Date", "Debit/Credit Mark", "Funds Code", "Amount", "Transaction Type", "Identification Code", "Reference For The Account Owner", "Reference Of The Account Servicing Institution", "Supplementary Details");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("valueDate", "entryDate", "debitCreditMark", "fundsCode", "amount", "transactionType", "identificationCode", "referenceForTheAccountOwner", "referenceOfTheAccountServicingInstitution", "supplementaryDetails");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "date", 1, "dcmark", 3);
+
     /**
      * Returns english label for components.
      * <br>
@@ -407,18 +415,7 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Value Date");
-        result.add("Entry Date");
-        result.add("Debit/Credit Mark");
-        result.add("Funds Code");
-        result.add("Amount");
-        result.add("Transaction Type");
-        result.add("Identification Code");
-        result.add("Reference For The Account Owner");
-        result.add("Reference Of The Account Servicing Institution");
-        result.add("Supplementary Details");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -427,18 +424,7 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "valueDate");
-        result.put(2, "entryDate");
-        result.put(3, "debitCreditMark");
-        result.put(4, "fundsCode");
-        result.put(5, "amount");
-        result.put(6, "transactionType");
-        result.put(7, "identificationCode");
-        result.put(8, "referenceForTheAccountOwner");
-        result.put(9, "referenceOfTheAccountServicingInstitution");
-        result.put(10, "supplementaryDetails");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -447,26 +433,7 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("valuedate", 1);
-        // alias name
-        super.labelMap.put("date", 1);
-        super.labelMap.put("entrydate", 2);
-        super.labelMap.put("debitcreditmark", 3);
-        // alias name
-        super.labelMap.put("dcmark", 3);
-        super.labelMap.put("fundscode", 4);
-        super.labelMap.put("amount", 5);
-        super.labelMap.put("transactiontype", 6);
-        super.labelMap.put("identificationcode", 7);
-        super.labelMap.put("referencefortheaccountowner", 8);
-        super.labelMap.put("referenceoftheaccountservicinginstitution", 9);
-        super.labelMap.put("supplementarydetails", 10);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
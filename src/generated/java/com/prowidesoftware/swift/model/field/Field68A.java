@@ -207,6 +207,10 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         append(result, 2);
@@ -335,6 +339,10 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
         return 6;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Number", "Currency", "Denomination", "Mode", "Amount", "Product Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("number", "currency", "denomination", "mode", "amount", "productCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -344,14 +352,7 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Number");
-        result.add("Currency");
-        result.add("Denomination");
-        result.add("Mode");
-        result.add("Amount");
-        result.add("Product Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -360,14 +361,7 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "number");
-        result.put(2, "currency");
-        result.put(3, "denomination");
-        result.put(4, "mode");
-        result.put(5, "amount");
-        result.put(6, "productCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -376,18 +370,7 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("number", 1);
-        super.labelMap.put("currency", 2);
-        super.labelMap.put("denomination", 3);
-        super.labelMap.put("mode", 4);
-        super.labelMap.put("amount", 5);
-        super.labelMap.put("productcode", 6);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -183,6 +183,10 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -292,6 +296,10 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Date1", "Date2");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "date1", "date2");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -301,11 +309,7 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date1");
-        result.add("Date2");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -314,11 +318,7 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "date1");
-        result.put(3, "date2");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -327,15 +327,7 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("date1", 2);
-        super.labelMap.put("date2", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
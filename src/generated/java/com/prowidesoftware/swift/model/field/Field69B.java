@@ -215,6 +215,10 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -342,6 +346,10 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Date1", "Time1", "Date2", "Time2");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "date1", "time1", "date2", "time2");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "startdate", 2, "starttime", 3, "enddate", 4, "endtime", 5);
+
     /**
      * Returns english label for components.
      * <br>
@@ -351,13 +359,7 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date1");
-        result.add("Time1");
-        result.add("Date2");
-        result.add("Time2");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -366,13 +368,7 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "date1");
-        result.put(3, "time1");
-        result.put(4, "date2");
-        result.put(5, "time2");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -381,25 +377,7 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("date1", 2);
-        // alias name
-        super.labelMap.put("startdate", 2);
-        super.labelMap.put("time1", 3);
-        // alias name
-        super.labelMap.put("starttime", 3);
-        super.labelMap.put("date2", 4);
-        // alias name
-        super.labelMap.put("enddate", 4);
-        super.labelMap.put("time2", 5);
-        // alias name
-        super.labelMap.put("endtime", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -183,6 +183,10 @@ public class Field69C extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -287,6 +291,10 @@ public class Field69C extends Field implements Serializable, DateContainer, Gene
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Date", "Date Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "date", "dateCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -296,11 +304,7 @@ public class Field69C extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date");
-        result.add("Date Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -309,11 +313,7 @@ public class Field69C extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "date");
-        result.put(3, "dateCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -322,15 +322,7 @@ public class Field69C extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("datecode", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
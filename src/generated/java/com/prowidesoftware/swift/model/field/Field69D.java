@@ -197,6 +197,10 @@ public class Field69D extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -310,6 +314,10 @@ public class Field69D extends Field implements Serializable, DateContainer, Gene
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Date", "Time", "Date Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "date", "time", "dateCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -319,12 +327,7 @@ public class Field69D extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date");
-        result.add("Time");
-        result.add("Date Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -333,12 +336,7 @@ public class Field69D extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "date");
-        result.put(3, "time");
-        result.put(4, "dateCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -347,16 +345,7 @@ public class Field69D extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("time", 3);
-        super.labelMap.put("datecode", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -184,6 +184,10 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -289,6 +293,10 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Date Code", "Date");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "dateCode", "date");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "code", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -298,11 +306,7 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date Code");
-        result.add("Date");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -311,11 +315,7 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dateCode");
-        result.put(3, "date");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -324,17 +324,7 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datecode", 2);
-        // alias name
-        super.labelMap.put("code", 2);
-        super.labelMap.put("date", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
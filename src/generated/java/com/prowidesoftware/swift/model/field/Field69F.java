@@ -198,6 +198,10 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -312,6 +316,10 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Date Code", "Date", "Time");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "dateCode", "date", "time");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "code", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -321,12 +329,7 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date Code");
-        result.add("Date");
-        result.add("Time");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -335,12 +338,7 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dateCode");
-        result.put(3, "date");
-        result.put(4, "time");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -349,18 +347,7 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datecode", 2);
-        // alias name
-        super.labelMap.put("code", 2);
-        super.labelMap.put("date", 3);
-        super.labelMap.put("time", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
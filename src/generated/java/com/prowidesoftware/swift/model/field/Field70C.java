@@ -180,6 +180,10 @@ public class Field70C extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -296,6 +300,10 @@ public class Field70C extends Field implements Serializable, GenericField, Multi
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Narrative", "Narrative 2", "Narrative 3", "Narrative 4");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "narrative", "narrative2", "narrative3", "narrative4");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -305,13 +313,7 @@ public class Field70C extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -320,13 +322,7 @@ public class Field70C extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "narrative");
-        result.put(3, "narrative2");
-        result.put(4, "narrative3");
-        result.put(5, "narrative4");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -335,17 +331,7 @@ public class Field70C extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("narrative", 2);
-        super.labelMap.put("narrative2", 3);
-        super.labelMap.put("narrative3", 4);
-        super.labelMap.put("narrative4", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
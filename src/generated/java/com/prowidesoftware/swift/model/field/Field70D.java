@@ -182,6 +182,10 @@ public class Field70D extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -312,6 +316,10 @@ public class Field70D extends Field implements Serializable, GenericField, Multi
         return 7;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Narrative", "Narrative 2", "Narrative 3", "Narrative 4", "Narrative 5", "Narrative 6");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "narrative", "narrative2", "narrative3", "narrative4", "narrative5", "narrative6");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -321,15 +329,7 @@ public class Field70D extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        result.add("Narrative 5");
-        result.add("Narrative 6");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -338,15 +338,7 @@ public class Field70D extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "narrative");
-        result.put(3, "narrative2");
-        result.put(4, "narrative3");
-        result.put(5, "narrative4");
-        result.put(6, "narrative5");
-        result.put(7, "narrative6");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -355,19 +347,7 @@ public class Field70D extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("narrative", 2);
-        super.labelMap.put("narrative2", 3);
-        super.labelMap.put("narrative3", 4);
-        super.labelMap.put("narrative4", 5);
-        super.labelMap.put("narrative5", 6);
-        super.labelMap.put("narrative6", 7);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -186,6 +186,10 @@ public class Field70G extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -344,6 +348,10 @@ public class Field70G extends Field implements Serializable, GenericField, Multi
         return 11;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Narrative", "Narrative 2", "Narrative 3", "Narrative 4", "Narrative 5", "Narrative 6", "Narrative 7", "Narrative 8", "Narrative 9", "Narrative 10");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "narrative", "narrative2", "narrative3", "narrative4", "narrative5", "narrative6", "narrative7", "narrative8", "narrative9", "narrative10");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -353,19 +361,7 @@ public class Field70G extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        result.add("Narrative 5");
-        result.add("Narrative 6");
-        result.add("Narrative 7");
-        result.add("Narrative 8");
-        result.add("Narrative 9");
-        result.add("Narrative 10");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -374,19 +370,7 @@ public class Field70G extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "narrative");
-        result.put(3, "narrative2");
-        result.put(4, "narrative3");
-        result.put(5, "narrative4");
-        result.put(6, "narrative5");
-        result.put(7, "narrative6");
-        result.put(8, "narrative7");
-        result.put(9, "narrative8");
-        result.put(10, "narrative9");
-        result.put(11, "narrative10");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -395,23 +379,7 @@ public class Field70G extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("narrative", 2);
-        super.labelMap.put("narrative2", 3);
-        super.labelMap.put("narrative3", 4);
-        super.labelMap.put("narrative4", 5);
-        super.labelMap.put("narrative5", 6);
-        super.labelMap.put("narrative6", 7);
-        super.labelMap.put("narrative7", 8);
-        super.labelMap.put("narrative8", 9);
-        super.labelMap.put("narrative9", 10);
-        super.labelMap.put("narrative10", 11);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
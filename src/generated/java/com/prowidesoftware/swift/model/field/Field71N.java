@@ -177,6 +177,10 @@ public class Field71N extends Field implements Serializable, MultiLineField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         appendInLines(result, 1, 7);
         return result.toString();
@@ -306,6 +310,10 @@ public class Field71N extends Field implements Serializable, MultiLineField {
         return 7;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Code", "Narrative", "Narrative 2", "Narrative 3", "Narrative 4", "Narrative 5", "Narrative 6");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("code", "narrative", "narrative2", "narrative3", "narrative4", "narrative5", "narrative6");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -315,15 +323,7 @@ public class Field71N extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code");
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        result.add("Narrative 5");
-        result.add("Narrative 6");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -332,15 +332,7 @@ public class Field71N extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code");
-        result.put(2, "narrative");
-        result.put(3, "narrative2");
-        result.put(4, "narrative3");
-        result.put(5, "narrative4");
-        result.put(6, "narrative5");
-        result.put(7, "narrative6");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -349,19 +341,7 @@ public class Field71N extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code", 1);
-        super.labelMap.put("narrative", 2);
-        super.labelMap.put("narrative2", 3);
-        super.labelMap.put("narrative3", 4);
-        super.labelMap.put("narrative4", 5);
-        super.labelMap.put("narrative5", 6);
-        super.labelMap.put("narrative6", 7);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -188,6 +188,10 @@ public class Field77H extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null) {
@@ -299,6 +303,10 @@ public class Field77H extends Field implements Serializable, DateContainer {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Type Of Agreement", "Date", "Version");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("typeOfAgreement", "date", "version");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "type", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -308,11 +316,7 @@ public class Field77H extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Type Of Agreement");
-        result.add("Date");
-        result.add("Version");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -321,11 +325,7 @@ public class Field77H extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "typeOfAgreement");
-        result.put(2, "date");
-        result.put(3, "version");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -334,17 +334,7 @@ public class Field77H extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("typeofagreement", 1);
-        // alias name
-        super.labelMap.put("type", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("version", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
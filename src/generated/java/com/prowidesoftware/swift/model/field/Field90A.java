@@ -192,6 +192,10 @@ public class Field90A extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -306,6 +310,10 @@ public class Field90A extends Field implements Serializable, AmountContainer, Ge
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Percentage Type Code", "Sign", "Price");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "percentageTypeCode", "sign", "price");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -315,12 +323,7 @@ public class Field90A extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Percentage Type Code");
-        result.add("Sign");
-        result.add("Price");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -329,12 +332,7 @@ public class Field90A extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "percentageTypeCode");
-        result.put(3, "sign");
-        result.put(4, "price");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -343,16 +341,7 @@ public class Field90A extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("percentagetypecode", 2);
-        super.labelMap.put("sign", 3);
-        super.labelMap.put("price", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
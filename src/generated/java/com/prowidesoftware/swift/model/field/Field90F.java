@@ -210,6 +210,10 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -338,6 +342,10 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
         return 6;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Amount Type Code", "Currency Code", "Amount", "Quantity Type Code", "Quantity");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "amountTypeCode", "currencyCode", "amount", "quantityTypeCode", "quantity");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "currency", 3);
+
     /**
      * Returns english label for components.
      * <br>
@@ -347,14 +355,7 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Amount Type Code");
-        result.add("Currency Code");
-        result.add("Amount");
-        result.add("Quantity Type Code");
-        result.add("Quantity");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -363,14 +364,7 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "amountTypeCode");
-        result.put(3, "currencyCode");
-        result.put(4, "amount");
-        result.put(5, "quantityTypeCode");
-        result.put(6, "quantity");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -379,20 +373,7 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("amounttypecode", 2);
-        super.labelMap.put("currencycode", 3);
-        // alias name
-        super.labelMap.put("currency", 3);
-        super.labelMap.put("amount", 4);
-        super.labelMap.put("quantitytypecode", 5);
-        super.labelMap.put("quantity", 6);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
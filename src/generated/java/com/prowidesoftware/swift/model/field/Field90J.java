@@ -212,6 +212,10 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -339,6 +343,10 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
         return 6;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "AmountTypeCode", "Currency Code1", "Amount1", "Currency Code2", "Amount2");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "amountTypeCode", "currencyCode1", "amount1", "currencyCode2", "amount2");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "code", 2, "currency1", 3, "currency2", 5);
+
     /**
      * Returns english label for components.
      * <br>
@@ -348,14 +356,7 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("AmountTypeCode");
-        result.add("Currency Code1");
-        result.add("Amount1");
-        result.add("Currency Code2");
-        result.add("Amount2");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -364,14 +365,7 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "amountTypeCode");
-        result.put(3, "currencyCode1");
-        result.put(4, "amount1");
-        result.put(5, "currencyCode2");
-        result.put(6, "amount2");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -380,24 +374,7 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("amounttypecode", 2);
-        // alias name
-        super.labelMap.put("code", 2);
-        super.labelMap.put("currencycode1", 3);
-        // alias name
-        super.labelMap.put("currency1", 3);
-        super.labelMap.put("amount1", 4);
-        super.labelMap.put("currencycode2", 5);
-        // alias name
-        super.labelMap.put("currency2", 5);
-        super.labelMap.put("amount2", 6);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -177,6 +177,10 @@ public class Field90K extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -277,6 +281,10 @@ public class Field90K extends Field implements Serializable, AmountContainer, Ge
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Index Points");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "indexPoints");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "amount", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -286,10 +294,7 @@ public class Field90K extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Index Points");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -298,10 +303,7 @@ public class Field90K extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "indexPoints");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -310,16 +312,7 @@ public class Field90K extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("indexpoints", 2);
-        // alias name
-        super.labelMap.put("amount", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -185,6 +185,10 @@ public class Field90L extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -293,6 +297,10 @@ public class Field90L extends Field implements Serializable, AmountContainer, Ge
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Sign", "Index Points");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "sign", "indexPoints");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "amount", 3);
+
     /**
      * Returns english label for components.
      * <br>
@@ -302,11 +310,7 @@ public class Field90L extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Sign");
-        result.add("Index Points");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -315,11 +319,7 @@ public class Field90L extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "sign");
-        result.put(3, "indexPoints");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -328,17 +328,7 @@ public class Field90L extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("sign", 2);
-        super.labelMap.put("indexpoints", 3);
-        // alias name
-        super.labelMap.put("amount", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
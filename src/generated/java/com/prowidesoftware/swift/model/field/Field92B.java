@@ -192,6 +192,10 @@ public class Field92B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -304,6 +308,10 @@ public class Field92B extends Field implements Serializable, MonetaryAmountConta
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "First Currency Code", "Second Currency Code", "Rate");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "firstCurrencyCode", "secondCurrencyCode", "rate");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -313,12 +321,7 @@ public class Field92B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("First Currency Code");
-        result.add("Second Currency Code");
-        result.add("Rate");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -327,12 +330,7 @@ public class Field92B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "firstCurrencyCode");
-        result.put(3, "secondCurrencyCode");
-        result.put(4, "rate");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -341,16 +339,7 @@ public class Field92B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("firstcurrencycode", 2);
-        super.labelMap.put("secondcurrencycode", 3);
-        super.labelMap.put("rate", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -184,6 +184,10 @@ public class Field92D extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -295,6 +299,10 @@ public class Field92D extends Field implements Serializable, AmountContainer, Ge
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Quantity1", "Quantity2");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "quantity1", "quantity2");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -304,11 +312,7 @@ public class Field92D extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Quantity1");
-        result.add("Quantity2");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -317,11 +321,7 @@ public class Field92D extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "quantity1");
-        result.put(3, "quantity2");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -330,15 +330,7 @@ public class Field92D extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("quantity1", 2);
-        super.labelMap.put("quantity2", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -194,6 +194,10 @@ public class Field92H extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -304,6 +308,10 @@ public class Field92H extends Field implements Serializable, MonetaryAmountConta
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Currency Code", "Amount", "Rate Status");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "currencyCode", "amount", "rateStatus");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "currency", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -313,12 +321,7 @@ public class Field92H extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Currency Code");
-        result.add("Amount");
-        result.add("Rate Status");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -327,12 +330,7 @@ public class Field92H extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "currencyCode");
-        result.put(3, "amount");
-        result.put(4, "rateStatus");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -341,18 +339,7 @@ public class Field92H extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("currencycode", 2);
-        // alias name
-        super.labelMap.put("currency", 2);
-        super.labelMap.put("amount", 3);
-        super.labelMap.put("ratestatus", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -209,6 +209,10 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -338,6 +342,10 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
         return 6;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Data Source Scheme", "Rate Type Code", "Currency Code", "Amount", "Rate Status");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "dataSourceScheme", "rateTypeCode", "currencyCode", "amount", "rateStatus");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "code", 3, "currency", 4);
+
     /**
      * Returns english label for components.
      * <br>
@@ -347,14 +355,7 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Rate Type Code");
-        result.add("Currency Code");
-        result.add("Amount");
-        result.add("Rate Status");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -363,14 +364,7 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "rateTypeCode");
-        result.put(4, "currencyCode");
-        result.put(5, "amount");
-        result.put(6, "rateStatus");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -379,22 +373,7 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("ratetypecode", 3);
-        // alias name
-        super.labelMap.put("code", 3);
-        super.labelMap.put("currencycode", 4);
-        // alias name
-        super.labelMap.put("currency", 4);
-        super.labelMap.put("amount", 5);
-        super.labelMap.put("ratestatus", 6);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -203,6 +203,10 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -324,6 +328,10 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "First Currency Code", "Amount1", "Second Currency Code", "Amount2");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "firstCurrencyCode", "amount1", "secondCurrencyCode", "amount2");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "currency1", 2, "currency2", 4);
+
     /**
      * Returns english label for components.
      * <br>
@@ -333,13 +341,7 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("First Currency Code");
-        result.add("Amount1");
-        result.add("Second Currency Code");
-        result.add("Amount2");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -348,13 +350,7 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "firstCurrencyCode");
-        result.put(3, "amount1");
-        result.put(4, "secondCurrencyCode");
-        result.put(5, "amount2");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -363,21 +359,7 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("firstcurrencycode", 2);
-        // alias name
-        super.labelMap.put("currency1", 2);
-        super.labelMap.put("amount1", 3);
-        super.labelMap.put("secondcurrencycode", 4);
-        // alias name
-        super.labelMap.put("currency2", 4);
-        super.labelMap.put("amount2", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -200,6 +200,10 @@ public class Field93C extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -320,6 +324,10 @@ public class Field93C extends Field implements Serializable, AmountContainer, Ge
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Quantity Type Code", "Balance Type Code", "Sign", "Balance");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "quantityTypeCode", "balanceTypeCode", "sign", "balance");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "amount", 5);
+
     /**
      * Returns english label for components.
      * <br>
@@ -329,13 +337,7 @@ public class Field93C extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Quantity Type Code");
-        result.add("Balance Type Code");
-        result.add("Sign");
-        result.add("Balance");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -344,13 +346,7 @@ public class Field93C extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "quantityTypeCode");
-        result.put(3, "balanceTypeCode");
-        result.put(4, "sign");
-        result.put(5, "balance");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -359,19 +355,7 @@ public class Field93C extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("quantitytypecode", 2);
-        super.labelMap.put("balancetypecode", 3);
-        super.labelMap.put("sign", 4);
-        super.labelMap.put("balance", 5);
-        // alias name
-        super.labelMap.put("amount", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
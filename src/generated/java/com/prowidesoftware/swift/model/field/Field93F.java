@@ -199,6 +199,10 @@ public class Field93F extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -322,6 +326,10 @@ public class Field93F extends Field implements Serializable, AmountContainer, Ge
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Data Source Scheme", "Quantity Type Code", "Sign", "Balance of Digital Tokens");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "dataSourceScheme", "quantityTypeCode", "sign", "balanceofDigitalTokens");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -331,13 +339,7 @@ public class Field93F extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Quantity Type Code");
-        result.add("Sign");
-        result.add("Balance of Digital Tokens");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -346,13 +348,7 @@ public class Field93F extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "quantityTypeCode");
-        result.put(4, "sign");
-        result.put(5, "balanceofDigitalTokens");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -361,17 +357,7 @@ public class Field93F extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("quantitytypecode", 3);
-        super.labelMap.put("sign", 4);
-        super.labelMap.put("balanceofdigitaltokens", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -186,6 +186,10 @@ public class Field94E extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -344,6 +348,10 @@ public class Field94E extends Field implements Serializable, GenericField, Multi
         return 11;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Address", "Address 2", "Address 3", "Address 4", "Address 5", "Address 6", "Address 7", "Address 8", "Address 9", "Address 10");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "address", "address2", "address3", "address4", "address5", "address6", "address7", "address8", "address9", "address10");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -353,19 +361,7 @@ public class Field94E extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Address");
-        result.add("Address 2");
-        result.add("Address 3");
-        result.add("Address 4");
-        result.add("Address 5");
-        result.add("Address 6");
-        result.add("Address 7");
-        result.add("Address 8");
-        result.add("Address 9");
-        result.add("Address 10");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -374,19 +370,7 @@ public class Field94E extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "address");
-        result.put(3, "address2");
-        result.put(4, "address3");
-        result.put(5, "address4");
-        result.put(6, "address5");
-        result.put(7, "address6");
-        result.put(8, "address7");
-        result.put(9, "address8");
-        result.put(10, "address9");
-        result.put(11, "address10");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -395,23 +379,7 @@ public class Field94E extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("address", 2);
-        super.labelMap.put("address2", 3);
-        super.labelMap.put("address3", 4);
-        super.labelMap.put("address4", 5);
-        super.labelMap.put("address5", 6);
-        super.labelMap.put("address6", 7);
-        super.labelMap.put("address7", 8);
-        super.labelMap.put("address8", 9);
-        super.labelMap.put("address9", 10);
-        super.labelMap.put("address10", 11);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
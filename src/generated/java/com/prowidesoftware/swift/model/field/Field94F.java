@@ -185,6 +185,10 @@ public class Field94F extends Field implements Serializable, BICContainer, Gener
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -285,6 +289,10 @@ public class Field94F extends Field implements Serializable, BICContainer, Gener
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Place Code", "Identifier Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "placeCode", "identifierCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "code", 2, "bic", 3);
+
     /**
      * Returns english label for components.
      * <br>
@@ -294,11 +302,7 @@ public class Field94F extends Field implements Serializable, BICContainer, Gener
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Place Code");
-        result.add("Identifier Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -307,11 +311,7 @@ public class Field94F extends Field implements Serializable, BICContainer, Gener
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "placeCode");
-        result.put(3, "identifierCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -320,19 +320,7 @@ public class Field94F extends Field implements Serializable, BICContainer, Gener
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("placecode", 2);
-        // alias name
-        super.labelMap.put("code", 2);
-        super.labelMap.put("identifiercode", 3);
-        // alias name
-        super.labelMap.put("bic", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
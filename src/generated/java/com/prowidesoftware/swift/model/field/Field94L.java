@@ -186,6 +186,10 @@ public class Field94L extends Field implements Serializable, GenericField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -285,6 +289,10 @@ public class Field94L extends Field implements Serializable, GenericField {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Legal Entity Identifier Code", "Legal Entity Identifier Number");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "legalEntityIdentifierCode", "legalEntityIdentifierNumber");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -294,11 +302,7 @@ public class Field94L extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Legal Entity Identifier Code");
-        result.add("Legal Entity Identifier Number");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -307,11 +311,7 @@ public class Field94L extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "legalEntityIdentifierCode");
-        result.put(3, "legalEntityIdentifierNumber");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -320,15 +320,7 @@ public class Field94L extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("legalentityidentifiercode", 2);
-        super.labelMap.put("legalentityidentifiernumber", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -186,6 +186,10 @@ public class Field95V extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -344,6 +348,10 @@ public class Field95V extends Field implements Serializable, GenericField, Multi
         return 11;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Name And Address", "Name And Address 2", "Name And Address 3", "Name And Address 4", "Name And Address 5", "Name And Address 6", "Name And Address 7", "Name And Address 8", "Name And Address 9", "Name And Address 10");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "nameAndAddress", "nameAndAddress2", "nameAndAddress3", "nameAndAddress4", "nameAndAddress5", "nameAndAddress6", "nameAndAddress7", "nameAndAddress8", "nameAndAddress9", "nameAndAddress10");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -353,19 +361,7 @@ public class Field95V extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Name And Address");
-        result.add("Name And Address 2");
-        result.add("Name And Address 3");
-        result.add("Name And Address 4");
-        result.add("Name And Address 5");
-        result.add("Name And Address 6");
-        result.add("Name And Address 7");
-        result.add("Name And Address 8");
-        result.add("Name And Address 9");
-        result.add("Name And Address 10");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -374,19 +370,7 @@ public class Field95V extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "nameAndAddress");
-        result.put(3, "nameAndAddress2");
-        result.put(4, "nameAndAddress3");
-        result.put(5, "nameAndAddress4");
-        result.put(6, "nameAndAddress5");
-        result.put(7, "nameAndAddress6");
-        result.put(8, "nameAndAddress7");
-        result.put(9, "nameAndAddress8");
-        result.put(10, "nameAndAddress9");
-        result.put(11, "nameAndAddress10");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -395,23 +379,7 @@ public class Field95V extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("nameandaddress", 2);
-        super.labelMap.put("nameandaddress2", 3);
-        super.labelMap.put("nameandaddress3", 4);
-        super.labelMap.put("nameandaddress4", 5);
-        super.labelMap.put("nameandaddress5", 6);
-        super.labelMap.put("nameandaddress6", 7);
-        super.labelMap.put("nameandaddress7", 8);
-        super.labelMap.put("nameandaddress8", 9);
-        super.labelMap.put("nameandaddress9", 10);
-        super.labelMap.put("nameandaddress10", 11);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
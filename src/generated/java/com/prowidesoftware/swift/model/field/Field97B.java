@@ -186,6 +186,10 @@ public class Field97B extends Field implements Serializable, GenericField {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -297,6 +301,10 @@ public class Field97B extends Field implements Serializable, GenericField {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Data Source Scheme", "Account Type Code", "Account Number");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "dataSourceScheme", "accountTypeCode", "accountNumber");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -306,12 +314,7 @@ public class Field97B extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Account Type Code");
-        result.add("Account Number");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -320,12 +323,7 @@ public class Field97B extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "accountTypeCode");
-        result.put(4, "accountNumber");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -334,16 +332,7 @@ public class Field97B extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("accounttypecode", 3);
-        super.labelMap.put("accountnumber", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
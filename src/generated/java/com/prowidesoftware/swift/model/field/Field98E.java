@@ -229,6 +229,10 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -370,6 +374,10 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
         return 6;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Date", "Time", "Decimals", "Sign", "Offset");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "date", "time", "decimals", "sign", "offset");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -379,14 +387,7 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date");
-        result.add("Time");
-        result.add("Decimals");
-        result.add("Sign");
-        result.add("Offset");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -395,14 +396,7 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "date");
-        result.put(3, "time");
-        result.put(4, "decimals");
-        result.put(5, "sign");
-        result.put(6, "offset");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -411,18 +405,7 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("time", 3);
-        super.labelMap.put("decimals", 4);
-        super.labelMap.put("sign", 5);
-        super.labelMap.put("offset", 6);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
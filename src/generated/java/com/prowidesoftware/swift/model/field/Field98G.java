@@ -221,6 +221,10 @@ public class Field98G extends Field implements Serializable, DateContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         append(result, 2);
@@ -355,6 +359,10 @@ public class Field98G extends Field implements Serializable, DateContainer {
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Date", "Time", "Decimals", "Sign", "Offset");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("date", "time", "decimals", "sign", "offset");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "number", 3);
+
     /**
      * Returns english label for components.
      * <br>
@@ -364,13 +372,7 @@ public class Field98G extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Time");
-        result.add("Decimals");
-        result.add("Sign");
-        result.add("Offset");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -379,13 +381,7 @@ public class Field98G extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "time");
-        result.put(3, "decimals");
-        result.put(4, "sign");
-        result.put(5, "offset");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -394,19 +390,7 @@ public class Field98G extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("time", 2);
-        super.labelMap.put("decimals", 3);
-        // alias name
-        super.labelMap.put("number", 3);
-        super.labelMap.put("sign", 4);
-        super.labelMap.put("offset", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
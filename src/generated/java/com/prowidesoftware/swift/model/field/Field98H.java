@@ -213,6 +213,10 @@ public class Field98H extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null) {
@@ -338,6 +342,10 @@ public class Field98H extends Field implements Serializable {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Time", "Decimals", "Sign", "Offset");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("time", "decimals", "sign", "offset");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "number", 2);
+
     /**
      * Returns english label for components.
      * <br>
@@ -347,12 +355,7 @@ public class Field98H extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Time");
-        result.add("Decimals");
-        result.add("Sign");
-        result.add("Offset");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -361,12 +364,7 @@ public class Field98H extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "time");
-        result.put(2, "decimals");
-        result.put(3, "sign");
-        result.put(4, "offset");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -375,18 +373,7 @@ public class Field98H extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("time", 1);
-        super.labelMap.put("decimals", 2);
-        // alias name
-        super.labelMap.put("number", 2);
-        super.labelMap.put("sign", 3);
-        super.labelMap.put("offset", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
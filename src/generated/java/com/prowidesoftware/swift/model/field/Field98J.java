@@ -201,6 +201,10 @@ public class Field98J extends Field implements Serializable, DateContainer, BICC
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -314,6 +318,10 @@ public class Field98J extends Field implements Serializable, DateContainer, BICC
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Date", "Time", "Identifier Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "date", "time", "identifierCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "bic", 4);
+
     /**
      * Returns english label for components.
      * <br>
@@ -323,12 +331,7 @@ public class Field98J extends Field implements Serializable, DateContainer, BICC
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date");
-        result.add("Time");
-        result.add("Identifier Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -337,12 +340,7 @@ public class Field98J extends Field implements Serializable, DateContainer, BICC
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "date");
-        result.put(3, "time");
-        result.put(4, "identifierCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -351,18 +349,7 @@ public class Field98J extends Field implements Serializable, DateContainer, BICC
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("time", 3);
-        super.labelMap.put("identifiercode", 4);
-        // alias name
-        super.labelMap.put("bic", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -204,6 +204,10 @@ public class Field98K extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -323,6 +327,10 @@ public class Field98K extends Field implements Serializable, DateContainer, Gene
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Qualifier", "Data Source Scheme", "Date", "Time", "Proprietary Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("qualifier", "dataSourceScheme", "date", "time", "proprietaryCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -332,13 +340,7 @@ public class Field98K extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Date");
-        result.add("Time");
-        result.add("Proprietary Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -347,13 +349,7 @@ public class Field98K extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "date");
-        result.put(4, "time");
-        result.put(5, "proprietaryCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -362,17 +358,7 @@ public class Field98K extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("date", 3);
-        super.labelMap.put("time", 4);
-        super.labelMap.put("proprietarycode", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -0,0 +1,2157 @@
+/*
+ * Copyright 2006-2024 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import com.prowidesoftware.Generated;
+
+/**
+ * Factory of the field model classes for SRU 2024, by field name.
+ * <p>
+ * Fields are created with a direct constructor call, with no class loading or reflection.
+ *
+ * @since 9.5.6
+ */
+@SuppressWarnings("deprecation")
+@Generated
+final class FieldFactory {
+
+    // Suppress default constructor for noninstantiability
+    private FieldFactory() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates a field instance for the given name, parsing the given value.
+     *
+     * @param name a field name, for example "32A"
+     * @param value the field value, or null to create the field with no content
+     * @return the created field, or null if the field name is not supported
+     */
+    static Field create(final String name, final String value) {
+        switch (name) {
+            case "11A":
+                return new Field11A(value);
+            case "11R":
+                return new Field11R(value);
+            case "11S":
+                return new Field11S(value);
+            case "11T":
+                return new Field11T(value);
+            case "12":
+                return new Field12(value);
+            case "12A":
+                return new Field12A(value);
+            case "12B":
+                return new Field12B(value);
+            case "12C":
+                return new Field12C(value);
+            case "12D":
+                return new Field12D(value);
+            case "12E":
+                return new Field12E(value);
+            case "12F":
+                return new Field12F(value);
+            case "12G":
+                return new Field12G(value);
+            case "12H":
+                return new Field12H(value);
+            case "12K":
+                return new Field12K(value);
+            case "12L":
+                return new Field12L(value);
+            case "12R":
+                return new Field12R(value);
+            case "12S":
+                return new Field12S(value);
+            case "13A":
+                return new Field13A(value);
+            case "13B":
+                return new Field13B(value);
+            case "13C":
+                return new Field13C(value);
+            case "13D":
+                return new Field13D(value);
+            case "13E":
+                return new Field13E(value);
+            case "13J":
+                return new Field13J(value);
+            case "13K":
+                return new Field13K(value);
+            case "14A":
+                return new Field14A(value);
+            case "14B":
+                return new Field14B(value);
+            case "14C":
+                return new Field14C(value);
+            case "14D":
+                return new Field14D(value);
+            case "14E":
+                return new Field14E(value);
+            case "14F":
+                return new Field14F(value);
+            case "14G":
+                return new Field14G(value);
+            case "14H":
+                return new Field14H(value);
+            case "14J":
+                return new Field14J(value);
+            case "14K":
+                return new Field14K(value);
+            case "14L":
+                return new Field14L(value);
+            case "14M":
+                return new Field14M(value);
+            case "14N":
+                return new Field14N(value);
+            case "14O":
+                return new Field14O(value);
+            case "14P":
+                return new Field14P(value);
+            case "14Q":
+                return new Field14Q(value);
+            case "14R":
+                return new Field14R(value);
+            case "14S":
+                return new Field14S(value);
+            case "15A":
+                return new Field15A(value);
+            case "15B":
+                return new Field15B(value);
+            case "15C":
+                return new Field15C(value);
+            case "15D":
+                return new Field15D(value);
+            case "15E":
+                return new Field15E(value);
+            case "15F":
+                return new Field15F(value);
+            case "15G":
+                return new Field15G(value);
+            case "15H":
+                return new Field15H(value);
+            case "15I":
+                return new Field15I(value);
+            case "15J":
+                return new Field15J(value);
+            case "15K":
+                return new Field15K(value);
+            case "15L":
+                return new Field15L(value);
+            case "15M":
+                return new Field15M(value);
+            case "15N":
+                return new Field15N(value);
+            case "15O":
+                return new Field15O(value);
+            case "15P":
+                return new Field15P(value);
+            case "16A":
+                return new Field16A(value);
+            case "16C":
+                return new Field16C(value);
+            case "16D":
+                return new Field16D(value);
+            case "16R":
+                return new Field16R(value);
+            case "16S":
+                return new Field16S(value);
+            case "16W":
+                return new Field16W(value);
+            case "17A":
+                return new Field17A(value);
+            case "17B":
+                return new Field17B(value);
+            case "17C":
+                return new Field17C(value);
+            case "17E":
+                return new Field17E(value);
+            case "17F":
+                return new Field17F(value);
+            case "17G":
+                return new Field17G(value);
+            case "17H":
+                return new Field17H(value);
+            case "17I":
+                return new Field17I(value);
+            case "17L":
+                return new Field17L(value);
+            case "17M":
+                return new Field17M(value);
+            case "17N":
+                return new Field17N(value);
+            case "17O":
+                return new Field17O(value);
+            case "17P":
+                return new Field17P(value);
+            case "17Q":
+                return new Field17Q(value);
+            case "17R":
+                return new Field17R(value);
+            case "17S":
+                return new Field17S(value);
+            case "17T":
+                return new Field17T(value);
+            case "17U":
+                return new Field17U(value);
+            case "17V":
+                return new Field17V(value);
+            case "17W":
+                return new Field17W(value);
+            case "17X":
+                return new Field17X(value);
+            case "17Y":
+                return new Field17Y(value);
+            case "17Z":
+                return new Field17Z(value);
+            case "18A":
+                return new Field18A(value);
+            case "18B":
+                return new Field18B(value);
+            case "18C":
+                return new Field18C(value);
+            case "18D":
+                return new Field18D(value);
+            case "19":
+                return new Field19(value);
+            case "19A":
+                return new Field19A(value);
+            case "19B":
+                return new Field19B(value);
+            case "19C":
+                return new Field19C(value);
+            case "19Y":
+                return new Field19Y(value);
+            case "19Z":
+                return new Field19Z(value);
+            case "20":
+                return new Field20(value);
+            case "20C":
+                return new Field20C(value);
+            case "20D":
+                return new Field20D(value);
+            case "20E":
+                return new Field20E(value);
+            case "20U":
+                return new Field20U(value);
+            case "21":
+                return new Field21(value);
+            case "21A":
+                return new Field21A(value);
+            case "21B":
+                return new Field21B(value);
+            case "21C":
+                return new Field21C(value);
+            case "21D":
+                return new Field21D(value);
+            case "21E":
+                return new Field21E(value);
+            case "21F":
+                return new Field21F(value);
+            case "21G":
+                return new Field21G(value);
+            case "21H":
+                return new Field21H(value);
+            case "21N":
+                return new Field21N(value);
+            case "21P":
+                return new Field21P(value);
+            case "21R":
+                return new Field21R(value);
+            case "21S":
+                return new Field21S(value);
+            case "21T":
+                return new Field21T(value);
+            case "22":
+                return new Field22(value);
+            case "22A":
+                return new Field22A(value);
+            case "22B":
+                return new Field22B(value);
+            case "22C":
+                return new Field22C(value);
+            case "22D":
+                return new Field22D(value);
+            case "22E":
+                return new Field22E(value);
+            case "22F":
+                return new Field22F(value);
+            case "22G":
+                return new Field22G(value);
+            case "22H":
+                return new Field22H(value);
+            case "22K":
+                return new Field22K(value);
+            case "22L":
+                return new Field22L(value);
+            case "22M":
+                return new Field22M(value);
+            case "22N":
+                return new Field22N(value);
+            case "22P":
+                return new Field22P(value);
+            case "22Q":
+                return new Field22Q(value);
+            case "22R":
+                return new Field22R(value);
+            case "22S":
+                return new Field22S(value);
+            case "22T":
+                return new Field22T(value);
+            case "22U":
+                return new Field22U(value);
+            case "22V":
+                return new Field22V(value);
+            case "22W":
+                return new Field22W(value);
+            case "22X":
+                return new Field22X(value);
+            case "22Y":
+                return new Field22Y(value);
+            case "22Z":
+                return new Field22Z(value);
+            case "23":
+                return new Field23(value);
+            case "23A":
+                return new Field23A(value);
+            case "23B":
+                return new Field23B(value);
+            case "23C":
+                return new Field23C(value);
+            case "23D":
+                return new Field23D(value);
+            case "23E":
+                return new Field23E(value);
+            case "23F":
+                return new Field23F(value);
+            case "23G":
+                return new Field23G(value);
+            case "23H":
+                return new Field23H(value);
+            case "23R":
+                return new Field23R(value);
+            case "23S":
+                return new Field23S(value);
+            case "23X":
+                return new Field23X(value);
+            case "24B":
+                return new Field24B(value);
+            case "24D":
+                return new Field24D(value);
+            case "24E":
+                return new Field24E(value);
+            case "24G":
+                return new Field24G(value);
+            case "25":
+                return new Field25(value);
+            case "25A":
+                return new Field25A(value);
+            case "25D":
+                return new Field25D(value);
+            case "25F":
+                return new Field25F(value);
+            case "25G":
+                return new Field25G(value);
+            case "25P":
+                return new Field25P(value);
+            case "26A":
+                return new Field26A(value);
+            case "26B":
+                return new Field26B(value);
+            case "26C":
+                return new Field26C(value);
+            case "26D":
+                return new Field26D(value);
+            case "26E":
+                return new Field26E(value);
+            case "26F":
+                return new Field26F(value);
+            case "26H":
+                return new Field26H(value);
+            case "26K":
+                return new Field26K(value);
+            case "26T":
+                return new Field26T(value);
+            case "27":
+                return new Field27(value);
+            case "27A":
+                return new Field27A(value);
+            case "28":
+                return new Field28(value);
+            case "28C":
+                return new Field28C(value);
+            case "28D":
+                return new Field28D(value);
+            case "28E":
+                return new Field28E(value);
+            case "29A":
+                return new Field29A(value);
+            case "29B":
+                return new Field29B(value);
+            case "29D":
+                return new Field29D(value);
+            case "29E":
+                return new Field29E(value);
+            case "29F":
+                return new Field29F(value);
+            case "29H":
+                return new Field29H(value);
+            case "29I":
+                return new Field29I(value);
+            case "29J":
+                return new Field29J(value);
+            case "29K":
+                return new Field29K(value);
+            case "29L":
+                return new Field29L(value);
+            case "29M":
+                return new Field29M(value);
+            case "29N":
+                return new Field29N(value);
+            case "29O":
+                return new Field29O(value);
+            case "29P":
+                return new Field29P(value);
+            case "29Q":
+                return new Field29Q(value);
+            case "29S":
+                return new Field29S(value);
+            case "29U":
+                return new Field29U(value);
+            case "29W":
+                return new Field29W(value);
+            case "30":
+                return new Field30(value);
+            case "30F":
+                return new Field30F(value);
+            case "30G":
+                return new Field30G(value);
+            case "30H":
+                return new Field30H(value);
+            case "30I":
+                return new Field30I(value);
+            case "30J":
+                return new Field30J(value);
+            case "30K":
+                return new Field30K(value);
+            case "30M":
+                return new Field30M(value);
+            case "30N":
+                return new Field30N(value);
+            case "30P":
+                return new Field30P(value);
+            case "30Q":
+                return new Field30Q(value);
+            case "30S":
+                return new Field30S(value);
+            case "30T":
+                return new Field30T(value);
+            case "30U":
+                return new Field30U(value);
+            case "30V":
+                return new Field30V(value);
+            case "30X":
+                return new Field30X(value);
+            case "30Y":
+                return new Field30Y(value);
+            case "30Z":
+                return new Field30Z(value);
+            case "31C":
+                return new Field31C(value);
+            case "31D":
+                return new Field31D(value);
+            case "31E":
+                return new Field31E(value);
+            case "31F":
+                return new Field31F(value);
+            case "31G":
+                return new Field31G(value);
+            case "31J":
+                return new Field31J(value);
+            case "31K":
+                return new Field31K(value);
+            case "31L":
+                return new Field31L(value);
+            case "31M":
+                return new Field31M(value);
+            case "31P":
+                return new Field31P(value);
+            case "31R":
+                return new Field31R(value);
+            case "31S":
+                return new Field31S(value);
+            case "31T":
+                return new Field31T(value);
+            case "31X":
+                return new Field31X(value);
+            case "32A":
+                return new Field32A(value);
+            case "32B":
+                return new Field32B(value);
+            case "32C":
+                return new Field32C(value);
+            case "32D":
+                return new Field32D(value);
+            case "32E":
+                return new Field32E(value);
+            case "32F":
+                return new Field32F(value);
+            case "32G":
+                return new Field32G(value);
+            case "32H":
+                return new Field32H(value);
+            case "32K":
+                return new Field32K(value);
+            case "32M":
+                return new Field32M(value);
+            case "32Q":
+                return new Field32Q(value);
+            case "32R":
+                return new Field32R(value);
+            case "32U":
+                return new Field32U(value);
+            case "33A":
+                return new Field33A(value);
+            case "33B":
+                return new Field33B(value);
+            case "33C":
+                return new Field33C(value);
+            case "33D":
+                return new Field33D(value);
+            case "33E":
+                return new Field33E(value);
+            case "33F":
+                return new Field33F(value);
+            case "33G":
+                return new Field33G(value);
+            case "33H":
+                return new Field33H(value);
+            case "33J":
+                return new Field33J(value);
+            case "33K":
+                return new Field33K(value);
+            case "33S":
+                return new Field33S(value);
+            case "33T":
+                return new Field33T(value);
+            case "33Z":
+                return new Field33Z(value);
+            case "34A":
+                return new Field34A(value);
+            case "34B":
+                return new Field34B(value);
+            case "34C":
+                return new Field34C(value);
+            case "34D":
+                return new Field34D(value);
+            case "34E":
+                return new Field34E(value);
+            case "34F":
+                return new Field34F(value);
+            case "34J":
+                return new Field34J(value);
+            case "34K":
+                return new Field34K(value);
+            case "34L":
+                return new Field34L(value);
+            case "34M":
+                return new Field34M(value);
+            case "34P":
+                return new Field34P(value);
+            case "34R":
+                return new Field34R(value);
+            case "34S":
+                return new Field34S(value);
+            case "34T":
+                return new Field34T(value);
+            case "34U":
+                return new Field34U(value);
+            case "34V":
+                return new Field34V(value);
+            case "34W":
+                return new Field34W(value);
+            case "34X":
+                return new Field34X(value);
+            case "35A":
+                return new Field35A(value);
+            case "35B":
+                return new Field35B(value);
+            case "35C":
+                return new Field35C(value);
+            case "35D":
+                return new Field35D(value);
+            case "35E":
+                return new Field35E(value);
+            case "35G":
+                return new Field35G(value);
+            case "35H":
+                return new Field35H(value);
+            case "35L":
+                return new Field35L(value);
+            case "35N":
+                return new Field35N(value);
+            case "35S":
+                return new Field35S(value);
+            case "35U":
+                return new Field35U(value);
+            case "36":
+                return new Field36(value);
+            case "36B":
+                return new Field36B(value);
+            case "36C":
+                return new Field36C(value);
+            case "36D":
+                return new Field36D(value);
+            case "36E":
+                return new Field36E(value);
+            case "37A":
+                return new Field37A(value);
+            case "37B":
+                return new Field37B(value);
+            case "37C":
+                return new Field37C(value);
+            case "37D":
+                return new Field37D(value);
+            case "37E":
+                return new Field37E(value);
+            case "37F":
+                return new Field37F(value);
+            case "37G":
+                return new Field37G(value);
+            case "37H":
+                return new Field37H(value);
+            case "37J":
+                return new Field37J(value);
+            case "37K":
+                return new Field37K(value);
+            case "37L":
+                return new Field37L(value);
+            case "37M":
+                return new Field37M(value);
+            case "37N":
+                return new Field37N(value);
+            case "37P":
+                return new Field37P(value);
+            case "37R":
+                return new Field37R(value);
+            case "37U":
+                return new Field37U(value);
+            case "37V":
+                return new Field37V(value);
+            case "38A":
+                return new Field38A(value);
+            case "38D":
+                return new Field38D(value);
+            case "38E":
+                return new Field38E(value);
+            case "38G":
+                return new Field38G(value);
+            case "38H":
+                return new Field38H(value);
+            case "38J":
+                return new Field38J(value);
+            case "39A":
+                return new Field39A(value);
+            case "39B":
+                return new Field39B(value);
+            case "39C":
+                return new Field39C(value);
+            case "39D":
+                return new Field39D(value);
+            case "39E":
+                return new Field39E(value);
+            case "39F":
+                return new Field39F(value);
+            case "39M":
+                return new Field39M(value);
+            case "40A":
+                return new Field40A(value);
+            case "40B":
+                return new Field40B(value);
+            case "40C":
+                return new Field40C(value);
+            case "40D":
+                return new Field40D(value);
+            case "40E":
+                return new Field40E(value);
+            case "40F":
+                return new Field40F(value);
+            case "41A":
+                return new Field41A(value);
+            case "41D":
+                return new Field41D(value);
+            case "41F":
+                return new Field41F(value);
+            case "41G":
+                return new Field41G(value);
+            case "42A":
+                return new Field42A(value);
+            case "42C":
+                return new Field42C(value);
+            case "42D":
+                return new Field42D(value);
+            case "42M":
+                return new Field42M(value);
+            case "42P":
+                return new Field42P(value);
+            case "43P":
+                return new Field43P(value);
+            case "43T":
+                return new Field43T(value);
+            case "44A":
+                return new Field44A(value);
+            case "44B":
+                return new Field44B(value);
+            case "44C":
+                return new Field44C(value);
+            case "44D":
+                return new Field44D(value);
+            case "44E":
+                return new Field44E(value);
+            case "44F":
+                return new Field44F(value);
+            case "44J":
+                return new Field44J(value);
+            case "45A":
+                return new Field45A(value);
+            case "45B":
+                return new Field45B(value);
+            case "45C":
+                return new Field45C(value);
+            case "45D":
+                return new Field45D(value);
+            case "45L":
+                return new Field45L(value);
+            case "46A":
+                return new Field46A(value);
+            case "46B":
+                return new Field46B(value);
+            case "47A":
+                return new Field47A(value);
+            case "47B":
+                return new Field47B(value);
+            case "47E":
+                return new Field47E(value);
+            case "48":
+                return new Field48(value);
+            case "48B":
+                return new Field48B(value);
+            case "48D":
+                return new Field48D(value);
+            case "49":
+                return new Field49(value);
+            case "49A":
+                return new Field49A(value);
+            case "49D":
+                return new Field49D(value);
+            case "49F":
+                return new Field49F(value);
+            case "49G":
+                return new Field49G(value);
+            case "49H":
+                return new Field49H(value);
+            case "49J":
+                return new Field49J(value);
+            case "49K":
+                return new Field49K(value);
+            case "49L":
+                return new Field49L(value);
+            case "49M":
+                return new Field49M(value);
+            case "49N":
+                return new Field49N(value);
+            case "49Z":
+                return new Field49Z(value);
+            case "50":
+                return new Field50(value);
+            case "50A":
+                return new Field50A(value);
+            case "50B":
+                return new Field50B(value);
+            case "50C":
+                return new Field50C(value);
+            case "50D":
+                return new Field50D(value);
+            case "50F":
+                return new Field50F(value);
+            case "50G":
+                return new Field50G(value);
+            case "50H":
+                return new Field50H(value);
+            case "50K":
+                return new Field50K(value);
+            case "50L":
+                return new Field50L(value);
+            case "51":
+                return new Field51(value);
+            case "51A":
+                return new Field51A(value);
+            case "51C":
+                return new Field51C(value);
+            case "51D":
+                return new Field51D(value);
+            case "52A":
+                return new Field52A(value);
+            case "52B":
+                return new Field52B(value);
+            case "52C":
+                return new Field52C(value);
+            case "52D":
+                return new Field52D(value);
+            case "53A":
+                return new Field53A(value);
+            case "53B":
+                return new Field53B(value);
+            case "53C":
+                return new Field53C(value);
+            case "53D":
+                return new Field53D(value);
+            case "53J":
+                return new Field53J(value);
+            case "54A":
+                return new Field54A(value);
+            case "54B":
+                return new Field54B(value);
+            case "54D":
+                return new Field54D(value);
+            case "55A":
+                return new Field55A(value);
+            case "55B":
+                return new Field55B(value);
+            case "55D":
+                return new Field55D(value);
+            case "56A":
+                return new Field56A(value);
+            case "56B":
+                return new Field56B(value);
+            case "56C":
+                return new Field56C(value);
+            case "56D":
+                return new Field56D(value);
+            case "56J":
+                return new Field56J(value);
+            case "57A":
+                return new Field57A(value);
+            case "57B":
+                return new Field57B(value);
+            case "57C":
+                return new Field57C(value);
+            case "57D":
+                return new Field57D(value);
+            case "57J":
+                return new Field57J(value);
+            case "58A":
+                return new Field58A(value);
+            case "58B":
+                return new Field58B(value);
+            case "58D":
+                return new Field58D(value);
+            case "58J":
+                return new Field58J(value);
+            case "59":
+                return new Field59(value);
+            case "59A":
+                return new Field59A(value);
+            case "59F":
+                return new Field59F(value);
+            case "60F":
+                return new Field60F(value);
+            case "60M":
+                return new Field60M(value);
+            case "61":
+                return new Field61(value);
+            case "62F":
+                return new Field62F(value);
+            case "62M":
+                return new Field62M(value);
+            case "64":
+                return new Field64(value);
+            case "65":
+                return new Field65(value);
+            case "68A":
+                return new Field68A(value);
+            case "69A":
+                return new Field69A(value);
+            case "69B":
+                return new Field69B(value);
+            case "69C":
+                return new Field69C(value);
+            case "69D":
+                return new Field69D(value);
+            case "69E":
+                return new Field69E(value);
+            case "69F":
+                return new Field69F(value);
+            case "69J":
+                return new Field69J(value);
+            case "70":
+                return new Field70(value);
+            case "70C":
+                return new Field70C(value);
+            case "70D":
+                return new Field70D(value);
+            case "70E":
+                return new Field70E(value);
+            case "70F":
+                return new Field70F(value);
+            case "70G":
+                return new Field70G(value);
+            case "70H":
+                return new Field70H(value);
+            case "71A":
+                return new Field71A(value);
+            case "71B":
+                return new Field71B(value);
+            case "71C":
+                return new Field71C(value);
+            case "71D":
+                return new Field71D(value);
+            case "71E":
+                return new Field71E(value);
+            case "71F":
+                return new Field71F(value);
+            case "71G":
+                return new Field71G(value);
+            case "71N":
+                return new Field71N(value);
+            case "72":
+                return new Field72(value);
+            case "72Z":
+                return new Field72Z(value);
+            case "73":
+                return new Field73(value);
+            case "73A":
+                return new Field73A(value);
+            case "73R":
+                return new Field73R(value);
+            case "73S":
+                return new Field73S(value);
+            case "74":
+                return new Field74(value);
+            case "75":
+                return new Field75(value);
+            case "76":
+                return new Field76(value);
+            case "77":
+                return new Field77(value);
+            case "77A":
+                return new Field77A(value);
+            case "77B":
+                return new Field77B(value);
+            case "77C":
+                return new Field77C(value);
+            case "77D":
+                return new Field77D(value);
+            case "77E":
+                return new Field77E(value);
+            case "77F":
+                return new Field77F(value);
+            case "77H":
+                return new Field77H(value);
+            case "77J":
+                return new Field77J(value);
+            case "77L":
+                return new Field77L(value);
+            case "77T":
+                return new Field77T(value);
+            case "77U":
+                return new Field77U(value);
+            case "78":
+                return new Field78(value);
+            case "78B":
+                return new Field78B(value);
+            case "78D":
+                return new Field78D(value);
+            case "79":
+                return new Field79(value);
+            case "79Z":
+                return new Field79Z(value);
+            case "80C":
+                return new Field80C(value);
+            case "81A":
+                return new Field81A(value);
+            case "81D":
+                return new Field81D(value);
+            case "81J":
+                return new Field81J(value);
+            case "82A":
+                return new Field82A(value);
+            case "82B":
+                return new Field82B(value);
+            case "82D":
+                return new Field82D(value);
+            case "82J":
+                return new Field82J(value);
+            case "83A":
+                return new Field83A(value);
+            case "83C":
+                return new Field83C(value);
+            case "83D":
+                return new Field83D(value);
+            case "83J":
+                return new Field83J(value);
+            case "84A":
+                return new Field84A(value);
+            case "84B":
+                return new Field84B(value);
+            case "84D":
+                return new Field84D(value);
+            case "84J":
+                return new Field84J(value);
+            case "85A":
+                return new Field85A(value);
+            case "85B":
+                return new Field85B(value);
+            case "85D":
+                return new Field85D(value);
+            case "85J":
+                return new Field85J(value);
+            case "86":
+                return new Field86(value);
+            case "86A":
+                return new Field86A(value);
+            case "86B":
+                return new Field86B(value);
+            case "86D":
+                return new Field86D(value);
+            case "86J":
+                return new Field86J(value);
+            case "87A":
+                return new Field87A(value);
+            case "87B":
+                return new Field87B(value);
+            case "87D":
+                return new Field87D(value);
+            case "87J":
+                return new Field87J(value);
+            case "88A":
+                return new Field88A(value);
+            case "88B":
+                return new Field88B(value);
+            case "88D":
+                return new Field88D(value);
+            case "88J":
+                return new Field88J(value);
+            case "89A":
+                return new Field89A(value);
+            case "89D":
+                return new Field89D(value);
+            case "89J":
+                return new Field89J(value);
+            case "90A":
+                return new Field90A(value);
+            case "90B":
+                return new Field90B(value);
+            case "90C":
+                return new Field90C(value);
+            case "90D":
+                return new Field90D(value);
+            case "90E":
+                return new Field90E(value);
+            case "90F":
+                return new Field90F(value);
+            case "90J":
+                return new Field90J(value);
+            case "90K":
+                return new Field90K(value);
+            case "90L":
+                return new Field90L(value);
+            case "91A":
+                return new Field91A(value);
+            case "91D":
+                return new Field91D(value);
+            case "91J":
+                return new Field91J(value);
+            case "92A":
+                return new Field92A(value);
+            case "92B":
+                return new Field92B(value);
+            case "92C":
+                return new Field92C(value);
+            case "92D":
+                return new Field92D(value);
+            case "92F":
+                return new Field92F(value);
+            case "92H":
+                return new Field92H(value);
+            case "92J":
+                return new Field92J(value);
+            case "92K":
+                return new Field92K(value);
+            case "92L":
+                return new Field92L(value);
+            case "92M":
+                return new Field92M(value);
+            case "92N":
+                return new Field92N(value);
+            case "92P":
+                return new Field92P(value);
+            case "92R":
+                return new Field92R(value);
+            case "93A":
+                return new Field93A(value);
+            case "93B":
+                return new Field93B(value);
+            case "93C":
+                return new Field93C(value);
+            case "93D":
+                return new Field93D(value);
+            case "93E":
+                return new Field93E(value);
+            case "93F":
+                return new Field93F(value);
+            case "94A":
+                return new Field94A(value);
+            case "94B":
+                return new Field94B(value);
+            case "94C":
+                return new Field94C(value);
+            case "94D":
+                return new Field94D(value);
+            case "94E":
+                return new Field94E(value);
+            case "94F":
+                return new Field94F(value);
+            case "94G":
+                return new Field94G(value);
+            case "94H":
+                return new Field94H(value);
+            case "94L":
+                return new Field94L(value);
+            case "95C":
+                return new Field95C(value);
+            case "95L":
+                return new Field95L(value);
+            case "95P":
+                return new Field95P(value);
+            case "95Q":
+                return new Field95Q(value);
+            case "95R":
+                return new Field95R(value);
+            case "95S":
+                return new Field95S(value);
+            case "95U":
+                return new Field95U(value);
+            case "95V":
+                return new Field95V(value);
+            case "96A":
+                return new Field96A(value);
+            case "96D":
+                return new Field96D(value);
+            case "96J":
+                return new Field96J(value);
+            case "97A":
+                return new Field97A(value);
+            case "97B":
+                return new Field97B(value);
+            case "97C":
+                return new Field97C(value);
+            case "97D":
+                return new Field97D(value);
+            case "97E":
+                return new Field97E(value);
+            case "98A":
+                return new Field98A(value);
+            case "98B":
+                return new Field98B(value);
+            case "98C":
+                return new Field98C(value);
+            case "98D":
+                return new Field98D(value);
+            case "98E":
+                return new Field98E(value);
+            case "98F":
+                return new Field98F(value);
+            case "98G":
+                return new Field98G(value);
+            case "98H":
+                return new Field98H(value);
+            case "98J":
+                return new Field98J(value);
+            case "98K":
+                return new Field98K(value);
+            case "99A":
+                return new Field99A(value);
+            case "99B":
+                return new Field99B(value);
+            case "99C":
+                return new Field99C(value);
+            case "101":
+                return new Field101(value);
+            case "102":
+                return new Field102(value);
+            case "103":
+                return new Field103(value);
+            case "104":
+                return new Field104(value);
+            case "105":
+                return new Field105(value);
+            case "106":
+                return new Field106(value);
+            case "107":
+                return new Field107(value);
+            case "108":
+                return new Field108(value);
+            case "109":
+                return new Field109(value);
+            case "110":
+                return new Field110(value);
+            case "111":
+                return new Field111(value);
+            case "113":
+                return new Field113(value);
+            case "114":
+                return new Field114(value);
+            case "115":
+                return new Field115(value);
+            case "116":
+                return new Field116(value);
+            case "117":
+                return new Field117(value);
+            case "118":
+                return new Field118(value);
+            case "119":
+                return new Field119(value);
+            case "120":
+                return new Field120(value);
+            case "121":
+                return new Field121(value);
+            case "122":
+                return new Field122(value);
+            case "123":
+                return new Field123(value);
+            case "124":
+                return new Field124(value);
+            case "125":
+                return new Field125(value);
+            case "126":
+                return new Field126(value);
+            case "127":
+                return new Field127(value);
+            case "128":
+                return new Field128(value);
+            case "129":
+                return new Field129(value);
+            case "130":
+                return new Field130(value);
+            case "132":
+                return new Field132(value);
+            case "133":
+                return new Field133(value);
+            case "134":
+                return new Field134(value);
+            case "135":
+                return new Field135(value);
+            case "136":
+                return new Field136(value);
+            case "137":
+                return new Field137(value);
+            case "140":
+                return new Field140(value);
+            case "141":
+                return new Field141(value);
+            case "142":
+                return new Field142(value);
+            case "143":
+                return new Field143(value);
+            case "144":
+                return new Field144(value);
+            case "151":
+                return new Field151(value);
+            case "152":
+                return new Field152(value);
+            case "153":
+                return new Field153(value);
+            case "165":
+                return new Field165(value);
+            case "171":
+                return new Field171(value);
+            case "172":
+                return new Field172(value);
+            case "173":
+                return new Field173(value);
+            case "174":
+                return new Field174(value);
+            case "175":
+                return new Field175(value);
+            case "177":
+                return new Field177(value);
+            case "179":
+                return new Field179(value);
+            case "199":
+                return new Field199(value);
+            case "202":
+                return new Field202(value);
+            case "203":
+                return new Field203(value);
+            case "204":
+                return new Field204(value);
+            case "206":
+                return new Field206(value);
+            case "208":
+                return new Field208(value);
+            case "209":
+                return new Field209(value);
+            case "242":
+                return new Field242(value);
+            case "243":
+                return new Field243(value);
+            case "251":
+                return new Field251(value);
+            case "252":
+                return new Field252(value);
+            case "253":
+                return new Field253(value);
+            case "254":
+                return new Field254(value);
+            case "255":
+                return new Field255(value);
+            case "256":
+                return new Field256(value);
+            case "257":
+                return new Field257(value);
+            case "258":
+                return new Field258(value);
+            case "259":
+                return new Field259(value);
+            case "260":
+                return new Field260(value);
+            case "263":
+                return new Field263(value);
+            case "264":
+                return new Field264(value);
+            case "270":
+                return new Field270(value);
+            case "271":
+                return new Field271(value);
+            case "272":
+                return new Field272(value);
+            case "280":
+                return new Field280(value);
+            case "281":
+                return new Field281(value);
+            case "301":
+                return new Field301(value);
+            case "302":
+                return new Field302(value);
+            case "303":
+                return new Field303(value);
+            case "304":
+                return new Field304(value);
+            case "305":
+                return new Field305(value);
+            case "307":
+                return new Field307(value);
+            case "311":
+                return new Field311(value);
+            case "312":
+                return new Field312(value);
+            case "313":
+                return new Field313(value);
+            case "329":
+                return new Field329(value);
+            case "330":
+                return new Field330(value);
+            case "331":
+                return new Field331(value);
+            case "332":
+                return new Field332(value);
+            case "333":
+                return new Field333(value);
+            case "334":
+                return new Field334(value);
+            case "335":
+                return new Field335(value);
+            case "336":
+                return new Field336(value);
+            case "337":
+                return new Field337(value);
+            case "338":
+                return new Field338(value);
+            case "339":
+                return new Field339(value);
+            case "340":
+                return new Field340(value);
+            case "341":
+                return new Field341(value);
+            case "342":
+                return new Field342(value);
+            case "343":
+                return new Field343(value);
+            case "344":
+                return new Field344(value);
+            case "345":
+                return new Field345(value);
+            case "346":
+                return new Field346(value);
+            case "347":
+                return new Field347(value);
+            case "348":
+                return new Field348(value);
+            case "349":
+                return new Field349(value);
+            case "401":
+                return new Field401(value);
+            case "405":
+                return new Field405(value);
+            case "421":
+                return new Field421(value);
+            case "422":
+                return new Field422(value);
+            case "423":
+                return new Field423(value);
+            case "424":
+                return new Field424(value);
+            case "425":
+                return new Field425(value);
+            case "431":
+                return new Field431(value);
+            case "432":
+                return new Field432(value);
+            case "433":
+                return new Field433(value);
+            case "434":
+                return new Field434(value);
+            case "443":
+                return new Field443(value);
+            case "451":
+                return new Field451(value);
+            case "461":
+                return new Field461(value);
+            case "503":
+                return new Field503(value);
+            case "533":
+                return new Field533(value);
+            case "619":
+                return new Field619(value);
+            case "999":
+                return new Field999(value);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Checks whether a field model class exists for the given name.
+     *
+     * @param name a field name, for example "32A"
+     * @return true if the field name is supported by {@link #create(String, String)}
+     */
+    static boolean isSupported(final String name) {
+        switch (name) {
+            case "11A":
+            case "11R":
+            case "11S":
+            case "11T":
+            case "12":
+            case "12A":
+            case "12B":
+            case "12C":
+            case "12D":
+            case "12E":
+            case "12F":
+            case "12G":
+            case "12H":
+            case "12K":
+            case "12L":
+            case "12R":
+            case "12S":
+            case "13A":
+            case "13B":
+            case "13C":
+            case "13D":
+            case "13E":
+            case "13J":
+            case "13K":
+            case "14A":
+            case "14B":
+            case "14C":
+            case "14D":
+            case "14E":
+            case "14F":
+            case "14G":
+            case "14H":
+            case "14J":
+            case "14K":
+            case "14L":
+            case "14M":
+            case "14N":
+            case "14O":
+            case "14P":
+            case "14Q":
+            case "14R":
+            case "14S":
+            case "15A":
+            case "15B":
+            case "15C":
+            case "15D":
+            case "15E":
+            case "15F":
+            case "15G":
+            case "15H":
+            case "15I":
+            case "15J":
+            case "15K":
+            case "15L":
+            case "15M":
+            case "15N":
+            case "15O":
+            case "15P":
+            case "16A":
+            case "16C":
+            case "16D":
+            case "16R":
+            case "16S":
+            case "16W":
+            case "17A":
+            case "17B":
+            case "17C":
+            case "17E":
+            case "17F":
+            case "17G":
+            case "17H":
+            case "17I":
+            case "17L":
+            case "17M":
+            case "17N":
+            case "17O":
+            case "17P":
+            case "17Q":
+            case "17R":
+            case "17S":
+            case "17T":
+            case "17U":
+            case "17V":
+            case "17W":
+            case "17X":
+            case "17Y":
+            case "17Z":
+            case "18A":
+            case "18B":
+            case "18C":
+            case "18D":
+            case "19":
+            case "19A":
+            case "19B":
+            case "19C":
+            case "19Y":
+            case "19Z":
+            case "20":
+            case "20C":
+            case "20D":
+            case "20E":
+            case "20U":
+            case "21":
+            case "21A":
+            case "21B":
+            case "21C":
+            case "21D":
+            case "21E":
+            case "21F":
+            case "21G":
+            case "21H":
+            case "21N":
+            case "21P":
+            case "21R":
+            case "21S":
+            case "21T":
+            case "22":
+            case "22A":
+            case "22B":
+            case "22C":
+            case "22D":
+            case "22E":
+            case "22F":
+            case "22G":
+            case "22H":
+            case "22K":
+            case "22L":
+            case "22M":
+            case "22N":
+            case "22P":
+            case "22Q":
+            case "22R":
+            case "22S":
+            case "22T":
+            case "22U":
+            case "22V":
+            case "22W":
+            case "22X":
+            case "22Y":
+            case "22Z":
+            case "23":
+            case "23A":
+            case "23B":
+            case "23C":
+            case "23D":
+            case "23E":
+            case "23F":
+            case "23G":
+            case "23H":
+            case "23R":
+            case "23S":
+            case "23X":
+            case "24B":
+            case "24D":
+            case "24E":
+            case "24G":
+            case "25":
+            case "25A":
+            case "25D":
+            case "25F":
+            case "25G":
+            case "25P":
+            case "26A":
+            case "26B":
+            case "26C":
+            case "26D":
+            case "26E":
+            case "26F":
+            case "26H":
+            case "26K":
+            case "26T":
+            case "27":
+            case "27A":
+            case "28":
+            case "28C":
+            case "28D":
+            case "28E":
+            case "29A":
+            case "29B":
+            case "29D":
+            case "29E":
+            case "29F":
+            case "29H":
+            case "29I":
+            case "29J":
+            case "29K":
+            case "29L":
+            case "29M":
+            case "29N":
+            case "29O":
+            case "29P":
+            case "29Q":
+            case "29S":
+            case "29U":
+            case "29W":
+            case "30":
+            case "30F":
+            case "30G":
+            case "30H":
+            case "30I":
+            case "30J":
+            case "30K":
+            case "30M":
+            case "30N":
+            case "30P":
+            case "30Q":
+            case "30S":
+            case "30T":
+            case "30U":
+            case "30V":
+            case "30X":
+            case "30Y":
+            case "30Z":
+            case "31C":
+            case "31D":
+            case "31E":
+            case "31F":
+            case "31G":
+            case "31J":
+            case "31K":
+            case "31L":
+            case "31M":
+            case "31P":
+            case "31R":
+            case "31S":
+            case "31T":
+            case "31X":
+            case "32A":
+            case "32B":
+            case "32C":
+            case "32D":
+            case "32E":
+            case "32F":
+            case "32G":
+            case "32H":
+            case "32K":
+            case "32M":
+            case "32Q":
+            case "32R":
+            case "32U":
+            case "33A":
+            case "33B":
+            case "33C":
+            case "33D":
+            case "33E":
+            case "33F":
+            case "33G":
+            case "33H":
+            case "33J":
+            case "33K":
+            case "33S":
+            case "33T":
+            case "33Z":
+            case "34A":
+            case "34B":
+            case "34C":
+            case "34D":
+            case "34E":
+            case "34F":
+            case "34J":
+            case "34K":
+            case "34L":
+            case "34M":
+            case "34P":
+            case "34R":
+            case "34S":
+            case "34T":
+            case "34U":
+            case "34V":
+            case "34W":
+            case "34X":
+            case "35A":
+            case "35B":
+            case "35C":
+            case "35D":
+            case "35E":
+            case "35G":
+            case "35H":
+            case "35L":
+            case "35N":
+            case "35S":
+            case "35U":
+            case "36":
+            case "36B":
+            case "36C":
+            case "36D":
+            case "36E":
+            case "37A":
+            case "37B":
+            case "37C":
+            case "37D":
+            case "37E":
+            case "37F":
+            case "37G":
+            case "37H":
+            case "37J":
+            case "37K":
+            case "37L":
+            case "37M":
+            case "37N":
+            case "37P":
+            case "37R":
+            case "37U":
+            case "37V":
+            case "38A":
+            case "38D":
+            case "38E":
+            case "38G":
+            case "38H":
+            case "38J":
+            case "39A":
+            case "39B":
+            case "39C":
+            case "39D":
+            case "39E":
+            case "39F":
+            case "39M":
+            case "40A":
+            case "40B":
+            case "40C":
+            case "40D":
+            case "40E":
+            case "40F":
+            case "41A":
+            case "41D":
+            case "41F":
+            case "41G":
+            case "42A":
+            case "42C":
+            case "42D":
+            case "42M":
+            case "42P":
+            case "43P":
+            case "43T":
+            case "44A":
+            case "44B":
+            case "44C":
+            case "44D":
+            case "44E":
+            case "44F":
+            case "44J":
+            case "45A":
+            case "45B":
+            case "45C":
+            case "45D":
+            case "45L":
+            case "46A":
+            case "46B":
+            case "47A":
+            case "47B":
+            case "47E":
+            case "48":
+            case "48B":
+            case "48D":
+            case "49":
+            case "49A":
+            case "49D":
+            case "49F":
+            case "49G":
+            case "49H":
+            case "49J":
+            case "49K":
+            case "49L":
+            case "49M":
+            case "49N":
+            case "49Z":
+            case "50":
+            case "50A":
+            case "50B":
+            case "50C":
+            case "50D":
+            case "50F":
+            case "50G":
+            case "50H":
+            case "50K":
+            case "50L":
+            case "51":
+            case "51A":
+            case "51C":
+            case "51D":
+            case "52A":
+            case "52B":
+            case "52C":
+            case "52D":
+            case "53A":
+            case "53B":
+            case "53C":
+            case "53D":
+            case "53J":
+            case "54A":
+            case "54B":
+            case "54D":
+            case "55A":
+            case "55B":
+            case "55D":
+            case "56A":
+            case "56B":
+            case "56C":
+            case "56D":
+            case "56J":
+            case "57A":
+            case "57B":
+            case "57C":
+            case "57D":
+            case "57J":
+            case "58A":
+            case "58B":
+            case "58D":
+            case "58J":
+            case "59":
+            case "59A":
+            case "59F":
+            case "60F":
+            case "60M":
+            case "61":
+            case "62F":
+            case "62M":
+            case "64":
+            case "65":
+            case "68A":
+            case "69A":
+            case "69B":
+            case "69C":
+            case "69D":
+            case "69E":
+            case "69F":
+            case "69J":
+            case "70":
+            case "70C":
+            case "70D":
+            case "70E":
+            case "70F":
+            case "70G":
+            case "70H":
+            case "71A":
+            case "71B":
+            case "71C":
+            case "71D":
+            case "71E":
+            case "71F":
+            case "71G":
+            case "71N":
+            case "72":
+            case "72Z":
+            case "73":
+            case "73A":
+            case "73R":
+            case "73S":
+            case "74":
+            case "75":
+            case "76":
+            case "77":
+            case "77A":
+            case "77B":
+            case "77C":
+            case "77D":
+            case "77E":
+            case "77F":
+            case "77H":
+            case "77J":
+            case "77L":
+            case "77T":
+            case "77U":
+            case "78":
+            case "78B":
+            case "78D":
+            case "79":
+            case "79Z":
+            case "80C":
+            case "81A":
+            case "81D":
+            case "81J":
+            case "82A":
+            case "82B":
+            case "82D":
+            case "82J":
+            case "83A":
+            case "83C":
+            case "83D":
+            case "83J":
+            case "84A":
+            case "84B":
+            case "84D":
+            case "84J":
+            case "85A":
+            case "85B":
+            case "85D":
+            case "85J":
+            case "86":
+            case "86A":
+            case "86B":
+            case "86D":
+            case "86J":
+            case "87A":
+            case "87B":
+            case "87D":
+            case "87J":
+            case "88A":
+            case "88B":
+            case "88D":
+            case "88J":
+            case "89A":
+            case "89D":
+            case "89J":
+            case "90A":
+            case "90B":
+            case "90C":
+            case "90D":
+            case "90E":
+            case "90F":
+            case "90J":
+            case "90K":
+            case "90L":
+            case "91A":
+            case "91D":
+            case "91J":
+            case "92A":
+            case "92B":
+            case "92C":
+            case "92D":
+            case "92F":
+            case "92H":
+            case "92J":
+            case "92K":
+            case "92L":
+            case "92M":
+            case "92N":
+            case "92P":
+            case "92R":
+            case "93A":
+            case "93B":
+            case "93C":
+            case "93D":
+            case "93E":
+            case "93F":
+            case "94A":
+            case "94B":
+            case "94C":
+            case "94D":
+            case "94E":
+            case "94F":
+            case "94G":
+            case "94H":
+            case "94L":
+            case "95C":
+            case "95L":
+            case "95P":
+            case "95Q":
+            case "95R":
+            case "95S":
+            case "95U":
+            case "95V":
+            case "96A":
+            case "96D":
+            case "96J":
+            case "97A":
+            case "97B":
+            case "97C":
+            case "97D":
+            case "97E":
+            case "98A":
+            case "98B":
+            case "98C":
+            case "98D":
+            case "98E":
+            case "98F":
+            case "98G":
+            case "98H":
+            case "98J":
+            case "98K":
+            case "99A":
+            case "99B":
+            case "99C":
+            case "101":
+            case "102":
+            case "103":
+            case "104":
+            case "105":
+            case "106":
+            case "107":
+            case "108":
+            case "109":
+            case "110":
+            case "111":
+            case "113":
+            case "114":
+            case "115":
+            case "116":
+            case "117":
+            case "118":
+            case "119":
+            case "120":
+            case "121":
+            case "122":
+            case "123":
+            case "124":
+            case "125":
+            case "126":
+            case "127":
+            case "128":
+            case "129":
+            case "130":
+            case "132":
+            case "133":
+            case "134":
+            case "135":
+            case "136":
+            case "137":
+            case "140":
+            case "141":
+            case "142":
+            case "143":
+            case "144":
+            case "151":
+            case "152":
+            case "153":
+            case "165":
+            case "171":
+            case "172":
+            case "173":
+            case "174":
+            case "175":
+            case "177":
+            case "179":
+            case "199":
+            case "202":
+            case "203":
+            case "204":
+            case "206":
+            case "208":
+            case "209":
+            case "242":
+            case "243":
+            case "251":
+            case "252":
+            case "253":
+            case "254":
+            case "255":
+            case "256":
+            case "257":
+            case "258":
+            case "259":
+            case "260":
+            case "263":
+            case "264":
+            case "270":
+            case "271":
+            case "272":
+            case "280":
+            case "281":
+            case "301":
+            case "302":
+            case "303":
+            case "304":
+            case "305":
+            case "307":
+            case "311":
+            case "312":
+            case "313":
+            case "329":
+            case "330":
+            case "331":
+            case "332":
+            case "333":
+            case "334":
+            case "335":
+            case "336":
+            case "337":
+            case "338":
+            case "339":
+            case "340":
+            case "341":
+            case "342":
+            case "343":
+            case "344":
+            case "345":
+            case "346":
+            case "347":
+            case "348":
+            case "349":
+            case "401":
+            case "405":
+            case "421":
+            case "422":
+            case "423":
+            case "424":
+            case "425":
+            case "431":
+            case "432":
+            case "433":
+            case "434":
+            case "443":
+            case "451":
+            case "461":
+            case "503":
+            case "533":
+            case "619":
+            case "999":
+                return true;
+            default:
+                return false;
+        }
+    }
+}
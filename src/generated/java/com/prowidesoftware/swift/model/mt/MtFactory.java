@@ -0,0 +1,1460 @@
+/*
+ * Copyright 2006-2024 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.mt;
+
+import com.prowidesoftware.Generated;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT008;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT009;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT010;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT011;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT012;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT015;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT019;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT020;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT021;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT022;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT023;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT024;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT025;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT026;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT027;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT028;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT029;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT031;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT032;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT035;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT036;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT037;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT041;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT042;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT043;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT044;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT045;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT046;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT047;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT048;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT049;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT051;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT052;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT055;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT056;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT057;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT061;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT062;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT063;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT064;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT065;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT066;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT067;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT068;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT069;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT070;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT071;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT072;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT073;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT074;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT077;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT081;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT082;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT083;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT090;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT092;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT094;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT096;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT097;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT101;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT102;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT102_STP;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT103;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT103_REMIT;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT103_STP;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT104;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT105;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT107;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT110;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT111;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT112;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT190;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT191;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT192;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT195;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT196;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT198;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT199;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT200;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT201;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT202;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT202COV;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT203;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT204;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT205;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT205COV;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT210;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT290;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT291;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT292;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT295;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT296;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT298;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT299;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT300;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT304;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT305;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT306;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT320;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT321;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT330;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT340;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT341;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT350;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT360;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT361;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT362;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT364;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT365;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT370;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT380;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT381;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT390;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT391;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT392;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT395;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT396;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT398;
+import com.prowidesoftware.swift.model.mt.mt3xx.MT399;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT400;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT410;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT412;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT416;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT420;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT422;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT430;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT450;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT455;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT456;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT490;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT491;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT492;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT495;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT496;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT498;
+import com.prowidesoftware.swift.model.mt.mt4xx.MT499;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT500;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT501;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT502;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT503;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT504;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT505;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT506;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT507;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT508;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT509;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT510;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT513;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT514;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT515;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT516;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT517;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT518;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT519;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT524;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT526;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT527;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT530;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT535;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT536;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT537;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT538;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT540;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT541;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT542;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT543;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT544;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT545;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT546;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT547;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT548;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT549;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT558;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT564;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT565;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT566;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT567;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT568;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT569;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT575;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT576;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT578;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT581;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT586;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT590;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT591;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT592;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT595;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT596;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT598;
+import com.prowidesoftware.swift.model.mt.mt5xx.MT599;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT600;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT601;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT604;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT605;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT606;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT607;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT608;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT620;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT670;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT671;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT690;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT691;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT692;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT695;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT696;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT698;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT699;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT700;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT701;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT705;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT707;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT708;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT710;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT711;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT720;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT721;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT730;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT732;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT734;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT740;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT742;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT744;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT747;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT750;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT752;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT754;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT756;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT759;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT760;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT761;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT765;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT767;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT768;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT769;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT775;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT785;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT786;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT787;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT790;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT791;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT792;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT795;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT796;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT798;
+import com.prowidesoftware.swift.model.mt.mt7xx.MT799;
+import com.prowidesoftware.swift.model.mt.mt8xx.MT801;
+import com.prowidesoftware.swift.model.mt.mt8xx.MT802;
+import com.prowidesoftware.swift.model.mt.mt8xx.MT890;
+import com.prowidesoftware.swift.model.mt.mt8xx.MT891;
+import com.prowidesoftware.swift.model.mt.mt8xx.MT892;
+import com.prowidesoftware.swift.model.mt.mt8xx.MT895;
+import com.prowidesoftware.swift.model.mt.mt8xx.MT896;
+import com.prowidesoftware.swift.model.mt.mt8xx.MT898;
+import com.prowidesoftware.swift.model.mt.mt8xx.MT899;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT900;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT910;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT920;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT935;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT940;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT941;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT942;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT950;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT970;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT971;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT972;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT973;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT985;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT986;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT990;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT991;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT992;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT995;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT996;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT998;
+import com.prowidesoftware.swift.model.mt.mt9xx.MT999;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Factory of the MT model classes for SRU 2024, by message type and variant.
+ * <p>
+ * Messages are created with a direct constructor call, with no class loading or reflection.
+ *
+ * @since 9.5.6
+ */
+@Generated
+public final class MtFactory {
+
+    // Suppress default constructor for noninstantiability
+    private MtFactory() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates the MT model instance for the given message type and variant, wrapping the given message.
+     *
+     * @param type the three digits message type, for example "103"
+     * @param variant the message variant, or null for the base message type
+     * @param message the message to wrap in the created model
+     * @return the created MT, or null if there is no model class for the type and variant
+     * @throws NullPointerException if the type is null
+     */
+    public static AbstractMT create(final String type, final MTVariant variant, final SwiftMessage message) {
+        switch (Objects.requireNonNull(type, "type must not be null")) {
+            case "008":
+                return variant == null ? new MT008(message) : null;
+            case "009":
+                return variant == null ? new MT009(message) : null;
+            case "010":
+                return variant == null ? new MT010(message) : null;
+            case "011":
+                return variant == null ? new MT011(message) : null;
+            case "012":
+                return variant == null ? new MT012(message) : null;
+            case "015":
+                return variant == null ? new MT015(message) : null;
+            case "019":
+                return variant == null ? new MT019(message) : null;
+            case "020":
+                return variant == null ? new MT020(message) : null;
+            case "021":
+                return variant == null ? new MT021(message) : null;
+            case "022":
+                return variant == null ? new MT022(message) : null;
+            case "023":
+                return variant == null ? new MT023(message) : null;
+            case "024":
+                return variant == null ? new MT024(message) : null;
+            case "025":
+                return variant == null ? new MT025(message) : null;
+            case "026":
+                return variant == null ? new MT026(message) : null;
+            case "027":
+                return variant == null ? new MT027(message) : null;
+            case "028":
+                return variant == null ? new MT028(message) : null;
+            case "029":
+                return variant == null ? new MT029(message) : null;
+            case "031":
+                return variant == null ? new MT031(message) : null;
+            case "032":
+                return variant == null ? new MT032(message) : null;
+            case "035":
+                return variant == null ? new MT035(message) : null;
+            case "036":
+                return variant == null ? new MT036(message) : null;
+            case "037":
+                return variant == null ? new MT037(message) : null;
+            case "041":
+                return variant == null ? new MT041(message) : null;
+            case "042":
+                return variant == null ? new MT042(message) : null;
+            case "043":
+                return variant == null ? new MT043(message) : null;
+            case "044":
+                return variant == null ? new MT044(message) : null;
+            case "045":
+                return variant == null ? new MT045(message) : null;
+            case "046":
+                return variant == null ? new MT046(message) : null;
+            case "047":
+                return variant == null ? new MT047(message) : null;
+            case "048":
+                return variant == null ? new MT048(message) : null;
+            case "049":
+                return variant == null ? new MT049(message) : null;
+            case "051":
+                return variant == null ? new MT051(message) : null;
+            case "052":
+                return variant == null ? new MT052(message) : null;
+            case "055":
+                return variant == null ? new MT055(message) : null;
+            case "056":
+                return variant == null ? new MT056(message) : null;
+            case "057":
+                return variant == null ? new MT057(message) : null;
+            case "061":
+                return variant == null ? new MT061(message) : null;
+            case "062":
+                return variant == null ? new MT062(message) : null;
+            case "063":
+                return variant == null ? new MT063(message) : null;
+            case "064":
+                return variant == null ? new MT064(message) : null;
+            case "065":
+                return variant == null ? new MT065(message) : null;
+            case "066":
+                return variant == null ? new MT066(message) : null;
+            case "067":
+                return variant == null ? new MT067(message) : null;
+            case "068":
+                return variant == null ? new MT068(message) : null;
+            case "069":
+                return variant == null ? new MT069(message) : null;
+            case "070":
+                return variant == null ? new MT070(message) : null;
+            case "071":
+                return variant == null ? new MT071(message) : null;
+            case "072":
+                return variant == null ? new MT072(message) : null;
+            case "073":
+                return variant == null ? new MT073(message) : null;
+            case "074":
+                return variant == null ? new MT074(message) : null;
+            case "077":
+                return variant == null ? new MT077(message) : null;
+            case "081":
+                return variant == null ? new MT081(message) : null;
+            case "082":
+                return variant == null ? new MT082(message) : null;
+            case "083":
+                return variant == null ? new MT083(message) : null;
+            case "090":
+                return variant == null ? new MT090(message) : null;
+            case "092":
+                return variant == null ? new MT092(message) : null;
+            case "094":
+                return variant == null ? new MT094(message) : null;
+            case "096":
+                return variant == null ? new MT096(message) : null;
+            case "097":
+                return variant == null ? new MT097(message) : null;
+            case "101":
+                return variant == null ? new MT101(message) : null;
+            case "102":
+                if (variant == MTVariant.STP) {
+                    return new MT102_STP(message);
+                }
+                return variant == null ? new MT102(message) : null;
+            case "103":
+                if (variant == MTVariant.REMIT) {
+                    return new MT103_REMIT(message);
+                }
+                if (variant == MTVariant.STP) {
+                    return new MT103_STP(message);
+                }
+                return variant == null ? new MT103(message) : null;
+            case "104":
+                return variant == null ? new MT104(message) : null;
+            case "105":
+                return variant == null ? new MT105(message) : null;
+            case "107":
+                return variant == null ? new MT107(message) : null;
+            case "110":
+                return variant == null ? new MT110(message) : null;
+            case "111":
+                return variant == null ? new MT111(message) : null;
+            case "112":
+                return variant == null ? new MT112(message) : null;
+            case "190":
+                return variant == null ? new MT190(message) : null;
+            case "191":
+                return variant == null ? new MT191(message) : null;
+            case "192":
+                return variant == null ? new MT192(message) : null;
+            case "195":
+                return variant == null ? new MT195(message) : null;
+            case "196":
+                return variant == null ? new MT196(message) : null;
+            case "198":
+                return variant == null ? new MT198(message) : null;
+            case "199":
+                return variant == null ? new MT199(message) : null;
+            case "200":
+                return variant == null ? new MT200(message) : null;
+            case "201":
+                return variant == null ? new MT201(message) : null;
+            case "202":
+                if (variant == MTVariant.COV) {
+                    return new MT202COV(message);
+                }
+                return variant == null ? new MT202(message) : null;
+            case "203":
+                return variant == null ? new MT203(message) : null;
+            case "204":
+                return variant == null ? new MT204(message) : null;
+            case "205":
+                if (variant == MTVariant.COV) {
+                    return new MT205COV(message);
+                }
+                return variant == null ? new MT205(message) : null;
+            case "210":
+                return variant == null ? new MT210(message) : null;
+            case "290":
+                return variant == null ? new MT290(message) : null;
+            case "291":
+                return variant == null ? new MT291(message) : null;
+            case "292":
+                return variant == null ? new MT292(message) : null;
+            case "295":
+                return variant == null ? new MT295(message) : null;
+            case "296":
+                return variant == null ? new MT296(message) : null;
+            case "298":
+                return variant == null ? new MT298(message) : null;
+            case "299":
+                return variant == null ? new MT299(message) : null;
+            case "300":
+                return variant == null ? new MT300(message) : null;
+            case "304":
+                return variant == null ? new MT304(message) : null;
+            case "305":
+                return variant == null ? new MT305(message) : null;
+            case "306":
+                return variant == null ? new MT306(message) : null;
+            case "320":
+                return variant == null ? new MT320(message) : null;
+            case "321":
+                return variant == null ? new MT321(message) : null;
+            case "330":
+                return variant == null ? new MT330(message) : null;
+            case "340":
+                return variant == null ? new MT340(message) : null;
+            case "341":
+                return variant == null ? new MT341(message) : null;
+            case "350":
+                return variant == null ? new MT350(message) : null;
+            case "360":
+                return variant == null ? new MT360(message) : null;
+            case "361":
+                return variant == null ? new MT361(message) : null;
+            case "362":
+                return variant == null ? new MT362(message) : null;
+            case "364":
+                return variant == null ? new MT364(message) : null;
+            case "365":
+                return variant == null ? new MT365(message) : null;
+            case "370":
+                return variant == null ? new MT370(message) : null;
+            case "380":
+                return variant == null ? new MT380(message) : null;
+            case "381":
+                return variant == null ? new MT381(message) : null;
+            case "390":
+                return variant == null ? new MT390(message) : null;
+            case "391":
+                return variant == null ? new MT391(message) : null;
+            case "392":
+                return variant == null ? new MT392(message) : null;
+            case "395":
+                return variant == null ? new MT395(message) : null;
+            case "396":
+                return variant == null ? new MT396(message) : null;
+            case "398":
+                return variant == null ? new MT398(message) : null;
+            case "399":
+                return variant == null ? new MT399(message) : null;
+            case "400":
+                return variant == null ? new MT400(message) : null;
+            case "410":
+                return variant == null ? new MT410(message) : null;
+            case "412":
+                return variant == null ? new MT412(message) : null;
+            case "416":
+                return variant == null ? new MT416(message) : null;
+            case "420":
+                return variant == null ? new MT420(message) : null;
+            case "422":
+                return variant == null ? new MT422(message) : null;
+            case "430":
+                return variant == null ? new MT430(message) : null;
+            case "450":
+                return variant == null ? new MT450(message) : null;
+            case "455":
+                return variant == null ? new MT455(message) : null;
+            case "456":
+                return variant == null ? new MT456(message) : null;
+            case "490":
+                return variant == null ? new MT490(message) : null;
+            case "491":
+                return variant == null ? new MT491(message) : null;
+            case "492":
+                return variant == null ? new MT492(message) : null;
+            case "495":
+                return variant == null ? new MT495(message) : null;
+            case "496":
+                return variant == null ? new MT496(message) : null;
+            case "498":
+                return variant == null ? new MT498(message) : null;
+            case "499":
+                return variant == null ? new MT499(message) : null;
+            case "500":
+                return variant == null ? new MT500(message) : null;
+            case "501":
+                return variant == null ? new MT501(message) : null;
+            case "502":
+                return variant == null ? new MT502(message) : null;
+            case "503":
+                return variant == null ? new MT503(message) : null;
+            case "504":
+                return variant == null ? new MT504(message) : null;
+            case "505":
+                return variant == null ? new MT505(message) : null;
+            case "506":
+                return variant == null ? new MT506(message) : null;
+            case "507":
+                return variant == null ? new MT507(message) : null;
+            case "508":
+                return variant == null ? new MT508(message) : null;
+            case "509":
+                return variant == null ? new MT509(message) : null;
+            case "510":
+                return variant == null ? new MT510(message) : null;
+            case "513":
+                return variant == null ? new MT513(message) : null;
+            case "514":
+                return variant == null ? new MT514(message) : null;
+            case "515":
+                return variant == null ? new MT515(message) : null;
+            case "516":
+                return variant == null ? new MT516(message) : null;
+            case "517":
+                return variant == null ? new MT517(message) : null;
+            case "518":
+                return variant == null ? new MT518(message) : null;
+            case "519":
+                return variant == null ? new MT519(message) : null;
+            case "524":
+                return variant == null ? new MT524(message) : null;
+            case "526":
+                return variant == null ? new MT526(message) : null;
+            case "527":
+                return variant == null ? new MT527(message) : null;
+            case "530":
+                return variant == null ? new MT530(message) : null;
+            case "535":
+                return variant == null ? new MT535(message) : null;
+            case "536":
+                return variant == null ? new MT536(message) : null;
+            case "537":
+                return variant == null ? new MT537(message) : null;
+            case "538":
+                return variant == null ? new MT538(message) : null;
+            case "540":
+                return variant == null ? new MT540(message) : null;
+            case "541":
+                return variant == null ? new MT541(message) : null;
+            case "542":
+                return variant == null ? new MT542(message) : null;
+            case "543":
+                return variant == null ? new MT543(message) : null;
+            case "544":
+                return variant == null ? new MT544(message) : null;
+            case "545":
+                return variant == null ? new MT545(message) : null;
+            case "546":
+                return variant == null ? new MT546(message) : null;
+            case "547":
+                return variant == null ? new MT547(message) : null;
+            case "548":
+                return variant == null ? new MT548(message) : null;
+            case "549":
+                return variant == null ? new MT549(message) : null;
+            case "558":
+                return variant == null ? new MT558(message) : null;
+            case "564":
+                return variant == null ? new MT564(message) : null;
+            case "565":
+                return variant == null ? new MT565(message) : null;
+            case "566":
+                return variant == null ? new MT566(message) : null;
+            case "567":
+                return variant == null ? new MT567(message) : null;
+            case "568":
+                return variant == null ? new MT568(message) : null;
+            case "569":
+                return variant == null ? new MT569(message) : null;
+            case "575":
+                return variant == null ? new MT575(message) : null;
+            case "576":
+                return variant == null ? new MT576(message) : null;
+            case "578":
+                return variant == null ? new MT578(message) : null;
+            case "581":
+                return variant == null ? new MT581(message) : null;
+            case "586":
+                return variant == null ? new MT586(message) : null;
+            case "590":
+                return variant == null ? new MT590(message) : null;
+            case "591":
+                return variant == null ? new MT591(message) : null;
+            case "592":
+                return variant == null ? new MT592(message) : null;
+            case "595":
+                return variant == null ? new MT595(message) : null;
+            case "596":
+                return variant == null ? new MT596(message) : null;
+            case "598":
+                return variant == null ? new MT598(message) : null;
+            case "599":
+                return variant == null ? new MT599(message) : null;
+            case "600":
+                return variant == null ? new MT600(message) : null;
+            case "601":
+                return variant == null ? new MT601(message) : null;
+            case "604":
+                return variant == null ? new MT604(message) : null;
+            case "605":
+                return variant == null ? new MT605(message) : null;
+            case "606":
+                return variant == null ? new MT606(message) : null;
+            case "607":
+                return variant == null ? new MT607(message) : null;
+            case "608":
+                return variant == null ? new MT608(message) : null;
+            case "620":
+                return variant == null ? new MT620(message) : null;
+            case "670":
+                return variant == null ? new MT670(message) : null;
+            case "671":
+                return variant == null ? new MT671(message) : null;
+            case "690":
+                return variant == null ? new MT690(message) : null;
+            case "691":
+                return variant == null ? new MT691(message) : null;
+            case "692":
+                return variant == null ? new MT692(message) : null;
+            case "695":
+                return variant == null ? new MT695(message) : null;
+            case "696":
+                return variant == null ? new MT696(message) : null;
+            case "698":
+                return variant == null ? new MT698(message) : null;
+            case "699":
+                return variant == null ? new MT699(message) : null;
+            case "700":
+                return variant == null ? new MT700(message) : null;
+            case "701":
+                return variant == null ? new MT701(message) : null;
+            case "705":
+                return variant == null ? new MT705(message) : null;
+            case "707":
+                return variant == null ? new MT707(message) : null;
+            case "708":
+                return variant == null ? new MT708(message) : null;
+            case "710":
+                return variant == null ? new MT710(message) : null;
+            case "711":
+                return variant == null ? new MT711(message) : null;
+            case "720":
+                return variant == null ? new MT720(message) : null;
+            case "721":
+                return variant == null ? new MT721(message) : null;
+            case "730":
+                return variant == null ? new MT730(message) : null;
+            case "732":
+                return variant == null ? new MT732(message) : null;
+            case "734":
+                return variant == null ? new MT734(message) : null;
+            case "740":
+                return variant == null ? new MT740(message) : null;
+            case "742":
+                return variant == null ? new MT742(message) : null;
+            case "744":
+                return variant == null ? new MT744(message) : null;
+            case "747":
+                return variant == null ? new MT747(message) : null;
+            case "750":
+                return variant == null ? new MT750(message) : null;
+            case "752":
+                return variant == null ? new MT752(message) : null;
+            case "754":
+                return variant == null ? new MT754(message) : null;
+            case "756":
+                return variant == null ? new MT756(message) : null;
+            case "759":
+                return variant == null ? new MT759(message) : null;
+            case "760":
+                return variant == null ? new MT760(message) : null;
+            case "761":
+                return variant == null ? new MT761(message) : null;
+            case "765":
+                return variant == null ? new MT765(message) : null;
+            case "767":
+                return variant == null ? new MT767(message) : null;
+            case "768":
+                return variant == null ? new MT768(message) : null;
+            case "769":
+                return variant == null ? new MT769(message) : null;
+            case "775":
+                return variant == null ? new MT775(message) : null;
+            case "785":
+                return variant == null ? new MT785(message) : null;
+            case "786":
+                return variant == null ? new MT786(message) : null;
+            case "787":
+                return variant == null ? new MT787(message) : null;
+            case "790":
+                return variant == null ? new MT790(message) : null;
+            case "791":
+                return variant == null ? new MT791(message) : null;
+            case "792":
+                return variant == null ? new MT792(message) : null;
+            case "795":
+                return variant == null ? new MT795(message) : null;
+            case "796":
+                return variant == null ? new MT796(message) : null;
+            case "798":
+                return variant == null ? new MT798(message) : null;
+            case "799":
+                return variant == null ? new MT799(message) : null;
+            case "801":
+                return variant == null ? new MT801(message) : null;
+            case "802":
+                return variant == null ? new MT802(message) : null;
+            case "890":
+                return variant == null ? new MT890(message) : null;
+            case "891":
+                return variant == null ? new MT891(message) : null;
+            case "892":
+                return variant == null ? new MT892(message) : null;
+            case "895":
+                return variant == null ? new MT895(message) : null;
+            case "896":
+                return variant == null ? new MT896(message) : null;
+            case "898":
+                return variant == null ? new MT898(message) : null;
+            case "899":
+                return variant == null ? new MT899(message) : null;
+            case "900":
+                return variant == null ? new MT900(message) : null;
+            case "910":
+                return variant == null ? new MT910(message) : null;
+            case "920":
+                return variant == null ? new MT920(message) : null;
+            case "935":
+                return variant == null ? new MT935(message) : null;
+            case "940":
+                return variant == null ? new MT940(message) : null;
+            case "941":
+                return variant == null ? new MT941(message) : null;
+            case "942":
+                return variant == null ? new MT942(message) : null;
+            case "950":
+                return variant == null ? new MT950(message) : null;
+            case "970":
+                return variant == null ? new MT970(message) : null;
+            case "971":
+                return variant == null ? new MT971(message) : null;
+            case "972":
+                return variant == null ? new MT972(message) : null;
+            case "973":
+                return variant == null ? new MT973(message) : null;
+            case "985":
+                return variant == null ? new MT985(message) : null;
+            case "986":
+                return variant == null ? new MT986(message) : null;
+            case "990":
+                return variant == null ? new MT990(message) : null;
+            case "991":
+                return variant == null ? new MT991(message) : null;
+            case "992":
+                return variant == null ? new MT992(message) : null;
+            case "995":
+                return variant == null ? new MT995(message) : null;
+            case "996":
+                return variant == null ? new MT996(message) : null;
+            case "998":
+                return variant == null ? new MT998(message) : null;
+            case "999":
+                return variant == null ? new MT999(message) : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Checks whether there is an MT model class for the given message type and variant.
+     *
+     * @param type the three digits message type, for example "103"
+     * @param variant the message variant, or null for the base message type
+     * @return true if the type and variant are supported by {@link #create(String, MTVariant, SwiftMessage)}
+     */
+    public static boolean isSupported(final String type, final MTVariant variant) {
+        if (type == null) {
+            return false;
+        }
+        switch (type) {
+            case "008":
+                return variant == null;
+            case "009":
+                return variant == null;
+            case "010":
+                return variant == null;
+            case "011":
+                return variant == null;
+            case "012":
+                return variant == null;
+            case "015":
+                return variant == null;
+            case "019":
+                return variant == null;
+            case "020":
+                return variant == null;
+            case "021":
+                return variant == null;
+            case "022":
+                return variant == null;
+            case "023":
+                return variant == null;
+            case "024":
+                return variant == null;
+            case "025":
+                return variant == null;
+            case "026":
+                return variant == null;
+            case "027":
+                return variant == null;
+            case "028":
+                return variant == null;
+            case "029":
+                return variant == null;
+            case "031":
+                return variant == null;
+            case "032":
+                return variant == null;
+            case "035":
+                return variant == null;
+            case "036":
+                return variant == null;
+            case "037":
+                return variant == null;
+            case "041":
+                return variant == null;
+            case "042":
+                return variant == null;
+            case "043":
+                return variant == null;
+            case "044":
+                return variant == null;
+            case "045":
+                return variant == null;
+            case "046":
+                return variant == null;
+            case "047":
+                return variant == null;
+            case "048":
+                return variant == null;
+            case "049":
+                return variant == null;
+            case "051":
+                return variant == null;
+            case "052":
+                return variant == null;
+            case "055":
+                return variant == null;
+            case "056":
+                return variant == null;
+            case "057":
+                return variant == null;
+            case "061":
+                return variant == null;
+            case "062":
+                return variant == null;
+            case "063":
+                return variant == null;
+            case "064":
+                return variant == null;
+            case "065":
+                return variant == null;
+            case "066":
+                return variant == null;
+            case "067":
+                return variant == null;
+            case "068":
+                return variant == null;
+            case "069":
+                return variant == null;
+            case "070":
+                return variant == null;
+            case "071":
+                return variant == null;
+            case "072":
+                return variant == null;
+            case "073":
+                return variant == null;
+            case "074":
+                return variant == null;
+            case "077":
+                return variant == null;
+            case "081":
+                return variant == null;
+            case "082":
+                return variant == null;
+            case "083":
+                return variant == null;
+            case "090":
+                return variant == null;
+            case "092":
+                return variant == null;
+            case "094":
+                return variant == null;
+            case "096":
+                return variant == null;
+            case "097":
+                return variant == null;
+            case "101":
+                return variant == null;
+            case "102":
+                return variant == null || variant == MTVariant.STP;
+            case "103":
+                return variant == null || variant == MTVariant.REMIT || variant == MTVariant.STP;
+            case "104":
+                return variant == null;
+            case "105":
+                return variant == null;
+            case "107":
+                return variant == null;
+            case "110":
+                return variant == null;
+            case "111":
+                return variant == null;
+            case "112":
+                return variant == null;
+            case "190":
+                return variant == null;
+            case "191":
+                return variant == null;
+            case "192":
+                return variant == null;
+            case "195":
+                return variant == null;
+            case "196":
+                return variant == null;
+            case "198":
+                return variant == null;
+            case "199":
+                return variant == null;
+            case "200":
+                return variant == null;
+            case "201":
+                return variant == null;
+            case "202":
+                return variant == null || variant == MTVariant.COV;
+            case "203":
+                return variant == null;
+            case "204":
+                return variant == null;
+            case "205":
+                return variant == null || variant == MTVariant.COV;
+            case "210":
+                return variant == null;
+            case "290":
+                return variant == null;
+            case "291":
+                return variant == null;
+            case "292":
+                return variant == null;
+            case "295":
+                return variant == null;
+            case "296":
+                return variant == null;
+            case "298":
+                return variant == null;
+            case "299":
+                return variant == null;
+            case "300":
+                return variant == null;
+            case "304":
+                return variant == null;
+            case "305":
+                return variant == null;
+            case "306":
+                return variant == null;
+            case "320":
+                return variant == null;
+            case "321":
+                return variant == null;
+            case "330":
+                return variant == null;
+            case "340":
+                return variant == null;
+            case "341":
+                return variant == null;
+            case "350":
+                return variant == null;
+            case "360":
+                return variant == null;
+            case "361":
+                return variant == null;
+            case "362":
+                return variant == null;
+            case "364":
+                return variant == null;
+            case "365":
+                return variant == null;
+            case "370":
+                return variant == null;
+            case "380":
+                return variant == null;
+            case "381":
+                return variant == null;
+            case "390":
+                return variant == null;
+            case "391":
+                return variant == null;
+            case "392":
+                return variant == null;
+            case "395":
+                return variant == null;
+            case "396":
+                return variant == null;
+            case "398":
+                return variant == null;
+            case "399":
+                return variant == null;
+            case "400":
+                return variant == null;
+            case "410":
+                return variant == null;
+            case "412":
+                return variant == null;
+            case "416":
+                return variant == null;
+            case "420":
+                return variant == null;
+            case "422":
+                return variant == null;
+            case "430":
+                return variant == null;
+            case "450":
+                return variant == null;
+            case "455":
+                return variant == null;
+            case "456":
+                return variant == null;
+            case "490":
+                return variant == null;
+            case "491":
+                return variant == null;
+            case "492":
+                return variant == null;
+            case "495":
+                return variant == null;
+            case "496":
+                return variant == null;
+            case "498":
+                return variant == null;
+            case "499":
+                return variant == null;
+            case "500":
+                return variant == null;
+            case "501":
+                return variant == null;
+            case "502":
+                return variant == null;
+            case "503":
+                return variant == null;
+            case "504":
+                return variant == null;
+            case "505":
+                return variant == null;
+            case "506":
+                return variant == null;
+            case "507":
+                return variant == null;
+            case "508":
+                return variant == null;
+            case "509":
+                return variant == null;
+            case "510":
+                return variant == null;
+            case "513":
+                return variant == null;
+            case "514":
+                return variant == null;
+            case "515":
+                return variant == null;
+            case "516":
+                return variant == null;
+            case "517":
+                return variant == null;
+            case "518":
+                return variant == null;
+            case "519":
+                return variant == null;
+            case "524":
+                return variant == null;
+            case "526":
+                return variant == null;
+            case "527":
+                return variant == null;
+            case "530":
+                return variant == null;
+            case "535":
+                return variant == null;
+            case "536":
+                return variant == null;
+            case "537":
+                return variant == null;
+            case "538":
+                return variant == null;
+            case "540":
+                return variant == null;
+            case "541":
+                return variant == null;
+            case "542":
+                return variant == null;
+            case "543":
+                return variant == null;
+            case "544":
+                return variant == null;
+            case "545":
+                return variant == null;
+            case "546":
+                return variant == null;
+            case "547":
+                return variant == null;
+            case "548":
+                return variant == null;
+            case "549":
+                return variant == null;
+            case "558":
+                return variant == null;
+            case "564":
+                return variant == null;
+            case "565":
+                return variant == null;
+            case "566":
+                return variant == null;
+            case "567":
+                return variant == null;
+            case "568":
+                return variant == null;
+            case "569":
+                return variant == null;
+            case "575":
+                return variant == null;
+            case "576":
+                return variant == null;
+            case "578":
+                return variant == null;
+            case "581":
+                return variant == null;
+            case "586":
+                return variant == null;
+            case "590":
+                return variant == null;
+            case "591":
+                return variant == null;
+            case "592":
+                return variant == null;
+            case "595":
+                return variant == null;
+            case "596":
+                return variant == null;
+            case "598":
+                return variant == null;
+            case "599":
+                return variant == null;
+            case "600":
+                return variant == null;
+            case "601":
+                return variant == null;
+            case "604":
+                return variant == null;
+            case "605":
+                return variant == null;
+            case "606":
+                return variant == null;
+            case "607":
+                return variant == null;
+            case "608":
+                return variant == null;
+            case "620":
+                return variant == null;
+            case "670":
+                return variant == null;
+            case "671":
+                return variant == null;
+            case "690":
+                return variant == null;
+            case "691":
+                return variant == null;
+            case "692":
+                return variant == null;
+            case "695":
+                return variant == null;
+            case "696":
+                return variant == null;
+            case "698":
+                return variant == null;
+            case "699":
+                return variant == null;
+            case "700":
+                return variant == null;
+            case "701":
+                return variant == null;
+            case "705":
+                return variant == null;
+            case "707":
+                return variant == null;
+            case "708":
+                return variant == null;
+            case "710":
+                return variant == null;
+            case "711":
+                return variant == null;
+            case "720":
+                return variant == null;
+            case "721":
+                return variant == null;
+            case "730":
+                return variant == null;
+            case "732":
+                return variant == null;
+            case "734":
+                return variant == null;
+            case "740":
+                return variant == null;
+            case "742":
+                return variant == null;
+            case "744":
+                return variant == null;
+            case "747":
+                return variant == null;
+            case "750":
+                return variant == null;
+            case "752":
+                return variant == null;
+            case "754":
+                return variant == null;
+            case "756":
+                return variant == null;
+            case "759":
+                return variant == null;
+            case "760":
+                return variant == null;
+            case "761":
+                return variant == null;
+            case "765":
+                return variant == null;
+            case "767":
+                return variant == null;
+            case "768":
+                return variant == null;
+            case "769":
+                return variant == null;
+            case "775":
+                return variant == null;
+            case "785":
+                return variant == null;
+            case "786":
+                return variant == null;
+            case "787":
+                return variant == null;
+            case "790":
+                return variant == null;
+            case "791":
+                return variant == null;
+            case "792":
+                return variant == null;
+            case "795":
+                return variant == null;
+            case "796":
+                return variant == null;
+            case "798":
+                return variant == null;
+            case "799":
+                return variant == null;
+            case "801":
+                return variant == null;
+            case "802":
+                return variant == null;
+            case "890":
+                return variant == null;
+            case "891":
+                return variant == null;
+            case "892":
+                return variant == null;
+            case "895":
+                return variant == null;
+            case "896":
+                return variant == null;
+            case "898":
+                return variant == null;
+            case "899":
+                return variant == null;
+            case "900":
+                return variant == null;
+            case "910":
+                return variant == null;
+            case "920":
+                return variant == null;
+            case "935":
+                return variant == null;
+            case "940":
+                return variant == null;
+            case "941":
+                return variant == null;
+            case "942":
+                return variant == null;
+            case "950":
+                return variant == null;
+            case "970":
+                return variant == null;
+            case "971":
+                return variant == null;
+            case "972":
+                return variant == null;
+            case "973":
+                return variant == null;
+            case "985":
+                return variant == null;
+            case "986":
+                return variant == null;
+            case "990":
+                return variant == null;
+            case "991":
+                return variant == null;
+            case "992":
+                return variant == null;
+            case "995":
+                return variant == null;
+            case "996":
+                return variant == null;
+            case "998":
+                return variant == null;
+            case "999":
+                return variant == null;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Gets a function that creates the MT model instance for the given message type and variant.
+     *
+     * @param type the three digits message type, for example "103"
+     * @param variant the message variant, or null for the base message type
+     * @return a function wrapping a message into the MT model class, or null if the type and variant are not supported
+     */
+    public static Function<SwiftMessage, AbstractMT> getFactory(final String type, final MTVariant variant) {
+        if (!isSupported(type, variant)) {
+            return null;
+        }
+        return message -> create(type, variant, message);
+    }
+}
@@ -22,7 +22,11 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
@@ -124,14 +128,20 @@ public abstract class AbstractReader implements Iterator<String>, Iterable<Strin
      * @throws IOException if the message content cannot be parsed into an MT
      */
     public AbstractMT nextMT() throws IOException {
-        SwiftMessage candidate = nextSwiftMessage();
+        return toMT(nextSwiftMessage(), getClass());
+    }
+
+    /**
+     * Converts a message read from a batch file into an MT, with the same logic described in {@link #nextMT()}
+     */
+    static AbstractMT toMT(final SwiftMessage candidate, final Class<?> reader) throws IOException {
         if (candidate != null) {
             if (candidate.isServiceMessage21()) {
                 // message is an ACK/NACK, we parse the appended original message instead
                 final String fin = candidate.getUnparsedTexts().getAsFINString();
                 return AbstractMT.parse(fin);
             } else if (candidate.isServiceMessage()) {
-                log.warning("nextMT in " + getClass().getName()
+                log.warning("nextMT in " + reader.getName()
                         + " is not intended for service messages, use nextSwiftMessage() instead");
                 return null;
             } else {
@@ -158,4 +168,70 @@ public abstract class AbstractReader implements Iterator<String>, Iterable<Strin
         log.warning("Ignoring blank message");
         return null;
     }
+
+    /**
+     * Returns a stream with the raw content of the messages.
+     *
+     * <p>The stream is lazy, the messages are read from the underlying reader as the stream is consumed. When the
+     * stream is made parallel the content is still read sequentially, but the messages are handed to the workers in
+     * batches, so the downstream operations, such as the parsing in {@link #messageStream()}, are distributed.
+     *
+     * <p>As with the iterator, the reader can be streamed just once.
+     *
+     * @return a sequential ordered stream of the raw messages
+     * @throws IllegalStateException if the reader was already iterated
+     * @since 9.5.6
+     */
+    public Stream<String> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Returns a stream with the messages parsed, skipping blank content. Each message is parsed as done by
+     * {@link #nextSwiftMessage()}.
+     *
+     * @return a sequential ordered stream of the parsed messages
+     * @throws IllegalStateException if the reader was already iterated
+     * @throws UncheckedIOException  from the stream terminal operation, if a message cannot be parsed
+     * @see #stream()
+     * @since 9.5.6
+     */
+    public Stream<SwiftMessage> messageStream() {
+        return messageStream(stream());
+    }
+
+    /**
+     * Returns a stream with the messages parsed into MTs, skipping blank content and messages with no MT
+     * representation. Each message is converted as done by {@link #nextMT()}.
+     *
+     * @return a sequential ordered stream of the parsed messages
+     * @throws IllegalStateException if the reader was already iterated
+     * @throws UncheckedIOException  from the stream terminal operation, if a message cannot be parsed
+     * @see #stream()
+     * @since 9.5.6
+     */
+    public Stream<AbstractMT> mtStream() {
+        return mtStream(messageStream(), getClass());
+    }
+
+    static Stream<SwiftMessage> messageStream(final Stream<String> raw) {
+        return raw.filter(StringUtils::isNotBlank).map(fin -> {
+            try {
+                return SwiftMessage.parse(fin);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    static Stream<AbstractMT> mtStream(final Stream<SwiftMessage> messages, final Class<?> reader) {
+        return messages.map(m -> {
+                    try {
+                        return toMT(m, reader);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .filter(Objects::nonNull);
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io;
+
+/**
+ * Formats of files containing several MT messages, and how the messages are delimited.
+ *
+ * @since 9.5.6
+ */
+public enum BatchFormat {
+    /**
+     * Remote Job Entry, messages separated by a '$' char.
+     * @see RJEReader
+     */
+    RJE,
+    /**
+     * Legacy DOS-PCC, each message starting with a SOH (0x01) char and ending with an ETX (0x03) char.
+     * @see PPCReader
+     */
+    PPC
+}
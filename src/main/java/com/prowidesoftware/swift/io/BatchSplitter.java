@@ -0,0 +1,171 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits batch file content into the raw messages, reading the input in bulk and searching the delimiters by index.
+ * <p>The split content is the same returned by the {@link RJEReader} and {@link PPCReader} iterators: the RJE content
+ * between delimiters, including the last one even if blank, and the PPC content between the begin and end marks, in
+ * both cases trimmed. An empty input has no messages.
+ *
+ * <p>The end of input is only assumed when the reader returns -1, so it works with blocking sources such as pipes,
+ * sockets and decompressing streams where {@link Reader#ready()} is not reliable.
+ *
+ * @since 9.5.6
+ */
+class BatchSplitter {
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final BatchFormat format;
+    private final char splitChar;
+
+    private final char[] buffer;
+    private int pos = 0;
+    private int limit = 0;
+    private boolean eof = false;
+
+    /**
+     * True once any content was read from the input
+     */
+    private boolean started = false;
+
+    /**
+     * True when the input is consumed and no more messages are available
+     */
+    private boolean done = false;
+
+    private final StringBuilder message = new StringBuilder();
+
+    BatchSplitter(final Reader reader, final BatchFormat format) {
+        this(reader, format, RJEReader.SPLITCHAR);
+    }
+
+    BatchSplitter(final Reader reader, final BatchFormat format, final char splitChar) {
+        this(reader, format, splitChar, BUFFER_SIZE);
+    }
+
+    /**
+     * @param bufferSize size of the read buffer, for small inputs with a known size
+     */
+    BatchSplitter(final Reader reader, final BatchFormat format, final char splitChar, final int bufferSize) {
+        this.reader = reader;
+        this.format = format;
+        this.splitChar = splitChar;
+        this.buffer = new char[Math.max(bufferSize, 16)];
+    }
+
+    /**
+     * @return true if there is another message, reading ahead from the input as needed
+     * @throws IOException if an error occurs reading the input
+     */
+    boolean hasNext() throws IOException {
+        if (this.done) {
+            return false;
+        }
+        if (this.format == BatchFormat.PPC) {
+            // skip to the next begin mark
+            while (true) {
+                if (this.pos == this.limit && !fill()) {
+                    this.done = true;
+                    return false;
+                }
+                if (this.buffer[this.pos] == PPCReader.BEGIN) {
+                    return true;
+                }
+                this.pos++;
+            }
+        }
+        if (!this.started && !fill()) {
+            // empty input
+            this.done = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the input was fully consumed and no more messages are available
+     */
+    boolean isDone() {
+        return this.done;
+    }
+
+    /**
+     * @return the next raw message trimmed, or null if there are no more messages
+     * @throws IOException if an error occurs reading the input
+     */
+    String next() throws IOException {
+        if (!hasNext()) {
+            return null;
+        }
+        final char end;
+        if (this.format == BatchFormat.PPC) {
+            // skip the begin mark
+            this.pos++;
+            end = (char) PPCReader.END;
+        } else {
+            end = this.splitChar;
+        }
+        this.message.setLength(0);
+        while (true) {
+            if (this.pos == this.limit && !fill()) {
+                if (this.format == BatchFormat.RJE) {
+                    // the content after the last delimiter is the last message
+                    this.done = true;
+                }
+                break;
+            }
+            final int start = this.pos;
+            while (this.pos < this.limit && this.buffer[this.pos] != end) {
+                this.pos++;
+            }
+            this.message.append(this.buffer, start, this.pos - start);
+            if (this.pos < this.limit) {
+                // skip the delimiter
+                this.pos++;
+                break;
+            }
+        }
+        return this.message.toString().trim();
+    }
+
+    /**
+     * Reads the next chunk of input into the buffer
+     *
+     * @return false if the end of the input was reached
+     */
+    private boolean fill() throws IOException {
+        if (this.eof) {
+            return false;
+        }
+        int read;
+        do {
+            read = this.reader.read(this.buffer, 0, this.buffer.length);
+        } while (read == 0);
+        if (read < 0) {
+            this.eof = true;
+            return false;
+        }
+        this.pos = 0;
+        this.limit = read;
+        this.started = true;
+        return true;
+    }
+}
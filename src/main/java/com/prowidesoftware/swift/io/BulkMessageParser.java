@@ -0,0 +1,275 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io;
+
+import com.prowidesoftware.swift.io.parser.SwiftParser;
+import com.prowidesoftware.swift.io.parser.SwiftParserConfiguration;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Parses all the messages in an RJE or PPC batch file, in parallel.
+ *
+ * <p>The content is read and split at the message delimiters by the calling thread, and the raw messages are parsed
+ * in batches by the executor, by default the {@link ForkJoinPool#commonPool()}. The results are returned in file
+ * order, each one with its position in the file, the parsed message and the errors found.
+ *
+ * <p>The split is the same done by the {@link RJEReader} and {@link PPCReader}, and each message is parsed as
+ * {@link AbstractReader#nextSwiftMessage()} does, except for blank messages that are skipped.
+ *
+ * <p>For large files the {@link #parse(Reader, Consumer)} variant should be preferred, since it delivers the results
+ * as they are available and only keeps a bounded number of batches in memory.
+ *
+ * @since 9.5.6
+ */
+public class BulkMessageParser {
+    private static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final BatchFormat format;
+    private Executor executor = ForkJoinPool.commonPool();
+    private SwiftParserConfiguration configuration = new SwiftParserConfiguration();
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxPendingBatches = Runtime.getRuntime().availableProcessors() * 4;
+
+    /**
+     * @param format the file format, determining how the messages are delimited
+     * @throws NullPointerException if the format is null
+     */
+    public BulkMessageParser(final BatchFormat format) {
+        this.format = Objects.requireNonNull(format, "format must not be null");
+    }
+
+    /**
+     * Parses all messages in the file content, encoded in {@link StandardCharsets#UTF_8}.
+     *
+     * @param file the file to read
+     * @return the results in file order
+     * @throws IOException if an error occurs reading the file
+     */
+    public List<Result> parse(final File file) throws IOException {
+        return parse(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses all messages in the file content.
+     *
+     * @param file    the file to read
+     * @param charset the file content charset
+     * @return the results in file order
+     * @throws IOException if an error occurs reading the file
+     */
+    public List<Result> parse(final File file, final Charset charset) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        try (Reader reader = new InputStreamReader(new FileInputStream(file), charset)) {
+            return parse(reader);
+        }
+    }
+
+    /**
+     * Parses all messages in the reader content. The reader is consumed but not closed.
+     *
+     * @param reader the reader with the batch file content
+     * @return the results in file order
+     * @throws IOException if an error occurs reading the content
+     */
+    public List<Result> parse(final Reader reader) throws IOException {
+        final List<Result> results = new ArrayList<>();
+        parse(reader, results::add);
+        return results;
+    }
+
+    /**
+     * Parses all messages in the reader content, delivering the results to the consumer in file order. The reader
+     * is consumed but not closed.
+     *
+     * <p>The consumer is called from the calling thread, while the next batches are parsed in the background. The
+     * reading pauses when the number of batches pending delivery reaches the configured maximum.
+     *
+     * @param reader   the reader with the batch file content
+     * @param consumer the results consumer
+     * @throws IOException if an error occurs reading the content
+     */
+    public void parse(final Reader reader, final Consumer<Result> consumer) throws IOException {
+        Objects.requireNonNull(reader, "reader must not be null");
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        final BatchSplitter splitter = new BatchSplitter(reader, this.format);
+        final Deque<CompletableFuture<List<Result>>> pending = new ArrayDeque<>();
+        int index = 0;
+        List<String> batch = new ArrayList<>(this.batchSize);
+        String fin;
+        while ((fin = splitter.next()) != null) {
+            if (StringUtils.isBlank(fin)) {
+                continue;
+            }
+            batch.add(fin);
+            if (batch.size() == this.batchSize) {
+                pending.add(submit(batch, index));
+                index += batch.size();
+                batch = new ArrayList<>(this.batchSize);
+                while (pending.size() >= this.maxPendingBatches) {
+                    pending.poll().join().forEach(consumer);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            pending.add(submit(batch, index));
+        }
+        while (!pending.isEmpty()) {
+            pending.poll().join().forEach(consumer);
+        }
+    }
+
+    private CompletableFuture<List<Result>> submit(final List<String> batch, final int firstIndex) {
+        final SwiftParserConfiguration config = this.configuration;
+        return CompletableFuture.supplyAsync(() -> parseBatch(batch, firstIndex, config), this.executor);
+    }
+
+    private static List<Result> parseBatch(
+            final List<String> batch, final int firstIndex, final SwiftParserConfiguration configuration) {
+        final List<Result> results = new ArrayList<>(batch.size());
+        final SwiftParser parser = new SwiftParser();
+        parser.setConfiguration(configuration);
+        for (int i = 0; i < batch.size(); i++) {
+            final String fin = batch.get(i);
+            SwiftMessage message = null;
+            Exception exception = null;
+            parser.reset();
+            parser.setData(fin);
+            try {
+                message = parser.message();
+            } catch (IOException | RuntimeException e) {
+                exception = e;
+            }
+            results.add(new Result(firstIndex + i, fin, message, new ArrayList<>(parser.getErrors()), exception));
+        }
+        return results;
+    }
+
+    /**
+     * Sets the executor where the messages are parsed, by default the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param executor the executor to use
+     */
+    public void setExecutor(final Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+    }
+
+    /**
+     * Sets the configuration used to parse each message.
+     *
+     * @param configuration the parser configuration
+     */
+    public void setConfiguration(final SwiftParserConfiguration configuration) {
+        this.configuration = Objects.requireNonNull(configuration, "configuration must not be null");
+    }
+
+    /**
+     * Sets the number of messages parsed by each executor task, by default 256.
+     *
+     * @param batchSize a positive number of messages
+     */
+    public void setBatchSize(final int batchSize) {
+        Validate.isTrue(batchSize > 0, "batch size must be positive");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets the maximum number of batches read ahead and not yet delivered, by default four times the number of
+     * available processors.
+     *
+     * @param maxPendingBatches a positive number of batches
+     */
+    public void setMaxPendingBatches(final int maxPendingBatches) {
+        Validate.isTrue(maxPendingBatches > 0, "max pending batches must be positive");
+        this.maxPendingBatches = maxPendingBatches;
+    }
+
+    /**
+     * The parse result of a single message in the batch file
+     */
+    public static class Result {
+        private final int index;
+        private final String content;
+        private final SwiftMessage message;
+        private final List<String> errors;
+        private final Exception exception;
+
+        Result(
+                final int index,
+                final String content,
+                final SwiftMessage message,
+                final List<String> errors,
+                final Exception exception) {
+            this.index = index;
+            this.content = content;
+            this.message = message;
+            this.errors = Collections.unmodifiableList(errors);
+            this.exception = exception;
+        }
+
+        /**
+         * @return the zero based position of the message in the file, not counting blank messages
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return the raw message content
+         */
+        public String getContent() {
+            return content;
+        }
+
+        /**
+         * @return the parsed message, or null if the parser threw an exception
+         */
+        public SwiftMessage getMessage() {
+            return message;
+        }
+
+        /**
+         * @return the errors reported by the parser, empty if none
+         * @see SwiftParser#getErrors()
+         */
+        public List<String> getErrors() {
+            return errors;
+        }
+
+        /**
+         * @return the exception thrown by the parser, or null if the message was parsed
+         */
+        public Exception getException() {
+            return exception;
+        }
+
+        /**
+         * @return true if the message was parsed with no errors
+         */
+        public boolean isSuccess() {
+            return exception == null && errors.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io;
+
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.model.mt.AbstractMT;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Random access reader for large RJE and PPC batch files.
+ *
+ * <p>On creation the file is scanned through memory mapped regions to build an index with the position of each
+ * message, without decoding the content. Then any message can be read by its position with {@link #get(int)}, reading
+ * only the message bytes from the file.
+ *
+ * <p>The index can be saved next to the file (see {@link #getIndexFile(File)}) so it is built only once. A saved
+ * index is only used if the file size and last modification time match the ones recorded when the index was built,
+ * otherwise it is built and saved again.
+ *
+ * <p>The messages are the same returned by the {@link RJEReader} and {@link PPCReader} iterators, trimmed, but
+ * skipping blank messages; so the message positions match the indexes in the {@link BulkMessageParser} results.
+ *
+ * <p>Reading messages is thread safe, the file is accessed with positional reads. The streams returned by
+ * {@link #stream()}, {@link #messageStream()} and {@link #mtStream()} split at message boundaries using the index, so
+ * when made parallel each worker reads and parses its own range of messages.
+ *
+ * @since 9.5.6
+ */
+public class MappedBatchReader implements Iterable<String>, Closeable {
+    private static final Logger log = Logger.getLogger(MappedBatchReader.class.getName());
+
+    /**
+     * Size of the regions mapped at once while building the index
+     */
+    private static final long REGION_SIZE = 256L * 1024 * 1024;
+
+    private static final int INDEX_MAGIC = 0x50574958; // PWIX
+    private static final int INDEX_VERSION = 1;
+
+    private final File file;
+    private final BatchFormat format;
+    private final Charset charset;
+    private final FileChannel channel;
+
+    private int count = 0;
+    private long[] offsets = new long[1024];
+    private int[] lengths = new int[1024];
+
+    /**
+     * Opens the file and builds the index in memory, for a file encoded in {@link StandardCharsets#UTF_8}.
+     *
+     * @param file   the batch file
+     * @param format the file format
+     * @throws IOException if an error occurs reading the file
+     */
+    public MappedBatchReader(final File file, final BatchFormat format) throws IOException {
+        this(file, format, StandardCharsets.UTF_8, false);
+    }
+
+    /**
+     * Opens the file and builds the index, or loads a previously saved index.
+     *
+     * @param file         the batch file
+     * @param format       the file format
+     * @param charset      the file content charset, must be ASCII compatible
+     * @param persistIndex if true, the index is loaded from the index file if it exists and is up to date; or
+     *                     otherwise it is built and saved to the index file
+     * @throws IOException if an error occurs reading the file
+     */
+    public MappedBatchReader(
+            final File file, final BatchFormat format, final Charset charset, final boolean persistIndex)
+            throws IOException {
+        this.file = Objects.requireNonNull(file, "file must not be null");
+        this.format = Objects.requireNonNull(format, "format must not be null");
+        this.charset = Objects.requireNonNull(charset, "charset must not be null");
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            final File indexFile = getIndexFile(file);
+            if (!persistIndex || !loadIndex(indexFile)) {
+                buildIndex();
+                if (persistIndex) {
+                    saveIndex(indexFile);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @param file a batch file
+     * @return the file where the index of the given batch file is saved, with the ".idx" suffix
+     */
+    public static File getIndexFile(final File file) {
+        return new File(file.getPath() + ".idx");
+    }
+
+    /**
+     * @return the number of messages in the file
+     */
+    public int count() {
+        return this.count;
+    }
+
+    /**
+     * Reads the raw content of a message.
+     *
+     * @param n the zero based message position
+     * @return the message content
+     * @throws IndexOutOfBoundsException if n is not a valid message position
+     * @throws UncheckedIOException      if an error occurs reading the file
+     */
+    public String get(final int n) {
+        if (n < 0 || n >= this.count) {
+            throw new IndexOutOfBoundsException("message " + n + " out of bounds for " + this.count + " messages");
+        }
+        final ByteBuffer bytes = ByteBuffer.allocate(this.lengths[n]);
+        try {
+            long position = this.offsets[n];
+            while (bytes.hasRemaining()) {
+                final int read = this.channel.read(bytes, position);
+                if (read < 0) {
+                    throw new EOFException("file " + this.file + " was truncated after the index was built");
+                }
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(bytes.array(), 0, bytes.capacity(), this.charset);
+    }
+
+    /**
+     * Reads and parses a message.
+     *
+     * @param n the zero based message position
+     * @return the parsed message
+     * @throws IndexOutOfBoundsException if n is not a valid message position
+     * @throws IOException               if an error occurs reading the file or parsing the message
+     */
+    public SwiftMessage getSwiftMessage(final int n) throws IOException {
+        try {
+            return SwiftMessage.parse(get(n));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @param n the zero based message position
+     * @return the position of the message first byte in the file
+     * @throws IndexOutOfBoundsException if n is not a valid message position
+     */
+    public long getOffset(final int n) {
+        if (n < 0 || n >= this.count) {
+            throw new IndexOutOfBoundsException("message " + n + " out of bounds for " + this.count + " messages");
+        }
+        return this.offsets[n];
+    }
+
+    /**
+     * @return an iterator over the raw content of all the messages
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return iterator(0, this.count);
+    }
+
+    /**
+     * Iterates a range of messages.
+     *
+     * @param from the first message position, inclusive
+     * @param to   the last message position, exclusive
+     * @return an iterator over the raw content of the messages in the range
+     * @throws IndexOutOfBoundsException if the range is not within the messages count
+     */
+    public Iterator<String> iterator(final int from, final int to) {
+        if (from < 0 || to > this.count || from > to) {
+            throw new IndexOutOfBoundsException(
+                    "range " + from + " to " + to + " out of bounds for " + this.count + " messages");
+        }
+        return new Iterator<String>() {
+            private int next = from;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < to;
+            }
+
+            @Override
+            public String next() {
+                if (this.next >= to) {
+                    throw new NoSuchElementException();
+                }
+                return get(this.next++);
+            }
+        };
+    }
+
+    /**
+     * Returns a stream with the raw content of all the messages. The stream is sized and splits in halves at message
+     * boundaries, so it is suitable for parallel processing.
+     *
+     * @return a sequential ordered stream of the raw messages
+     * @throws UncheckedIOException from the stream terminal operation, if an error occurs reading the file
+     * @since 9.5.6
+     */
+    public Stream<String> stream() {
+        return stream(0, this.count);
+    }
+
+    /**
+     * Returns a stream with the raw content of a range of messages.
+     *
+     * @param from the first message position, inclusive
+     * @param to   the last message position, exclusive
+     * @return a sequential ordered stream of the raw messages in the range
+     * @throws IndexOutOfBoundsException if the range is not within the messages count
+     * @see #stream()
+     * @since 9.5.6
+     */
+    public Stream<String> stream(final int from, final int to) {
+        if (from < 0 || to > this.count || from > to) {
+            throw new IndexOutOfBoundsException(
+                    "range " + from + " to " + to + " out of bounds for " + this.count + " messages");
+        }
+        return StreamSupport.stream(new RangeSpliterator(from, to), false);
+    }
+
+    /**
+     * Returns a stream with all the messages parsed, as done by {@link AbstractReader#nextSwiftMessage()}.
+     *
+     * @return a sequential ordered stream of the parsed messages
+     * @throws UncheckedIOException from the stream terminal operation, if a message cannot be read or parsed
+     * @see #stream()
+     * @since 9.5.6
+     */
+    public Stream<SwiftMessage> messageStream() {
+        return AbstractReader.messageStream(stream());
+    }
+
+    /**
+     * Returns a stream with all the messages parsed into MTs as done by {@link AbstractReader#nextMT()}, skipping
+     * the messages with no MT representation.
+     *
+     * @return a sequential ordered stream of the parsed messages
+     * @throws UncheckedIOException from the stream terminal operation, if a message cannot be read or parsed
+     * @see #stream()
+     * @since 9.5.6
+     */
+    public Stream<AbstractMT> mtStream() {
+        return AbstractReader.mtStream(messageStream(), getClass());
+    }
+
+    /**
+     * @return the batch file
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * @return the batch file format
+     */
+    public BatchFormat getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Closes the file
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * Scans the file content, recording the start and end position of every non blank message
+     */
+    private void buildIndex() throws IOException {
+        final long size = this.channel.size();
+        final boolean ppc = this.format == BatchFormat.PPC;
+        // in RJE files the content before the first delimiter is already a message
+        boolean inMessage = !ppc;
+        long first = -1;
+        long last = -1;
+        for (long regionStart = 0; regionStart < size; regionStart += REGION_SIZE) {
+            final int regionSize = (int) Math.min(REGION_SIZE, size - regionStart);
+            final MappedByteBuffer region = this.channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionSize);
+            for (int i = 0; i < regionSize; i++) {
+                final byte b = region.get(i);
+                if (!inMessage) {
+                    if (b == PPCReader.BEGIN) {
+                        inMessage = true;
+                        first = -1;
+                    }
+                } else if (ppc ? b == PPCReader.END : b == RJEReader.SPLITCHAR) {
+                    add(first, last);
+                    inMessage = !ppc;
+                    first = -1;
+                } else if ((b & 0xFF) > ' ') {
+                    if (first < 0) {
+                        first = regionStart + i;
+                    }
+                    last = regionStart + i;
+                }
+            }
+        }
+        if (inMessage) {
+            add(first, last);
+        }
+    }
+
+    private void add(final long first, final long last) {
+        if (first < 0) {
+            // blank message
+            return;
+        }
+        if (last - first >= Integer.MAX_VALUE) {
+            throw new IllegalStateException("message at offset " + first + " is too large");
+        }
+        if (this.count == this.offsets.length) {
+            this.offsets = Arrays.copyOf(this.offsets, this.count * 2);
+            this.lengths = Arrays.copyOf(this.lengths, this.count * 2);
+        }
+        this.offsets[this.count] = first;
+        this.lengths[this.count] = (int) (last - first + 1);
+        this.count++;
+    }
+
+    /**
+     * Spliterator over a range of message positions, splitting in halves
+     */
+    private class RangeSpliterator implements Spliterator<String> {
+        private int next;
+        private final int to;
+
+        RangeSpliterator(final int from, final int to) {
+            this.next = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super String> action) {
+            if (this.next >= this.to) {
+                return false;
+            }
+            action.accept(get(this.next++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super String> action) {
+            while (this.next < this.to) {
+                action.accept(get(this.next++));
+            }
+        }
+
+        @Override
+        public Spliterator<String> trySplit() {
+            final int mid = (this.next + this.to) >>> 1;
+            if (mid <= this.next) {
+                return null;
+            }
+            final Spliterator<String> prefix = new RangeSpliterator(this.next, mid);
+            this.next = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.to - this.next;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    private boolean loadIndex(final File indexFile) {
+        if (!indexFile.isFile()) {
+            return false;
+        }
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile), 64 * 1024))) {
+            if (in.readInt() != INDEX_MAGIC
+                    || in.readInt() != INDEX_VERSION
+                    || in.readInt() != this.format.ordinal()
+                    || in.readLong() != this.file.length()
+                    || in.readLong() != this.file.lastModified()) {
+                return false;
+            }
+            final long fileLength = this.file.length();
+            final int n = in.readInt();
+            if (n < 0 || n > fileLength) {
+                log.warning("Ignoring index file " + indexFile + " with invalid message count " + n);
+                return false;
+            }
+            final long[] loadedOffsets = new long[Math.max(n, 1)];
+            final int[] loadedLengths = new int[Math.max(n, 1)];
+            for (int i = 0; i < n; i++) {
+                final long offset = in.readLong();
+                final int length = in.readInt();
+                if (offset < 0 || length < 0 || offset + length > fileLength) {
+                    log.warning("Ignoring index file " + indexFile + " with invalid entry " + i + " out of the file");
+                    return false;
+                }
+                loadedOffsets[i] = offset;
+                loadedLengths[i] = length;
+            }
+            this.offsets = loadedOffsets;
+            this.lengths = loadedLengths;
+            this.count = n;
+            return true;
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Ignoring invalid index file " + indexFile, e);
+            return false;
+        }
+    }
+
+    private void saveIndex(final File indexFile) {
+        try (DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile), 64 * 1024))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(INDEX_VERSION);
+            out.writeInt(this.format.ordinal());
+            out.writeLong(this.file.length());
+            out.writeLong(this.file.lastModified());
+            out.writeInt(this.count);
+            for (int i = 0; i < this.count; i++) {
+                out.writeLong(this.offsets[i]);
+                out.writeInt(this.lengths[i]);
+            }
+        } catch (IOException e) {
+            // the index is still usable in memory
+            log.log(Level.WARNING, "Cannot save index file " + indexFile, e);
+        }
+    }
+}
@@ -29,6 +29,12 @@ import java.nio.charset.Charset;
  * The reader can be created from a String but also from a Reader, File or Stream; thus when used as an iterator you
  * can iterate it just once, it is not re-entrant.
  *
+ * <p>
+ * The content is read in bulk, up to the next delimiter, and the end of the content is only assumed when the
+ * underlying reader reports it. Thus the reader can be used with streams that do not have all the content available
+ * at once, such as pipes, sockets or a {@link java.util.zip.GZIPInputStream}, where {@link Reader#ready()} may
+ * return false before the end. No additional buffering is needed on the given Reader or InputStream.
+ *
  * @since 7.8
  */
 public class RJEReader extends AbstractReader {
@@ -36,6 +42,13 @@ public class RJEReader extends AbstractReader {
 
     private char splitChar = SPLITCHAR;
 
+    private int bufferSize = BatchSplitter.BUFFER_SIZE;
+
+    /**
+     * Created on first read, after the split char is set
+     */
+    private BatchSplitter splitter;
+
     /**
      * Constructs a RJEReader to read messages from a given Reader instance
      */
@@ -48,6 +61,7 @@ public class RJEReader extends AbstractReader {
      */
     public RJEReader(final String string) {
         super(string);
+        this.bufferSize = Math.min(string.length() + 1, BatchSplitter.BUFFER_SIZE);
     }
 
     public RJEReader(final InputStream stream) {
@@ -82,11 +96,13 @@ public class RJEReader extends AbstractReader {
      * Returns true if the iterator has more messages.
      * If the RJE file ends with a separator, this will return true, meaning the iteration will return a blank message
      * at the end.
+     *
+     * <p>This call may block until content is available in the underlying reader or its end is reached.
      */
     @Override
     public boolean hasNext() {
         try {
-            return reader.ready();
+            return splitter() != null && splitter.hasNext();
         } catch (IOException unused) {
             return false;
         }
@@ -94,29 +110,34 @@ public class RJEReader extends AbstractReader {
 
     /**
      * Returns the next message in the iterator in its raw format
+     *
+     * @return the message content trimmed, or null if there are no more messages or the content cannot be read
      */
     @Override
     public String next() {
-        if (reader != null) {
-            int c;
-            StringBuilder sb = new StringBuilder();
+        if (splitter() != null) {
             try {
-                while ((c = reader.read()) != -1 && c != splitChar) {
-                    sb.append((char) c);
-                }
-                if (c == -1) {
+                final String message = splitter.next();
+                if (splitter.isDone()) {
                     reader.close();
                 }
+                return message;
             } catch (IOException unused) {
                 return null;
             }
-            return sb.toString().trim();
         }
         return null;
     }
 
+    private BatchSplitter splitter() {
+        if (splitter == null && reader != null) {
+            splitter = new BatchSplitter(reader, BatchFormat.RJE, splitChar, bufferSize);
+        }
+        return splitter;
+    }
+
     /**
-     * Overwrites the default standard split char {@link #SPLITCHAR}
+     * Overwrites the default standard split char {@link #SPLITCHAR}. It must be set before reading any message.
      *
      * @param c a character to use as message separator
      * @since 7.9.7
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import com.prowidesoftware.swift.model.SwiftMessage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Push style parser for MT messages received in arbitrary chunks, for example from non-blocking sockets.
+ *
+ * <p>The content is fed with {@link #feed(CharBuffer)} or {@link #feed(ByteBuffer)} as it arrives. The parser keeps
+ * the partial message and the block state across chunks, and every time a message is complete it is delivered to
+ * the callback, either parsed into a {@link SwiftMessage} or as the raw FIN content (see {@link #raw(Consumer)}).
+ * Chunks can be split at any position, including within a tag, within the text block end sequence "\r\n-}" or within
+ * a multibyte UTF-8 character.
+ *
+ * <p>A message is considered complete when any of the following is found:
+ * <ul>
+ *     <li>an RJE message delimiter '$'</li>
+ *     <li>a PPC message delimiter, SOH (0x01) or ETX (0x03)</li>
+ *     <li>a new block 1 outside the message blocks, except for the original message appended to an ACK/NAK, that is
+ *     kept with the service message as the {@link SwiftParser} does</li>
+ *     <li>the end of input, notified with {@link #finish()}</li>
+ * </ul>
+ * The delimiters are not part of the FIN charsets, so they end the message even within an unterminated block.
+ * The message content is trimmed, as done by the {@link com.prowidesoftware.swift.io.RJEReader}, and blank content
+ * between messages is discarded.
+ *
+ * <p>The complete messages are parsed with a {@link SwiftParser} instance that is reused for all messages, so the
+ * parse configuration can be set with {@link #getConfiguration()}.
+ *
+ * <p>This class is not thread safe, each connection or stream should have its own instance.
+ *
+ * @since 9.5.6
+ */
+public class IncrementalSwiftParser {
+    private static final int BUFFER_SIZE = 8192;
+    private static final char SOH = 0x01;
+    private static final char ETX = 0x03;
+
+    private final Consumer<SwiftMessage> consumer;
+    private final Consumer<String> rawConsumer;
+    private final SwiftParser parser = new SwiftParser();
+
+    /**
+     * Content of the message being received
+     */
+    private char[] buffer = new char[BUFFER_SIZE];
+
+    private int length = 0;
+
+    /**
+     * Nesting level of braces in the current top level block, zero when outside blocks
+     */
+    private int depth = 0;
+
+    /**
+     * Position of the current top level block start in the buffer
+     */
+    private int blockStart = -1;
+
+    private boolean textBlock = false;
+    private int block1Count = 0;
+    private boolean ack = false;
+
+    private CharsetDecoder decoder;
+    private ByteBuffer pendingBytes;
+    private CharBuffer decoded;
+
+    /**
+     * Creates a parser that delivers each complete message parsed.
+     *
+     * @param consumer the callback receiving the parsed messages
+     * @throws NullPointerException if the consumer is null
+     */
+    public IncrementalSwiftParser(final Consumer<SwiftMessage> consumer) {
+        this(Objects.requireNonNull(consumer, "the message consumer cannot be null"), null);
+    }
+
+    private IncrementalSwiftParser(final Consumer<SwiftMessage> consumer, final Consumer<String> rawConsumer) {
+        this.consumer = consumer;
+        this.rawConsumer = rawConsumer;
+    }
+
+    /**
+     * Creates a parser that delivers the raw content of each complete message, without parsing it.
+     *
+     * @param consumer the callback receiving the raw messages
+     * @return a new parser
+     * @throws NullPointerException if the consumer is null
+     */
+    public static IncrementalSwiftParser raw(final Consumer<String> consumer) {
+        return new IncrementalSwiftParser(null, Objects.requireNonNull(consumer, "the raw consumer cannot be null"));
+    }
+
+    /**
+     * Feeds the parser with the next chunk of content. All the remaining chars in the buffer are consumed.
+     *
+     * @param chunk the content chunk
+     * @throws IllegalArgumentException if a complete message cannot be parsed and the configuration is not lenient
+     */
+    public void feed(final CharBuffer chunk) {
+        while (chunk.hasRemaining()) {
+            accept(chunk.get());
+        }
+    }
+
+    /**
+     * Feeds the parser with the next chunk of content encoded in UTF-8. All the remaining bytes in the buffer are
+     * consumed, and an incomplete multibyte character at the end of the chunk is kept until the next chunk arrives.
+     *
+     * @param chunk the content chunk
+     * @throws IllegalArgumentException if a complete message cannot be parsed and the configuration is not lenient
+     */
+    public void feed(final ByteBuffer chunk) {
+        if (this.decoder == null) {
+            this.decoder = StandardCharsets.UTF_8
+                    .newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.pendingBytes = ByteBuffer.allocate(8);
+            this.decoded = CharBuffer.allocate(BUFFER_SIZE);
+        }
+        // complete the character split at the end of the previous chunk
+        while (this.pendingBytes.position() > 0 && chunk.hasRemaining()) {
+            this.pendingBytes.put(chunk.get());
+            this.pendingBytes.flip();
+            this.decoder.decode(this.pendingBytes, this.decoded, false);
+            this.pendingBytes.compact();
+            drainDecoded();
+        }
+        while (chunk.hasRemaining()) {
+            final boolean overflow =
+                    this.decoder.decode(chunk, this.decoded, false).isOverflow();
+            drainDecoded();
+            if (!overflow) {
+                // keep the incomplete character
+                this.pendingBytes.put(chunk);
+            }
+        }
+    }
+
+    /**
+     * Notifies the end of the input, delivering the pending content if any. After this call the parser can be
+     * reused for a new input.
+     *
+     * @throws IllegalArgumentException if the pending message cannot be parsed and the configuration is not lenient
+     */
+    public void finish() {
+        if (this.decoder != null) {
+            this.pendingBytes.flip();
+            this.decoder.decode(this.pendingBytes, this.decoded, true);
+            this.decoder.flush(this.decoded);
+            drainDecoded();
+            this.pendingBytes.clear();
+            this.decoder.reset();
+        }
+        this.depth = 0;
+        this.blockStart = -1;
+        this.textBlock = false;
+        this.block1Count = 0;
+        this.ack = false;
+        deliver(this.length);
+    }
+
+    /**
+     * @return the number of chars received and not yet delivered as part of a complete message
+     */
+    public int getPendingLength() {
+        return this.length;
+    }
+
+    /**
+     * Gets the configuration used to parse the complete messages.
+     *
+     * @return the parse configuration
+     */
+    public SwiftParserConfiguration getConfiguration() {
+        return this.parser.getConfiguration();
+    }
+
+    /**
+     * Gets the errors found while parsing the last delivered message. The list is only valid until the next message
+     * is parsed, so it should be checked from the callback.
+     *
+     * @return the errors found in the last parsed message
+     */
+    public List<String> getErrors() {
+        return this.parser.getErrors();
+    }
+
+    private void drainDecoded() {
+        this.decoded.flip();
+        feed(this.decoded);
+        this.decoded.clear();
+    }
+
+    private void accept(final char c) {
+        if (c == '$' || c == SOH || c == ETX) {
+            this.depth = 0;
+            this.textBlock = false;
+            this.block1Count = 0;
+            this.ack = false;
+            deliver(this.length);
+            return;
+        }
+        if (this.depth == 0) {
+            append(c);
+            if (c == '{') {
+                this.depth = 1;
+                this.blockStart = this.length - 1;
+                this.textBlock = false;
+            }
+            return;
+        }
+        append(c);
+        final int offset = this.length - 1 - this.blockStart;
+        if (this.depth == 1 && offset == 2 && c == ':') {
+            if (this.buffer[this.blockStart + 1] == '1') {
+                if (this.block1Count > 0 && !(this.ack && this.block1Count == 1)) {
+                    // a new message starts
+                    deliver(this.blockStart);
+                    this.block1Count = 0;
+                    this.ack = false;
+                }
+                this.block1Count++;
+            }
+        } else if (this.depth == 1 && offset == 3 && this.buffer[this.blockStart + 1] == '4') {
+            // same as the parser, a block 4 not starting with a nested block is a text block
+            this.textBlock = this.buffer[this.blockStart + 2] == ':' && c != '{' && c != '}';
+        }
+        if (this.textBlock) {
+            if (c == '}' && this.buffer[this.length - 2] == '-' && this.buffer[this.length - 3] == '\n') {
+                blockEnd();
+            }
+        } else if (c == '{') {
+            this.depth++;
+        } else if (c == '}' && --this.depth == 0) {
+            blockEnd();
+        }
+    }
+
+    private void blockEnd() {
+        this.depth = 0;
+        this.textBlock = false;
+        if (this.block1Count == 1
+                && this.buffer[this.blockStart + 1] == '1'
+                && this.length - this.blockStart > 5
+                && this.buffer[this.blockStart + 4] == '2'
+                && this.buffer[this.blockStart + 5] == '1') {
+            // service id 21, the original message is expected after the ACK/NAK
+            this.ack = true;
+        }
+    }
+
+    private void append(final char c) {
+        if (this.length == this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+        }
+        this.buffer[this.length++] = c;
+    }
+
+    /**
+     * Delivers the content up to the given position, and keeps the rest for the next message
+     */
+    private void deliver(final int end) {
+        int start = 0;
+        while (start < end && this.buffer[start] <= ' ') {
+            start++;
+        }
+        int trimmedEnd = end;
+        while (trimmedEnd > start && this.buffer[trimmedEnd - 1] <= ' ') {
+            trimmedEnd--;
+        }
+        final String fin = start == trimmedEnd ? null : new String(this.buffer, start, trimmedEnd - start);
+        // the content is discarded before the callback, so it is never delivered twice if an exception is thrown
+        System.arraycopy(this.buffer, end, this.buffer, 0, this.length - end);
+        this.length -= end;
+        this.blockStart -= end;
+        if (fin == null) {
+            return;
+        }
+        if (this.rawConsumer != null) {
+            this.rawConsumer.accept(fin);
+        } else {
+            this.parser.setData(fin);
+            final SwiftMessage message;
+            try {
+                message = this.parser.message();
+            } catch (IOException e) {
+                // not expected from in memory content
+                throw new UncheckedIOException(e);
+            }
+            this.consumer.accept(message);
+        }
+    }
+}
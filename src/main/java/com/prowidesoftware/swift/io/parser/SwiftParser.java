@@ -19,8 +19,12 @@ import com.prowidesoftware.ProwideException;
 import com.prowidesoftware.swift.model.*;
 import com.prowidesoftware.swift.utils.Lib;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 
@@ -44,8 +48,46 @@ public class SwiftParser {
      */
     private final List<String> errors = new ArrayList<>();
 
+    /**
+     * Initial size of the scan window used when {@link SwiftParserConfiguration#isBufferedScan()} is enabled
+     */
+    private static final int WINDOW_SIZE = 8192;
+
+    /**
+     * Maximum capacity of the internal buffers kept when the parser is reset for a new input. Buffers grown beyond
+     * this size by a large message are released, to avoid retaining memory in long-lived parser instances.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
     private Reader reader;
     private StringBuilder buffer;
+
+    /**
+     * Scan window for the buffered mode. Holds the input read in bulk from the reader, where the chars before
+     * {@link #windowPos} are the consumed ones (equivalent to the {@link #buffer} content in the char by char mode)
+     * and the chars between {@link #windowPos} and {@link #windowLimit} are read ahead but not yet consumed.
+     */
+    private char[] window;
+
+    private CharBuffer windowView;
+    private int windowPos = 0;
+    private int windowLimit = 0;
+
+    /**
+     * Raw input when the parser is fed with bytes. The block boundaries are found directly on the bytes, and the
+     * content is decoded only when creating the block strings.
+     */
+    private byte[] bytes;
+
+    private int bytesPos = 0;
+    private int bytesLimit = 0;
+    private AsciiSequence bytesView;
+
+    /**
+     * True when the whole input is already in the scan window. This is the case for string input, and for byte input
+     * decoded after a non-ASCII byte was found at a position where the block detection requires the actual chars.
+     */
+    private boolean decodedInput = false;
     /**
      * Reference to the current message being parsed.
      * This should be used when some parsing decision needs to be made based on a previous item parsed,
@@ -85,7 +127,8 @@ public class SwiftParser {
      * @param message the String with the swift message to read
      */
     public SwiftParser(final String message) {
-        this(new StringReader(message));
+        this();
+        setData(message);
     }
 
     /**
@@ -105,6 +148,49 @@ public class SwiftParser {
         this(Lib.readFile(messageFile));
     }
 
+    /**
+     * Constructor with a byte array for parsing a message encoded in {@link StandardCharsets#UTF_8}.
+     *
+     * <p>The block boundaries are found directly on the bytes, without decoding the whole content. For ASCII
+     * content, which is the expected for FIN messages, the strings are created straight from the bytes.
+     *
+     * @param data   the array containing the swift message to read
+     * @param offset position of the message start in the array
+     * @param length number of bytes to read
+     * @throws IndexOutOfBoundsException if the offset and length are out of the array bounds
+     * @since 9.5.6
+     */
+    public SwiftParser(final byte[] data, final int offset, final int length) {
+        this();
+        setData(data, offset, length);
+    }
+
+    /**
+     * Constructor with a byte buffer for parsing a message encoded in {@link StandardCharsets#UTF_8}.
+     *
+     * @param data buffer with the swift message to read between its current position and limit
+     * @see #SwiftParser(byte[], int, int)
+     * @since 9.5.6
+     */
+    public SwiftParser(final ByteBuffer data) {
+        this();
+        setData(data);
+    }
+
+    /**
+     * Constructor with a byte channel for parsing a message encoded in {@link StandardCharsets#UTF_8}.
+     * The channel is read until its end, but it is not closed.
+     *
+     * @param channel the channel to read the swift message from
+     * @throws IOException if an error occurs during read
+     * @see #SwiftParser(byte[], int, int)
+     * @since 9.5.6
+     */
+    public SwiftParser(final ReadableByteChannel channel) throws IOException {
+        this();
+        setData(channel);
+    }
+
     /**
      * Attempt to extract the block 2 type which should refer to an input or output message.
      *
@@ -250,17 +336,126 @@ public class SwiftParser {
      * @param r the reader to use
      */
     public void setReader(final Reader r) {
-        this.buffer = new StringBuilder();
+        if (this.buffer == null || this.buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            this.buffer = new StringBuilder();
+        } else {
+            this.buffer.setLength(0);
+        }
+        if (this.window != null && this.window.length > MAX_RETAINED_CAPACITY) {
+            this.window = null;
+            this.windowView = null;
+        }
+        this.windowPos = 0;
+        this.windowLimit = 0;
+        this.lastBlockStartOffset = 0;
+        this.bytes = null;
+        if (this.bytesView != null) {
+            this.bytesView.wrap(null);
+        }
+        this.decodedInput = false;
         this.reader = r;
     }
 
     /**
      * sets the input data to the received string.
+     * <p>Unless the string is very large, its content is copied to the internal scan window, that is reused between
+     * messages, so no reader is created.
      *
      * @param data the data to use as input
      */
     public void setData(final String data) {
-        setReader(new StringReader(data));
+        final int length = data.length();
+        if (length > MAX_RETAINED_CAPACITY) {
+            setReader(new StringReader(data));
+            return;
+        }
+        setReader(null);
+        if (this.window == null || this.window.length < length) {
+            this.window = new char[Math.max(WINDOW_SIZE, length)];
+            this.windowView = CharBuffer.wrap(this.window);
+        }
+        data.getChars(0, length, this.window, 0);
+        this.windowLimit = length;
+        this.decodedInput = true;
+    }
+
+    /**
+     * Resets the parser to its initial state, discarding the current input, the errors and the message being
+     * parsed. The configuration and the internal buffers are kept, so the same instance can be reused to parse a
+     * sequence of messages without allocating new buffers for each one.
+     * <p>The parser must be fed with new input calling any of the setData methods or {@link #setReader(Reader)}
+     * before parsing the next message.
+     *
+     * @since 9.5.6
+     */
+    public void reset() {
+        setReader(null);
+        this.errors.clear();
+        this.currentMessage = null;
+    }
+
+    /**
+     * sets the input data to the received bytes, encoded in {@link StandardCharsets#UTF_8}.
+     * The array is not copied, so it should not be modified while the message is parsed.
+     *
+     * @param data   the array containing the data to use as input
+     * @param offset position of the data start in the array
+     * @param length number of bytes to read
+     * @throws IndexOutOfBoundsException if the offset and length are out of the array bounds
+     * @since 9.5.6
+     */
+    public void setData(final byte[] data, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "offset " + offset + " and length " + length + " out of bounds for array of " + data.length);
+        }
+        setReader(null);
+        if (this.bytesView == null) {
+            this.bytesView = new AsciiSequence();
+        }
+        this.bytesView.wrap(data);
+        this.bytes = data;
+        this.bytesPos = offset;
+        this.bytesLimit = offset + length;
+    }
+
+    /**
+     * sets the input data to the remaining bytes of the received buffer, encoded in {@link StandardCharsets#UTF_8}.
+     * The buffer position is not modified. Array backed buffers are not copied, so the content should not be
+     * modified while the message is parsed.
+     *
+     * @param data buffer with the data to use as input between its current position and limit
+     * @since 9.5.6
+     */
+    public void setData(final ByteBuffer data) {
+        if (data.hasArray()) {
+            setData(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        } else {
+            final byte[] copy = new byte[data.remaining()];
+            data.duplicate().get(copy);
+            setData(copy, 0, copy.length);
+        }
+    }
+
+    /**
+     * sets the input data to the content of the received channel, encoded in {@link StandardCharsets#UTF_8}.
+     * The channel is read until its end, but it is not closed.
+     *
+     * @param channel the channel to read the data from
+     * @throws IOException if an error occurs during read
+     * @since 9.5.6
+     */
+    public void setData(final ReadableByteChannel channel) throws IOException {
+        ByteBuffer data = ByteBuffer.allocate(WINDOW_SIZE);
+        while (channel.read(data) >= 0) {
+            if (!data.hasRemaining()) {
+                final ByteBuffer larger = ByteBuffer.allocate(data.capacity() * 2);
+                data.flip();
+                larger.put(data);
+                data = larger;
+            }
+        }
+        setData(data.array(), 0, data.position());
     }
 
     /**
@@ -349,20 +544,7 @@ public class SwiftParser {
             utBuffer.append("{");
             utBuffer.append(s);
             utBuffer.append("}");
-            boolean done = false;
-
-            while (!done) {
-                // try to read a block of data
-                final char[] data = new char[128];
-                final int size = this.reader.read(data);
-                if (size > 0) {
-                    // append the read buffer
-                    utBuffer.append(data);
-                } else {
-                    // we are done
-                    done = true;
-                }
-            }
+            appendRemainingInput(utBuffer);
             final String unparsedText = utBuffer.toString();
 
             // build an unparsed text list
@@ -424,10 +606,15 @@ public class SwiftParser {
                 break;
             case '4': // block 4
                 if (this.configuration.isParseTextBlock()) {
-                    if (isTextBlock(s)) {
-                        b = consumeBlock4(new SwiftBlock4(), s);
+                    if (this.configuration.isLazyTextBlock() && this.currentMessage != null) {
+                        // keep the raw content to be parsed on first access
+                        b = new SwiftBlock4();
+                        this.currentMessage.setBlock4((SwiftBlock4) b, s, this.configuration);
                     } else {
-                        b = consumeTagListBlock(new SwiftBlock4(), s);
+                        b = consumeBlock4Content(new SwiftBlock4(), s);
+                        if (this.configuration.isCompactTextBlock()) {
+                            ((SwiftBlock4) b).compact();
+                        }
                     }
                 } else {
                     b = new SwiftBlock4();
@@ -573,6 +760,26 @@ public class SwiftParser {
         return b;
     }
 
+    /**
+     * Parses the block 4 content into the given block, as a text block or as a tag list block depending on the
+     * content format.
+     *
+     * <p>This is used for the deferred parsing of the block 4 when the lazy text block option is enabled.
+     *
+     * @param b the block to set up tags into
+     * @param s the block data to process, starting with the block identifier "4:"
+     * @return the processed block (the parameter b)
+     * @see SwiftParserConfiguration#isLazyTextBlock()
+     * @since 9.5.6
+     */
+    public SwiftBlock4 consumeBlock4Content(final SwiftBlock4 b, final String s) {
+        if (isTextBlock(s)) {
+            return consumeBlock4(b, s);
+        } else {
+            return (SwiftBlock4) consumeTagListBlock(b, s);
+        }
+    }
+
     /**
      * Parses a block 4 from an input string. This method supports the two possible formats of
      * a swift block 4:<br>
@@ -994,6 +1201,43 @@ public class SwiftParser {
         return list;
     }
 
+    /**
+     * Consumes all the remaining input, appending it to the given builder
+     *
+     * @param utBuffer where to append the input content
+     * @throws IOException if an error occurred during read
+     */
+    private void appendRemainingInput(final StringBuilder utBuffer) throws IOException {
+        if (this.bytes != null) {
+            utBuffer.append(decode(this.bytesPos, this.bytesLimit, false));
+            this.bytesPos = this.bytesLimit;
+            return;
+        }
+        if (this.decodedInput || this.configuration.isBufferedScan()) {
+            // append the read ahead content pending in the scan window
+            if (this.window != null) {
+                utBuffer.append(this.window, this.windowPos, this.windowLimit - this.windowPos);
+                this.windowPos = this.windowLimit;
+            }
+            if (this.decodedInput) {
+                return;
+            }
+        }
+        boolean done = false;
+        final char[] data = new char[128];
+        while (!done) {
+            // try to read a block of data
+            final int size = this.reader.read(data);
+            if (size > 0) {
+                // append the read buffer
+                utBuffer.append(data, 0, size);
+            } else {
+                // we are done
+                done = true;
+            }
+        }
+    }
+
     /**
      * Identify the block to be consumed.
      *
@@ -1029,6 +1273,12 @@ public class SwiftParser {
      * @throws IOException if an error occurred during read
      */
     protected String readUntilBlockEnds() throws IOException {
+        if (this.bytes != null) {
+            return readUntilBlockEndsBytes();
+        }
+        if (this.decodedInput || this.configuration.isBufferedScan()) {
+            return readUntilBlockEndsBuffered();
+        }
         final int start = buffer == null ? 0 : buffer.length();
         int len = 0;
         int c;
@@ -1102,10 +1352,62 @@ public class SwiftParser {
         }
     }
 
+    /**
+     * Same as {@link #readUntilBlockEnds()} but scanning the window by index instead of consuming the reader char by
+     * char. The block boundaries and the reported errors are exactly the same.
+     */
+    private String readUntilBlockEndsBuffered() throws IOException {
+        final int start = this.windowPos;
+        boolean checkNested = true;
+        int starts = 1;
+        int count = 0;
+        Boolean isTextBlock = null;
+        int end = -1;
+
+        // iterate until proper block end or EOF
+        while (end < 0) {
+            if (this.windowPos == this.windowLimit && !fillWindow()) {
+                // if we have read something and we reach the end of file without a proper closing bracket
+                if (this.windowPos > start) {
+                    final String error = "Missing or invalid closing bracket in block " + this.window[start];
+                    if (configuration.isLenient()) {
+                        this.errors.add(error);
+                    } else {
+                        throw new IllegalArgumentException(error);
+                    }
+                }
+                end = this.windowPos;
+            } else {
+                final char c = this.window[this.windowPos++];
+                // check if we can set the textblock flag first
+                if (isTextBlock == null && count++ >= 3) {
+                    isTextBlock = this.lastBlockStartOffset >= 0
+                            && this.windowPos > this.lastBlockStartOffset
+                            && isTextBlock(this.windowView, this.lastBlockStartOffset, this.windowPos);
+                    if (isTextBlock) {
+                        checkNested = false;
+                    }
+                }
+                if (checkNested && c == '{') {
+                    this.lastBlockStartOffset = this.windowPos - 1;
+                    starts++;
+                }
+                if (c == '}'
+                        && (isTextBlock == null
+                                || !isTextBlock
+                                || this.window[this.windowPos - 3] == '\n' && this.window[this.windowPos - 2] == '-')
+                        && (!checkNested || --starts == 0)) {
+                    end = this.windowPos - 1;
+                }
+            }
+        }
+        return new String(this.window, start, end - start);
+    }
+
     private boolean isTextBlock() {
         // hack to report as block4 only text blocks 4, check data in buffer
         if (this.lastBlockStartOffset >= 0 && buffer.length() > this.lastBlockStartOffset) {
-            return isTextBlock(buffer.substring(this.lastBlockStartOffset));
+            return isTextBlock(buffer, this.lastBlockStartOffset, buffer.length());
         }
         return false;
     }
@@ -1114,23 +1416,31 @@ public class SwiftParser {
      * Determines if the given string is the start of a textblock
      */
     private boolean isTextBlock(final String s) {
+        return isTextBlock(s, 0, s.length());
+    }
+
+    /**
+     * Determines if the given char sequence, between the from (inclusive) and to (exclusive) indexes, is the start
+     * of a textblock
+     */
+    private static boolean isTextBlock(final CharSequence s, final int from, final int to) {
         // hack to report as block4 only text blocks 4 , check data in buffer
-        if (s.length() < 3) {
+        if (to - from < 3) {
             return false;
         }
         final int offset;
-        if (s.charAt(0) == '{') {
+        if (s.charAt(from) == '{') {
             offset = 1;
         } else {
             offset = 0;
         }
-        final char c1 = s.charAt(offset);
-        final char c2 = s.charAt(offset + 1);
+        final char c1 = s.charAt(from + offset);
+        final char c2 = s.charAt(from + offset + 1);
         if (c1 == '4' && c2 == ':') {
             int c = offset + 2;
             char tmp;
-            while (offset + c < s.length()) {
-                tmp = s.charAt(offset + c);
+            while (from + offset + c < to) {
+                tmp = s.charAt(from + offset + c);
                 c++;
                 if (tmp == '{') {
                     return false;
@@ -1167,6 +1477,12 @@ public class SwiftParser {
      * @throws IOException if thrown during read
      */
     protected String findBlockStart() throws IOException {
+        if (this.bytes != null) {
+            return findBlockStartBytes();
+        }
+        if (this.decodedInput || this.configuration.isBufferedScan()) {
+            return findBlockStartBuffered();
+        }
         final StringBuilder textUntilBlock = new StringBuilder();
         int c;
         do {
@@ -1184,6 +1500,191 @@ public class SwiftParser {
         return textUntilBlock.length() > 0 ? textUntilBlock.toString() : StringUtils.EMPTY;
     }
 
+    /**
+     * Same as {@link #findBlockStart()} but scanning the window by index instead of consuming the reader char by char.
+     */
+    private String findBlockStartBuffered() throws IOException {
+        compactWindow();
+        final int from = this.windowPos;
+        while (true) {
+            for (; this.windowPos < this.windowLimit; this.windowPos++) {
+                if (this.window[this.windowPos] == '{') {
+                    this.lastBlockStartOffset = this.windowPos++;
+                    return this.lastBlockStartOffset > from
+                            ? new String(this.window, from, this.lastBlockStartOffset - from)
+                            : StringUtils.EMPTY;
+                }
+            }
+            if (!fillWindow()) {
+                return this.windowPos > from ? new String(this.window, from, this.windowPos - from) : StringUtils.EMPTY;
+            }
+        }
+    }
+
+    /**
+     * Reads the next chunk of data from the reader into the scan window, growing the window if it is full.
+     *
+     * @return true if some data was read, false if the end of the input was reached
+     * @throws IOException if an error occurs during read
+     */
+    private boolean fillWindow() throws IOException {
+        if (this.decodedInput) {
+            // the whole input is already in the window
+            return false;
+        }
+        if (this.window == null) {
+            this.window = new char[WINDOW_SIZE];
+            this.windowView = CharBuffer.wrap(this.window);
+        } else if (this.windowLimit == this.window.length) {
+            this.window = Arrays.copyOf(this.window, this.window.length * 2);
+            this.windowView = CharBuffer.wrap(this.window);
+        }
+        int read;
+        do {
+            read = this.reader.read(this.window, this.windowLimit, this.window.length - this.windowLimit);
+        } while (read == 0);
+        if (read > 0) {
+            this.windowLimit += read;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Discards the already consumed content from the scan window. This is only safe when no block is being read,
+     * meaning right before looking for the next block start.
+     */
+    private void compactWindow() {
+        if (this.windowPos > 0 && this.windowPos >= this.windowLimit / 2) {
+            System.arraycopy(this.window, this.windowPos, this.window, 0, this.windowLimit - this.windowPos);
+            this.windowLimit -= this.windowPos;
+            this.lastBlockStartOffset -= this.windowPos;
+            this.windowPos = 0;
+        }
+    }
+
+    /**
+     * Same as {@link #findBlockStart()} but scanning the byte input.
+     */
+    private String findBlockStartBytes() {
+        final int from = this.bytesPos;
+        boolean ascii = true;
+        for (; this.bytesPos < this.bytesLimit; this.bytesPos++) {
+            final byte b = this.bytes[this.bytesPos];
+            if (b == '{') {
+                this.lastBlockStartOffset = this.bytesPos++;
+                return decode(from, this.lastBlockStartOffset, ascii);
+            } else if (b < 0) {
+                ascii = false;
+            }
+        }
+        return decode(from, this.bytesPos, ascii);
+    }
+
+    /**
+     * Same as {@link #readUntilBlockEnds()} but scanning the byte input.
+     *
+     * <p>The block delimiters are ASCII chars, and in UTF-8 an ASCII byte always represents an ASCII char, so the
+     * boundaries can be found on the bytes. The only exception is the text block detection made right after the
+     * block start, that relies on the chars position; if a non-ASCII byte is found at that point, the remaining input
+     * is decoded and the block is read from the chars.
+     */
+    private String readUntilBlockEndsBytes() throws IOException {
+        final int start = this.bytesPos;
+        final int blockStartOffset = this.lastBlockStartOffset;
+        boolean checkNested = true;
+        int starts = 1;
+        int count = 0;
+        Boolean isTextBlock = null;
+        boolean ascii = true;
+        int end = -1;
+
+        // iterate until proper block end or EOF
+        while (end < 0) {
+            if (this.bytesPos == this.bytesLimit) {
+                // if we have read something and we reach the end of file without a proper closing bracket
+                if (this.bytesPos > start) {
+                    final String error = "Missing or invalid closing bracket in block " + (char) this.bytes[start];
+                    if (configuration.isLenient()) {
+                        this.errors.add(error);
+                    } else {
+                        throw new IllegalArgumentException(error);
+                    }
+                }
+                end = this.bytesPos;
+            } else {
+                final byte c = this.bytes[this.bytesPos++];
+                if (c < 0) {
+                    if (isTextBlock == null) {
+                        this.bytesPos = start;
+                        this.lastBlockStartOffset = blockStartOffset;
+                        decodeRemainingInput();
+                        return readUntilBlockEndsBuffered();
+                    }
+                    ascii = false;
+                }
+                // check if we can set the textblock flag first
+                if (isTextBlock == null && count++ >= 3) {
+                    isTextBlock = this.lastBlockStartOffset >= 0
+                            && this.bytesPos > this.lastBlockStartOffset
+                            && isTextBlock(this.bytesView, this.lastBlockStartOffset, this.bytesPos);
+                    if (isTextBlock) {
+                        checkNested = false;
+                    }
+                }
+                if (checkNested && c == '{') {
+                    this.lastBlockStartOffset = this.bytesPos - 1;
+                    starts++;
+                }
+                if (c == '}'
+                        && (isTextBlock == null
+                                || !isTextBlock
+                                || this.bytes[this.bytesPos - 3] == '\n' && this.bytes[this.bytesPos - 2] == '-')
+                        && (!checkNested || --starts == 0)) {
+                    end = this.bytesPos - 1;
+                }
+            }
+        }
+        return decode(start, end, ascii);
+    }
+
+    /**
+     * Creates a string from the byte input
+     *
+     * @param from  start position (inclusive)
+     * @param to    end position (exclusive)
+     * @param ascii true if the content is known to be all ASCII and can be copied without decoding
+     */
+    private String decode(final int from, final int to, final boolean ascii) {
+        if (to <= from) {
+            return StringUtils.EMPTY;
+        }
+        return new String(this.bytes, from, to - from, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Switches from the byte input to the scan window, decoding all the remaining bytes from the current block start.
+     * The content before the current position is expected to be ASCII (block start), so the current offsets are
+     * still valid for the decoded chars.
+     */
+    private void decodeRemainingInput() {
+        final int base = this.lastBlockStartOffset >= 0 && this.lastBlockStartOffset < this.bytesPos
+                ? this.lastBlockStartOffset
+                : this.bytesPos;
+        final CharBuffer decoded =
+                StandardCharsets.UTF_8.decode(ByteBuffer.wrap(this.bytes, base, this.bytesLimit - base));
+        if (this.window == null || this.window.length < decoded.remaining()) {
+            this.window = new char[Math.max(WINDOW_SIZE, decoded.remaining())];
+            this.windowView = CharBuffer.wrap(this.window);
+        }
+        this.windowLimit = decoded.remaining();
+        decoded.get(this.window, 0, this.windowLimit);
+        this.windowPos = this.bytesPos - base;
+        this.lastBlockStartOffset -= base;
+        this.bytes = null;
+        this.decodedInput = true;
+    }
+
     private boolean isBlockStart(final char c) {
         if (c == '{') {
             lastBlockStartOffset = buffer.length() - 1;
@@ -1236,4 +1737,36 @@ public class SwiftParser {
     public void setConfiguration(final SwiftParserConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    /**
+     * Read only char sequence view of an ASCII byte array
+     */
+    private static final class AsciiSequence implements CharSequence {
+        private byte[] data;
+
+        AsciiSequence wrap(final byte[] data) {
+            this.data = data;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return data.length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return (char) (data[index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return new String(data, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public String toString() {
+            return new String(data, StandardCharsets.ISO_8859_1);
+        }
+    }
 }
@@ -27,6 +27,9 @@ public class SwiftParserConfiguration {
     private boolean parseTextBlock = true;
     private boolean parseTrailerBlock = true;
     private boolean parseUserBlock = true;
+    private boolean bufferedScan = true;
+    private boolean lazyTextBlock = false;
+    private boolean compactTextBlock = false;
 
     /**
      * Indicates whether the parser is permissive or not. Defaults to true, meaning the parser will do a best effort
@@ -85,4 +88,79 @@ public class SwiftParserConfiguration {
     public void setParseUserBlock(final boolean parseUserBlock) {
         this.parseUserBlock = parseUserBlock;
     }
+
+    /**
+     * Indicates whether the parser reads the input in bulk into an internal char window and finds the block
+     * boundaries by index, instead of consuming the reader char by char. Defaults to true.
+     *
+     * <p>Both modes produce exactly the same message structure and parsing errors. The only difference is the
+     * buffered mode may read ahead from the reader beyond the end of the last consumed block, so it should be
+     * disabled if the reader is shared and expected to be positioned right after the parsed content.
+     *
+     * @since 9.5.6
+     */
+    public boolean isBufferedScan() {
+        return bufferedScan;
+    }
+
+    /**
+     * @see #isBufferedScan()
+     * @since 9.5.6
+     */
+    public void setBufferedScan(final boolean bufferedScan) {
+        this.bufferedScan = bufferedScan;
+    }
+
+    /**
+     * Defines if the text block (block 4) will be parsed on demand. Defaults to false.
+     *
+     * <p>When set to true, the parser keeps the raw block 4 content in the message and parses it into tags the
+     * first time the block is accessed with {@link com.prowidesoftware.swift.model.SwiftMessage#getBlock4()},
+     * either directly or through any API that reads the block 4 tags, or when the message is visited. The FIN
+     * serialization writes the raw content as is, without parsing it.
+     *
+     * <p>This option is useful when only the header blocks are used for most of the parsed messages. Notice that in
+     * this mode any exception thrown by the text block parsing will be thrown on the block first access instead.
+     * The deferred parse is done by a new {@link SwiftParser} with this configuration, so the block 4 parse of a
+     * parser subclass is not used, and the errors found are logged instead of added to the parser errors.
+     *
+     * <p>This option has no effect if {@link #isParseTextBlock()} is false.
+     *
+     * @since 9.5.6
+     */
+    public boolean isLazyTextBlock() {
+        return lazyTextBlock;
+    }
+
+    /**
+     * @see #isLazyTextBlock()
+     * @since 9.5.6
+     */
+    public void setLazyTextBlock(final boolean lazyTextBlock) {
+        this.lazyTextBlock = lazyTextBlock;
+    }
+
+    /**
+     * Defines if the parsed text block (block 4) will be kept in the compact storage described in
+     * {@link com.prowidesoftware.swift.model.SwiftTagListBlock#compact()}. Defaults to false.
+     *
+     * <p>This option is useful when many parsed messages with large text blocks are kept in memory, such as
+     * statements or securities messages with hundreds of fields. Notice the tags are created on each access to the
+     * block, so it is not recommended for messages that are read intensively right after parsing.
+     *
+     * <p>This option has no effect if {@link #isParseTextBlock()} is false or if {@link #isLazyTextBlock()} is true.
+     *
+     * @since 9.5.6
+     */
+    public boolean isCompactTextBlock() {
+        return compactTextBlock;
+    }
+
+    /**
+     * @see #isCompactTextBlock()
+     * @since 9.5.6
+     */
+    public void setCompactTextBlock(final boolean compactTextBlock) {
+        this.compactTextBlock = compactTextBlock;
+    }
 }
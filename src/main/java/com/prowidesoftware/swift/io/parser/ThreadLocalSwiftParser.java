@@ -0,0 +1,152 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import com.prowidesoftware.swift.model.SwiftMessage;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Parses MT messages reusing a {@link SwiftParser} instance confined to the calling thread.
+ *
+ * <p>Each thread gets its own parser, created on first use, that is reset and fed with the new content on every call.
+ * This avoids the per message setup of the parser, its configuration and its internal buffers, that are kept between
+ * calls. It is intended for worker threads parsing large volumes of messages, and it is opt-in: the
+ * {@link SwiftMessage#parse(String)} and {@code AbstractMT.parse(String)} methods create a new parser on each call.
+ *
+ * <p>Reentrant calls from the same thread, while the thread parser is in use, are served with a new parser instance.
+ * Since the parser is kept until the thread ends, threads from pools that outlive the application, such as in
+ * application servers, should call {@link #remove()} when done.
+ *
+ * @since 9.5.6
+ */
+public final class ThreadLocalSwiftParser {
+
+    private static final ThreadLocal<Holder> HOLDER = ThreadLocal.withInitial(Holder::new);
+
+    // Suppress default constructor for noninstantiability
+    private ThreadLocalSwiftParser() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Parses the FIN content with the default parser configuration.
+     *
+     * @param fin a string containing a swift MT message
+     * @return the parsed message
+     * @throws IOException if an error occurs in the parser during reading
+     * @see SwiftParser#message()
+     */
+    public static SwiftMessage parse(final String fin) throws IOException {
+        return parse(fin, null);
+    }
+
+    /**
+     * Parses the FIN content with the given parser configuration.
+     *
+     * @param fin           a string containing a swift MT message
+     * @param configuration the parser configuration, or null to use the default one
+     * @return the parsed message
+     * @throws IOException if an error occurs in the parser during reading
+     * @see SwiftParser#message()
+     */
+    public static SwiftMessage parse(final String fin, final SwiftParserConfiguration configuration)
+            throws IOException {
+        Objects.requireNonNull(fin, "the FIN content cannot be null");
+        final Holder holder = HOLDER.get();
+        if (holder.inUse) {
+            final SwiftParser parser = new SwiftParser(fin);
+            return message(parser, configuration);
+        }
+        holder.inUse = true;
+        try {
+            holder.parser.setData(fin);
+            return message(holder, configuration);
+        } finally {
+            holder.release();
+        }
+    }
+
+    /**
+     * Parses the FIN content, encoded in UTF-8, with the default parser configuration.
+     *
+     * @param fin the bytes of a swift MT message
+     * @return the parsed message
+     * @throws IOException if an error occurs in the parser during reading
+     * @see SwiftParser#SwiftParser(byte[], int, int)
+     */
+    public static SwiftMessage parse(final byte[] fin) throws IOException {
+        return parse(fin, null);
+    }
+
+    /**
+     * Parses the FIN content, encoded in UTF-8, with the given parser configuration.
+     *
+     * @param fin           the bytes of a swift MT message
+     * @param configuration the parser configuration, or null to use the default one
+     * @return the parsed message
+     * @throws IOException if an error occurs in the parser during reading
+     * @see SwiftParser#SwiftParser(byte[], int, int)
+     */
+    public static SwiftMessage parse(final byte[] fin, final SwiftParserConfiguration configuration)
+            throws IOException {
+        Objects.requireNonNull(fin, "the FIN content cannot be null");
+        final Holder holder = HOLDER.get();
+        if (holder.inUse) {
+            final SwiftParser parser = new SwiftParser(fin, 0, fin.length);
+            return message(parser, configuration);
+        }
+        holder.inUse = true;
+        try {
+            holder.parser.setData(fin, 0, fin.length);
+            return message(holder, configuration);
+        } finally {
+            holder.release();
+        }
+    }
+
+    /**
+     * Discards the parser of the calling thread, releasing its buffers.
+     */
+    public static void remove() {
+        HOLDER.remove();
+    }
+
+    private static SwiftMessage message(final Holder holder, final SwiftParserConfiguration configuration)
+            throws IOException {
+        holder.parser.setConfiguration(configuration != null ? configuration : holder.defaults);
+        return holder.parser.message();
+    }
+
+    private static SwiftMessage message(final SwiftParser parser, final SwiftParserConfiguration configuration)
+            throws IOException {
+        if (configuration != null) {
+            parser.setConfiguration(configuration);
+        }
+        return parser.message();
+    }
+
+    private static final class Holder {
+        private final SwiftParser parser = new SwiftParser();
+        private final SwiftParserConfiguration defaults = parser.getConfiguration();
+        private boolean inUse;
+
+        private void release() {
+            parser.reset();
+            inUse = false;
+        }
+    }
+}
@@ -239,6 +239,17 @@ public class FINWriterVisitor implements IMessageVisitor {
         write((this.block4asText ? "-" : "") + "}");
     }
 
+    /**
+     * Writes a block 4 from its raw content, as kept by the parser for the lazy text block option.
+     * This is called instead of the block 4 start, tags and end callbacks.
+     *
+     * @param text the raw block content starting with "4:", as returned by {@link SwiftMessage#getBlock4Text()}
+     * @since 9.5.6
+     */
+    public void block4Text(String text) {
+        write("{" + text + "}");
+    }
+
     ////////////////////////////////////////////////////////////
     //
     // BLOCK 5
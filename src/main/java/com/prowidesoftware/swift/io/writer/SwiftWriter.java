@@ -92,7 +92,12 @@ public class SwiftWriter {
             copy.setBlock1(msg.getBlock1());
             copy.setBlock2(msg.getBlock2());
             copy.setBlock3(msg.getBlock3());
-            copy.setBlock4(msg.getBlock4());
+            if (msg.getBlock4Text() != null && !trimTagValues) {
+                // keep the block 4 raw content pending, so it can be written without parsing
+                copy.setBlock4(new SwiftBlock4(), msg.getBlock4Text(), null);
+            } else {
+                copy.setBlock4(msg.getBlock4());
+            }
             copy.setBlock5(msg.getBlock5());
             copy.setUnparsedTexts(msg.getUnparsedTexts());
             if (msg.getUserBlocks() != null) {
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.model.field.AmountContainer;
+import com.prowidesoftware.swift.model.field.Field;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Sums amounts per currency, for example to balance statements or to net payments.
+ *
+ * <p>Each currency total is kept as a long unscaled value and a scale, so adding the amounts of fields does not create
+ * BigDecimal instances. The scale of a total is the largest scale of the amounts added for that currency. If a total no
+ * longer fits in a long, that currency total continues as a BigDecimal.
+ *
+ * <p>This class is not thread safe.
+ *
+ * <pre>
+ * AmountAccumulator totals = new AmountAccumulator();
+ * for (Field32A f : mt.getField32A()) {
+ *     totals.add(f);
+ * }
+ * BigDecimal usd = totals.getTotal("USD");
+ * </pre>
+ *
+ * @see ScaledAmount
+ * @since 9.5.6
+ */
+public final class AmountAccumulator {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Open addressing table with the position of each currency in the totals arrays plus one, zero for empty entries
+     */
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+
+    private String[] currencies = new String[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private long[] sums = new long[INITIAL_CAPACITY];
+    private int[] scales = new int[INITIAL_CAPACITY];
+
+    /**
+     * Totals that overflowed the long unscaled values, null until any currency total overflows
+     */
+    private BigDecimal[] overflows;
+
+    private int size;
+
+    /**
+     * Adds the amount of a field, with the currency and sign resolved as in {@link ScaledAmount#of(Field)}.
+     *
+     * @param field a field with currency and amount components
+     * @return true if the amount was added, false if the field is null or the amount or currency cannot be resolved
+     */
+    public boolean add(final Field field) {
+        if (!(field instanceof AmountContainer)) {
+            return false;
+        }
+        final String currency = ScaledAmount.currency(field);
+        final int component = ScaledAmount.amountComponent(field);
+        if (currency == null || component == 0) {
+            return false;
+        }
+        final CharSequence value = field.getComponentChars(component);
+        if (value == null) {
+            return false;
+        }
+        final long unscaled = ScaledAmount.parseUnscaled(value);
+        if (unscaled == ScaledAmount.INVALID) {
+            final Money money = Money.of(field);
+            if (money == null) {
+                return false;
+            }
+            add(money.getCurrency(), money.getAmount());
+            return true;
+        }
+        add(currency, ScaledAmount.isNegative(field) ? -unscaled : unscaled, ScaledAmount.parseScale(value));
+        return true;
+    }
+
+    /**
+     * @param amount an amount to add
+     */
+    public void add(final ScaledAmount amount) {
+        add(amount.getCurrency(), amount.getUnscaled(), amount.getScale());
+    }
+
+    /**
+     * @param currency a not null currency code
+     * @param unscaled the amount unscaled value
+     * @param scale    the number of decimals of the amount, zero or positive
+     */
+    public void add(final String currency, final long unscaled, final int scale) {
+        Objects.requireNonNull(currency, "currency can not be null");
+        if (scale < 0) {
+            throw new IllegalArgumentException("scale can not be negative: " + scale);
+        }
+        final int i = index(currency);
+        if (this.overflows != null && this.overflows[i] != null) {
+            this.overflows[i] = this.overflows[i].add(BigDecimal.valueOf(unscaled, scale));
+            return;
+        }
+        final int totalScale = this.scales[i];
+        try {
+            long sum = this.sums[i];
+            long value = unscaled;
+            if (scale > totalScale) {
+                sum = Math.multiplyExact(sum, ScaledAmount.powerOfTen(scale - totalScale));
+            } else if (scale < totalScale) {
+                value = Math.multiplyExact(value, ScaledAmount.powerOfTen(totalScale - scale));
+            }
+            this.sums[i] = Math.addExact(sum, value);
+            this.scales[i] = Math.max(scale, totalScale);
+        } catch (final ArithmeticException e) {
+            overflow(i, BigDecimal.valueOf(this.sums[i], totalScale).add(BigDecimal.valueOf(unscaled, scale)));
+        }
+    }
+
+    /**
+     * @param currency a not null currency code
+     * @param amount   the amount to add, null is ignored
+     */
+    public void add(final String currency, final BigDecimal amount) {
+        Objects.requireNonNull(currency, "currency can not be null");
+        if (amount == null) {
+            return;
+        }
+        if (amount.scale() >= 0 && amount.precision() <= 18) {
+            add(currency, amount.unscaledValue().longValue(), amount.scale());
+            return;
+        }
+        final int i = index(currency);
+        if (this.overflows != null && this.overflows[i] != null) {
+            this.overflows[i] = this.overflows[i].add(amount);
+        } else {
+            overflow(i, BigDecimal.valueOf(this.sums[i], this.scales[i]).add(amount));
+        }
+    }
+
+    private void overflow(final int i, final BigDecimal total) {
+        if (this.overflows == null) {
+            this.overflows = new BigDecimal[this.currencies.length];
+        }
+        this.overflows[i] = total;
+    }
+
+    /**
+     * @return the position of the currency in the totals arrays, adding it if not found
+     */
+    private int index(final String currency) {
+        final int hash = currency.hashCode();
+        final int mask = this.table.length - 1;
+        int slot = mix(hash) & mask;
+        while (this.table[slot] != 0) {
+            final int i = this.table[slot] - 1;
+            if (this.hashes[i] == hash && this.currencies[i].equals(currency)) {
+                return i;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (this.size == this.currencies.length) {
+            grow();
+            return index(currency);
+        }
+        final int i = this.size++;
+        this.currencies[i] = currency;
+        this.hashes[i] = hash;
+        this.table[slot] = i + 1;
+        return i;
+    }
+
+    /**
+     * @return the position of the currency in the totals arrays, or -1 if not found
+     */
+    private int find(final String currency) {
+        if (currency == null) {
+            return -1;
+        }
+        final int hash = currency.hashCode();
+        final int mask = this.table.length - 1;
+        int slot = mix(hash) & mask;
+        while (this.table[slot] != 0) {
+            final int i = this.table[slot] - 1;
+            if (this.hashes[i] == hash && this.currencies[i].equals(currency)) {
+                return i;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int mix(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private void grow() {
+        final int capacity = this.currencies.length * 2;
+        this.currencies = Arrays.copyOf(this.currencies, capacity);
+        this.hashes = Arrays.copyOf(this.hashes, capacity);
+        this.sums = Arrays.copyOf(this.sums, capacity);
+        this.scales = Arrays.copyOf(this.scales, capacity);
+        if (this.overflows != null) {
+            this.overflows = Arrays.copyOf(this.overflows, capacity);
+        }
+        this.table = new int[capacity * 2];
+        final int mask = this.table.length - 1;
+        for (int i = 0; i < this.size; i++) {
+            int slot = mix(this.hashes[i]) & mask;
+            while (this.table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            this.table[slot] = i + 1;
+        }
+    }
+
+    /**
+     * @return the number of currencies with amounts added
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return the currencies with amounts added, in the order they were first added
+     */
+    public List<String> getCurrencies() {
+        return Collections.unmodifiableList(Arrays.asList(this.currencies).subList(0, this.size));
+    }
+
+    /**
+     * @param currency a currency code
+     * @return the total for the currency, or null if no amount was added for it
+     */
+    public BigDecimal getTotal(final String currency) {
+        final int i = find(currency);
+        if (i < 0) {
+            return null;
+        }
+        if (this.overflows != null && this.overflows[i] != null) {
+            return this.overflows[i];
+        }
+        return BigDecimal.valueOf(this.sums[i], this.scales[i]);
+    }
+
+    /**
+     * @param currency a currency code
+     * @return the total for the currency, or null if no amount was added for it or if the total does not fit in a long
+     * unscaled value
+     */
+    public ScaledAmount getScaledTotal(final String currency) {
+        final int i = find(currency);
+        if (i < 0 || this.overflows != null && this.overflows[i] != null) {
+            return null;
+        }
+        return new ScaledAmount(this.currencies[i], this.sums[i], this.scales[i]);
+    }
+
+    /**
+     * @return the total of each currency, in the order the currencies were first added
+     */
+    public Map<String, BigDecimal> getTotals() {
+        final Map<String, BigDecimal> result = new LinkedHashMap<>();
+        for (int i = 0; i < this.size; i++) {
+            result.put(this.currencies[i], getTotal(this.currencies[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Removes all the totals
+     */
+    public void clear() {
+        Arrays.fill(this.table, 0);
+        Arrays.fill(this.currencies, 0, this.size, null);
+        Arrays.fill(this.sums, 0, this.size, 0L);
+        Arrays.fill(this.scales, 0, this.size, 0);
+        this.overflows = null;
+        this.size = 0;
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Compact storage for the tags of a block: the names are kept as ids in an int array and the values as offset and
+ * length pairs into a single char array holding all of them.
+ *
+ * <p>Tags are created on each read. Any modification of the list itself first expands it into a plain list of tags,
+ * and from then on it behaves as such, with the owner block switching to the expanded list. Changing the name, value
+ * or unparsed texts of a tag read from the list also expands it, keeping the modified tag instance at its position.
+ * Tags read while compact and modified after the list was expanded replace the tag created for their position by the
+ * expansion, unless that tag was already removed or replaced.
+ *
+ * @see SwiftTagListBlock#compact()
+ * @since 9.5.6
+ */
+final class CompactTagList extends AbstractList<Tag> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Value in {@link #names} for tags without name
+     */
+    private static final int NULL_NAME = -1;
+
+    /**
+     * Value in {@link #lengths} for tags without value
+     */
+    private static final int NULL_VALUE = -1;
+
+    private static final int[] NONE = new int[0];
+
+    private final int size;
+
+    /**
+     * Id of each name as given by {@link TagName#known(int)}, or {@link #NULL_NAME}, or the position in
+     * {@link #otherNames} for names not known in advance, encoded as {@code -(position + 2)}
+     */
+    private int[] names;
+
+    private String[] otherNames;
+    private char[] text;
+    private int[] offsets;
+    private int[] lengths;
+
+    /**
+     * The tags once the list is modified, null while compact
+     */
+    private SwiftTagListBlock.TagList expanded;
+
+    /**
+     * The tag at each original position once the list is expanded, to find where the tags read while compact must be
+     * written back
+     */
+    private Tag[] created;
+
+    /**
+     * The block storing its tags in this list, switched to the expanded list on expansion
+     */
+    private final SwiftTagListBlock owner;
+
+    /**
+     * @param tags  the tags to store, all of them must satisfy {@link #accepts(Tag)}
+     * @param owner the block storing its tags in this list, or null
+     */
+    CompactTagList(final List<Tag> tags, final SwiftTagListBlock owner) {
+        this.owner = owner;
+        this.size = tags.size();
+        this.names = new int[this.size];
+        this.offsets = new int[this.size];
+        this.lengths = new int[this.size];
+        final List<String> others = new ArrayList<>();
+        int total = 0;
+        for (int i = 0; i < this.size; i++) {
+            final Tag t = tags.get(i);
+            this.names[i] = nameId(t.tagName(), others);
+            final String v = t.getValue();
+            if (v == null) {
+                this.lengths[i] = NULL_VALUE;
+            } else {
+                this.offsets[i] = total;
+                this.lengths[i] = v.length();
+                total += v.length();
+            }
+        }
+        this.otherNames = others.isEmpty() ? null : others.toArray(new String[0]);
+        this.text = new char[total];
+        for (int i = 0; i < this.size; i++) {
+            if (this.lengths[i] > 0) {
+                tags.get(i).getValue().getChars(0, this.lengths[i], this.text, this.offsets[i]);
+            }
+        }
+    }
+
+    private static int nameId(final TagName name, final List<String> others) {
+        if (name == null) {
+            return NULL_NAME;
+        }
+        if (name.id != TagName.UNKNOWN_ID) {
+            return name.id;
+        }
+        int position = others.indexOf(name.name);
+        if (position < 0) {
+            position = others.size();
+            others.add(name.name);
+        }
+        return -(position + 2);
+    }
+
+    /**
+     * @param tag a tag
+     * @return true if the tag can be stored without losing information, meaning it is not a subclass of Tag and it has
+     * no unparsed texts
+     */
+    static boolean accepts(final Tag tag) {
+        return tag != null
+                && tag.getClass() == Tag.class
+                && (tag.unparsedTexts == null || tag.unparsedTexts.size() == 0);
+    }
+
+    /**
+     * @return true while the tags are kept in the compact arrays, false once the list was modified
+     */
+    boolean isCompact() {
+        return this.expanded == null;
+    }
+
+    private TagName tagName(final int index) {
+        final int id = this.names[index];
+        if (id >= 0) {
+            return TagName.known(id);
+        }
+        return id == NULL_NAME ? null : TagName.of(this.otherNames[-id - 2]);
+    }
+
+    /**
+     * @param name a tag name
+     * @return the positions of the tags with the given name, or null if the list is no longer compact
+     */
+    int[] positions(final TagName name) {
+        if (this.expanded != null) {
+            return null;
+        }
+        int[] result = NONE;
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (TagName.same(tagName(i), name)) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, Math.max(4, count * 2));
+                }
+                result[count++] = i;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * @param number a tag number
+     * @return the positions of the tags with the given number, or null if the list is no longer compact
+     */
+    int[] positions(final int number) {
+        if (this.expanded != null) {
+            return null;
+        }
+        int[] result = NONE;
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            final TagName n = tagName(i);
+            if (n != null && n.number != TagName.NO_NUMBER && n.number == number) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, Math.max(4, count * 2));
+                }
+                result[count++] = i;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    @Override
+    public Tag get(final int index) {
+        if (this.expanded != null) {
+            return this.expanded.get(index);
+        }
+        final Tag t = create(index);
+        t.readFrom(this, index);
+        return t;
+    }
+
+    /**
+     * Called when a tag read from the list while compact is modified, expands the list keeping the modified tag
+     * instead of the one created for its position
+     *
+     * @param tag   the modified tag
+     * @param index the position the tag was read from
+     */
+    void edited(final Tag tag, final int index) {
+        final List<Tag> tags = expand();
+        final Tag previous = this.created[index];
+        int position = index < tags.size() && tags.get(index) == previous ? index : -1;
+        for (int i = 0; position < 0 && i < tags.size(); i++) {
+            if (tags.get(i) == previous) {
+                position = i;
+            }
+        }
+        if (position >= 0) {
+            tags.set(position, tag);
+            this.created[index] = tag;
+        }
+    }
+
+    private Tag create(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+        final Tag t = new Tag();
+        final TagName n = tagName(index);
+        if (n != null) {
+            t.setName(n.name);
+        }
+        final int length = this.lengths[index];
+        if (length != NULL_VALUE) {
+            t.setValue(new String(this.text, this.offsets[index], length));
+        }
+        return t;
+    }
+
+    @Override
+    public int size() {
+        return this.expanded != null ? this.expanded.size() : this.size;
+    }
+
+    @Override
+    public Tag set(final int index, final Tag element) {
+        return expand().set(index, element);
+    }
+
+    @Override
+    public void add(final int index, final Tag element) {
+        expand().add(index, element);
+        this.modCount++;
+    }
+
+    @Override
+    public Tag remove(final int index) {
+        final Tag removed = expand().remove(index);
+        this.modCount++;
+        return removed;
+    }
+
+    /**
+     * Creates the tags, releases the compact arrays and switches the owner block to the expanded list
+     */
+    private List<Tag> expand() {
+        if (this.expanded == null) {
+            final Tag[] tags = new Tag[this.size];
+            for (int i = 0; i < this.size; i++) {
+                tags[i] = create(i);
+            }
+            this.expanded = new SwiftTagListBlock.TagList(Arrays.asList(tags));
+            this.created = tags;
+            this.names = null;
+            this.otherNames = null;
+            this.text = null;
+            this.offsets = null;
+            this.lengths = null;
+            if (this.owner != null) {
+                this.owner.expanded(this, this.expanded);
+            }
+        }
+        return this.expanded;
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.model.field.AmountContainer;
+import com.prowidesoftware.swift.model.field.CurrencyContainer;
+import com.prowidesoftware.swift.model.field.Field;
+import com.prowidesoftware.swift.model.field.FieldMetadata;
+import com.prowidesoftware.swift.utils.SwiftFormatUtils;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * An amount associated with a currency, kept as a long unscaled value and a scale, as an alternative to {@link Money}
+ * when processing large volumes of amounts.
+ *
+ * <p>The amount is parsed directly from the field amount component, with as many decimals as present in the value,
+ * so for example 1234,5 has unscaled value 12345 and scale 1. SWIFT amounts have at most 15 characters, so any valid
+ * amount fits in the long unscaled value.
+ *
+ * @see AmountAccumulator
+ * @since 9.5.6
+ */
+public final class ScaledAmount implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Value returned by {@link #parseUnscaled(CharSequence)} for values that are not plain amounts
+     */
+    static final long INVALID = Long.MIN_VALUE;
+
+    /**
+     * Maximum number of digits of an amount parsed into a long unscaled value
+     */
+    private static final int MAX_DIGITS = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final String currency;
+    private final long unscaled;
+    private final int scale;
+
+    /**
+     * @param currency a not null currency code
+     * @param unscaled the amount unscaled value
+     * @param scale    the number of decimals of the amount, zero or positive
+     */
+    public ScaledAmount(final String currency, final long unscaled, final int scale) {
+        Objects.requireNonNull(currency, "currency can not be null");
+        if (scale < 0) {
+            throw new IllegalArgumentException("scale can not be negative: " + scale);
+        }
+        this.currency = currency;
+        this.unscaled = unscaled;
+        this.scale = scale;
+    }
+
+    /**
+     * Creates an amount from an MT field, with the same rules as {@link Money}: the field must implement
+     * {@link AmountContainer} and either have a currency component or implement {@link CurrencyContainer}. For the
+     * signed 19A and the 62[F,M] with a debit/credit mark, the amount is positive or negative accordingly.
+     *
+     * @param field a field with currency and amount components
+     * @return the created amount, or null if the field is null or invalid, or if the amount has more than 18 digits
+     */
+    public static ScaledAmount of(final Field field) {
+        if (!(field instanceof AmountContainer)) {
+            return null;
+        }
+        final String currency = currency(field);
+        final int component = amountComponent(field);
+        if (currency == null || component == 0) {
+            return null;
+        }
+        final CharSequence value = field.getComponentChars(component);
+        if (value == null) {
+            return null;
+        }
+        long unscaled = parseUnscaled(value);
+        int scale = parseScale(value);
+        if (unscaled == INVALID) {
+            // not a plain amount, parsed as in the amount resolver
+            final BigDecimal amount = SwiftFormatUtils.getBigDecimal(value.toString());
+            if (amount == null || amount.scale() < 0 || amount.precision() > MAX_DIGITS) {
+                return null;
+            }
+            unscaled = amount.unscaledValue().longValue();
+            scale = amount.scale();
+        }
+        return new ScaledAmount(currency, isNegative(field) ? -unscaled : unscaled, scale);
+    }
+
+    /**
+     * Creates an amount from a SWIFT amount value, digits with comma as decimal separator.
+     *
+     * @param currency a not null currency code
+     * @param amount   the amount value, for example 1234,56
+     * @return the created amount or null if the value is not a plain amount of up to 18 digits
+     */
+    public static ScaledAmount parse(final String currency, final CharSequence amount) {
+        final long unscaled = amount != null ? parseUnscaled(amount) : INVALID;
+        if (unscaled == INVALID) {
+            return null;
+        }
+        return new ScaledAmount(currency, unscaled, parseScale(amount));
+    }
+
+    /**
+     * @param field an amount container field
+     * @return the number of the field amount component, or zero if the field has no amount component
+     */
+    static int amountComponent(final Field field) {
+        final long mask = FieldMetadata.of(field).getAmountMask();
+        return mask != 0 ? Long.numberOfTrailingZeros(mask) + 1 : 0;
+    }
+
+    /**
+     * Keep in sync with {@link Money#of(Field)}
+     *
+     * @param field an amount container field
+     * @return the field currency or null if not found
+     */
+    static String currency(final Field field) {
+        final String name = field.getName();
+        if ("62F".equals(name) || "62M".equals(name)) {
+            return field.getComponent(3);
+        }
+        if ("33B".equals(name)) {
+            return field.getComponent(1);
+        }
+        if (field instanceof CurrencyContainer) {
+            final long mask = FieldMetadata.of(field).getCurrencyMask();
+            return mask != 0 ? field.getComponent(Long.numberOfTrailingZeros(mask) + 1) : null;
+        }
+        return null;
+    }
+
+    /**
+     * @param field an amount container field
+     * @return true if the field has a debit or negative mark
+     * @see Money#of(Field)
+     */
+    static boolean isNegative(final Field field) {
+        final String name = field.getName();
+        if ("62F".equals(name) || "62M".equals(name)) {
+            return field.is(1, "D");
+        }
+        return "19A".equals(name) && field.is(2, "N");
+    }
+
+    /**
+     * @param amount an amount value, digits with an optional comma as decimal separator
+     * @return all the digits as a long value, or {@link #INVALID} if the value has any other char, no digits or more
+     * than 18 digits
+     */
+    static long parseUnscaled(final CharSequence amount) {
+        final int length = amount.length();
+        long result = 0;
+        int digits = 0;
+        boolean comma = false;
+        for (int i = 0; i < length; i++) {
+            final char c = amount.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_DIGITS) {
+                    return INVALID;
+                }
+                result = result * 10 + (c - '0');
+            } else if (c == ',' && !comma) {
+                comma = true;
+            } else {
+                return INVALID;
+            }
+        }
+        return digits > 0 ? result : INVALID;
+    }
+
+    /**
+     * @param amount an amount value accepted by {@link #parseUnscaled(CharSequence)}
+     * @return the number of digits after the comma
+     */
+    static int parseScale(final CharSequence amount) {
+        for (int i = 0; i < amount.length(); i++) {
+            if (amount.charAt(i) == ',') {
+                return amount.length() - i - 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param exponent a power of ten from zero to 18
+     * @return ten raised to the exponent
+     */
+    static long powerOfTen(final int exponent) {
+        if (exponent < 0 || exponent > MAX_DIGITS) {
+            throw new ArithmeticException("power of ten out of range: " + exponent);
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * @param currency a currency code
+     * @return the ISO 4217 default number of decimals of the currency, or -1 if the currency is not known or has no
+     * minor units defined
+     */
+    public static int currencyExponent(final String currency) {
+        try {
+            return Currency.getInstance(currency).getDefaultFractionDigits();
+        } catch (final IllegalArgumentException | NullPointerException e) {
+            return -1;
+        }
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    /**
+     * @return the amount value with no decimal point, for example 12345 for 1234,5
+     */
+    public long getUnscaled() {
+        return unscaled;
+    }
+
+    /**
+     * @return the number of decimals of the unscaled value
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * @return the ISO 4217 number of decimals of the currency, or -1 if not known
+     * @see #currencyExponent(String)
+     */
+    public int getCurrencyExponent() {
+        return currencyExponent(this.currency);
+    }
+
+    /**
+     * Gets the amount in the currency minor units, for example cents for USD or yens for JPY.
+     *
+     * @return the amount expressed with as many decimals as the currency exponent
+     * @throws ArithmeticException if the currency exponent is not known, if the amount has non zero decimals beyond the
+     *                             currency exponent, or if the result does not fit in a long
+     */
+    public long toMinorUnits() {
+        final int exponent = getCurrencyExponent();
+        if (exponent < 0) {
+            throw new ArithmeticException("no minor units defined for currency " + this.currency);
+        }
+        if (this.scale > exponent) {
+            final long divisor = powerOfTen(this.scale - exponent);
+            if (this.unscaled % divisor != 0) {
+                throw new ArithmeticException("amount " + this + " has more decimals than the currency");
+            }
+            return this.unscaled / divisor;
+        }
+        return Math.multiplyExact(this.unscaled, powerOfTen(exponent - this.scale));
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(this.unscaled, this.scale);
+    }
+
+    public Money toMoney() {
+        return new Money(this.currency, toBigDecimal());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ScaledAmount that = (ScaledAmount) o;
+        return unscaled == that.unscaled && scale == that.scale && currency.equals(that.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(currency, unscaled, scale);
+    }
+
+    @Override
+    public String toString() {
+        return this.currency + SwiftFormatUtils.getBigDecimal(toBigDecimal());
+    }
+}
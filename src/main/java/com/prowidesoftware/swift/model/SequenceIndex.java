@@ -0,0 +1,166 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Positions of the sequences in a block, built in a single pass over its tags.
+ *
+ * <p>The index contains the ranges of the sequences delimited by 16R/16S, by qualifier, and the ranges of the
+ * sequences split by field 15, by letter option, with the same boundaries found by
+ * {@link SwiftTagListBlock#getSubBlocks(String)} and {@link SwiftMessageUtils#splitByField15(SwiftTagListBlock)}. It
+ * also keeps the results of the sequences delimited with an optional tail, computed on first request, used by the
+ * category 1 and 2 messages.
+ *
+ * <p>The index is bound to the tag list it was built from and its modification count, so it is discarded when the
+ * block is modified, or when the name or value of any of its tags is changed through the {@link Tag} setters, as
+ * counted by {@link TagEdits}.
+ *
+ * @since 9.5.6
+ */
+final class SequenceIndex {
+    private static final int[] NONE = new int[0];
+
+    private final SwiftTagListBlock.TagList tags;
+    private final int modifications;
+    private final TagEdits.Snapshot edits = new TagEdits.Snapshot();
+
+    /**
+     * 16R qualifier without carriage returns, to the sequence ranges as [start, end, start, end...] both inclusive
+     */
+    private final Map<String, int[]> blocks16 = new HashMap<>();
+
+    /**
+     * Field 15 letter option to the sequence ranges as [start, end, start, end...] both inclusive
+     */
+    private final Map<String, int[]> blocks15 = new HashMap<>();
+
+    private final Map<List<Object>, List<Tag[]>> delimited = new ConcurrentHashMap<>();
+
+    SequenceIndex(final SwiftTagListBlock.TagList tags) {
+        this.tags = tags;
+        this.modifications = tags.modifications();
+        final int size = tags.size();
+        final Map<String, Integer> open16 = new HashMap<>();
+        int start15 = -1;
+        String letter15 = null;
+        for (int i = 0; i < size; i++) {
+            final Tag t = tags.get(i);
+            this.edits.track(t, tags.edits());
+            final String name = t.getName();
+            if (t.unparsedTexts == null && ("16R".equals(name) || "16S".equals(name))) {
+                final String qualifier = qualifier(t.getValue());
+                if (name.charAt(2) == 'R') {
+                    open16.putIfAbsent(qualifier, i);
+                } else {
+                    final Integer start = open16.remove(qualifier);
+                    if (start != null) {
+                        add(this.blocks16, qualifier, start, i);
+                    }
+                }
+            }
+            if (isField15Boundary(t)) {
+                if (start15 >= 0) {
+                    add(this.blocks15, letter15, start15, i - 1);
+                }
+                start15 = i;
+                letter15 = t.getLetterOption();
+            }
+        }
+        // unterminated sequences extend to the end of the block
+        for (Map.Entry<String, Integer> e : open16.entrySet()) {
+            add(this.blocks16, e.getKey(), e.getValue(), size - 1);
+        }
+        if (start15 >= 0) {
+            add(this.blocks15, letter15, start15, size - 1);
+        }
+    }
+
+    /**
+     * @return true if the tag is a field 15 with a single letter option, starting a new sequence
+     */
+    static boolean isField15Boundary(final Tag t) {
+        final Integer number = t.getNumber();
+        final String letter = t.getLetterOption();
+        return number != null && number == 15 && letter != null && letter.length() == 1;
+    }
+
+    private static String qualifier(final String value) {
+        return StringUtils.replace(value, "\r", "");
+    }
+
+    private static void add(final Map<String, int[]> map, final String key, final int start, final int end) {
+        final int[] current = map.get(key);
+        final int[] ranges;
+        if (current == null) {
+            ranges = new int[] {start, end};
+        } else {
+            ranges = Arrays.copyOf(current, current.length + 2);
+            ranges[current.length] = start;
+            ranges[current.length + 1] = end;
+        }
+        map.put(key, ranges);
+    }
+
+    /**
+     * @param tags a tag list
+     * @return true if the index was built from the given list and neither the list nor its tags were modified since
+     */
+    boolean isValid(final List<Tag> tags) {
+        return this.tags == tags
+                && this.modifications == this.tags.modifications()
+                && this.edits.unchanged();
+    }
+
+    /**
+     * @param blockName the 16R/16S qualifier
+     * @return the ranges of the sequences with the given qualifier as [start, end...], empty if none is found
+     */
+    int[] blocks16(final String blockName) {
+        return this.blocks16.getOrDefault(qualifier(blockName), NONE);
+    }
+
+    /**
+     * @param letterOption the field 15 letter option
+     * @return the ranges of the sequences starting with the field 15 with the given letter option as [start, end...],
+     * empty if none is found
+     */
+    int[] blocks15(final String letterOption) {
+        return this.blocks15.getOrDefault(letterOption, NONE);
+    }
+
+    /**
+     * @return the letter options of the field 15 found in the block
+     */
+    Set<String> letters15() {
+        return this.blocks15.keySet();
+    }
+
+    /**
+     * Gets the tags of the sequences delimited with an optional tail, computing them if needed.
+     *
+     * @param key      the search kind and delimiters
+     * @param supplier computes the sequences when not already known
+     * @return the tags of each found sequence
+     */
+    List<Tag[]> delimited(final List<Object> key, final Supplier<List<Tag[]>> supplier) {
+        return this.delimited.computeIfAbsent(key, k -> supplier.get());
+    }
+}
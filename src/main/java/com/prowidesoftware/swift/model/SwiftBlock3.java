@@ -140,7 +140,7 @@ public class SwiftBlock3 extends SwiftTagListBlock implements Serializable {
             builder().setField108(new Field108(MUR));
         } else if (overwriteIfExist) {
             log.fine("block 3 MUR value " + t.getValue() + " overwritten with generated MUR " + MUR);
-            t.setValue(MUR);
+            setTagValue("108", MUR);
         }
     }
 
@@ -130,12 +130,8 @@ public class SwiftBlock5 extends SwiftTagListBlock implements Serializable {
      */
     public SwiftBlock5 setTag(SwiftBlock5Field field, String value) {
         String notNullValue = StringUtils.trimToEmpty(value);
-        Tag t = getTagByName(field.name());
-        if (t != null) {
-            // update existing
-            t.setValue(notNullValue);
-        } else {
-            // add new field
+        // update existing or add new field
+        if (setTagValue(field.name(), notNullValue) == null) {
             append(new Tag(field.name(), notNullValue));
         }
         return this;
@@ -23,6 +23,7 @@ import com.prowidesoftware.swift.io.IConversionService;
 import com.prowidesoftware.swift.io.parser.SwiftParser;
 import com.prowidesoftware.swift.io.parser.SwiftParserConfiguration;
 import com.prowidesoftware.swift.io.parser.XMLParser;
+import com.prowidesoftware.swift.io.writer.FINWriterVisitor;
 import com.prowidesoftware.swift.io.writer.SwiftWriter;
 import com.prowidesoftware.swift.io.writer.XMLWriterVisitor;
 import com.prowidesoftware.swift.model.field.*;
@@ -66,6 +67,20 @@ public class SwiftMessage implements Serializable, JsonSerializable {
     private SwiftBlock4 block4;
     private SwiftBlock5 block5;
 
+    /**
+     * Raw content of the block 4 pending to be parsed into the {@link #block4} on its first access, when the message
+     * was parsed with the lazy text block option.
+     *
+     * @see SwiftParserConfiguration#isLazyTextBlock()
+     * @since 9.5.6
+     */
+    private volatile String block4Text;
+
+    /**
+     * Configuration of the parser the pending block 4 content comes from, or null to use the default configuration
+     */
+    private transient SwiftParserConfiguration block4Configuration;
+
     /**
      * User defined blocks
      * List of {@link SwiftBlockUser}.
@@ -271,7 +286,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
         return Objects.equals(block1, that.block1)
                 && Objects.equals(block2, that.block2)
                 && Objects.equals(block3, that.block3)
-                && Objects.equals(block4, that.block4)
+                && Objects.equals(getBlock4(), that.getBlock4())
                 && Objects.equals(block5, that.block5)
                 && Objects.equals(userBlocks, that.userBlocks)
                 && Objects.equals(unparsedTexts, that.unparsedTexts);
@@ -279,7 +294,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(block1, block2, block3, block4, block5, userBlocks, unparsedTexts);
+        return Objects.hash(block1, block2, block3, getBlock4(), block5, userBlocks, unparsedTexts);
     }
 
     /**
@@ -301,7 +316,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
             case 3:
                 return this.block3;
             case 4:
-                return this.block4;
+                return getBlock4();
             case 5:
                 return this.block5;
             default:
@@ -412,11 +427,18 @@ public class SwiftMessage implements Serializable, JsonSerializable {
             visitor.endBlock3(b3);
         }
 
-        final SwiftBlock4 b4 = this.block4;
-        if (b4 != null) {
-            visitor.startBlock4(b4);
-            visit(b4, visitor);
-            visitor.endBlock4(b4);
+        if (this.block4Text != null
+                && visitor instanceof FINWriterVisitor
+                && !((FINWriterVisitor) visitor).isTrimTagValues()) {
+            // the pending block 4 content is written as is, without parsing it
+            ((FINWriterVisitor) visitor).block4Text(this.block4Text);
+        } else {
+            final SwiftBlock4 b4 = getBlock4();
+            if (b4 != null) {
+                visitor.startBlock4(b4);
+                visit(b4, visitor);
+                visitor.endBlock4(b4);
+            }
         }
 
         final SwiftBlock5 b5 = this.block5;
@@ -480,7 +502,8 @@ public class SwiftMessage implements Serializable, JsonSerializable {
         if (this.block3 != null && !this.block3.isEmpty()) {
             count++;
         }
-        if (this.block4 != null && !this.block4.isEmpty()) {
+        final SwiftBlock4 b4 = getBlock4();
+        if (b4 != null && !b4.isEmpty()) {
             count++;
         }
         if (this.block5 != null && !this.block5.isEmpty()) {
@@ -552,19 +575,90 @@ public class SwiftMessage implements Serializable, JsonSerializable {
     /**
      * Get block number 4 of this message, may be null if not set
      *
+     * <p>If the message was parsed with the lazy text block option, the block content is parsed on the first call
+     * to this method, with the configuration of the original parser. The parse is synchronized on the message, so
+     * the block is fully parsed when returned to any thread.
+     *
      * @return the block 4 of the message or null
      */
     public SwiftBlock4 getBlock4() {
+        if (this.block4Text != null) {
+            parseBlock4Text();
+        }
         return this.block4;
     }
 
+    /**
+     * Parses the pending block 4 content into the block 4, once
+     */
+    private synchronized void parseBlock4Text() {
+        final String text = this.block4Text;
+        if (text == null) {
+            return;
+        }
+        final SwiftParser parser = new SwiftParser();
+        if (this.block4Configuration != null) {
+            parser.setConfiguration(this.block4Configuration);
+        }
+        try {
+            parser.consumeBlock4Content(this.block4, text);
+            if (!parser.getErrors().isEmpty()) {
+                log.warning("Errors parsing the block 4 content: " + parser.getErrors());
+            }
+        } finally {
+            this.block4Configuration = null;
+            this.block4Text = null;
+        }
+    }
+
     /**
      * Set the block 4 of the message
      *
+     * <p>Setting a different block discards the pending block 4 content if the message was parsed with the lazy
+     * text block option.
+     *
      * @param block4 the content of the block 1
      */
     public void setBlock4(final SwiftBlock4 block4) {
+        if (block4 != this.block4) {
+            this.block4Text = null;
+            this.block4Configuration = null;
+        }
+        this.block4 = block4;
+    }
+
+    /**
+     * Sets the block 4 of the message with its content pending to be parsed on first access.
+     *
+     * <p>This is used by the parser when the lazy text block option is enabled. The content is parsed into the
+     * given block the first time the block 4 is accessed, and it is written as is when the message is serialized
+     * into FIN with {@link FINWriterVisitor}, unless the tag values trimming is requested.
+     *
+     * @param block4 an empty block that will be filled with the parsed content
+     * @param text   the raw block content, from the block identifier "4:" to the trailing hyphen (not included the
+     *               block boundary braces)
+     * @param configuration the configuration of the parser the content comes from, used to parse the content with a
+     *                      new {@link SwiftParser} instance, or null to use the default configuration
+     * @see SwiftParserConfiguration#isLazyTextBlock()
+     * @since 9.5.6
+     */
+    public void setBlock4(final SwiftBlock4 block4, final String text, final SwiftParserConfiguration configuration) {
+        Objects.requireNonNull(block4, "parameter 'block4' cannot be null");
         this.block4 = block4;
+        this.block4Configuration = text != null ? configuration : null;
+        this.block4Text = text;
+    }
+
+    /**
+     * Gets the raw block 4 content when the message was parsed with the lazy text block option and the block has
+     * not been accessed yet.
+     *
+     * @return the raw block content starting with "4:" or null if the block 4 is already parsed or not present
+     * @see SwiftParserConfiguration#isLazyTextBlock()
+     * @since 9.5.6
+     */
+    public String getBlock4Text() {
+        return this.block4Text;
     }
 
     /**
@@ -750,6 +844,8 @@ public class SwiftMessage implements Serializable, JsonSerializable {
         this.block2 = null;
         this.block3 = null;
         this.block4 = null;
+        this.block4Text = null;
+        this.block4Configuration = null;
         this.block5 = null;
 
         // release user blocks
@@ -764,7 +860,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      */
     public Boolean isFragment() {
         // get the block 4 (if exists)
-        final SwiftBlock4 b4 = this.block4;
+        final SwiftBlock4 b4 = getBlock4();
         if (b4 != null) {
             final String t202 = b4.getTagValue("202");
             final String t203 = b4.getTagValue("203");
@@ -807,7 +903,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
         }
 
         // get the block 4 and tag 203 (they BOTH exists here)
-        final String t203 = this.block4.getTagValue("203");
+        final String t203 = getBlock4().getTagValue("203");
 
         // process the number
         int _t203;
@@ -834,7 +930,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
         }
 
         // get the block 4 and tag 203 (they BOTH exists here)
-        final String t202 = this.block4.getTagValue("202");
+        final String t202 = getBlock4().getTagValue("202");
 
         // process the number
         int _t202;
@@ -894,19 +990,11 @@ public class SwiftMessage implements Serializable, JsonSerializable {
             addUserBlock(sBlock);
         }
 
-        // remove any MDG tag from the block (if present)
-        Tag mdg = sBlock.getTagByName("MDG");
-        if (mdg == null) {
-
-            // create the tag
-            mdg = new Tag();
-            mdg.setName("MDG");
-            sBlock.append(mdg);
+        // set the signature on the MDG tag, adding the tag if not present
+        if (sBlock.setTagValue("MDG", signature) == null) {
+            sBlock.append(new Tag("MDG", signature));
         }
 
-        // set the signature on the tag
-        mdg.setValue(signature);
-
         return this;
     }
 
@@ -1083,7 +1171,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
         Objects.requireNonNull(names, "names is null");
         final List<Field> result = new ArrayList<>();
         for (final String n : names) {
-            final Tag[] tl = this.block4.getTagsByName(n);
+            final Tag[] tl = getBlock4().getTagsByName(n);
             if (tl != null && tl.length > 0) {
                 for (final Tag t : tl) {
                     result.add(t.asField());
@@ -1110,8 +1198,10 @@ public class SwiftMessage implements Serializable, JsonSerializable {
         if (this.block3 != null && this.block3.isEmpty()) {
             this.block3 = null;
         }
-        if (this.block4 != null && this.block4.isEmpty()) {
-            this.block4 = null;
+        if (this.block4Text != null
+                ? isEmptyBlock4Text()
+                : getBlock4() != null && getBlock4().isEmpty()) {
+            setBlock4(null);
         }
         if (this.block5 != null && this.block5.isEmpty()) {
             this.block5 = null;
@@ -1119,6 +1209,25 @@ public class SwiftMessage implements Serializable, JsonSerializable {
         return this;
     }
 
+    /**
+     * Checks if the pending block 4 content has no tags, parsing it only when that cannot be determined from the
+     * raw text (any tag requires a tag start char after the block identifier).
+     */
+    private boolean isEmptyBlock4Text() {
+        if (StringUtils.indexOfAny(this.block4Text.substring(Math.min(2, this.block4Text.length())), ':', '{') >= 0) {
+            return false;
+        }
+        return getBlock4().isEmpty();
+    }
+
+    /**
+     * Checks if the block 4 could contain a tag with the given name, avoiding the parsing of the pending block 4
+     * content when the tag name is not present in the raw text.
+     */
+    private boolean block4MayContain(final String name) {
+        return this.block4Text == null || this.block4Text.contains(name + ":");
+    }
+
     /**
      * Gets message type as an integer or <code>-1</code> if an error occurs or it is not set.
      *
@@ -1315,8 +1424,10 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      */
     public String getMUR() {
         // we check first the block 4, because system message could contain both MURs.
-        if (this.block4 != null && this.block4.containsTag(Field108.NAME)) {
-            return this.block4.getTagValue(Field108.NAME);
+        if (block4MayContain(Field108.NAME)
+                && getBlock4() != null
+                && getBlock4().containsTag(Field108.NAME)) {
+            return getBlock4().getTagValue(Field108.NAME);
         }
         if (this.block3 != null && this.block3.containsTag(Field108.NAME)) {
             return this.block3.getTagValue(Field108.NAME);
@@ -1346,10 +1457,8 @@ public class SwiftMessage implements Serializable, JsonSerializable {
                 if (this.block4 == null) {
                     this.block4 = new SwiftBlock4();
                     this.block4.append(new Field108(mur));
-                } else if (this.block4.containsTag(Field108.NAME)) {
-                    this.block4.getTagByName(Field108.NAME).setValue(mur);
-                } else {
-                    this.block4.append(new Field108(mur));
+                } else if (getBlock4().setTagValue(Field108.NAME, mur) == null) {
+                    getBlock4().append(new Field108(mur));
                 }
             } else {
                 // for user to user messages we set or update the MUR in the block 3
@@ -1445,8 +1554,8 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 7.4
      */
     public Boolean isLinked() {
-        if (this.block4 != null) {
-            return !this.block4.getSubBlock("LINK").isEmpty();
+        if (getBlock4() != null) {
+            return !getBlock4().getSubBlock("LINK").isEmpty();
         }
         return null;
     }
@@ -1458,8 +1567,8 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 7.4
      */
     public List<SwiftTagListBlock> getLinkages() {
-        if (this.block4 != null) {
-            return this.block4.getSubBlocks("LINK");
+        if (getBlock4() != null) {
+            return getBlock4().getSubBlocks("LINK");
         }
         return null;
     }
@@ -1545,7 +1654,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
     /**
      * Get the MTxxx instance that corresponds to the current message type.
      * <p>If you have a MT102 in a SwiftMessage, this method is the same as invoking
-     * <code>new MT102(SwiftMessage)</code>.
+     * <code>new MT102(SwiftMessage)</code>. The instance is created with {@link MtFactory}.
      * <p>For messages with service id 21 = GPA/FIN Message (ACK/NAK/UAK/UNK) it will
      * return an instance of {@link ServiceMessage21}.
      *
@@ -1559,36 +1668,35 @@ public class SwiftMessage implements Serializable, JsonSerializable {
             }
             log.warning("Cannot determine the message type from application header (block 2)");
         } else {
-            final StringBuilder className = new StringBuilder();
-            className.append("com.prowidesoftware.swift.model.mt.mt");
-            className.append(type.charAt(0));
-            className.append("xx.MT");
-            className.append(type);
+            MTVariant variant = null;
             if (isSTP()) {
                 if (isType(102, 103)) {
-                    className.append("_STP");
+                    variant = MTVariant.STP;
                 } else {
                     log.warning("Unexpected STP flag in MT " + getType());
                 }
             } else if (isREMIT()) {
                 if (isType(103)) {
-                    className.append("_REMIT");
+                    variant = MTVariant.REMIT;
                 } else {
                     log.warning("Unexpected REMIT flag in MT " + getType());
                 }
             } else if (isCOV()) {
                 if (isType(202, 205)) {
-                    className.append("COV");
+                    variant = MTVariant.COV;
                 } else {
                     log.warning("Unexpected COV flag in MT " + getType());
                 }
             }
-            log.finer("About to create an instance of " + className);
             try {
-                final Class<?> mtClass = Class.forName(className.toString());
-                return (AbstractMT) mtClass.getConstructor(SwiftMessage.class).newInstance(this);
+                final AbstractMT mt = MtFactory.create(type, variant, this);
+                if (mt != null) {
+                    return mt;
+                }
+                log.warning("Could not create instance of MT" + type + (variant != null ? " " + variant : "")
+                        + ": unsupported message type");
             } catch (final Exception e) {
-                log.warning("Could not create instance of " + className + ": " + e);
+                log.warning("Could not create instance of MT" + type + ": " + e);
             }
         }
         return null;
@@ -1717,7 +1825,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
             if (this.block4 == null) {
                 return false;
             }
-            return StringUtils.equals(this.block4.getTagValue(Field451.NAME), "0");
+            return StringUtils.equals(getBlock4().getTagValue(Field451.NAME), "0");
         }
         return false;
     }
@@ -1735,7 +1843,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
             if (this.block4 == null) {
                 return false;
             }
-            return StringUtils.equals(this.block4.getTagValue(Field451.NAME), "1");
+            return StringUtils.equals(getBlock4().getTagValue(Field451.NAME), "1");
         }
         return false;
     }
@@ -1780,11 +1888,11 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 7.8
      */
     public List<String> getTagNames() {
-        if (this.block4 == null || this.block4.isEmpty()) {
+        if (this.block4 == null || getBlock4().isEmpty()) {
             return Collections.emptyList();
         }
         final List<String> result = new ArrayList<>();
-        for (final Tag t : this.block4.getTags()) {
+        for (final Tag t : getBlock4().getTags()) {
             if (!result.contains(t.getName())) {
                 result.add(t.getName());
             }
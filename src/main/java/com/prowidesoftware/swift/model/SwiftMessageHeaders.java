@@ -0,0 +1,590 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Objects;
+
+/**
+ * Routing metadata of an MT message, read directly from the FIN content without a full parse.
+ *
+ * <p>The {@link #peek(CharSequence, Item...)} methods fill the headers in a single pass over the message, using the
+ * block 1 and block 2 fixed offsets and a targeted scan of the block 3, block 4 and block 5 tags. The scan stops as
+ * soon as all the requested items are resolved, and no {@link Tag} or block objects are created.
+ *
+ * <p>Only the first message in the content is read. The returned values are the same as the ones returned by the
+ * homonym methods in {@link SwiftMessage} for the parsed message; an item not requested or not present is null.
+ *
+ * <p>This is a best effort lenient scan, intended for routing and duplicate detection. Malformed content never
+ * produces an exception, the items that cannot be determined are just left null.
+ *
+ * @since 9.5.6
+ */
+public class SwiftMessageHeaders {
+
+    /**
+     * Items that can be requested to {@link SwiftMessageHeaders#peek(CharSequence, Item...)}
+     */
+    public enum Item {
+        TYPE(2),
+        SENDER(2),
+        RECEIVER(2),
+        DIRECTION(2),
+        PRIORITY(2),
+        MUR(4),
+        UETR(3),
+        REFERENCE(4),
+        PDE(5),
+        PDM(5);
+
+        /**
+         * Last block where the item can be found
+         */
+        private final int block;
+
+        Item(final int block) {
+            this.block = block;
+        }
+    }
+
+    private String type;
+    private String sender;
+    private String receiver;
+    private MessageIOType direction;
+    private String priority;
+    private String mur;
+    private String uetr;
+    private String reference;
+    private String pde;
+    private String pdm;
+
+    private SwiftMessageHeaders() {}
+
+    /**
+     * Reads the headers from the FIN content.
+     *
+     * @param fin   the message content in FIN format
+     * @param items the items to read, or none to read all of them
+     * @return the headers found, with null in all the items if the content does not contain a message
+     * @throws NullPointerException if fin is null
+     */
+    public static SwiftMessageHeaders peek(final CharSequence fin, final Item... items) {
+        Objects.requireNonNull(fin, "the FIN content cannot be null");
+        return new Scanner(fin, items).scan();
+    }
+
+    /**
+     * Reads the headers from the FIN content in a byte array, without decoding the whole content.
+     * <p>The content is expected to be in UTF-8 or any ASCII compatible encoding.
+     *
+     * @param fin   the message content in FIN format
+     * @param items the items to read, or none to read all of them
+     * @return the headers found, with null in all the items if the content does not contain a message
+     * @throws NullPointerException if fin is null
+     */
+    public static SwiftMessageHeaders peek(final byte[] fin, final Item... items) {
+        Objects.requireNonNull(fin, "the FIN content cannot be null");
+        return peek(fin, 0, fin.length, items);
+    }
+
+    /**
+     * Reads the headers from a region of a byte array containing FIN content, without decoding the whole content.
+     * <p>The content is expected to be in UTF-8 or any ASCII compatible encoding.
+     *
+     * @param fin    the message content in FIN format
+     * @param offset the index of the first byte to read
+     * @param length the number of bytes to read
+     * @param items  the items to read, or none to read all of them
+     * @return the headers found, with null in all the items if the region does not contain a message
+     * @throws NullPointerException      if fin is null
+     * @throws IndexOutOfBoundsException if the region is not within the array bounds
+     */
+    public static SwiftMessageHeaders peek(final byte[] fin, final int offset, final int length, final Item... items) {
+        Objects.requireNonNull(fin, "the FIN content cannot be null");
+        if (offset < 0 || length < 0 || offset > fin.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "offset " + offset + " and length " + length + " out of bounds for " + fin.length + " bytes");
+        }
+        return new Scanner(new ByteSequence(fin, offset, length), items).scan();
+    }
+
+    /**
+     * @return the message type from block 2, for example "103"
+     * @see SwiftMessage#getType()
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return the sender logical terminal address
+     * @see SwiftMessage#getSender()
+     */
+    public String getSender() {
+        return sender;
+    }
+
+    /**
+     * @return the receiver logical terminal address, always null for service messages
+     * @see SwiftMessage#getReceiver()
+     */
+    public String getReceiver() {
+        return receiver;
+    }
+
+    /**
+     * @return the message direction from block 2
+     * @see SwiftMessage#getDirection()
+     */
+    public MessageIOType getDirection() {
+        return direction;
+    }
+
+    /**
+     * @return the message priority from block 2
+     * @see SwiftBlock2#getMessagePriority()
+     */
+    public String getPriority() {
+        return priority;
+    }
+
+    /**
+     * @return the MUR (field 108), from block 4 for system messages or from block 3 otherwise
+     * @see SwiftMessage#getMUR()
+     */
+    public String getMUR() {
+        return mur;
+    }
+
+    /**
+     * @return the UETR (field 121 in block 3)
+     * @see SwiftMessage#getUETR()
+     */
+    public String getUETR() {
+        return uetr;
+    }
+
+    /**
+     * @return the value of the first field 20 in block 4, the sender's reference in most message types
+     */
+    public String getReference() {
+        return reference;
+    }
+
+    /**
+     * @return the PDE flag from block 5, an empty string if the flag is present with no value
+     * @see SwiftMessage#getPDE()
+     */
+    public String getPDE() {
+        return pde;
+    }
+
+    /**
+     * @return the PDM from block 5
+     * @see SwiftMessage#getPDM()
+     */
+    public String getPDM() {
+        return pdm;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SwiftMessageHeaders that = (SwiftMessageHeaders) o;
+        return Objects.equals(type, that.type)
+                && Objects.equals(sender, that.sender)
+                && Objects.equals(receiver, that.receiver)
+                && direction == that.direction
+                && Objects.equals(priority, that.priority)
+                && Objects.equals(mur, that.mur)
+                && Objects.equals(uetr, that.uetr)
+                && Objects.equals(reference, that.reference)
+                && Objects.equals(pde, that.pde)
+                && Objects.equals(pdm, that.pdm);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, sender, receiver, direction, priority, mur, uetr, reference, pde, pdm);
+    }
+
+    @Override
+    public String toString() {
+        return "SwiftMessageHeaders{type=" + type + ", sender=" + sender + ", receiver=" + receiver + ", direction="
+                + direction + ", priority=" + priority + ", mur=" + mur + ", uetr=" + uetr + ", reference="
+                + reference + ", pde=" + pde + ", pdm=" + pdm + "}";
+    }
+
+    /**
+     * Single pass scanner, consuming the blocks in order until all requested items are resolved
+     */
+    private static final class Scanner {
+        private final CharSequence in;
+        private final int end;
+        private final EnumSet<Item> pending;
+        private final SwiftMessageHeaders result = new SwiftMessageHeaders();
+
+        // block 1 and 2 values needed to compute the sender and receiver
+        private boolean block1;
+        private String serviceId;
+        private String logicalTerminal;
+        private String receiverAddress;
+        private String mirLogicalTerminal;
+
+        Scanner(final CharSequence in, final Item... items) {
+            this.in = in;
+            this.end = in.length();
+            this.pending = items == null || items.length == 0 ? EnumSet.allOf(Item.class) : EnumSet.noneOf(Item.class);
+            if (items != null) {
+                for (Item item : items) {
+                    this.pending.add(Objects.requireNonNull(item, "requested item cannot be null"));
+                }
+            }
+        }
+
+        SwiftMessageHeaders scan() {
+            final EnumSet<Item> requested = EnumSet.copyOf(pending);
+            int pos = 0;
+            int lastBlock = 0;
+            while (!pending.isEmpty() && pos < end) {
+                final int open = indexOf('{', pos);
+                if (open < 0) {
+                    break;
+                }
+                final int colon = indexOf(':', open + 1);
+                if (colon < 0) {
+                    break;
+                }
+                final int number = colon == open + 2 ? blockNumber(in.charAt(open + 1)) : 0;
+                if (number != 0 && number <= lastBlock) {
+                    // a new message starts, for example the original message after an ACK
+                    break;
+                }
+                final int close;
+                switch (number) {
+                    case 1:
+                        close = closing(colon + 1);
+                        block1(colon + 1, close);
+                        break;
+                    case 2:
+                        close = closing(colon + 1);
+                        block2(colon + 1, close);
+                        break;
+                    case 3:
+                        close = tagBlock(colon + 1, 3);
+                        break;
+                    case 4:
+                        close = colon + 1 < end && in.charAt(colon + 1) != '{'
+                                ? textBlock(colon + 1)
+                                : tagBlock(colon + 1, 4);
+                        break;
+                    case 5:
+                        close = tagBlock(colon + 1, 5);
+                        break;
+                    default:
+                        close = balancedClosing(colon + 1);
+                }
+                if (number != 0) {
+                    lastBlock = number;
+                    resolved(number);
+                }
+                pos = close + 1;
+            }
+            senderAndReceiver(requested);
+            // the type and direction are always read from block 2 because the other items depend on them
+            if (!requested.contains(Item.DIRECTION)) {
+                result.direction = null;
+            }
+            if (!requested.contains(Item.TYPE)) {
+                result.type = null;
+            }
+            return result;
+        }
+
+        /**
+         * Drops the pending items that can no longer be found after the given block
+         */
+        private void resolved(final int block) {
+            pending.removeIf(item -> item.block <= block);
+            if (block == 3 && !isSystemMessage()) {
+                // only system messages have the MUR in the block 4
+                pending.remove(Item.MUR);
+            }
+        }
+
+        private boolean isSystemMessage() {
+            return result.type == null || result.type.startsWith("0");
+        }
+
+        private void block1(final int start, final int close) {
+            block1 = true;
+            int offset = start;
+            if (close - offset > 1 && in.charAt(offset) == '1' && in.charAt(offset + 1) == ':') {
+                offset += 2;
+            }
+            serviceId = part(offset + 1, 2, close);
+            logicalTerminal = part(offset + 3, 12, close);
+        }
+
+        private void block2(final int start, final int close) {
+            int offset = start;
+            if (close - offset > 1 && in.charAt(offset) == '2' && in.charAt(offset + 1) == ':') {
+                offset += 2;
+            }
+            final boolean input;
+            if (offset < close && in.charAt(offset) == 'I') {
+                input = true;
+                result.direction = MessageIOType.outgoing;
+            } else if (offset < close && in.charAt(offset) == 'O') {
+                input = false;
+                result.direction = MessageIOType.incoming;
+            } else {
+                // same size heuristic as the lenient parser
+                input = close - start <= 23;
+            }
+            result.type = part(offset + 1, 3, close);
+            if (input) {
+                receiverAddress = part(offset + 4, 12, close);
+                if (pending.contains(Item.PRIORITY)) {
+                    result.priority = part(offset + 16, 1, close);
+                }
+            } else {
+                mirLogicalTerminal = part(offset + 14, 12, close);
+                if (pending.contains(Item.PRIORITY)) {
+                    // lenient parsing takes all remaining text as priority
+                    result.priority = part(offset + 46, close - offset - 46, close);
+                }
+            }
+        }
+
+        /**
+         * Same logic as {@link SwiftMessageUtils#sender(SwiftMessage)} and {@link SwiftMessageUtils#receiver(SwiftMessage)}
+         */
+        private void senderAndReceiver(final EnumSet<Item> requested) {
+            final boolean service = block1 && !"01".equals(serviceId);
+            if (requested.contains(Item.SENDER)) {
+                if (service || result.direction == MessageIOType.outgoing) {
+                    result.sender = logicalTerminal;
+                } else if (result.direction == MessageIOType.incoming) {
+                    result.sender = mirLogicalTerminal;
+                }
+            }
+            if (requested.contains(Item.RECEIVER) && !service) {
+                if (result.direction == MessageIOType.incoming) {
+                    result.receiver = logicalTerminal;
+                } else if (result.direction == MessageIOType.outgoing) {
+                    result.receiver = receiverAddress;
+                }
+            }
+        }
+
+        /**
+         * Scans a block with {tag:value} content, such as the block 3, block 5 or a system message block 4
+         *
+         * @return the index of the block closing brace or the end of input
+         */
+        private int tagBlock(final int start, final int block) {
+            int i = start;
+            while (i < end) {
+                final char c = in.charAt(i);
+                if (c == '}') {
+                    return i;
+                }
+                if (c != '{') {
+                    i++;
+                    continue;
+                }
+                final int nameStart = i + 1;
+                int nameEnd = nameStart;
+                while (nameEnd < end && in.charAt(nameEnd) != ':' && in.charAt(nameEnd) != '}') {
+                    nameEnd++;
+                }
+                int valueEnd = nameEnd;
+                while (valueEnd < end && in.charAt(valueEnd) != '}') {
+                    valueEnd++;
+                }
+                tag(block, nameStart, nameEnd, valueEnd);
+                i = valueEnd + 1;
+            }
+            return end;
+        }
+
+        private void tag(final int block, final int nameStart, final int nameEnd, final int valueEnd) {
+            final int valueStart = nameEnd < valueEnd ? nameEnd + 1 : valueEnd;
+            if (block == 3) {
+                if (pending.contains(Item.MUR) && result.mur == null && matches(nameStart, nameEnd, "108")) {
+                    result.mur = value(valueStart, valueEnd);
+                } else if (pending.contains(Item.UETR) && matches(nameStart, nameEnd, "121")) {
+                    result.uetr = value(valueStart, valueEnd);
+                    pending.remove(Item.UETR);
+                }
+            } else if (block == 4) {
+                if (pending.contains(Item.MUR) && matches(nameStart, nameEnd, "108")) {
+                    // in system messages the block 4 MUR has precedence
+                    result.mur = value(valueStart, valueEnd);
+                    pending.remove(Item.MUR);
+                } else if (pending.contains(Item.REFERENCE) && matches(nameStart, nameEnd, "20")) {
+                    result.reference = value(valueStart, valueEnd);
+                    pending.remove(Item.REFERENCE);
+                }
+            } else if (block == 5) {
+                if (pending.contains(Item.PDE) && matches(nameStart, nameEnd, "PDE")) {
+                    result.pde = value(valueStart, valueEnd);
+                    pending.remove(Item.PDE);
+                } else if (pending.contains(Item.PDM) && matches(nameStart, nameEnd, "PDM")) {
+                    result.pdm = value(valueStart, valueEnd);
+                    pending.remove(Item.PDM);
+                }
+            }
+        }
+
+        /**
+         * Scans a text block looking for the field 20 at the beginning of a line.
+         *
+         * @return the index of the block closing brace or the end of input, or the end of the field 20 if nothing
+         * else is needed after this block
+         */
+        private int textBlock(final int start) {
+            boolean lineStart = true;
+            int i = start;
+            while (i < end) {
+                final char c = in.charAt(i);
+                if (lineStart && c == '-' && i + 1 < end && in.charAt(i + 1) == '}') {
+                    return i + 1;
+                }
+                if (lineStart && c == ':' && pending.contains(Item.REFERENCE) && matches(i + 1, i + 4, "20:")) {
+                    int valueEnd = i + 4;
+                    while (valueEnd < end && in.charAt(valueEnd) != '\r' && in.charAt(valueEnd) != '\n') {
+                        valueEnd++;
+                    }
+                    result.reference = value(i + 4, valueEnd);
+                    pending.remove(Item.REFERENCE);
+                    if (!needsBlockAfter(4)) {
+                        return valueEnd;
+                    }
+                    i = valueEnd;
+                    continue;
+                }
+                lineStart = c == '\n';
+                i++;
+            }
+            return end;
+        }
+
+        private boolean needsBlockAfter(final int block) {
+            for (Item item : pending) {
+                if (item.block > block) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int closing(final int start) {
+            final int close = indexOf('}', start);
+            return close < 0 ? end : close;
+        }
+
+        private int balancedClosing(final int start) {
+            int depth = 1;
+            for (int i = start; i < end; i++) {
+                final char c = in.charAt(i);
+                if (c == '{') {
+                    depth++;
+                } else if (c == '}' && --depth == 0) {
+                    return i;
+                }
+            }
+            return end;
+        }
+
+        private int indexOf(final char c, final int from) {
+            for (int i = from; i < end; i++) {
+                if (in.charAt(i) == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean matches(final int from, final int to, final String s) {
+            if (to - from != s.length() || to > end) {
+                return false;
+            }
+            for (int i = 0; i < s.length(); i++) {
+                if (in.charAt(from + i) != s.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Same bounds logic as {@link SwiftValueBlock#getValuePart(String, int, int)}, null if start is out of bounds
+         */
+        private String part(final int start, final int size, final int close) {
+            if (start >= close || size <= 0) {
+                return null;
+            }
+            return value(start, Math.min(start + size, close));
+        }
+
+        private String value(final int from, final int to) {
+            return in.subSequence(from, to).toString();
+        }
+
+        private static int blockNumber(final char c) {
+            return c >= '1' && c <= '5' ? c - '0' : 0;
+        }
+    }
+
+    /**
+     * Char view over ASCII compatible bytes, where only the extracted values are decoded
+     */
+    private static final class ByteSequence implements CharSequence {
+        private final byte[] bytes;
+        private final int offset;
+        private final int length;
+
+        ByteSequence(final byte[] bytes, final int offset, final int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return (char) (bytes[offset + index] & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return new String(bytes, offset + start, end - start, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+    }
+}
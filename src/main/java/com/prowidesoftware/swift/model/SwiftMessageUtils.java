@@ -24,6 +24,7 @@ import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -139,6 +140,33 @@ public class SwiftMessageUtils {
      * @since 7.7
      */
     public static Calendar valueDate(final SwiftMessage m) {
+        final Field f = valueDateField(m);
+        if (f instanceof DateContainer) {
+            return ((DateContainer) f).dates().get(0);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the value date of a message as a LocalDate, from the same fields as {@link #valueDate(SwiftMessage)} and
+     * without creating any Calendar.
+     *
+     * @param m the message where the value date is to be found
+     * @return found date or null if the message does not defines a value date, or if the defined value date field is not present in the message
+     * @since 9.5.6
+     */
+    public static LocalDate valueLocalDate(final SwiftMessage m) {
+        final Field f = valueDateField(m);
+        if (f instanceof DateContainer) {
+            return DateResolver.localDate(f);
+        }
+        return null;
+    }
+
+    /**
+     * @return the field with the value date of the message, or null if not found
+     */
+    private static Field valueDateField(final SwiftMessage m) {
         if (m != null) {
             final SwiftBlock4 b4 = m.getBlock4();
             if (b4 != null && !b4.isEmpty()) {
@@ -228,9 +256,7 @@ public class SwiftMessageUtils {
                 if (t != null) {
                     f = t.asField();
                 }
-                if (f != null && f instanceof DateContainer) {
-                    return ((DateContainer) f).dates().get(0);
-                }
+                return f;
             }
         }
         return null;
@@ -425,16 +451,21 @@ public class SwiftMessageUtils {
      */
     public static Map<String, SwiftTagListBlock> splitByField15(final SwiftTagListBlock block) {
         final Map<String, SwiftTagListBlock> result = new HashMap<>();
-        if (block != null) {
+        final SequenceIndex index = block != null ? block.sequenceIndex() : null;
+        if (index != null) {
+            for (final String letter : index.letters15()) {
+                final int[] ranges = index.blocks15(letter);
+                // as in the scan, the last sequence for each letter option prevails
+                final int last = ranges.length - 2;
+                result.put(letter, block.copyOf(ranges[last], ranges[last + 1]));
+            }
+        } else if (block != null) {
             SwiftTagListBlock currentList = null;
             for (final Tag t : block.getTags()) {
-                if (t.getNumber() == 15) {
-                    final String letter = t.getLetterOption();
-                    if (letter != null && letter.length() == 1) {
-                        final SwiftTagListBlock thisList = new SwiftTagListBlock();
-                        result.put(letter, thisList);
-                        currentList = thisList;
-                    }
+                if (SequenceIndex.isField15Boundary(t)) {
+                    final SwiftTagListBlock thisList = new SwiftTagListBlock();
+                    result.put(t.getLetterOption(), thisList);
+                    currentList = thisList;
                 }
                 if (currentList != null) {
                     currentList.append(t);
@@ -471,19 +502,22 @@ public class SwiftMessageUtils {
         Objects.requireNonNull(letterOption);
         Validate.isTrue(StringUtils.length(letterOption) == 1, "letter option must be only one character");
         final List<SwiftTagListBlock> result = new ArrayList<>();
-        if (block != null) {
+        final SequenceIndex index = block != null ? block.sequenceIndex() : null;
+        if (index != null) {
+            final int[] ranges = index.blocks15(letterOption);
+            for (int i = 0; i < ranges.length; i += 2) {
+                result.add(block.copyOf(ranges[i], ranges[i + 1]));
+            }
+        } else if (block != null) {
             SwiftTagListBlock currentList = null;
             for (final Tag t : block.getTags()) {
-                if (t.getNumber() == 15) {
-                    final String letter = t.getLetterOption();
-                    if (letter != null && letter.length() == 1) {
-                        if (letter.equals(letterOption)) {
-                            final SwiftTagListBlock thisList = new SwiftTagListBlock();
-                            result.add(thisList);
-                            currentList = thisList;
-                        } else {
-                            currentList = null;
-                        }
+                if (SequenceIndex.isField15Boundary(t)) {
+                    if (t.getLetterOption().equals(letterOption)) {
+                        final SwiftTagListBlock thisList = new SwiftTagListBlock();
+                        result.add(thisList);
+                        currentList = thisList;
+                    } else {
+                        currentList = null;
                     }
                 }
                 if (currentList != null) {
@@ -46,12 +46,36 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
             java.util.logging.Logger.getLogger(SwiftTagListBlock.class.getName());
     private static final String TAG_VALIDATION_MESSAGE = "parameter 'tag' cannot not be null";
     private static final String NAME_VALIDATION_MESSAGE = "parameter 'name' cannot not be null";
+
+    /**
+     * Minimum number of tags for the sequences to be searched through a {@link SequenceIndex}, smaller blocks are
+     * just scanned
+     */
+    static final int SEQUENCE_INDEX_THRESHOLD = 64;
+
+    /**
+     * Minimum number of tags for the searches by tag name or number to be done through a {@link TagNameIndex},
+     * smaller blocks are just scanned
+     */
+    static final int NAME_INDEX_THRESHOLD = 32;
+
     /**
      * Contains instances of Tag in this block, used to store the block's fields.
      *
      * @see Tag
      */
-    private List<Tag> tags = new ArrayList<>();
+    private List<Tag> tags = new TagList();
+
+    /**
+     * Positions of the sequences in this block, created on first use and discarded when the tags are modified
+     */
+    private transient SequenceIndex sequenceIndex;
+
+    /**
+     * Positions of the tags in this block by name and number, created on first use and discarded when the tags are
+     * modified other than by appending
+     */
+    private transient TagNameIndex nameIndex;
 
     /**
      * Default constructor, shouldn't be used normally.
@@ -103,10 +127,70 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @see #setTags(List)
      */
     public void setTags(final Tag[] tags) {
-        List<Tag> list = new ArrayList<>(Arrays.asList(tags));
+        List<Tag> list = new TagList(Arrays.asList(tags));
         setTags(list);
     }
 
+    /**
+     * Replaces the storage of the tags in this block by a compact representation, where the tag names are kept as
+     * ids and all the values share a single char array. This reduces the memory used by blocks with many fields, for
+     * example when parsed messages are kept in a cache.
+     *
+     * <p>All the read methods of the block work the same on the compact storage. The tags are created on each access
+     * though, so two reads of the same position return different instances. Any modification of the block, of the
+     * list returned by {@link #getTags()}, or of a tag read from the block through its setters, expands the storage
+     * back into regular tag instances, keeping the modified tag in the block. Tags read while compact, including the
+     * ones in sub blocks, keep writing their changes back to their original position after the expansion, unless the
+     * tag at that position was removed or replaced in the meantime, in which case the change is lost.
+     *
+     * <p>The block is left as is if any of its tags has unparsed texts or is a subclass of {@link Tag}.
+     *
+     * @return true if the block storage was made compact, false if it was empty, already compact or could not be
+     * made compact
+     * @see com.prowidesoftware.swift.io.parser.SwiftParserConfiguration#isCompactTextBlock()
+     * @since 9.5.6
+     */
+    public boolean compact() {
+        final List<Tag> list = this.tags;
+        if (list == null || list.isEmpty() || isCompact()) {
+            return false;
+        }
+        for (final Tag t : list) {
+            if (!CompactTagList.accepts(t)) {
+                return false;
+            }
+        }
+        this.tags = new CompactTagList(list, this);
+        this.sequenceIndex = null;
+        this.nameIndex = null;
+        return true;
+    }
+
+    /**
+     * Switches the block to the expanded list of its compact storage, so that it can be indexed again
+     *
+     * @param list     the compact list being expanded
+     * @param expanded the list with the expanded tags
+     */
+    void expanded(final CompactTagList list, final TagList expanded) {
+        if (this.tags == list) {
+            this.tags = expanded;
+            this.sequenceIndex = null;
+            this.nameIndex = null;
+        }
+    }
+
+    /**
+     * Tells if the tags of this block are kept in the compact storage and have not been modified since.
+     *
+     * @return true if the block is compact
+     * @see #compact()
+     * @since 9.5.6
+     */
+    public boolean isCompact() {
+        return this.tags instanceof CompactTagList && ((CompactTagList) this.tags).isCompact();
+    }
+
     /**
      * Iterate through tags in this block and return the first tag whose name matches the parameter.
      *
@@ -116,8 +200,13 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public Tag getTagByName(final String name) {
         Objects.requireNonNull(name, NAME_VALIDATION_MESSAGE);
+        final int[] positions = indexedByName(name);
+        if (positions != null) {
+            return positions.length == 0 ? null : this.tags.get(positions[0]);
+        }
+        final TagName n = TagName.of(name);
         for (Tag tag : this.tags) {
-            if (StringUtils.equals(tag.getName(), name)) {
+            if (tag.hasName(n)) {
                 return tag;
             }
         }
@@ -185,8 +274,17 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public Tag[] getTagsByName(final String name) {
         Objects.requireNonNull(name, NAME_VALIDATION_MESSAGE);
+        final int[] positions = indexedByName(name);
+        if (positions != null) {
+            final Tag[] result = new Tag[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                result[i] = this.tags.get(positions[i]);
+            }
+            return result;
+        }
+        final TagName n = TagName.of(name);
         return this.tags.stream()
-                .filter(tag -> StringUtils.equals(tag.getName(), name))
+                .filter(tag -> tag.hasName(n))
                 .toArray(Tag[]::new);
     }
 
@@ -218,6 +316,10 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @return the first tag with the given number or null if no tag is found.
      */
     public Tag getTagByNumber(final int tagNumber) {
+        final int[] positions = indexedByNumber(tagNumber);
+        if (positions != null) {
+            return positions.length == 0 ? null : this.tags.get(positions[0]);
+        }
         for (Tag tag : this.tags) {
             if (tag.isNumber(tagNumber)) {
                 return tag;
@@ -233,6 +335,10 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @return the tags matching the given number or an empty list if none is found.
      */
     public List<Tag> getTagsByNumber(final int tagNumber) {
+        final int[] positions = indexedByNumber(tagNumber);
+        if (positions != null) {
+            return tagsAt(positions);
+        }
         return tags.stream().filter(tag -> tag.isNumber(tagNumber)).collect(Collectors.toList());
     }
 
@@ -326,7 +432,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         Objects.requireNonNull(name, NAME_VALIDATION_MESSAGE);
 
         final boolean wildcard = name.endsWith("a");
-        for (Tag tag : this.tags) {
+        for (Tag tag : candidates(wildcard, name)) {
             if (matchesName(wildcard, tag.getName(), name)) {
                 final Field field = tag.asField();
                 if (field == null) {
@@ -353,7 +459,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
 
         final boolean wildcard = name.endsWith("a");
         final List<Field> l = new ArrayList<>();
-        for (Tag tag : this.tags) {
+        for (Tag tag : candidates(wildcard, name)) {
             if (matchesName(wildcard, tag.getName(), name)) {
                 final Field field = tag.asField();
                 if (field == null) {
@@ -380,7 +486,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
 
         final boolean wildcard = name.endsWith("a");
         final List<Tag> l = new ArrayList<>();
-        for (Tag tag : this.tags) {
+        for (Tag tag : candidates(wildcard, name)) {
             if (matchesName(wildcard, tag.getName(), name)) {
                 if (componentValue == null) {
                     l.add(tag);
@@ -395,6 +501,24 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         return l;
     }
 
+    /**
+     * @param wildcard if true the name ends with the 'a' wildcard, and all tags are returned
+     * @param name     the tag name to search
+     * @return the tags to match against the given name, narrowed down to the tags with the name if the block is indexed
+     */
+    private List<Tag> candidates(final boolean wildcard, final String name) {
+        final int[] positions = wildcard ? null : indexedByName(name);
+        return positions != null ? tagsAt(positions) : this.tags;
+    }
+
+    private List<Tag> tagsAt(final int[] positions) {
+        final List<Tag> result = new ArrayList<>(positions.length);
+        for (final int p : positions) {
+            result.add(this.tags.get(p));
+        }
+        return result;
+    }
+
     /**
      * Returns true if the found fieldname matches the expected name
      *
@@ -531,8 +655,13 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public int countByName(final String name) {
         Objects.requireNonNull(name, NAME_VALIDATION_MESSAGE);
+        final int[] positions = indexedByName(name);
+        if (positions != null) {
+            return positions.length;
+        }
+        final TagName n = TagName.of(name);
         return tags.stream()
-                .filter(tag -> StringUtils.equals(tag.getName(), name))
+                .filter(tag -> tag.hasName(n))
                 .mapToInt(i -> 1)
                 .sum();
     }
@@ -558,9 +687,14 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public String removeTag(final String name) {
         Objects.requireNonNull(name, NAME_VALIDATION_MESSAGE);
+        final int[] positions = indexedByName(name);
+        if (positions != null) {
+            return positions.length == 0 ? null : tags.remove(positions[0]).getValue();
+        }
+        final TagName n = TagName.of(name);
         int i = 0;
         for (Tag t : tags) {
-            if (StringUtils.equals(t.getName(), name)) {
+            if (t.hasName(n)) {
                 final Tag r = tags.remove(i);
                 return r.getValue();
             }
@@ -638,11 +772,143 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     private List<Tag> thisTagsNotNull() {
         if (this.tags == null) {
-            this.tags = new ArrayList<>();
+            this.tags = new TagList();
         }
         return this.tags;
     }
 
+    /**
+     * Gets the positions of the sequences in this block, building them if the block was modified since the last call.
+     *
+     * @return the sequence index, or null if the block is too small to be worth indexing or its tags are stored in a
+     * list not created by this class, where modifications cannot be tracked
+     * @since 9.5.6
+     */
+    SequenceIndex sequenceIndex() {
+        final List<Tag> list = this.tags;
+        if (!(list instanceof TagList) || list.size() < SEQUENCE_INDEX_THRESHOLD) {
+            return null;
+        }
+        SequenceIndex index = this.sequenceIndex;
+        if (index == null || !index.isValid(list)) {
+            index = new SequenceIndex((TagList) list);
+            this.sequenceIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the positions of the tags by name and number, building them if the block was modified since the last call,
+     * other than by appending tags.
+     *
+     * @return the name index, or null if the block is too small to be worth indexing or its tags are stored in a list
+     * not created by this class, where modifications cannot be tracked
+     * @since 9.5.6
+     */
+    TagNameIndex nameIndex() {
+        final List<Tag> list = this.tags;
+        if (!(list instanceof TagList) || list.size() < NAME_INDEX_THRESHOLD) {
+            return null;
+        }
+        TagNameIndex index = this.nameIndex;
+        if (index == null || !index.isValid(list)) {
+            index = new TagNameIndex((TagList) list);
+            this.nameIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * @param name a tag name
+     * @return the positions of the tags with the given name, or null if the block is not indexed
+     */
+    private int[] indexedByName(final String name) {
+        if (this.tags instanceof CompactTagList) {
+            return ((CompactTagList) this.tags).positions(TagName.of(name));
+        }
+        final TagNameIndex index = nameIndex();
+        if (index == null) {
+            return null;
+        }
+        final int[] positions = index.byName(name);
+        final TagName n = TagName.of(name);
+        for (final int p : positions) {
+            if (!this.tags.get(p).hasName(n)) {
+                // a tag was renamed in place after the index was built
+                this.nameIndex = null;
+                return null;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * @param number a tag number
+     * @return the positions of the tags with the given number, or null if the block is not indexed
+     */
+    private int[] indexedByNumber(final int number) {
+        if (this.tags instanceof CompactTagList) {
+            return ((CompactTagList) this.tags).positions(number);
+        }
+        final TagNameIndex index = nameIndex();
+        if (index == null) {
+            return null;
+        }
+        final int[] positions = index.byNumber(number);
+        for (final int p : positions) {
+            if (!this.tags.get(p).isNumber(number)) {
+                // a tag was renamed in place after the index was built
+                this.nameIndex = null;
+                return null;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Adds a tag at the end of the list, keeping the name index if it was up to date
+     */
+    private void add(final Tag tag) {
+        final TagNameIndex index = this.nameIndex;
+        final boolean indexed = index != null && index.isValid(this.tags);
+        this.tags.add(tag);
+        if (indexed) {
+            index.appended();
+        }
+    }
+
+    /**
+     * @param names tag names
+     * @return the canonical parts of each name, to compare them with the tags by identity
+     */
+    private static TagName[] tagNames(final String... names) {
+        final TagName[] result = new TagName[names.length];
+        for (int i = 0; i < names.length; i++) {
+            result[i] = TagName.of(names[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Checks the indexed sequences still start with the expected tag. Changes made through the {@link Tag} setters
+     * already discard the index, this covers tag subclasses writing their name or value fields directly.
+     */
+    private boolean startsMatch(final int[] ranges, final Tag start) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (!start.equalsIgnoreCR(this.tags.get(ranges[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a new block with a copy of the tags between the given indexes, both inclusive
+     */
+    SwiftTagListBlock copyOf(final int start, final int end) {
+        return new SwiftTagListBlock(new TagList(this.tags.subList(start, end + 1)));
+    }
+
     /**
      * Gets the number of tags in this taglist
      *
@@ -668,6 +934,27 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         return this.tags.set(index, tag);
     }
 
+    /**
+     * Sets the value of the first tag with the given name, storing the tag back in the block so that the change is
+     * kept regardless of the block storage.
+     *
+     * @param name  the tag name
+     * @param value the new value
+     * @return the updated tag or null if no tag with the given name is found
+     * @see #compact()
+     * @since 9.5.6
+     */
+    Tag setTagValue(final String name, final String value) {
+        final int index = indexOfFirst(name);
+        if (index < 0) {
+            return null;
+        }
+        final Tag t = this.tags.get(index);
+        t.setValue(value);
+        this.tags.set(index, t);
+        return t;
+    }
+
     /**
      * Tells if the block contains at least one Tag.
      *
@@ -712,6 +999,16 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @since 6.0
      */
     public List<SwiftTagListBlock> getSubBlocks(final Tag start, final Tag end) {
+        final SequenceIndex index = isSequenceDelimiter(start, end) ? sequenceIndex() : null;
+        final int[] ranges = index != null ? index.blocks16(start.getValue()) : null;
+        if (ranges != null && startsMatch(ranges, start)) {
+            final List<SwiftTagListBlock> result = new ArrayList<>(ranges.length / 2);
+            for (int i = 0; i < ranges.length; i += 2) {
+                result.add(copyOf(ranges[i], ranges[i + 1]));
+            }
+            return result;
+        }
+
         final List<SwiftTagListBlock> result = new ArrayList<>();
 
         SwiftTagListBlock toAdd = null;
@@ -740,6 +1037,19 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         return result;
     }
 
+    /**
+     * @return true if the tags are a 16R and 16S with the same qualifier, as used to delimit the ISO 15022 sequences
+     */
+    private static boolean isSequenceDelimiter(final Tag start, final Tag end) {
+        return end != null
+                && start.unparsedTexts == null
+                && end.unparsedTexts == null
+                && Field16R.NAME.equals(start.getName())
+                && Field16S.NAME.equals(end.getName())
+                && StringUtils.equals(
+                        StringUtils.replace(start.getValue(), "\r", ""), StringUtils.replace(end.getValue(), "\r", ""));
+    }
+
     /**
      * Gets all sub blocks with a specific name, using ISO 15022 FIN block structure definitions.
      * It searches for a starting 16R field (with blockName as value) and its correspondent 16S
@@ -824,21 +1134,23 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
     private List<SwiftTagListBlock> _getSubBlocks(
             final int startTagNumber, final String startTagLetter, final int endTagNumber, final String endTagLetter) {
         final List<SwiftTagListBlock> result = new ArrayList<>();
+        final TagName startTagName = startTagLetter != null ? TagName.of(startTagNumber + startTagLetter) : null;
+        final TagName endTagName = endTagLetter != null ? TagName.of(endTagNumber + endTagLetter) : null;
 
         SwiftTagListBlock toAdd = null;
         boolean blockFound = false;
         for (Tag t : this.tags) {
             if (blockFound) {
                 toAdd.append(t);
-                if ((endTagLetter != null && StringUtils.equals(t.getName(), endTagNumber + endTagLetter))
-                        || (endTagLetter == null && t.isNumber(endTagNumber))) {
+                if ((endTagName != null && t.hasName(endTagName))
+                        || (endTagName == null && t.isNumber(endTagNumber))) {
                     result.add(toAdd);
                     blockFound = false;
                     toAdd = null;
                 }
             } else {
-                if ((startTagLetter != null && StringUtils.equals(t.getName(), startTagNumber + startTagLetter))
-                        || (startTagLetter == null && t.isNumber(startTagNumber))) {
+                if ((startTagName != null && t.hasName(startTagName))
+                        || (startTagName == null && t.isNumber(startTagNumber))) {
                     toAdd = new SwiftTagListBlock();
                     toAdd.append(t);
                     blockFound = true;
@@ -896,6 +1208,11 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @since 6.0
      */
     public SwiftTagListBlock getSubBlock(final Tag start, final Tag end) {
+        final SequenceIndex index = isSequenceDelimiter(start, end) ? sequenceIndex() : null;
+        final int[] ranges = index != null ? index.blocks16(start.getValue()) : null;
+        if (ranges != null && startsMatch(ranges, start)) {
+            return ranges.length == 0 ? new SwiftTagListBlock() : copyOf(ranges[0], ranges[1]);
+        }
         final List<SwiftTagListBlock> l = getSubBlocks(start, end);
         if (l.isEmpty()) {
             return new SwiftTagListBlock();
@@ -1173,11 +1490,12 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         if (this.tags.isEmpty() || !containsTag(tagName)) {
             result.add(this);
         } else {
+            final TagName n = TagName.of(tagName);
             SwiftTagListBlock b = new SwiftTagListBlock();
             b.append(tags.get(0));
             for (int i = 1; i < tags.size(); i++) {
                 final Tag t = tags.get(i);
-                if (StringUtils.equals(tagName, t.getName())) {
+                if (t.hasName(n)) {
                     result.add(b);
                     b = new SwiftTagListBlock();
                 }
@@ -1197,11 +1515,15 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @return a 0-based index of the found tag or -1 if not found
      */
     public int indexOfLast(final String tagname) {
+        final int[] positions = indexedByName(tagname);
+        if (positions != null) {
+            return positions.length == 0 ? -1 : positions[positions.length - 1];
+        }
         int result = -1;
         if (this.tags != null && !this.tags.isEmpty()) {
-
+            final TagName n = TagName.of(tagname);
             for (int i = 0; i < this.tags.size(); i++) {
-                if (StringUtils.equals(tagname, this.tags.get(i).getName())) {
+                if (this.tags.get(i).hasName(n)) {
                     result = i;
                 }
             }
@@ -1218,10 +1540,9 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
     public int indexOfLastValue(final String tagname, final String value) {
         int result = -1;
         if (this.tags != null && !this.tags.isEmpty()) {
-
+            final TagName n = TagName.of(tagname);
             for (int i = 0; i < this.tags.size(); i++) {
-                if (StringUtils.equals(tagname, this.tags.get(i).getName())
-                        && StringUtils.equals(value, this.tags.get(i).getValue())) {
+                if (this.tags.get(i).hasName(n) && StringUtils.equals(value, this.tags.get(i).getValue())) {
                     result = i;
                 }
             }
@@ -1238,9 +1559,10 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
     public int indexOfAnyLast(final String... tagnames) {
         int result = -1;
         if (this.tags != null && !this.tags.isEmpty()) {
+            final TagName[] names = tagNames(tagnames);
             for (int i = 0; i < this.tags.size(); i++) {
-                for (final String tn : tagnames) {
-                    if (StringUtils.equals(tn, this.tags.get(i).getName())) {
+                for (final TagName tn : names) {
+                    if (this.tags.get(i).hasName(tn)) {
                         result = i;
                     }
                 }
@@ -1255,9 +1577,10 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
     public int indexOfAnyLastAfterIndex(final int index, final String... tagnames) {
         int result = -1;
         if (this.tags != null && !this.tags.isEmpty()) {
+            final TagName[] names = tagNames(tagnames);
             for (int i = index; i < this.tags.size(); i++) {
-                for (final String tn : tagnames) {
-                    if (StringUtils.equals(tn, this.tags.get(i).getName())) {
+                for (final TagName tn : names) {
+                    if (this.tags.get(i).hasName(tn)) {
                         result = i;
                     }
                 }
@@ -1289,10 +1612,14 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @return a 0-based index of the found tag or -1 if not found
      */
     public int indexOfFirst(final String tagname) {
+        final int[] positions = indexedByName(tagname);
+        if (positions != null) {
+            return positions.length == 0 ? -1 : positions[0];
+        }
         if (this.tags != null && !this.tags.isEmpty()) {
-
+            final TagName n = TagName.of(tagname);
             for (int i = 0; i < this.tags.size(); i++) {
-                if (StringUtils.equals(tagname, this.tags.get(i).getName())) {
+                if (this.tags.get(i).hasName(n)) {
                     return i;
                 }
             }
@@ -1323,12 +1650,11 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     private int indexOfFirstValue(final String tagname, final String value, boolean ignoreCR) {
         if (this.tags != null && !this.tags.isEmpty()) {
+            final TagName n = TagName.of(tagname);
             for (int i = 0; i < this.tags.size(); i++) {
                 final Tag t = this.tags.get(i);
                 if ((ignoreCR && t.equalsIgnoreCR(new Tag(tagname, value)))
-                        || (!ignoreCR
-                                && StringUtils.equals(tagname, t.getName())
-                                && StringUtils.equals(value, t.getValue()))) {
+                        || (!ignoreCR && t.hasName(n) && StringUtils.equals(value, t.getValue()))) {
                     return i;
                 }
             }
@@ -1343,9 +1669,10 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public int indexOfAnyFirst(final String... tagnames) {
         if (this.tags != null && !this.tags.isEmpty()) {
+            final TagName[] names = tagNames(tagnames);
             for (int i = 0; i < this.tags.size(); i++) {
-                for (final String tn : tagnames) {
-                    if (StringUtils.equals(tn, this.tags.get(i).getName())) {
+                for (final TagName tn : names) {
+                    if (this.tags.get(i).hasName(tn)) {
                         return i;
                     }
                 }
@@ -1361,9 +1688,10 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public int indexOfAnyFirstAfterIndex(final int index, final String... tagnames) {
         if (this.tags != null && !this.tags.isEmpty()) {
+            final TagName[] names = tagNames(tagnames);
             for (int i = index; i < this.tags.size(); i++) {
-                for (final String tn : tagnames) {
-                    if (StringUtils.equals(tn, this.tags.get(i).getName())) {
+                for (final TagName tn : names) {
+                    if (this.tags.get(i).hasName(tn)) {
                         return i;
                     }
                 }
@@ -1553,6 +1881,22 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public List<SwiftTagListBlock> getSubBlocksDelimitedWithOptionalTail(
             final String[] start, final String[] end, final String[] tail) {
+        final SequenceIndex index = sequenceIndex();
+        if (index != null) {
+            final List<Tag[]> found = index.delimited(
+                    delimitedKey("list", start, end, tail),
+                    () -> toArrays(findSubBlocksDelimitedWithOptionalTail(start, end, tail)));
+            final List<SwiftTagListBlock> result = new ArrayList<>(found.size());
+            for (final Tag[] t : found) {
+                result.add(new SwiftTagListBlock(new TagList(Arrays.asList(t))));
+            }
+            return result;
+        }
+        return findSubBlocksDelimitedWithOptionalTail(start, end, tail);
+    }
+
+    private List<SwiftTagListBlock> findSubBlocksDelimitedWithOptionalTail(
+            final String[] start, final String[] end, final String[] tail) {
         if (tags != null && !tags.isEmpty()) {
             final List<SwiftTagListBlock> result = new ArrayList<>();
             int offset = 0;
@@ -1568,11 +1912,12 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
                     final SwiftTagListBlock l = sublist(s, e);
                     if (tail != null && tail.length > 0) {
                         boolean abort = false;
+                        final TagName[] tailNames = tagNames(tail);
                         for (int i = e + 1; i < tags.size() && !abort; i++) {
                             boolean added = false;
-                            for (final String tn : tail) {
+                            for (final TagName tn : tailNames) {
                                 final Tag tag = tags.get(i);
-                                if (StringUtils.equals(tag.getName(), tn)) {
+                                if (tag.hasName(tn)) {
                                     l.append(tag);
                                     offset++;
                                     added = true;
@@ -1690,6 +2035,39 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public SwiftTagListBlock getSubBlockDelimitedWithOptionalTail(
             final String[] start, final String[] end, final String[] tail) {
+        final SequenceIndex index = sequenceIndex();
+        if (index != null) {
+            final List<Tag[]> found = index.delimited(delimitedKey("first", start, end, tail), () -> {
+                final SwiftTagListBlock b = findSubBlockDelimitedWithOptionalTail(start, end, tail);
+                return b == null ? Collections.emptyList() : toArrays(Collections.singletonList(b));
+            });
+            return found.isEmpty() ? null : new SwiftTagListBlock(new TagList(Arrays.asList(found.get(0))));
+        }
+        return findSubBlockDelimitedWithOptionalTail(start, end, tail);
+    }
+
+    /**
+     * @return a key for the sequences delimited with optional tail in the sequence index
+     */
+    private static List<Object> delimitedKey(
+            final String kind, final String[] start, final String[] end, final String[] tail) {
+        return Arrays.asList(
+                kind,
+                start == null ? null : Arrays.asList(start.clone()),
+                end == null ? null : Arrays.asList(end.clone()),
+                tail == null ? null : Arrays.asList(tail.clone()));
+    }
+
+    private static List<Tag[]> toArrays(final List<SwiftTagListBlock> blocks) {
+        final List<Tag[]> result = new ArrayList<>(blocks.size());
+        for (final SwiftTagListBlock b : blocks) {
+            result.add(b.getTags().toArray(new Tag[0]));
+        }
+        return result;
+    }
+
+    private SwiftTagListBlock findSubBlockDelimitedWithOptionalTail(
+            final String[] start, final String[] end, final String[] tail) {
         if (tags != null && !tags.isEmpty()) {
             final int s = indexOfAnyFirst(start);
             final int e = indexOfAnyFirstAfterIndex(s + 1, end);
@@ -1699,11 +2077,12 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
                 if (tail == null || tail.length == 0) {
                     return result;
                 }
+                final TagName[] tailNames = tagNames(tail);
                 boolean abort = false;
                 for (int i = e + 1; i < tags.size() && !abort; i++) {
                     boolean added = false;
-                    for (final String tn : tail) {
-                        if (StringUtils.equals(tags.get(i).getName(), tn)) {
+                    for (final TagName tn : tailNames) {
+                        if (tags.get(i).hasName(tn)) {
                             result.append(tags.get(i));
                             added = true;
                         }
@@ -1811,8 +2190,9 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
     public int countTagsStarsWith(final String name, final String value) {
         int result = 0;
         if (this.tags != null && !this.tags.isEmpty()) {
+            final TagName n = TagName.of(name);
             for (final Tag t : this.tags) {
-                if (StringUtils.equals(name, t.getName()) && t.startsWith(value)) {
+                if (t.hasName(n) && t.startsWith(value)) {
                     result++;
                 }
             }
@@ -1833,9 +2213,9 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         }
 
         final List<Tag> updatedTags = new ArrayList<>();
-
+        final TagName n = TagName.of(name);
         for (Tag t : this.tags) {
-            if (StringUtils.equals(t.getName(), name) && StringUtils.startsWith(t.getValue(), startsWith)) {
+            if (t.hasName(n) && StringUtils.startsWith(t.getValue(), startsWith)) {
                 break;
             } else {
                 updatedTags.add(t);
@@ -1910,7 +2290,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public SwiftTagListBlock append(final Tag tag) {
         Validate.isTrue(tag != null);
-        this.tags.add(tag);
+        add(tag);
         return this;
     }
 
@@ -1941,7 +2321,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public SwiftTagListBlock append(final Field field) {
         Validate.isTrue(field != null);
-        this.tags.add(field.asTag());
+        add(field.asTag());
         return this;
     }
 
@@ -2068,7 +2448,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         final List<SwiftTagListBlock> result = new ArrayList<>();
         SwiftTagListBlock currentBlock = null;
         for (final Tag t : this.tags) {
-            if (t.getNumber() == tagNumber) {
+            if (t.isNumber(tagNumber)) {
                 final String letter = t.getLetterOption();
                 if (letterOption == null || letterOption.equals(letter)) {
                     currentBlock = new SwiftTagListBlock();
@@ -2108,6 +2488,55 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         LAST_TAG_NAME
     }
 
+    /**
+     * The list where the block tags are stored, counting the modifications to tell when a {@link SequenceIndex}
+     * built from it is no longer valid.
+     *
+     * <p>Both the structural modifications and the replacement of elements are counted. Changes made to the Tag
+     * instances in the list through their setters are counted in {@link #edits()} once the tags are indexed. Changes
+     * made through a sub list view are not detected.
+     *
+     * @since 9.5.6
+     */
+    static final class TagList extends ArrayList<Tag> {
+        private static final long serialVersionUID = 1L;
+
+        private transient int replacements;
+        private transient TagEdits edits;
+
+        TagList() {
+            super();
+        }
+
+        TagList(final Collection<? extends Tag> tags) {
+            super(tags);
+        }
+
+        @Override
+        public Tag set(final int index, final Tag element) {
+            final Tag previous = super.set(index, element);
+            this.replacements++;
+            return previous;
+        }
+
+        /**
+         * @return a number that changes every time the list is modified
+         */
+        int modifications() {
+            return this.modCount + this.replacements;
+        }
+
+        /**
+         * @return the count of the changes made to the tags tracked by this list
+         */
+        TagEdits edits() {
+            if (this.edits == null) {
+                this.edits = new TagEdits();
+            }
+            return this.edits;
+        }
+    }
+
     /**
      * Empty iterator to be used when an API that returns an Iterator does not return null.
      */
@@ -44,6 +44,24 @@ public class Tag implements Serializable {
      */
     protected UnparsedTextList unparsedTexts = null;
 
+    /**
+     * Number, letter option and canonical id of the tag name, shared by all tags with the same name. Checked against
+     * the current name before use since the name field can also be set directly by subclasses.
+     */
+    private transient TagName parsedName;
+
+    /**
+     * Count of the block list tracking the changes of this tag, set when the tag is first read by a block index
+     */
+    private transient TagEdits edits;
+
+    /**
+     * The compact list this tag was read from, to write back any change made to the tag, null for regular tags
+     */
+    private transient CompactTagList source;
+
+    private transient int sourceIndex;
+
     /**
      * Default constructor.
      */
@@ -56,7 +74,7 @@ public class Tag implements Serializable {
      * @since 9.2.11
      */
     public Tag(Tag tag) {
-        this.name = tag.getName();
+        setCanonicalName(tag.getName());
         this.value = tag.getValue();
         this.unparsedTexts = tag.unparsedTexts;
     }
@@ -90,7 +108,7 @@ public class Tag implements Serializable {
         int i = inner.indexOf(':');
         if (i >= 0) {
             if (i > 0) {
-                this.name = inner.substring(0, i);
+                setCanonicalName(inner.substring(0, i));
             }
             if (i + 1 < inner.length()) {
                 this.value = inner.substring(i + 1);
@@ -109,7 +127,7 @@ public class Tag implements Serializable {
      */
     public Tag(String tagname, String value) {
         Objects.requireNonNull(tagname, "tag name cannot be null");
-        this.name = tagname;
+        setCanonicalName(tagname);
         this.value = value;
     }
 
@@ -183,7 +201,17 @@ public class Tag implements Serializable {
         // sanity check
         Objects.requireNonNull(name, "parameter 'name' cannot be null");
 
-        this.name = name;
+        setCanonicalName(name);
+        edited();
+    }
+
+    /**
+     * Sets the name, replacing a known field name by its canonical instance so that tags do not keep their own copy
+     */
+    private void setCanonicalName(final String name) {
+        final TagName p = TagName.of(name);
+        this.parsedName = p;
+        this.name = p != null ? p.name : null;
     }
 
     /**
@@ -205,6 +233,39 @@ public class Tag implements Serializable {
      */
     public void setValue(String value) {
         this.value = value;
+        edited();
+    }
+
+    /**
+     * Gets the count tracking the changes of this tag, so that its changes invalidate the block indexes
+     *
+     * @param edits the count to use if the tag is not tracked yet
+     * @return the count tracking this tag
+     */
+    TagEdits trackedBy(final TagEdits edits) {
+        if (this.edits == null) {
+            this.edits = edits;
+        }
+        return this.edits;
+    }
+
+    /**
+     * Binds the tag to the compact list it was read from, so that its changes are written back to the list
+     */
+    void readFrom(final CompactTagList list, final int index) {
+        this.source = list;
+        this.sourceIndex = index;
+    }
+
+    private void edited() {
+        if (this.source != null) {
+            final CompactTagList list = this.source;
+            this.source = null;
+            list.edited(this, this.sourceIndex);
+        }
+        if (this.edits != null) {
+            this.edits.increment();
+        }
     }
 
     @Override
@@ -239,6 +300,7 @@ public class Tag implements Serializable {
     public void setUnparsedTexts(UnparsedTextList texts) {
 
         this.unparsedTexts = texts;
+        edited();
     }
 
     /**
@@ -382,7 +444,8 @@ public class Tag implements Serializable {
      * @return <code>true</code> if this tagname starts with the given number or <code>false</code> in any other case
      */
     public boolean isNumber(int n) {
-        return this.name != null && getNumber() != null && getNumber().equals(n);
+        final TagName p = tagName();
+        return p != null && p.number != TagName.NO_NUMBER && p.number == n;
     }
 
     /**
@@ -392,23 +455,8 @@ public class Tag implements Serializable {
      * @since 6.2
      */
     public Integer getNumber() {
-        if (this.name != null) {
-            final StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < this.name.length(); i++) {
-                char c = this.name.charAt(i);
-                if (Character.isDigit(c)) {
-                    sb.append(c);
-                }
-            }
-            if (sb.length() > 0) {
-                try {
-                    return Integer.parseInt(sb.toString());
-                } catch (NumberFormatException e) {
-                    return null;
-                }
-            }
-        }
-        return null;
+        final TagName p = tagName();
+        return p != null ? p.numberObject : null;
     }
 
     /**
@@ -417,19 +465,33 @@ public class Tag implements Serializable {
      * @return a string containing only letter characters of the tagname or null if no letters are found
      */
     public String getLetterOption() {
-        if (this.name != null) {
-            final StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < this.name.length(); i++) {
-                char c = this.name.charAt(i);
-                if (Character.isLetter(c)) {
-                    sb.append(c);
-                }
-            }
-            if (sb.length() > 0) {
-                return sb.toString();
-            }
+        final TagName p = tagName();
+        return p != null ? p.letterOption : null;
+    }
+
+    /**
+     * @return the parts of the current name, or null if the name is null
+     * @since 9.5.6
+     */
+    TagName tagName() {
+        final String n = this.name;
+        TagName p = this.parsedName;
+        if (p == null || !p.name.equals(n)) {
+            p = TagName.of(n);
+            this.parsedName = p;
         }
-        return null;
+        return p;
+    }
+
+    /**
+     * Tells if this tag has the given name, by identity of the canonical names when the name is a known one.
+     *
+     * @param other a tag name, may be null to match tags without name
+     * @return true if this tag name is the given one
+     * @since 9.5.6
+     */
+    boolean hasName(final TagName other) {
+        return TagName.same(tagName(), other);
     }
 
     /**
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.Arrays;
+
+/**
+ * Number of changes made through the {@link Tag} setters to the tags tracked by a block tag list.
+ *
+ * <p>A tag is tracked by the list of the first block index that reads it. Tags shared with other blocks, such as the
+ * ones in a sub block, keep reporting their changes to that same list, so the indexes of the other blocks depend on
+ * its count as well, see {@link Snapshot}.
+ *
+ * <p>Blocks are not thread safe, neither is this count.
+ *
+ * @since 9.5.6
+ */
+final class TagEdits {
+    private int count;
+
+    void increment() {
+        this.count++;
+    }
+
+    /**
+     * The counts of the lists tracking the tags of a block index, taken when the index is built
+     */
+    static final class Snapshot {
+        private TagEdits[] edits = new TagEdits[1];
+        private int[] counts = new int[1];
+        private int size;
+
+        /**
+         * Adds the count tracking the given tag, the list own count if the tag was not tracked yet
+         *
+         * @param tag a tag read by the index
+         * @param own the count of the list the index is built from
+         */
+        void track(final Tag tag, final TagEdits own) {
+            final TagEdits e = tag.trackedBy(own);
+            // consecutive tags are usually tracked by the same list
+            if (this.size > 0 && this.edits[this.size - 1] == e) {
+                return;
+            }
+            for (int i = 0; i < this.size - 1; i++) {
+                if (this.edits[i] == e) {
+                    return;
+                }
+            }
+            if (this.size == this.edits.length) {
+                this.edits = Arrays.copyOf(this.edits, this.size * 2);
+                this.counts = Arrays.copyOf(this.counts, this.size * 2);
+            }
+            this.edits[this.size] = e;
+            this.counts[this.size++] = e.count;
+        }
+
+        /**
+         * @return true if none of the tracked tags was modified since they were added to the snapshot
+         */
+        boolean unchanged() {
+            for (int i = 0; i < this.size; i++) {
+                if (this.edits[i].count != this.counts[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.model.field.FieldEnum;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The parts of a tag name: the number made of its digits and the letter option made of its letters, as returned by
+ * {@link Tag#getNumber()} and {@link Tag#getLetterOption()}.
+ *
+ * <p>Instances are immutable and shared by all the tags with the same name. The names of all the fields in the model,
+ * plus the block 5 trailers, are known in advance: each one has a single canonical instance with an interned name
+ * string and a small integer id, so tags with known names can be compared by identity.
+ *
+ * @since 9.5.6
+ */
+final class TagName {
+    /**
+     * Value of {@link #number} for names with no digits or a number not fitting in an int
+     */
+    static final int NO_NUMBER = -1;
+
+    /**
+     * Value of {@link #id} for names not known in advance
+     */
+    static final int UNKNOWN_ID = -1;
+
+    /**
+     * Maximum number of distinct unknown names kept, names seen after the limit is reached are parsed on each request
+     */
+    private static final int MAX_CACHED = 4096;
+
+    private static final Map<String, TagName> NAMES = new ConcurrentHashMap<>();
+    private static final int KNOWN;
+    private static final TagName[] BY_ID;
+
+    static {
+        int id = 0;
+        for (final FieldEnum field : FieldEnum.values()) {
+            id = register(field.fieldName(), id);
+        }
+        for (final SwiftBlock5Field field : SwiftBlock5Field.values()) {
+            id = register(field.name(), id);
+        }
+        KNOWN = id;
+        BY_ID = new TagName[id];
+        for (final TagName known : NAMES.values()) {
+            BY_ID[known.id] = known;
+        }
+    }
+
+    private static int register(final String name, final int id) {
+        if (NAMES.containsKey(name)) {
+            return id;
+        }
+        NAMES.put(name, new TagName(name.intern(), id));
+        return id + 1;
+    }
+
+    final String name;
+    final int id;
+    final int number;
+    final Integer numberObject;
+    final String letterOption;
+
+    private TagName(final String name, final int id) {
+        this.name = name;
+        this.id = id;
+        long n = 0;
+        boolean digits = false;
+        final StringBuilder letters = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (Character.isDigit(c)) {
+                digits = true;
+                if (n <= Integer.MAX_VALUE) {
+                    n = n * 10 + Character.digit(c, 10);
+                }
+            } else if (Character.isLetter(c)) {
+                letters.append(c);
+            }
+        }
+        this.number = digits && n <= Integer.MAX_VALUE ? (int) n : NO_NUMBER;
+        this.numberObject = this.number == NO_NUMBER ? null : this.number;
+        this.letterOption = letters.length() > 0 ? letters.toString() : null;
+    }
+
+    /**
+     * @param name a tag name
+     * @return the parts of the given name, the canonical instance for known names, or null if the name is null
+     */
+    static TagName of(final String name) {
+        if (name == null) {
+            return null;
+        }
+        final TagName cached = NAMES.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        final TagName parsed = new TagName(name, UNKNOWN_ID);
+        if (NAMES.size() < KNOWN + MAX_CACHED) {
+            final TagName previous = NAMES.putIfAbsent(name, parsed);
+            return previous != null ? previous : parsed;
+        }
+        return parsed;
+    }
+
+    /**
+     * @return the number of names known in advance, with ids from zero to this number exclusive
+     */
+    static int knownCount() {
+        return KNOWN;
+    }
+
+    /**
+     * @param id an id from zero to {@link #knownCount()} exclusive
+     * @return the known name with the given id
+     */
+    static TagName known(final int id) {
+        return BY_ID[id];
+    }
+
+    /**
+     * @param a a tag name
+     * @param b another tag name
+     * @return true if both are the same name, comparing by identity when any of them is a known name
+     */
+    static boolean same(final TagName a, final TagName b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null || a.id != UNKNOWN_ID || b.id != UNKNOWN_ID) {
+            return false;
+        }
+        return a.name.equals(b.name);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Positions of the tags in a block by tag name and by tag number, in ascending order.
+ *
+ * <p>The index is bound to the tag list it was built from and its modification count. Tags appended through the
+ * block are added to the index, while any other modification makes it invalid, including the change of the name or
+ * value of any indexed tag through the {@link Tag} setters, as counted by {@link TagEdits}.
+ *
+ * @since 9.5.6
+ */
+final class TagNameIndex {
+    private static final int[] NONE = new int[0];
+
+    private final SwiftTagListBlock.TagList tags;
+    private int modifications;
+    private final TagEdits.Snapshot edits = new TagEdits.Snapshot();
+
+    private final Map<String, Positions> byName = new HashMap<>();
+    private final Map<Integer, Positions> byNumber = new HashMap<>();
+
+    TagNameIndex(final SwiftTagListBlock.TagList tags) {
+        this.tags = tags;
+        this.modifications = tags.modifications();
+        for (int i = 0; i < tags.size(); i++) {
+            add(tags.get(i), i);
+        }
+    }
+
+    private void add(final Tag tag, final int position) {
+        this.edits.track(tag, this.tags.edits());
+        this.byName.computeIfAbsent(tag.getName(), k -> new Positions()).add(position);
+        final Integer number = tag.getNumber();
+        if (number != null) {
+            this.byNumber.computeIfAbsent(number, k -> new Positions()).add(position);
+        }
+    }
+
+    /**
+     * @param tags a tag list
+     * @return true if the index was built from the given list and neither the list nor its tags were modified since
+     */
+    boolean isValid(final List<Tag> tags) {
+        return this.tags == tags
+                && this.modifications == this.tags.modifications()
+                && this.edits.unchanged();
+    }
+
+    /**
+     * Adds the last tag of the list to the index, must be called right after appending a tag to a list where the index
+     * was valid.
+     */
+    void appended() {
+        final int position = this.tags.size() - 1;
+        add(this.tags.get(position), position);
+        this.modifications = this.tags.modifications();
+    }
+
+    /**
+     * @param name a tag name
+     * @return the positions of the tags with the given name, empty if none is found
+     */
+    int[] byName(final String name) {
+        final Positions p = this.byName.get(name);
+        return p == null ? NONE : p.toArray();
+    }
+
+    /**
+     * @param number a tag number
+     * @return the positions of the tags with the given number regardless of the letter option, empty if none is found
+     */
+    int[] byNumber(final int number) {
+        final Positions p = this.byNumber.get(number);
+        return p == null ? NONE : p.toArray();
+    }
+
+    /**
+     * Growable array of positions
+     */
+    private static final class Positions {
+        private int[] indexes = new int[2];
+        private int size;
+
+        void add(final int position) {
+            if (this.size == this.indexes.length) {
+                this.indexes = Arrays.copyOf(this.indexes, this.size * 2);
+            }
+            this.indexes[this.size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(this.indexes, this.size);
+        }
+    }
+}
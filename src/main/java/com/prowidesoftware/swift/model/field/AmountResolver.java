@@ -15,13 +15,12 @@
  */
 package com.prowidesoftware.swift.model.field;
 
-import com.prowidesoftware.swift.utils.ResolverUtils;
 import com.prowidesoftware.swift.utils.SwiftFormatUtils;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Helper API to detect amount component in fields.
@@ -48,14 +47,18 @@ public class AmountResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        // find all the non-null AMOUNT components
-        List<String> values = ResolverUtils.findNonNullWantedType(f.typesPattern(), 'I', f.getComponents());
+        // find all the AMOUNT components
+        List<String> values = FieldMetadata.select(f.getComponents(), FieldMetadata.of(f).getAmountMask());
 
-        // prepare the result and convert all that match
-        return values.stream()
-                .map(SwiftFormatUtils::getBigDecimal)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        // prepare the result and convert all the non-null that match
+        final List<BigDecimal> result = new ArrayList<>(values.size());
+        for (final String value : values) {
+            final BigDecimal amount = value != null ? SwiftFormatUtils.getBigDecimal(value) : null;
+            if (amount != null) {
+                result.add(amount);
+            }
+        }
+        return result;
     }
 
     /**
@@ -76,7 +79,7 @@ public class AmountResolver {
         Objects.requireNonNull(f);
 
         // find the first AMOUNT component
-        String value = ResolverUtils.findFirstWantedType(f.typesPattern(), 'I', f.getComponents());
+        String value = FieldMetadata.first(f.getComponents(), FieldMetadata.of(f).getAmountMask());
 
         // if non-null => try to convert it
         if (value != null) {
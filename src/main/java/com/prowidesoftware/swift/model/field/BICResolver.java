@@ -1,7 +1,6 @@
 package com.prowidesoftware.swift.model.field;
 
 import com.prowidesoftware.swift.model.BIC;
-import com.prowidesoftware.swift.utils.ResolverUtils;
 import com.prowidesoftware.swift.utils.SwiftFormatUtils;
 import java.util.List;
 import java.util.Objects;
@@ -22,7 +21,7 @@ public class BICResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        return ResolverUtils.findWantedType(f.typesPattern(), 'B', f.getComponents());
+        return FieldMetadata.select(f.getComponents(), FieldMetadata.of(f).getBicMask());
     }
 
     /**
@@ -39,7 +38,7 @@ public class BICResolver {
         Objects.requireNonNull(f);
 
         // find all the non-null AMOUNT components
-        List<String> values = ResolverUtils.findWantedType(f.typesPattern(), 'B', f.getComponents());
+        List<String> values = FieldMetadata.select(f.getComponents(), FieldMetadata.of(f).getBicMask());
 
         // prepare the result and convert all that match
         return values.stream()
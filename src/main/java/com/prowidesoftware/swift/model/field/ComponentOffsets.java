@@ -0,0 +1,369 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Finds the boundaries of the field components in a value, without creating any substring.
+ *
+ * <p>Each supported field structure mirrors the {@link SwiftParseUtils} calls made by the generated
+ * {@code parse(String)} of the fields with that structure, working on index ranges of the value instead of strings.
+ * The result is equivalent to the components set by {@link Field#getField(String, String)}, including empty
+ * components trimmed to null.
+ *
+ * <p>Ranges are packed in a long, with the start index in the high half and the end index in the low half, and
+ * {@link #NULL} for a null string.
+ *
+ * @since 9.5.6
+ */
+final class ComponentOffsets {
+
+    /**
+     * Packed range for a null string
+     */
+    private static final long NULL = -1L;
+
+    /**
+     * Value in the bounds array for the start of a null component
+     */
+    static final int NULL_COMPONENT = -1;
+
+    private enum Structure {
+        /**
+         * 2 components: token before and after the first slash, for example 22K or 23G
+         */
+        TOKEN,
+        /**
+         * 2 components: alphabetic prefix and numeric suffix, for example 32B or 33B
+         */
+        ALPHA_NUMERIC,
+        /**
+         * 2 components: generic qualifier and value after the double slash, for example 98A or 97A
+         */
+        QUALIFIER,
+        /**
+         * 3 components: generic qualifier, data source scheme and value, for example 22F or 97D
+         */
+        QUALIFIER_SCHEME,
+        /**
+         * 3 components: generic qualifier and two slash separated tokens after the double slash, for example 94F
+         */
+        QUALIFIER_TOKEN,
+        /**
+         * 3 components: generic qualifier, alphabetic prefix and numeric suffix, for example 92A or 19B
+         */
+        QUALIFIER_ALPHA_NUMERIC,
+        /**
+         * 3 components: date, currency and amount, for example 32A
+         */
+        DATE_AMOUNT,
+        /**
+         * 4 components: mark, date, currency and amount, for example 60F or 62F
+         */
+        BALANCE
+    }
+
+    private static final Map<String, Structure> STRUCTURES = new HashMap<>();
+
+    static {
+        register(
+                Structure.TOKEN, "128", "129", "14G", "21H", "22", "22K", "22S", "23A", "23E", "23F", "23G", "23X",
+                "24D", "24E", "26A", "27", "28", "28C", "28D", "28E", "29E", "29J", "29M", "30G", "30I", "30K", "32Q",
+                "35C", "39A", "40C", "40E", "48", "73R", "73S");
+        register(
+                Structure.ALPHA_NUMERIC, "132", "136", "19C", "30J", "32B", "32F", "32G", "32M", "32U", "33B", "33E",
+                "33F", "33H", "33J", "33S", "33T", "34B", "35A", "35N", "35S", "37G", "37K", "37M", "37R", "37V",
+                "38J", "71F", "71G");
+        register(
+                Structure.QUALIFIER, "11A", "12C", "13A", "13J", "17B", "20C", "20D", "20U", "22H", "36C", "69J",
+                "70F", "70H", "90E", "90K", "92K", "92P", "94C", "94H", "95C", "97A", "97C", "97E", "98A", "99B",
+                "99C");
+        register(
+                Structure.QUALIFIER_SCHEME, "12A", "12B", "13B", "22F", "24B", "25D", "92C", "93A", "97D", "98B");
+        register(Structure.QUALIFIER_TOKEN, "13K", "36B", "36D", "69A", "69C", "69E", "92D", "94D", "94F");
+        register(Structure.QUALIFIER_ALPHA_NUMERIC, "19B", "90L", "92A", "92F", "93D", "99A");
+        register(Structure.DATE_AMOUNT, "32A", "32C", "32D", "33A", "33C", "33D", "34A", "34P", "34R");
+        register(Structure.BALANCE, "60F", "60M", "62F", "62M", "64", "65");
+    }
+
+    private static void register(final Structure structure, final String... names) {
+        for (final String name : names) {
+            STRUCTURES.put(name, structure);
+        }
+    }
+
+    // Suppress default constructor for noninstantiability
+    private ComponentOffsets() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @param name a field name
+     * @return true if the components of the field can be found by {@link #bounds(String, String)}
+     */
+    static boolean isSupported(final String name) {
+        return STRUCTURES.containsKey(name);
+    }
+
+    /**
+     * @param name  a field name
+     * @param value the field value
+     * @return the start and end index of each component in the value, with {@link #NULL_COMPONENT} as start for null
+     * components, or null if the field structure is not supported
+     */
+    static int[] bounds(final String name, final String value) {
+        final Structure structure = STRUCTURES.get(name);
+        if (structure == null || value == null) {
+            return null;
+        }
+        final long all = range(0, value.length());
+        switch (structure) {
+            case TOKEN:
+                return toBounds(value, tokenFirst(value, all, null, "/"), tokenSecondLast(value, all, "/"));
+            case ALPHA_NUMERIC:
+                return toBounds(value, alphaPrefix(value, all), numericSuffix(value, all));
+            case QUALIFIER:
+                return toBounds(value, tokenFirst(value, all, ":", "//"), tokenSecondLast(value, all, "//"));
+            case QUALIFIER_SCHEME:
+                return toBounds(
+                        value,
+                        tokenFirst(value, all, ":", "/"),
+                        tokenFirst(value, substringAfter(value, all, "/"), null, "/"),
+                        tokenThirdLast(value, all, "/"));
+            case QUALIFIER_TOKEN: {
+                final long toparse = tokenSecondLast(value, all, "//");
+                return toBounds(
+                        value,
+                        tokenFirst(value, all, ":", "//"),
+                        tokenFirst(value, toparse, null, "/"),
+                        tokenSecondLast(value, toparse, "/"));
+            }
+            case QUALIFIER_ALPHA_NUMERIC: {
+                final long toparse = tokenSecondLast(value, all, "//");
+                long prefix = alphaPrefix(value, toparse);
+                if (onlySlashes(value, prefix)) {
+                    prefix = NULL;
+                }
+                return toBounds(value, tokenFirst(value, all, ":", "//"), prefix, numericSuffix(value, toparse));
+            }
+            case DATE_AMOUNT: {
+                final long date = value.length() >= 6 ? range(0, 6) : NULL;
+                final long toparse = range(Math.min(6, value.length()), value.length());
+                return toBounds(value, date, alphaPrefix(value, toparse), numericSuffix(value, toparse));
+            }
+            case BALANCE: {
+                final long toparse = numericSuffix(value, all);
+                final long toparse2 = alphaSuffix(value, toparse);
+                return toBounds(
+                        value,
+                        alphaPrefix(value, all),
+                        numericPrefix(value, toparse),
+                        alphaPrefix(value, toparse2),
+                        numericSuffix(value, toparse2));
+            }
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Unpacks the ranges, trimming empty components to null
+     */
+    private static int[] toBounds(final String value, final long... ranges) {
+        final int[] result = new int[ranges.length * 2];
+        for (int i = 0; i < ranges.length; i++) {
+            final long r = ranges[i];
+            if (r == NULL || start(r) == end(r)) {
+                result[i * 2] = NULL_COMPONENT;
+            } else {
+                result[i * 2] = start(r);
+                result[i * 2 + 1] = end(r);
+            }
+        }
+        return result;
+    }
+
+    private static long range(final int start, final int end) {
+        return ((long) start << 32) | end;
+    }
+
+    private static int start(final long range) {
+        return (int) (range >>> 32);
+    }
+
+    private static int end(final long range) {
+        return (int) range;
+    }
+
+    private static boolean isBlank(final String value, final long range) {
+        if (range == NULL) {
+            return true;
+        }
+        for (int i = start(range); i < end(range); i++) {
+            if (!Character.isWhitespace(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the index of the separator within the range, or -1 if not found
+     */
+    private static int indexOf(final String value, final long range, final String separator) {
+        final int i = value.indexOf(separator, start(range));
+        return i >= 0 && i + separator.length() <= end(range) ? i : -1;
+    }
+
+    /**
+     * @see org.apache.commons.lang3.StringUtils#substringAfter(String, String)
+     */
+    private static long substringAfter(final String value, final long range, final String separator) {
+        if (range == NULL || start(range) == end(range)) {
+            return range;
+        }
+        final int i = indexOf(value, range, separator);
+        return i < 0 ? range(end(range), end(range)) : range(i + separator.length(), end(range));
+    }
+
+    /**
+     * @see org.apache.commons.lang3.StringUtils#substringBefore(String, String)
+     */
+    private static long substringBefore(final String value, final long range, final String separator) {
+        if (range == NULL || start(range) == end(range)) {
+            return range;
+        }
+        final int i = indexOf(value, range, separator);
+        return i < 0 ? range : range(start(range), i);
+    }
+
+    /**
+     * @see SwiftParseUtils#getTokenFirst(String, String, String)
+     */
+    private static long tokenFirst(final String value, final long range, final String starting, final String separator) {
+        if (isBlank(value, range)) {
+            return NULL;
+        }
+        long r = range;
+        if (starting != null && value.startsWith(starting, start(r)) && start(r) + starting.length() <= end(r)) {
+            r = range(start(r) + starting.length(), end(r));
+        }
+        r = substringBefore(value, r, separator);
+        return isBlank(value, r) ? NULL : r;
+    }
+
+    /**
+     * @see SwiftParseUtils#getTokenSecondLast(String, String)
+     */
+    private static long tokenSecondLast(final String value, final long range, final String separator) {
+        final long r = substringAfter(value, range, separator);
+        return isBlank(value, r) ? NULL : r;
+    }
+
+    /**
+     * @see SwiftParseUtils#getTokenThirdLast(String, String)
+     */
+    private static long tokenThirdLast(final String value, final long range, final String separator) {
+        final long s1 = tokenSecondLast(value, range, separator);
+        if (isBlank(value, s1)) {
+            return NULL;
+        }
+        return tokenSecondLast(value, s1, separator);
+    }
+
+    /**
+     * @return the index of the first digit in the range, or the range end if none is found
+     */
+    private static int firstDigit(final String value, final long range) {
+        int i = start(range);
+        while (i < end(range) && !Character.isDigit(value.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return the index of the first char that is neither a digit nor a comma, or the range end if none is found
+     */
+    private static int firstNotNumber(final String value, final long range) {
+        int i = start(range);
+        while (i < end(range) && (Character.isDigit(value.charAt(i)) || value.charAt(i) == ',')) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @see SwiftParseUtils#getAlphaPrefix(String)
+     */
+    private static long alphaPrefix(final String value, final long range) {
+        if (range == NULL) {
+            return NULL;
+        }
+        final int i = firstDigit(value, range);
+        return i > start(range) ? range(start(range), i) : NULL;
+    }
+
+    /**
+     * @see SwiftParseUtils#getNumericSuffix(String)
+     */
+    private static long numericSuffix(final String value, final long range) {
+        if (range == NULL) {
+            return NULL;
+        }
+        final int i = firstDigit(value, range);
+        return i < end(range) ? range(i, end(range)) : NULL;
+    }
+
+    /**
+     * @see SwiftParseUtils#getNumericPrefix(String)
+     */
+    private static long numericPrefix(final String value, final long range) {
+        if (range == NULL) {
+            return NULL;
+        }
+        final int i = firstNotNumber(value, range);
+        return i > start(range) ? range(start(range), i) : NULL;
+    }
+
+    /**
+     * @see SwiftParseUtils#getAlphaSuffix(String)
+     */
+    private static long alphaSuffix(final String value, final long range) {
+        if (range == NULL) {
+            return NULL;
+        }
+        final int i = firstNotNumber(value, range);
+        return i < end(range) ? range(i, end(range)) : NULL;
+    }
+
+    /**
+     * @see SwiftParseUtils#getAlphaPrefixTrimSlash(String)
+     */
+    private static boolean onlySlashes(final String value, final long range) {
+        if (range == NULL) {
+            return false;
+        }
+        for (int i = start(range); i < end(range); i++) {
+            if (value.charAt(i) != '/') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
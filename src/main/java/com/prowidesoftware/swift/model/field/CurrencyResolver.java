@@ -15,7 +15,6 @@
  */
 package com.prowidesoftware.swift.model.field;
 
-import com.prowidesoftware.swift.utils.ResolverUtils;
 import com.prowidesoftware.swift.utils.SwiftFormatUtils;
 import java.util.Currency;
 import java.util.List;
@@ -37,7 +36,7 @@ public class CurrencyResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        return ResolverUtils.findWantedType(f.typesPattern(), 'C', f.getComponents());
+        return FieldMetadata.select(f.getComponents(), FieldMetadata.of(f).getCurrencyMask());
     }
 
     /**
@@ -54,7 +53,7 @@ public class CurrencyResolver {
         Objects.requireNonNull(f);
 
         // find all the non-null AMOUNT components
-        List<String> values = ResolverUtils.findWantedType(f.typesPattern(), 'C', f.getComponents());
+        List<String> values = FieldMetadata.select(f.getComponents(), FieldMetadata.of(f).getCurrencyMask());
 
         // prepare the result and convert all that match
         return values.stream().map(SwiftFormatUtils::getCurrency).collect(Collectors.toList());
@@ -81,9 +80,8 @@ public class CurrencyResolver {
 
             // find the first currency component
             Field f = (Field) cc;
-            List<Integer> positions = ResolverUtils.findWantedTypesPosition(f.typesPattern(), 'C');
-            for (Integer position : positions) {
-                f.setComponent(position, cur);
+            for (long m = FieldMetadata.of(f).getCurrencyMask(); m != 0; m &= m - 1) {
+                f.setComponent(Long.numberOfTrailingZeros(m) + 1, cur);
             }
         }
     }
@@ -15,7 +15,10 @@
  */
 package com.prowidesoftware.swift.model.field;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -34,4 +37,27 @@ public interface DateContainer extends PatternContainer {
      * @return found dates or empty list
      */
     List<Calendar> dates();
+
+    /**
+     * Get a LocalDate for every date found, in the same order as {@link #dates()}
+     *
+     * @return found dates or empty list
+     * @see DateResolver#localDates(Field)
+     * @since 9.5.6
+     */
+    default List<LocalDate> localDates() {
+        return this instanceof Field ? DateResolver.localDates((Field) this) : Collections.emptyList();
+    }
+
+    /**
+     * Get a LocalDateTime for every date found, in the same order as {@link #dates()}; dates with no time are set at
+     * the start of the day
+     *
+     * @return found dates or empty list
+     * @see DateResolver#localDateTimes(Field)
+     * @since 9.5.6
+     */
+    default List<LocalDateTime> localDateTimes() {
+        return this instanceof Field ? DateResolver.localDateTimes((Field) this) : Collections.emptyList();
+    }
 }
@@ -1,12 +1,12 @@
 package com.prowidesoftware.swift.model.field;
 
-import com.prowidesoftware.swift.utils.ResolverUtils;
 import com.prowidesoftware.swift.utils.SwiftFormatUtils;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import org.apache.commons.lang3.tuple.Pair;
 
 public class DateResolver {
 
@@ -29,14 +29,15 @@ public class DateResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        // find all the non-null AMOUNT components
-        List<Pair<Character, String>> values =
-                ResolverUtils.findWantedType(f.typesPattern(), "DEFYAUPJ", f.getComponents());
-
-        // prepare the result and convert all that match
-        return values.stream()
-                .map(pair -> _convert(pair.getKey(), pair.getValue()))
-                .collect(Collectors.toList());
+        // find all the DATE components and convert them
+        final FieldMetadata metadata = FieldMetadata.of(f);
+        final List<String> components = f.getComponents();
+        final List<Calendar> result = new ArrayList<>(Long.bitCount(metadata.getDateMask()));
+        for (long m = metadata.getDateMask(); m != 0; m &= m - 1) {
+            final int position = Long.numberOfTrailingZeros(m);
+            result.add(_convert(metadata.getTypesPattern().charAt(position), components.get(position)));
+        }
+        return result;
     }
 
     /**
@@ -56,12 +57,113 @@ public class DateResolver {
         Objects.requireNonNull(f);
 
         // find the first DATE component
-        Pair<Character, String> value =
-                ResolverUtils.findFirstWantedType(f.typesPattern(), "DEFYAUPJ", f.getComponents());
-        return value != null ? _convert(value.getKey(), value.getValue()) : null;
+        final FieldMetadata metadata = FieldMetadata.of(f);
+        if (metadata.getDateMask() == 0) {
+            return null;
+        }
+        final int position = Long.numberOfTrailingZeros(metadata.getDateMask());
+        return _convert(metadata.getTypesPattern().charAt(position), f.getComponents().get(position));
+    }
+
+    /**
+     * Gets the dates of the given field as java.time values, for the same components of {@link #dates(Field)} and
+     * without creating any Calendar. Components with a date and no time are set at the start of the day.
+     *
+     * @param f the field where to extract the dates, must not be null
+     * @return a list with the dates found in the dates components or an empty list if none is found; missing or
+     * invalid dates components are returned as null
+     * @since 9.5.6
+     */
+    public static List<LocalDateTime> localDateTimes(final Field f) {
+        Objects.requireNonNull(f);
+        final FieldMetadata metadata = FieldMetadata.of(f);
+        final List<String> components = f.getComponents();
+        final List<LocalDateTime> result = new ArrayList<>(Long.bitCount(metadata.getDateMask()));
+        for (long m = metadata.getDateMask(); m != 0; m &= m - 1) {
+            final int position = Long.numberOfTrailingZeros(m);
+            result.add(_convertLocal(metadata.getTypesPattern().charAt(position), components.get(position)));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the dates of the given field as java.time values, for the same components of {@link #dates(Field)} and
+     * without creating any Calendar. For components with date and time only the date is returned.
+     *
+     * @param f the field where to extract the dates, must not be null
+     * @return a list with the dates found in the dates components or an empty list if none is found; missing or
+     * invalid dates components are returned as null
+     * @since 9.5.6
+     */
+    public static List<LocalDate> localDates(final Field f) {
+        Objects.requireNonNull(f);
+        final FieldMetadata metadata = FieldMetadata.of(f);
+        final List<String> components = f.getComponents();
+        final List<LocalDate> result = new ArrayList<>(Long.bitCount(metadata.getDateMask()));
+        for (long m = metadata.getDateMask(); m != 0; m &= m - 1) {
+            final int position = Long.numberOfTrailingZeros(m);
+            result.add(_convertLocalDate(metadata.getTypesPattern().charAt(position), components.get(position)));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the first date of the given field as a LocalDate, for the same component of {@link #date(Field)}.
+     *
+     * @param f the field where to extract the date, must not be null
+     * @return the date found in the first date component or null if there is no date component in the field or if
+     * the date is not valid
+     * @since 9.5.6
+     */
+    public static LocalDate localDate(final Field f) {
+        Objects.requireNonNull(f);
+        final FieldMetadata metadata = FieldMetadata.of(f);
+        if (metadata.getDateMask() == 0) {
+            return null;
+        }
+        final int position = Long.numberOfTrailingZeros(metadata.getDateMask());
+        return _convertLocalDate(metadata.getTypesPattern().charAt(position), f.getComponents().get(position));
+    }
+
+    private static LocalDate _convertLocalDate(final char type, final String value) {
+        switch (type) {
+            case 'D':
+                return SwiftFormatUtils.getLocalDate4(value);
+            case 'E':
+                return SwiftFormatUtils.getLocalDate2(value);
+            case 'F':
+            case 'J':
+                return SwiftFormatUtils.getLocalMonthDay(value);
+            case 'Y':
+                return value != null && value.length() == 4 ? SwiftFormatUtils.getLocalDate4(value + "0101") : null;
+        }
+        final LocalDateTime result = _convertLocal(type, value);
+        return result != null ? result.toLocalDate() : null;
+    }
+
+    private static LocalDateTime _convertLocal(final char type, final String value) {
+        switch (type) {
+            case 'A':
+                return SwiftFormatUtils.getLocalDateTime(value);
+            case 'U':
+                return SwiftFormatUtils.getLocalDateTimeShortYear(value);
+            case 'P':
+                // day and time only, set in January 1970 as in the calendar conversion
+                return value != null && value.length() == 6
+                        ? SwiftFormatUtils.getLocalDateTime("197001" + value)
+                        : null;
+            case 'D':
+            case 'E':
+            case 'F':
+            case 'J':
+            case 'Y':
+                final LocalDate date = _convertLocalDate(type, value);
+                return date != null ? date.atStartOfDay() : null;
+        }
+        return null;
     }
 
-    private static Calendar _convert(Character type, String value) {
+    private static Calendar _convert(final char type, final String value) {
 
         switch (type) {
             case 'D':
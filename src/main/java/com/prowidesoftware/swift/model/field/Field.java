@@ -24,12 +24,13 @@ import com.prowidesoftware.swift.io.writer.FINWriterVisitor;
 import com.prowidesoftware.swift.model.BIC;
 import com.prowidesoftware.swift.model.Tag;
 import com.prowidesoftware.swift.utils.SwiftFormatUtils;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
@@ -51,11 +52,23 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      */
     protected List<String> components;
 
-    // cached results for getLabelMap() method
+    /**
+     * Formerly the cached result of the {@link #getLabelMap()} method, no longer set since the label maps are shared by
+     * all the field instances, see {@link FieldMetadata}
+     */
     protected Map<String, Integer> labelMap;
 
     private static final String fieldNamePattern = "^\\d{2,3}[A-Z]?$";
 
+    /**
+     * Field names not supported, already reported in the log, bounded to avoid growing with arbitrary input
+     */
+    private static final Set<String> unknownNames = ConcurrentHashMap.newKeySet();
+
+    private static final int MAX_UNKNOWN_NAMES = 1024;
+
+    private static volatile boolean lazyParsing = false;
+
     /**
      * No-argument constructor required for serialization.
      * Initializes the components list.
@@ -81,6 +94,10 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * @param value complete field value including separators and CRLF
      */
     protected Field(final String value) {
+        if (lazyParsing && value != null) {
+            this.components = new LazyComponents(this, value);
+            return;
+        }
         parse(value);
         /*
          * trim empty components to null
@@ -92,6 +109,52 @@ public abstract class Field implements PatternContainer, JsonSerializable {
         }
     }
 
+    /**
+     * Enables or disables the lazy parsing of the fields created from a value, for all the fields created afterwards.
+     * Defaults to false.
+     *
+     * <p>When enabled, fields created from a value, with {@link #getField(String, String)}, the field constructors
+     * with a String parameter or the MT getters such as {@code MT564#getField20C()}, keep the value and run
+     * {@link #parse(String)} only the first time a component is read. Callers that only use {@link #getValue()},
+     * {@link #getName()} or the field name checks do not pay for the components split.
+     *
+     * <p>The {@link #getValue()} of a lazily parsed field returns the value it was created with, as is, as long as no
+     * component is modified. The first parse is synchronized, so a lazily parsed field can be shared between threads.
+     *
+     * <p>This is a JVM wide switch, it applies to every {@code Field(String)} constructor called afterwards, from any
+     * thread and any library using this one. When enabled, the exceptions the parse may throw for a malformed value
+     * are no longer thrown by the field constructor, they are thrown on the first component access instead, and
+     * again on the following accesses.
+     *
+     * @param lazy true to parse the fields components on first access
+     * @since 9.5.6
+     */
+    public static void setLazyParsing(final boolean lazy) {
+        lazyParsing = lazy;
+    }
+
+    /**
+     * @return true if the fields created from a value are parsed on first access
+     * @see #setLazyParsing(boolean)
+     * @since 9.5.6
+     */
+    public static boolean isLazyParsing() {
+        return lazyParsing;
+    }
+
+    /**
+     * Gets the value this field was created with in lazy mode, used by {@link #getValue()} to return the original
+     * value as long as the field components are not modified.
+     *
+     * @return the value the field was created with, or null if the field was not created in lazy mode or any of its
+     * components was modified since
+     * @see #setLazyParsing(boolean)
+     * @since 9.5.6
+     */
+    protected final String getLazyValue() {
+        return this.components instanceof LazyComponents ? ((LazyComponents) this.components).unmodifiedValue() : null;
+    }
+
     /**
      * Copy constructor.<br>
      * Initializes the components list with a deep copy of the source components list.
@@ -179,7 +242,7 @@ public abstract class Field implements PatternContainer, JsonSerializable {
     }
 
     /**
-     * Creates a Field instance for the given Tag object, using reflection.
+     * Creates a Field instance for the given Tag object.
      * The created object is populated with parsed components data from the Tag.
      *
      * @param t a tag with proper name and value content
@@ -190,7 +253,10 @@ public abstract class Field implements PatternContainer, JsonSerializable {
     }
 
     /**
-     * Creates a Field instance for the given it's name and and optional value, using reflection.
+     * Creates a Field instance for the given it's name and and optional value.
+     *
+     * <p>The field is created with a direct constructor call, through a generated factory of all the field classes.
+     * An unrecognized field name is reported in the log the first time it is found.
      *
      * @param name  a proper field name, ex: 32A, 22F, 20
      * @param value an optional field value or null to create the field with no initial content
@@ -198,23 +264,80 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * @since 7.8
      */
     public static Field getField(final String name, final String value) {
-        Object r = null;
-        try {
-            final Class<?> c = Class.forName("com.prowidesoftware.swift.model.field.Field" + name);
-            @SuppressWarnings("rawtypes")
-            final Class[] argsClass = {String.class};
-            @SuppressWarnings("rawtypes")
-            final Constructor ct = c.getConstructor(argsClass);
-            final Object[] arglist = {value};
-            r = ct.newInstance(arglist);
-        } catch (final ClassNotFoundException e) {
+        if (name != null) {
+            try {
+                final Field field = FieldFactory.create(name, value);
+                if (field != null) {
+                    return field;
+                }
+            } catch (final Exception e) {
+                log.log(Level.WARNING, "An error occurred while creating an instance of " + name, e);
+                return null;
+            }
+        }
+        if (unknownNames.size() < MAX_UNKNOWN_NAMES && unknownNames.add(String.valueOf(name))) {
             log.warning(
                     "Field class for Field" + name
                             + " not found. This is normally caused by an unrecognized field in the message or a malformed message block structure.");
-        } catch (final Exception e) {
-            log.log(Level.WARNING, "An error occurred while creating an instance of " + name, e);
+        } else {
+            log.fine("Field class for Field" + name + " not found");
         }
-        return (Field) r;
+        return null;
+    }
+
+    /**
+     * Same as {@link #getFieldWithOffsets(String, String)} for the given tag name and value.
+     *
+     * @param t a tag with proper name and value content
+     * @return a specific field object, ex: Field32A. Or null if exceptions occur during object creation.
+     * @since 9.5.6
+     */
+    public static Field getFieldWithOffsets(final Tag t) {
+        return getFieldWithOffsets(t.getName(), t.getValue());
+    }
+
+    /**
+     * Creates a Field instance for the given name and value, keeping the value as is plus the boundaries of each
+     * component in it, when the field structure allows it.
+     *
+     * <p>The components are the same as in a field created with {@link #getField(String, String)}, but the component
+     * strings are created only when they are read with {@link #getComponent(int)}, and {@link #getComponentChars(int)}
+     * gives the component content without copying it. This is useful when only a few components of each field are
+     * read, for example the qualifier of generic fields such as 98A or 97A, or the currency of 32A.
+     *
+     * <p>This applies to the most common field structures (qualifier and value, date currency and amount, balances and
+     * similar ones). Any other field is created and parsed as in {@link #getField(String, String)}.
+     *
+     * @param name  a proper field name, ex: 32A, 22F, 20
+     * @param value an optional field value or null to create the field with no initial content
+     * @return a specific field object (example: Field32A) or null if exceptions occur during object creation.
+     * @since 9.5.6
+     */
+    public static Field getFieldWithOffsets(final String name, final String value) {
+        final int[] bounds = name != null ? ComponentOffsets.bounds(name, value) : null;
+        if (bounds == null) {
+            return getField(name, value);
+        }
+        final Field field = getField(name, null);
+        if (field != null) {
+            field.components = new OffsetComponents(value, bounds);
+        }
+        return field;
+    }
+
+    /**
+     * Gets a function that creates instances of the given field, parsing the value passed to the function.
+     *
+     * @param name a field name, ex: 32A, 22F, 20
+     * @return a function equivalent to {@link #getField(String, String)} for the given name, or null if the field name
+     * is not supported
+     * @since 9.5.6
+     */
+    public static Function<String, Field> getFieldFactory(final String name) {
+        if (name == null || !FieldFactory.isSupported(name)) {
+            return null;
+        }
+        return value -> FieldFactory.create(name, value);
     }
 
     /**
@@ -435,10 +558,14 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * @since 7.8
      */
     protected void init(final int components) {
-        this.components = new ArrayList<>(components);
+        final List<String> list = new ArrayList<>(components);
         for (int i = 0; i < components; i++) {
-            this.components.add(null);
+            list.add(null);
+        }
+        if (this.components instanceof LazyComponents && ((LazyComponents) this.components).parsing(list)) {
+            return;
         }
+        this.components = list;
     }
 
     /**
@@ -454,27 +581,61 @@ public abstract class Field implements PatternContainer, JsonSerializable {
     public abstract void parse(final String value);
 
     /**
-     * Implementation of toString using ToStringBuilder from commons-lang
+     * Implementation of toString using ToStringBuilder from commons-lang, with the same output as the reflection
+     * based version
      */
     @Override
     public String toString() {
-        return org.apache.commons.lang3.builder.ToStringBuilder.reflectionToString(this);
+        return new org.apache.commons.lang3.builder.ToStringBuilder(this)
+                .append("components", this.components)
+                .append("labelMap", this.labelMap)
+                .toString();
     }
 
     /**
-     * Implementation of equals using EqualsBuilder from commons-lang
+     * Two fields are equal when they are instances of the same class, and thus have the same name, and have equal
+     * components, including null and empty components.
+     *
+     * <p>The cached label map is not compared, since it depends on the field class only.
      */
     @Override
     public boolean equals(final Object obj) {
-        return org.apache.commons.lang3.builder.EqualsBuilder.reflectionEquals(this, obj);
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final Field other = (Field) obj;
+        if (this.components == null || other.components == null) {
+            return this.components == other.components;
+        }
+        final int size = this.components.size();
+        if (size != other.components.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(this.components.get(i), other.components.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Implementation of hashCode using HashCodeBuilder from commons-lang
+     * Hash code computed from the field name and components, consistent with {@link #equals(Object)}.
+     *
+     * <p>The hash is not cached because the components list can be modified directly through {@link #getComponents()}.
      */
     @Override
     public int hashCode() {
-        return org.apache.commons.lang3.builder.HashCodeBuilder.reflectionHashCode(this);
+        int result = Objects.hashCode(getName());
+        if (this.components != null) {
+            for (int i = 0; i < this.components.size(); i++) {
+                result = 31 * result + Objects.hashCode(this.components.get(i));
+            }
+        }
+        return result;
     }
 
     /**
@@ -574,6 +735,44 @@ public abstract class Field implements PatternContainer, JsonSerializable {
         return null;
     }
 
+    /**
+     * Gets a specific component content without creating a new string when possible.
+     *
+     * <p>For fields created with {@link #getFieldWithOffsets(String, String)} the result is a read-only view of the
+     * original field value, otherwise it is the component string itself.
+     *
+     * @param number one-based index of component, first component of a field should be number one
+     * @return found component content or null
+     * @since 9.5.6
+     */
+    public CharSequence getComponentChars(final int number) {
+        final int position = number - 1;
+        if (this.components instanceof OffsetComponents) {
+            return position >= 0 && position < this.components.size()
+                    ? ((OffsetComponents) this.components).chars(position)
+                    : null;
+        }
+        return getComponent(number);
+    }
+
+    /**
+     * Gets the length of a specific component without creating the component string.
+     *
+     * @param number one-based index of component, first component of a field should be number one
+     * @return the component length, or -1 if the component is not present
+     * @since 9.5.6
+     */
+    public int getComponentLength(final int number) {
+        final int position = number - 1;
+        if (this.components instanceof OffsetComponents) {
+            return position >= 0 && position < this.components.size()
+                    ? ((OffsetComponents) this.components).length(position)
+                    : -1;
+        }
+        final String c = getComponent(number);
+        return c == null ? -1 : c.length();
+    }
+
     /**
      * Inserts a component String value into the list of components, using the component name to position the value into the List.
      *
@@ -958,7 +1157,7 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * @return true if the first component is equal to the parameter
      */
     public boolean is(final String compare) {
-        return StringUtils.equals(compare, getComponent(1));
+        return is(1, compare);
     }
 
     /**
@@ -969,6 +1168,10 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * @return true if the indicated component value is equal to the parameter
      */
     public boolean is(final int componentNumber, final String compare) {
+        final int position = componentNumber - 1;
+        if (this.components instanceof OffsetComponents && position >= 0 && position < this.components.size()) {
+            return ((OffsetComponents) this.components).equalsComponent(position, compare);
+        }
         return StringUtils.equals(compare, getComponent(componentNumber));
     }
 
@@ -1209,22 +1412,6 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      */
     protected abstract Map<String, Integer> getLabelMap();
 
-    /**
-     * Returns english label for the component in camel case format.
-     * <br>
-     *
-     * @param number one-based index of component, first component of a field should be number one
-     * @return found label or <code>null</code> if it is not defined
-     * @since 7.10.3
-     */
-    private String getComponentLabelCamelCase(final int number) {
-        final Map<Integer, String> labels = getComponentMap();
-        if (labels != null && number >= 0) {
-            return labels.get(number);
-        }
-        return null;
-    }
-
     /**
      * Ensures a not-null locale parameter.
      *
@@ -1287,9 +1474,10 @@ public abstract class Field implements PatternContainer, JsonSerializable {
     String toJsonFormat() {
         JsonObject field = new JsonObject();
         field.addProperty("name", this.getName());
+        final Map<Integer, String> labels = FieldMetadata.of(this).getComponentMap();
         for (int i = 1; i <= this.getComponents().size(); i++) {
             if (this.getComponent(i) != null) {
-                String label = this.getComponentLabelCamelCase(i);
+                String label = labels.get(i);
                 if (label == null) {
                     label = "value";
                 }
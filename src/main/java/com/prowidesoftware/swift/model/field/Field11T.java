@@ -26,7 +26,6 @@ import java.io.Serializable;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -185,6 +184,10 @@ public class Field11T extends Field implements Serializable, DateContainer, Mult
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         if (getComponent2() != null || getComponent3() != null) {
@@ -294,6 +297,10 @@ public class Field11T extends Field implements Serializable, DateContainer, Mult
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Type", "Date", "Time");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("type", "date", "time");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -303,11 +310,7 @@ public class Field11T extends Field implements Serializable, DateContainer, Mult
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Type");
-        result.add("Date");
-        result.add("Time");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -316,11 +319,7 @@ public class Field11T extends Field implements Serializable, DateContainer, Mult
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "type");
-        result.put(2, "date");
-        result.put(3, "time");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -329,15 +328,7 @@ public class Field11T extends Field implements Serializable, DateContainer, Mult
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("type", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("time", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
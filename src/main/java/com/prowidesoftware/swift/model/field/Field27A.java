@@ -25,7 +25,6 @@ import com.prowidesoftware.swift.utils.SwiftFormatUtils;
 import java.io.Serializable;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -168,6 +167,10 @@ public class Field27A extends Field implements Serializable {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         result.append("/");
@@ -260,6 +263,10 @@ public class Field27A extends Field implements Serializable {
         return 2;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Number", "Total");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("number", "total");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -269,10 +276,7 @@ public class Field27A extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Number");
-        result.add("Total");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -281,10 +285,7 @@ public class Field27A extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "number");
-        result.put(2, "total");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -293,14 +294,7 @@ public class Field27A extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("number", 1);
-        super.labelMap.put("total", 2);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -25,7 +25,6 @@ import com.prowidesoftware.swift.model.Tag;
 import com.prowidesoftware.swift.utils.SwiftFormatUtils;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -161,6 +160,10 @@ public class Field29U extends Field implements Serializable, BICContainer {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -247,6 +250,10 @@ public class Field29U extends Field implements Serializable, BICContainer {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("IdentifierCode");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("identifierCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP, "bic", 1);
+
     /**
      * Returns english label for components.
      * <br>
@@ -256,9 +263,7 @@ public class Field29U extends Field implements Serializable, BICContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("IdentifierCode");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -267,9 +272,7 @@ public class Field29U extends Field implements Serializable, BICContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "identifierCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -278,15 +281,7 @@ public class Field29U extends Field implements Serializable, BICContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("identifiercode", 1);
-        // alias name
-        super.labelMap.put("bic", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable structure of a field: component labels and names, patterns, and which components are optional, dates,
+ * amounts, currencies or BICs.
+ *
+ * <p>The metadata is created once for each field and shared by all its instances, so reading the field structure
+ * does not allocate. Component positions in the bit masks are zero based, bit 0 being the first component.
+ *
+ * @since 9.5.6
+ */
+public final class FieldMetadata {
+
+    /**
+     * Component types for dates in the {@link Field#typesPattern()}
+     */
+    static final String DATE_TYPES = "DEFYAUPJ";
+
+    private static final Map<String, FieldMetadata> BY_NAME = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, FieldMetadata> BY_CLASS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final Class<? extends Field> fieldClass;
+    private final String typesPattern;
+    private final String parserPattern;
+    private final String validatorPattern;
+    private final int componentsSize;
+    private final boolean generic;
+    private final List<String> componentLabels;
+    private final Map<Integer, String> componentMap;
+    private final Map<String, Integer> labelMap;
+    private final long optionalMask;
+    private final long dateMask;
+    private final long amountMask;
+    private final long currencyMask;
+    private final long bicMask;
+
+    private FieldMetadata(final Field field) {
+        this.name = field.getName();
+        this.fieldClass = field.getClass();
+        this.typesPattern = field.typesPattern();
+        this.parserPattern = field.parserPattern();
+        this.validatorPattern = field.validatorPattern();
+        this.componentsSize = field.componentsSize();
+        this.generic = field.isGeneric();
+        this.componentLabels = unmodifiable(field.getComponentLabels());
+        this.componentMap = unmodifiable(field.getComponentMap());
+        this.labelMap = unmodifiable(field.getLabelMap());
+
+        long optional = 0;
+        for (int i = 0; i < Math.min(this.componentsSize, Long.SIZE); i++) {
+            if (field.isOptional(i + 1)) {
+                optional |= 1L << i;
+            }
+        }
+        this.optionalMask = optional;
+
+        long dates = 0;
+        long amounts = 0;
+        long currencies = 0;
+        long bics = 0;
+        final int length = this.typesPattern != null ? Math.min(this.typesPattern.length(), Long.SIZE) : 0;
+        for (int i = 0; i < length; i++) {
+            final char type = this.typesPattern.charAt(i);
+            if (DATE_TYPES.indexOf(type) >= 0) {
+                dates |= 1L << i;
+            } else if (type == 'I') {
+                amounts |= 1L << i;
+            } else if (type == 'C') {
+                currencies |= 1L << i;
+            } else if (type == 'B') {
+                bics |= 1L << i;
+            }
+        }
+        this.dateMask = dates;
+        this.amountMask = amounts;
+        this.currencyMask = currencies;
+        this.bicMask = bics;
+    }
+
+    /**
+     * Gets the metadata of the given field name.
+     *
+     * @param name a field name, ex: 32A, 22F, 20
+     * @return the field metadata or null if the field name is not supported
+     */
+    public static FieldMetadata of(final String name) {
+        if (name == null) {
+            return null;
+        }
+        final FieldMetadata metadata = BY_NAME.get(name);
+        if (metadata != null) {
+            return metadata;
+        }
+        if (!FieldFactory.isSupported(name)) {
+            return null;
+        }
+        return BY_NAME.computeIfAbsent(name, n -> of(FieldFactory.create(n, null)));
+    }
+
+    /**
+     * Gets the metadata of the given field class. Fields extending the generated ones get their own metadata, built
+     * from their own implementation of the structure methods.
+     *
+     * @param field a field
+     * @return the metadata of the field class
+     */
+    public static FieldMetadata of(final Field field) {
+        Objects.requireNonNull(field);
+        final FieldMetadata metadata = BY_CLASS.get(field.getClass());
+        if (metadata != null) {
+            return metadata;
+        }
+        return BY_CLASS.computeIfAbsent(field.getClass(), c -> new FieldMetadata(field));
+    }
+
+    /**
+     * Creates the immutable list of component labels of a field.
+     *
+     * @param labels the english label of each component
+     * @return an unmodifiable list with the labels
+     */
+    static List<String> labels(final String... labels) {
+        return Collections.unmodifiableList(Arrays.asList(labels.clone()));
+    }
+
+    /**
+     * Creates the immutable mapping between component numbers and their camel case names.
+     *
+     * @param names the name of each component, in order starting with the first component
+     * @return an unmodifiable map with the component numbers as keys
+     */
+    static Map<Integer, String> componentMap(final String... names) {
+        final Map<Integer, String> result = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            result.put(i + 1, names[i]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Creates the immutable mapping between lowercase component names and their numbers.
+     *
+     * @param componentMap the component names as returned by {@link #componentMap(String...)}
+     * @param aliases      optional additional names, given as pairs of name and component number
+     * @return an unmodifiable map with the lowercase component names as keys
+     */
+    static Map<String, Integer> labelMap(final Map<Integer, String> componentMap, final Object... aliases) {
+        final Map<String, Integer> result = new HashMap<>();
+        for (final Map.Entry<Integer, String> e : componentMap.entrySet()) {
+            result.put(e.getValue().toLowerCase(Locale.ROOT), e.getKey());
+        }
+        for (int i = 0; i + 1 < aliases.length; i += 2) {
+            result.put((String) aliases[i], (Integer) aliases[i + 1]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static <T> List<T> unmodifiable(final List<T> list) {
+        return list == null ? Collections.emptyList() : Collections.unmodifiableList(list);
+    }
+
+    private static <K, V> Map<K, V> unmodifiable(final Map<K, V> map) {
+        return map == null ? Collections.emptyMap() : Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * @param components the field components
+     * @param mask       a bit mask of component positions, such as {@link #getAmountMask()}
+     * @return the values of the components in the mask, in order, including nulls
+     */
+    static List<String> select(final List<String> components, final long mask) {
+        final List<String> result = new ArrayList<>(Long.bitCount(mask));
+        for (long m = mask; m != 0; m &= m - 1) {
+            result.add(components.get(Long.numberOfTrailingZeros(m)));
+        }
+        return result;
+    }
+
+    /**
+     * @param components the field components
+     * @param mask       a bit mask of component positions, such as {@link #getAmountMask()}
+     * @return the value of the first component in the mask, null or not, or null if the mask is empty
+     */
+    static String first(final List<String> components, final long mask) {
+        return mask != 0 ? components.get(Long.numberOfTrailingZeros(mask)) : null;
+    }
+
+    private static boolean isSet(final long mask, final int component) {
+        return component > 0 && component <= Long.SIZE && (mask & (1L << (component - 1))) != 0;
+    }
+
+    /**
+     * @return the field name, ex: 32A
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return the field class the metadata was created from
+     */
+    public Class<? extends Field> getFieldClass() {
+        return this.fieldClass;
+    }
+
+    /**
+     * @see Field#typesPattern()
+     */
+    public String getTypesPattern() {
+        return this.typesPattern;
+    }
+
+    /**
+     * @see Field#parserPattern()
+     */
+    public String getParserPattern() {
+        return this.parserPattern;
+    }
+
+    /**
+     * @see Field#validatorPattern()
+     */
+    public String getValidatorPattern() {
+        return this.validatorPattern;
+    }
+
+    /**
+     * @see Field#componentsSize()
+     */
+    public int getComponentsSize() {
+        return this.componentsSize;
+    }
+
+    /**
+     * @see Field#isGeneric()
+     */
+    public boolean isGeneric() {
+        return this.generic;
+    }
+
+    /**
+     * @return the unmodifiable list of english labels for components
+     * @see Field#getComponentLabels()
+     */
+    public List<String> getComponentLabels() {
+        return this.componentLabels;
+    }
+
+    /**
+     * @return the unmodifiable mapping between component numbers and their label in camel case format
+     */
+    public Map<Integer, String> getComponentMap() {
+        return this.componentMap;
+    }
+
+    /**
+     * @return the unmodifiable mapping between lowercase component labels and the component numbers
+     */
+    public Map<String, Integer> getLabelMap() {
+        return this.labelMap;
+    }
+
+    /**
+     * @return bit mask of the optional components
+     * @see Field#isOptional(int)
+     */
+    public long getOptionalMask() {
+        return this.optionalMask;
+    }
+
+    /**
+     * @return bit mask of the date components, with any of the types D, E, F, Y, A, U, P or J
+     */
+    public long getDateMask() {
+        return this.dateMask;
+    }
+
+    /**
+     * @return bit mask of the amount components, with type I
+     */
+    public long getAmountMask() {
+        return this.amountMask;
+    }
+
+    /**
+     * @return bit mask of the currency components, with type C
+     */
+    public long getCurrencyMask() {
+        return this.currencyMask;
+    }
+
+    /**
+     * @return bit mask of the BIC components, with type B
+     */
+    public long getBicMask() {
+        return this.bicMask;
+    }
+
+    /**
+     * @param component component number, first component of a field is referenced as 1
+     * @return true if the component is optional for this field
+     */
+    public boolean isOptional(final int component) {
+        return isSet(this.optionalMask, component);
+    }
+
+    /**
+     * @param component component number, first component of a field is referenced as 1
+     * @return true if the component is a date
+     */
+    public boolean isDate(final int component) {
+        return isSet(this.dateMask, component);
+    }
+
+    /**
+     * @param component component number, first component of a field is referenced as 1
+     * @return true if the component is an amount
+     */
+    public boolean isAmount(final int component) {
+        return isSet(this.amountMask, component);
+    }
+
+    /**
+     * @param component component number, first component of a field is referenced as 1
+     * @return true if the component is a currency
+     */
+    public boolean isCurrency(final int component) {
+        return isSet(this.currencyMask, component);
+    }
+
+    /**
+     * @param component component number, first component of a field is referenced as 1
+     * @return true if the component is a BIC
+     */
+    public boolean isBic(final int component) {
+        return isSet(this.bicMask, component);
+    }
+
+    /**
+     * @param component component number, first component of a field is referenced as 1
+     * @return the component type in the types pattern, or zero if the pattern does not include the component
+     */
+    public char getType(final int component) {
+        return component > 0 && this.typesPattern != null && component <= this.typesPattern.length()
+                ? this.typesPattern.charAt(component - 1)
+                : 0;
+    }
+}
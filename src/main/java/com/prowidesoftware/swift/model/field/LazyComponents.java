@@ -0,0 +1,164 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * List of field components that keeps the field value and parses it into the components on first access.
+ *
+ * <p>The list tracks whether any component was modified through it, so that the field can still return the value it
+ * was created with as long as the components remain the parsed ones.
+ *
+ * <p>The first parse is synchronized, and the parsed components are published once, so a field shared between threads
+ * can be read concurrently. The list stays as the field components during the parse, the components initialized by
+ * the field parse method are collected with {@link #parsing(List)}.
+ *
+ * @see Field#setLazyParsing(boolean)
+ * @since 9.5.6
+ */
+final class LazyComponents extends AbstractList<String> implements RandomAccess {
+    private final Field field;
+    private final String value;
+    private volatile List<String> parsed;
+
+    /**
+     * Components being initialized by the field parse method, only accessed by the thread holding the lock
+     */
+    private List<String> pending;
+
+    private boolean inParse;
+    private boolean modified;
+
+    /**
+     * @param field the field owning this list as its components
+     * @param value the field value, not null
+     */
+    LazyComponents(final Field field, final String value) {
+        this.field = field;
+        this.value = value;
+    }
+
+    /**
+     * @return the value the field was created with, or null if any component was modified
+     */
+    String unmodifiedValue() {
+        return this.modified ? null : this.value;
+    }
+
+    /**
+     * @return true if the value was already parsed into the components
+     */
+    boolean isParsed() {
+        return this.parsed != null;
+    }
+
+    /**
+     * Takes the components initialized by the field parse method, when called from the first parse of this list.
+     *
+     * @param components the components initialized by {@link Field#init(int)}
+     * @return true if the components are kept as the parse result, false if this list is not being parsed
+     */
+    synchronized boolean parsing(final List<String> components) {
+        if (this.inParse) {
+            this.pending = components;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Parses the value with the field parse method, as done by the field constructor, and keeps the resulting
+     * components. Calls from the field parse method itself get the components being initialized.
+     */
+    private List<String> parsed() {
+        final List<String> result = this.parsed;
+        if (result != null) {
+            return result;
+        }
+        synchronized (this) {
+            if (this.parsed != null) {
+                return this.parsed;
+            }
+            if (this.inParse) {
+                if (this.pending == null) {
+                    this.pending = new ArrayList<>();
+                }
+                return this.pending;
+            }
+            this.inParse = true;
+            try {
+                this.field.parse(this.value);
+                final List<String> components = this.pending != null ? this.pending : new ArrayList<>();
+                for (int i = 0; i < components.size(); i++) {
+                    if (StringUtils.isEmpty(components.get(i))) {
+                        components.set(i, null);
+                    }
+                }
+                this.parsed = components;
+                return components;
+            } finally {
+                this.inParse = false;
+                this.pending = null;
+            }
+        }
+    }
+
+    /**
+     * Marks the list as modified, unless the change is done by the field parse method
+     */
+    private void markModified() {
+        if (this.parsed != null) {
+            this.modified = true;
+        }
+    }
+
+    @Override
+    public String get(final int index) {
+        return parsed().get(index);
+    }
+
+    @Override
+    public int size() {
+        return parsed().size();
+    }
+
+    @Override
+    public String set(final int index, final String element) {
+        final String previous = parsed().set(index, element);
+        markModified();
+        return previous;
+    }
+
+    @Override
+    public void add(final int index, final String element) {
+        parsed().add(index, element);
+        markModified();
+        this.modCount++;
+    }
+
+    @Override
+    public String remove(final int index) {
+        final String removed = parsed().remove(index);
+        markModified();
+        this.modCount++;
+        return removed;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import java.nio.CharBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List of field components backed by the original field value and the boundaries of each component in it.
+ *
+ * <p>The component strings are created the first time each one is read. Components set through the list replace the
+ * stored boundaries, and adding or removing components turns it into a plain list of strings.
+ *
+ * @see Field#getFieldWithOffsets(String, String)
+ * @since 9.5.6
+ */
+final class OffsetComponents extends AbstractList<String> implements RandomAccess {
+    private final String value;
+    private final int[] bounds;
+    private final int size;
+
+    /**
+     * Component strings already created or set, null until any is needed
+     */
+    private String[] strings;
+
+    /**
+     * The components once added or removed, null until then
+     */
+    private List<String> expanded;
+
+    /**
+     * @param value  the field value
+     * @param bounds start and end index of each component, as given by {@link ComponentOffsets#bounds(String, String)}
+     */
+    OffsetComponents(final String value, final int[] bounds) {
+        this.value = value;
+        this.bounds = bounds;
+        this.size = bounds.length / 2;
+    }
+
+    /**
+     * @param index a component index, zero based
+     * @return true if the component is still given by its boundaries in the value
+     */
+    private boolean isRange(final int index) {
+        return this.strings == null || this.strings[index] == null;
+    }
+
+    private boolean isNullRange(final int index) {
+        return this.bounds[index * 2] == ComponentOffsets.NULL_COMPONENT;
+    }
+
+    @Override
+    public String get(final int index) {
+        if (this.expanded != null) {
+            return this.expanded.get(index);
+        }
+        checkIndex(index);
+        if (!isRange(index)) {
+            return this.strings[index];
+        }
+        if (isNullRange(index)) {
+            return null;
+        }
+        final String s = this.value.substring(this.bounds[index * 2], this.bounds[index * 2 + 1]);
+        if (this.strings == null) {
+            this.strings = new String[this.size];
+        }
+        this.strings[index] = s;
+        return s;
+    }
+
+    /**
+     * @param index a component index, zero based
+     * @return the component chars as a view of the field value, with no copy, or null if the component is null
+     */
+    CharSequence chars(final int index) {
+        if (this.expanded != null) {
+            return this.expanded.get(index);
+        }
+        checkIndex(index);
+        if (!isRange(index)) {
+            return this.strings[index];
+        }
+        if (isNullRange(index)) {
+            return null;
+        }
+        final int start = this.bounds[index * 2];
+        final int end = this.bounds[index * 2 + 1];
+        if (start == 0 && end == this.value.length()) {
+            return this.value;
+        }
+        return CharBuffer.wrap(this.value, start, end);
+    }
+
+    /**
+     * @param index a component index, zero based
+     * @return the component length, or -1 if the component is null
+     */
+    int length(final int index) {
+        if (this.expanded != null || !isRange(index)) {
+            final String s = get(index);
+            return s == null ? -1 : s.length();
+        }
+        checkIndex(index);
+        return isNullRange(index) ? -1 : this.bounds[index * 2 + 1] - this.bounds[index * 2];
+    }
+
+    /**
+     * @param index   a component index, zero based
+     * @param compare a value to compare, may be null
+     * @return true if the component has the same chars as the given value, or both are null
+     */
+    boolean equalsComponent(final int index, final CharSequence compare) {
+        if (this.expanded != null || !isRange(index)) {
+            final String s = get(index);
+            return s == null ? compare == null : compare != null && s.contentEquals(compare);
+        }
+        checkIndex(index);
+        if (isNullRange(index) || compare == null) {
+            return isNullRange(index) && compare == null;
+        }
+        final int start = this.bounds[index * 2];
+        final int length = this.bounds[index * 2 + 1] - start;
+        if (length != compare.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (this.value.charAt(start + i) != compare.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return this.expanded != null ? this.expanded.size() : this.size;
+    }
+
+    @Override
+    public String set(final int index, final String element) {
+        if (this.expanded != null) {
+            return this.expanded.set(index, element);
+        }
+        final String previous = get(index);
+        if (this.strings == null) {
+            this.strings = new String[this.size];
+        }
+        this.strings[index] = element;
+        if (element == null) {
+            this.bounds[index * 2] = ComponentOffsets.NULL_COMPONENT;
+        }
+        return previous;
+    }
+
+    @Override
+    public void add(final int index, final String element) {
+        expand().add(index, element);
+        this.modCount++;
+    }
+
+    @Override
+    public String remove(final int index) {
+        final String removed = expand().remove(index);
+        this.modCount++;
+        return removed;
+    }
+
+    private List<String> expand() {
+        if (this.expanded == null) {
+            final List<String> list = new ArrayList<>(this.size + 1);
+            for (int i = 0; i < this.size; i++) {
+                list.add(get(i));
+            }
+            this.expanded = list;
+            this.strings = null;
+        }
+        return this.expanded;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
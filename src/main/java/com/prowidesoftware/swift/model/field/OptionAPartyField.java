@@ -134,6 +134,10 @@ public abstract class OptionAPartyField extends Field implements BICContainer, P
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         if (getComponent1() != null) {
             result.append("/").append(getComponent1());
@@ -225,6 +229,11 @@ public abstract class OptionAPartyField extends Field implements BICContainer, P
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("D/C Mark", "Account", "Identifier Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap(
+            "dCMark", "account", "identifierCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -235,11 +244,7 @@ public abstract class OptionAPartyField extends Field implements BICContainer, P
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("D/C Mark");
-        result.add("Account");
-        result.add("Identifier Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -249,11 +254,7 @@ public abstract class OptionAPartyField extends Field implements BICContainer, P
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dCMark");
-        result.put(2, "account");
-        result.put(3, "identifierCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -262,15 +263,7 @@ public abstract class OptionAPartyField extends Field implements BICContainer, P
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("dcmark", 1);
-        super.labelMap.put("account", 2);
-        super.labelMap.put("identifiercode", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
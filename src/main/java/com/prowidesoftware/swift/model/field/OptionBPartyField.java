@@ -114,6 +114,10 @@ public abstract class OptionBPartyField extends Field implements PartyIdentifier
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         if (getComponent1() != null) {
             result.append("/").append(getComponent1());
@@ -220,6 +224,11 @@ public abstract class OptionBPartyField extends Field implements PartyIdentifier
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("D/C Mark", "Account", "Location");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap(
+            "dCMark", "account", "location");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -230,11 +239,7 @@ public abstract class OptionBPartyField extends Field implements PartyIdentifier
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("D/C Mark");
-        result.add("Account");
-        result.add("Location");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -244,11 +249,7 @@ public abstract class OptionBPartyField extends Field implements PartyIdentifier
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dCMark");
-        result.put(2, "account");
-        result.put(3, "location");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -257,15 +258,7 @@ public abstract class OptionBPartyField extends Field implements PartyIdentifier
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("dcmark", 1);
-        super.labelMap.put("account", 2);
-        super.labelMap.put("location", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -84,6 +84,10 @@ public abstract class OptionCPartyField extends Field {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append("/");
         append(result, 1);
@@ -174,6 +178,10 @@ public abstract class OptionCPartyField extends Field {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Account");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("account");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -184,9 +192,7 @@ public abstract class OptionCPartyField extends Field {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Account");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -196,9 +202,7 @@ public abstract class OptionCPartyField extends Field {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "account");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -207,13 +211,7 @@ public abstract class OptionCPartyField extends Field {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("account", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
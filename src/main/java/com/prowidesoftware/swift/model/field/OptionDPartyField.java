@@ -115,6 +115,10 @@ public abstract class OptionDPartyField extends Field implements PartyIdentifier
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         if (getComponent1() != null) {
             result.append("/").append(getComponent1());
@@ -222,6 +226,17 @@ public abstract class OptionDPartyField extends Field implements PartyIdentifier
         return 6;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels(
+            "D/C Mark",
+            "Account",
+            "Name And Address",
+            "Name And Address 2",
+            "Name And Address 3",
+            "Name And Address 4");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap(
+            "dCMark", "account", "nameAndAddress", "nameAndAddress2", "nameAndAddress3", "nameAndAddress4");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -232,14 +247,7 @@ public abstract class OptionDPartyField extends Field implements PartyIdentifier
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("D/C Mark");
-        result.add("Account");
-        result.add("Name And Address");
-        result.add("Name And Address 2");
-        result.add("Name And Address 3");
-        result.add("Name And Address 4");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -249,14 +257,7 @@ public abstract class OptionDPartyField extends Field implements PartyIdentifier
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dCMark");
-        result.put(2, "account");
-        result.put(3, "nameAndAddress");
-        result.put(4, "nameAndAddress2");
-        result.put(5, "nameAndAddress3");
-        result.put(6, "nameAndAddress4");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -265,18 +266,7 @@ public abstract class OptionDPartyField extends Field implements PartyIdentifier
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("dcmark", 1);
-        super.labelMap.put("account", 2);
-        super.labelMap.put("nameandaddress", 3);
-        super.labelMap.put("nameandaddress2", 4);
-        super.labelMap.put("nameandaddress3", 5);
-        super.labelMap.put("nameandaddress4", 6);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
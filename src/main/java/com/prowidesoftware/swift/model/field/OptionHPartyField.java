@@ -109,6 +109,10 @@ public abstract class OptionHPartyField extends Field {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append("/");
         append(result, 1);
@@ -200,6 +204,12 @@ public abstract class OptionHPartyField extends Field {
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels(
+            "Account", "Name And Address", "Name And Address 2", "Name And Address 3", "Name And Address 4");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap(
+            "account", "nameAndAddress", "nameAndAddress2", "nameAndAddress3", "nameAndAddress4");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -210,13 +220,7 @@ public abstract class OptionHPartyField extends Field {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Account");
-        result.add("Name And Address");
-        result.add("Name And Address 2");
-        result.add("Name And Address 3");
-        result.add("Name And Address 4");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -226,13 +230,7 @@ public abstract class OptionHPartyField extends Field {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "account");
-        result.put(2, "nameAndAddress");
-        result.put(3, "nameAndAddress2");
-        result.put(4, "nameAndAddress3");
-        result.put(5, "nameAndAddress4");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -241,17 +239,7 @@ public abstract class OptionHPartyField extends Field {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("account", 1);
-        super.labelMap.put("nameandaddress", 2);
-        super.labelMap.put("nameandaddress2", 3);
-        super.labelMap.put("nameandaddress3", 4);
-        super.labelMap.put("nameandaddress4", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -85,6 +85,10 @@ public abstract class OptionJPartyField extends Field {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -174,6 +178,10 @@ public abstract class OptionJPartyField extends Field {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Party Identification");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("partyIdentification");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -184,9 +192,7 @@ public abstract class OptionJPartyField extends Field {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Party Identification");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -196,9 +202,7 @@ public abstract class OptionJPartyField extends Field {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "partyIdentification");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -207,13 +211,7 @@ public abstract class OptionJPartyField extends Field {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("partyidentification", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
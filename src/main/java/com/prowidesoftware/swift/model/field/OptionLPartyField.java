@@ -84,6 +84,10 @@ public abstract class OptionLPartyField extends Field {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         append(result, 1);
         return result.toString();
@@ -173,6 +177,10 @@ public abstract class OptionLPartyField extends Field {
         return 1;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels("Party Identifier");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap("partyIdentifier");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -183,9 +191,7 @@ public abstract class OptionLPartyField extends Field {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Party Identifier");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -195,9 +201,7 @@ public abstract class OptionLPartyField extends Field {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "partyIdentifier");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -206,13 +210,7 @@ public abstract class OptionLPartyField extends Field {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("partyidentifier", 1);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -98,6 +98,10 @@ public abstract class OptionRPartyField extends Field {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -192,6 +196,12 @@ public abstract class OptionRPartyField extends Field {
         return 3;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels(
+            "Qualifier", "Data Source Scheme", "Proprietary Code");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap(
+            "qualifier", "dataSourceScheme", "proprietaryCode");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -202,11 +212,7 @@ public abstract class OptionRPartyField extends Field {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Proprietary Code");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -216,11 +222,7 @@ public abstract class OptionRPartyField extends Field {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "proprietaryCode");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -229,15 +231,7 @@ public abstract class OptionRPartyField extends Field {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("proprietarycode", 3);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
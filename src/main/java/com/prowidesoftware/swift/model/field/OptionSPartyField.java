@@ -113,6 +113,10 @@ public abstract class OptionSPartyField extends Field {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -211,6 +215,12 @@ public abstract class OptionSPartyField extends Field {
         return 5;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels(
+            "Qualifier", "Data Source Scheme", "Type Of ID", "Country Code", "Alternate ID");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap(
+            "qualifier", "dataSourceScheme", "typeOfID", "countryCode", "alternateID");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -221,13 +231,7 @@ public abstract class OptionSPartyField extends Field {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Type Of ID");
-        result.add("Country Code");
-        result.add("Alternate ID");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -237,13 +241,7 @@ public abstract class OptionSPartyField extends Field {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "typeOfID");
-        result.put(4, "countryCode");
-        result.put(5, "alternateID");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -252,17 +250,7 @@ public abstract class OptionSPartyField extends Field {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("typeofid", 3);
-        super.labelMap.put("countrycode", 4);
-        super.labelMap.put("alternateid", 5);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
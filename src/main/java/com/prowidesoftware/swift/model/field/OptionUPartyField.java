@@ -98,6 +98,10 @@ public abstract class OptionUPartyField extends Field {
      */
     @Override
     public String getValue() {
+        final String lazyValue = getLazyValue();
+        if (lazyValue != null) {
+            return lazyValue;
+        }
         final StringBuilder result = new StringBuilder();
         result.append(":");
         append(result, 1);
@@ -194,6 +198,12 @@ public abstract class OptionUPartyField extends Field {
         return 4;
     }
 
+    private static final List<String> COMPONENT_LABELS = FieldMetadata.labels(
+            "Qualifier", "Party Name", "Party Name 2", "Party Name 3");
+    private static final Map<Integer, String> COMPONENT_MAP = FieldMetadata.componentMap(
+            "qualifier", "partyName", "partyName2", "partyName3");
+    private static final Map<String, Integer> LABEL_MAP = FieldMetadata.labelMap(COMPONENT_MAP);
+
     /**
      * Returns english label for components.
      * <br>
@@ -204,12 +214,7 @@ public abstract class OptionUPartyField extends Field {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Party Name");
-        result.add("Party Name 2");
-        result.add("Party Name 3");
-        return result;
+        return COMPONENT_LABELS;
     }
 
     /**
@@ -219,12 +224,7 @@ public abstract class OptionUPartyField extends Field {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "partyName");
-        result.put(3, "partyName2");
-        result.put(4, "partyName3");
-        return result;
+        return COMPONENT_MAP;
     }
 
     /**
@@ -233,16 +233,7 @@ public abstract class OptionUPartyField extends Field {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("partyname", 2);
-        super.labelMap.put("partyname2", 3);
-        super.labelMap.put("partyname3", 4);
-        return super.labelMap;
+        return LABEL_MAP;
     }
 
     /**
@@ -26,11 +26,12 @@ import com.prowidesoftware.swift.model.*;
 import com.prowidesoftware.swift.model.field.Field;
 import com.prowidesoftware.swift.utils.Lib;
 import java.io.*;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.apache.commons.lang3.StringUtils;
@@ -565,9 +566,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      */
     @SuppressWarnings("unchecked")
     public List<SwiftTagListBlock> getSequenceList(final String name) {
-        final String methodName = GETSEQUENCE + name + "List";
-        Object o = invokeHere(methodName, this, null);
-        return (List<SwiftTagListBlock>) o;
+        return (List<SwiftTagListBlock>) invokeHere(accessors().sequenceList(name, false), name + "List", null);
     }
 
     /**
@@ -584,8 +583,8 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
     @SuppressWarnings("unchecked")
     public /* cant make static, but should be */ List<SwiftTagListBlock> getSequenceList(
             final String name, final SwiftTagListBlock block) {
-        final String methodName = GETSEQUENCE + name + "List";
-        return (List<SwiftTagListBlock>) invokeHere(methodName, this, block);
+        return (List<SwiftTagListBlock>)
+                invokeHere(accessors().sequenceList(name, block != null), name + "List", block);
     }
 
     /**
@@ -597,12 +596,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      * @since 7.8
      */
     public boolean containsSequenceList(final String name) {
-        try {
-            getClass().getMethod(GETSEQUENCE + name + "List");
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return accessors().sequenceList(name, false) != null;
     }
 
     /**
@@ -614,31 +608,56 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      * @since 7.8
      */
     public boolean containsSequence(final String name) {
-        try {
-            return getClass().getMethod(GETSEQUENCE + name) != null;
-        } catch (Exception e) {
-            return false;
-        }
+        return accessors().sequence(name, false) != null;
+    }
+
+    /**
+     * Gets the names of the non repetitive sequences of this MT, the ones available with {@link #getSequence(String)}.
+     * The names include the sequence letters, such as A or B1, and the alias based on the sequence qualifier when the
+     * MT class provides it, such as GENL.
+     *
+     * @return a sorted unmodifiable set with the sequence names, empty if the MT has no sequences
+     * @since 9.5.6
+     */
+    public Set<String> getSequenceNames() {
+        return accessors().sequenceNames();
     }
 
     /**
-     * @param methodName a method to invoke
-     * @return result from reflection call
+     * Gets the names of the repetitive sequences of this MT, the ones available with {@link #getSequenceList(String)}.
+     *
+     * @return a sorted unmodifiable set with the sequence names, empty if the MT has no repetitive sequences
+     * @see #getSequenceNames()
+     * @since 9.5.6
+     */
+    public Set<String> getSequenceListNames() {
+        return accessors().sequenceListNames();
+    }
+
+    private SequenceAccessors accessors() {
+        return SequenceAccessors.of(getClass());
+    }
+
+    /**
+     * @param handle the sequence getter, or null if not found
+     * @param name   the sequence getter name, for logging
+     * @return result from the getter call
      * @since 7.6
      */
-    private Object invokeHere(final String methodName, final Object where, final SwiftTagListBlock argument) {
+    private Object invokeHere(final MethodHandle handle, final String name, final SwiftTagListBlock argument) {
+        if (handle == null) {
+            if (log.isLoggable(Level.FINE)) {
+                log.fine("Method " + GETSEQUENCE + name + " does not exist in " + getClass());
+            }
+            return null;
+        }
         try {
-            final Method method = argument == null
-                    ? getClass().getMethod(methodName)
-                    : getClass().getMethod(methodName, SwiftTagListBlock.class);
             if (argument == null) {
-                return method.invoke(where);
+                return (Object) handle.invokeExact((Object) this);
             }
-            return method.invoke(where, argument);
-        } catch (final NoSuchMethodException e) {
-            log.log(Level.FINE, "Method " + methodName + " does not exist in " + getClass(), e);
-        } catch (Exception e) {
-            log.log(Level.WARNING, "An error occured while invoking " + methodName + " in " + where, e);
+            return (Object) handle.invokeExact((Object) this, (Object) argument);
+        } catch (Throwable e) {
+            log.log(Level.WARNING, "An error occured while invoking " + GETSEQUENCE + name + " in " + this, e);
         }
         return null;
     }
@@ -658,9 +677,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      * @since 7.6
      */
     public SwiftTagListBlock getSequence(final String name) {
-        final String methodName = GETSEQUENCE + name;
-        Object o = invokeHere(methodName, this, null);
-        return (SwiftTagListBlock) o;
+        return (SwiftTagListBlock) invokeHere(accessors().sequence(name, false), name, null);
     }
 
     /**
@@ -673,9 +690,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      */
     public /* cant make static, but should be */ SwiftTagListBlock getSequence(
             final String name, final SwiftTagListBlock block) {
-        final String methodName = GETSEQUENCE + name;
-        Object o = invokeHere(methodName, this, block);
-        return (SwiftTagListBlock) o;
+        return (SwiftTagListBlock) invokeHere(accessors().sequence(name, block != null), name, block);
     }
 
     @Override
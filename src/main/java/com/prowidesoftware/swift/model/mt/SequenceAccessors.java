@@ -0,0 +1,147 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.mt;
+
+import com.prowidesoftware.swift.model.SwiftTagListBlock;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Table of the sequence getters of an MT class, built once per class from its public methods.
+ *
+ * <p>For each sequence name it keeps the <code>getSequenceX()</code> and <code>getSequenceX(SwiftTagListBlock)</code>
+ * methods, and the <code>getSequenceXList</code> variants for repetitive sequences, as method handles with a uniform
+ * signature, so the sequences can be retrieved by name without reflective lookups.
+ *
+ * @since 9.5.6
+ */
+final class SequenceAccessors {
+    private static final String GETSEQUENCE = "getSequence";
+    private static final String LIST = "List";
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType BLOCK_GETTER = MethodType.methodType(Object.class, Object.class, Object.class);
+
+    private static final ClassValue<SequenceAccessors> ACCESSORS = new ClassValue<SequenceAccessors>() {
+        @Override
+        protected SequenceAccessors computeValue(final Class<?> type) {
+            return new SequenceAccessors(type);
+        }
+    };
+
+    private final Map<String, MethodHandle> sequence = new HashMap<>();
+    private final Map<String, MethodHandle> sequenceFromBlock = new HashMap<>();
+    private final Map<String, MethodHandle> sequenceList = new HashMap<>();
+    private final Map<String, MethodHandle> sequenceListFromBlock = new HashMap<>();
+    private final Set<String> sequenceNames;
+    private final Set<String> sequenceListNames;
+
+    private SequenceAccessors(final Class<?> type) {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (final Method method : type.getMethods()) {
+            final String methodName = method.getName();
+            if (!methodName.startsWith(GETSEQUENCE) || methodName.length() == GETSEQUENCE.length()) {
+                continue;
+            }
+            final Class<?>[] params = method.getParameterTypes();
+            final boolean fromBlock = params.length == 1 && params[0] == SwiftTagListBlock.class;
+            if (params.length > 1 || params.length == 1 && !fromBlock) {
+                continue;
+            }
+            final boolean isList = List.class.isAssignableFrom(method.getReturnType());
+            if (!isList && !SwiftTagListBlock.class.isAssignableFrom(method.getReturnType())) {
+                // for example getSequenceNumber()
+                continue;
+            }
+            String name = methodName.substring(GETSEQUENCE.length());
+            if (isList) {
+                if (!name.endsWith(LIST) || name.length() == LIST.length()) {
+                    continue;
+                }
+                name = name.substring(0, name.length() - LIST.length());
+            }
+            final MethodHandle handle;
+            try {
+                handle = adapt(lookup.unreflect(method), Modifier.isStatic(method.getModifiers()), fromBlock);
+            } catch (final IllegalAccessException e) {
+                // methods from non public classes are not accessible, as with reflection
+                continue;
+            }
+            if (isList) {
+                (fromBlock ? this.sequenceListFromBlock : this.sequenceList).put(name, handle);
+            } else {
+                (fromBlock ? this.sequenceFromBlock : this.sequence).put(name, handle);
+            }
+        }
+        this.sequenceNames = Collections.unmodifiableSet(new TreeSet<>(this.sequence.keySet()));
+        this.sequenceListNames = Collections.unmodifiableSet(new TreeSet<>(this.sequenceList.keySet()));
+    }
+
+    /**
+     * @param type an MT class
+     * @return the sequence getters of the class, created on first use
+     */
+    static SequenceAccessors of(final Class<?> type) {
+        return ACCESSORS.get(type);
+    }
+
+    /**
+     * Converts the handle to the (Object)Object or (Object, Object)Object types, ignoring the target instance in
+     * static methods
+     */
+    private static MethodHandle adapt(MethodHandle handle, final boolean isStatic, final boolean fromBlock) {
+        if (isStatic) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(fromBlock ? BLOCK_GETTER : GETTER);
+    }
+
+    /**
+     * @param fromBlock true to get the getter with a block parameter
+     * @param name      the sequence name
+     * @return the getter for a non repetitive sequence, or null if not found
+     */
+    MethodHandle sequence(final String name, final boolean fromBlock) {
+        return (fromBlock ? this.sequenceFromBlock : this.sequence).get(name);
+    }
+
+    /**
+     * @param fromBlock true to get the getter with a block parameter
+     * @param name      the sequence name
+     * @return the getter for a repetitive sequence, or null if not found
+     */
+    MethodHandle sequenceList(final String name, final boolean fromBlock) {
+        return (fromBlock ? this.sequenceListFromBlock : this.sequenceList).get(name);
+    }
+
+    /**
+     * @return the names of the non repetitive sequences, sorted
+     */
+    Set<String> sequenceNames() {
+        return this.sequenceNames;
+    }
+
+    /**
+     * @return the names of the repetitive sequences, sorted
+     */
+    Set<String> sequenceListNames() {
+        return this.sequenceListNames;
+    }
+}
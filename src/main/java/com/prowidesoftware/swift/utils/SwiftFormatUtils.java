@@ -20,10 +20,17 @@ import com.prowidesoftware.swift.model.LogicalTerminalAddress;
 import com.prowidesoftware.swift.model.MIR;
 import com.prowidesoftware.swift.model.MOR;
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Currency;
 import java.util.Date;
@@ -59,6 +66,25 @@ public class SwiftFormatUtils {
     private static final transient java.util.logging.Logger log =
             java.util.logging.Logger.getLogger(SwiftFormatUtils.class.getName());
 
+    /**
+     * Maximum number of digits of an amount handled with a long unscaled value
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * Maximum number of decimals when formatting amounts
+     */
+    private static final int MAX_DECIMALS = 10;
+
+    /**
+     * Last year of the julian calendar in the default GregorianCalendar
+     */
+    private static final int GREGORIAN_CUTOVER_YEAR = 1582;
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L
+    };
+
     // Suppress default constructor for noninstantiability
     private SwiftFormatUtils() {
         throw new AssertionError();
@@ -105,6 +131,10 @@ public class SwiftFormatUtils {
      * @since 7.8.8
      */
     public static boolean isLeapYear(int year) {
+        if (year > GREGORIAN_CUTOVER_YEAR) {
+            return Year.isLeap(year);
+        }
+        // julian calendar rules and the shorter cutover year
         Calendar cal = Calendar.getInstance();
         cal.set(Calendar.YEAR, year);
         return cal.getActualMaximum(Calendar.DAY_OF_YEAR) > 365;
@@ -234,6 +264,10 @@ public class SwiftFormatUtils {
     public static Number getNumber(final String amount) {
         Number number = null;
         if (amount != null) {
+            number = parseAmount(amount);
+            if (number != null) {
+                return number;
+            }
             try {
                 final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
                 symbols.setDecimalSeparator(',');
@@ -259,6 +293,15 @@ public class SwiftFormatUtils {
      * @return Number of the parsed amount or null if the number is null
      */
     public static String getNumber(final Number number) {
+        if (number instanceof BigDecimal) {
+            return formatAmount((BigDecimal) number);
+        }
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return number.longValue() + ",";
+        }
+        if (number instanceof BigInteger) {
+            return number + ",";
+        }
         if (number != null) {
             final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
             symbols.setDecimalSeparator(',');
@@ -280,6 +323,10 @@ public class SwiftFormatUtils {
     public static BigDecimal getBigDecimal(final String amount) {
         BigDecimal bigDecimal = null;
         if (amount != null) {
+            bigDecimal = parseAmount(amount);
+            if (bigDecimal != null) {
+                return bigDecimal;
+            }
             try {
                 final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
                 symbols.setDecimalSeparator(',');
@@ -305,16 +352,96 @@ public class SwiftFormatUtils {
      * @return Number of the parsed amount or null if the number is null
      */
     public static String getBigDecimal(final BigDecimal bigDecimal) {
-        if (bigDecimal != null) {
-            final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
-            symbols.setDecimalSeparator(',');
-            final DecimalFormat df = new DecimalFormat("0.##########", symbols);
-            df.setParseBigDecimal(true);
-            df.setDecimalSeparatorAlwaysShown(true);
-            final String formatted = df.format(bigDecimal);
-            return StringUtils.replaceChars(formatted, '.', ',');
+        return bigDecimal != null ? formatAmount(bigDecimal) : null;
+    }
+
+    /**
+     * Parses a plain SWIFT amount, digits with an optional comma as decimal separator, directly into its unscaled
+     * value and scale.
+     *
+     * <p>The result is the same as the one of the DecimalFormat used for any other value: the scale is the number of
+     * decimals present in the value, including trailing zeros, and leading zeros are ignored.
+     *
+     * @param amount the amount to parse
+     * @return the parsed amount, or null if the value is not made only of up to 18 ASCII digits and one comma
+     */
+    private static BigDecimal parseAmount(final String amount) {
+        final int length = amount.length();
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (int i = 0; i < length; i++) {
+            final char c = amount.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_LONG_DIGITS) {
+                    return null;
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == ',' && scale < 0) {
+                scale = 0;
+            } else {
+                return null;
+            }
         }
-        return null;
+        return digits > 0 ? BigDecimal.valueOf(unscaled, Math.max(scale, 0)) : null;
+    }
+
+    /**
+     * Formats an amount with comma as decimal separator, with up to 10 decimals rounded half even, without trailing
+     * zeros in the decimals and with mandatory decimal separator.
+     *
+     * @param amount the amount to format
+     * @return the formatted amount
+     */
+    private static String formatAmount(final BigDecimal amount) {
+        final BigDecimal rounded =
+                amount.scale() > MAX_DECIMALS ? amount.setScale(MAX_DECIMALS, RoundingMode.HALF_EVEN) : amount;
+        final StringBuilder result = new StringBuilder(24);
+        if (amount.signum() < 0) {
+            // the sign is kept even when the value is rounded to zero
+            result.append('-');
+        }
+        if (rounded.precision() > MAX_LONG_DIGITS) {
+            final String plain = rounded.abs().stripTrailingZeros().toPlainString();
+            final int point = plain.indexOf('.');
+            if (point < 0) {
+                return result.append(plain).append(',').toString();
+            }
+            return result.append(plain, 0, point)
+                    .append(',')
+                    .append(plain, point + 1, plain.length())
+                    .toString();
+        }
+        final long unscaled = Math.abs(rounded.unscaledValue().longValue());
+        final int scale = rounded.scale();
+        if (unscaled == 0) {
+            return result.append("0,").toString();
+        }
+        if (scale <= 0) {
+            result.append(unscaled);
+            for (int i = 0; i < -scale; i++) {
+                result.append('0');
+            }
+            return result.append(',').toString();
+        }
+        final long pow = POWERS_OF_TEN[scale];
+        result.append(unscaled / pow).append(',');
+        long decimals = unscaled % pow;
+        int count = scale;
+        while (decimals != 0 && decimals % 10 == 0) {
+            decimals /= 10;
+            count--;
+        }
+        if (decimals != 0) {
+            for (long p = POWERS_OF_TEN[count - 1]; p > decimals; p /= 10) {
+                result.append('0');
+            }
+            result.append(decimals);
+        }
+        return result.toString();
     }
 
     /**
@@ -334,6 +461,11 @@ public class SwiftFormatUtils {
 
     private static Calendar getCalendar(final String value, final String format) {
         if (value != null) {
+            final Calendar parsed = parseCalendar(value, format);
+            if (parsed != null) {
+                return parsed;
+            }
+            // invalid value, parsed again to report the error as before
             try {
                 final SimpleDateFormat sdf = new SimpleDateFormat(format);
                 sdf.setLenient(false);
@@ -350,6 +482,92 @@ public class SwiftFormatUtils {
         return null;
     }
 
+    /**
+     * Parses a fixed width value of digits, with the same result as a strict SimpleDateFormat with the given pattern of
+     * year, month, day, hour, minute and second letters, without creating the SimpleDateFormat.
+     *
+     * <p>As in SimpleDateFormat, two digits years are set within 80 years before and 20 years after the current date.
+     *
+     * @return the parsed calendar, or null if the value is not valid for the format or the format is not supported
+     */
+    private static Calendar parseCalendar(final String value, final String format) {
+        if (value.length() != format.length()) {
+            return null;
+        }
+        final Calendar cal = new GregorianCalendar();
+        cal.clear();
+        cal.setLenient(false);
+        boolean shortYear = false;
+        int start = 0;
+        while (start < format.length()) {
+            final char letter = format.charAt(start);
+            int end = start + 1;
+            while (end < format.length() && format.charAt(end) == letter) {
+                end++;
+            }
+            final int number = digits(value, start, end);
+            if (number < 0) {
+                return null;
+            }
+            switch (letter) {
+                case 'y':
+                    shortYear = end - start == 2;
+                    cal.set(Calendar.YEAR, number);
+                    break;
+                case 'M':
+                    cal.set(Calendar.MONTH, number - 1);
+                    break;
+                case 'd':
+                    cal.set(Calendar.DAY_OF_MONTH, number);
+                    break;
+                case 'H':
+                    cal.set(Calendar.HOUR_OF_DAY, number);
+                    break;
+                case 'm':
+                    cal.set(Calendar.MINUTE, number);
+                    break;
+                case 's':
+                    cal.set(Calendar.SECOND, number);
+                    break;
+                default:
+                    return null;
+            }
+            start = end;
+        }
+        try {
+            if (shortYear) {
+                final ZonedDateTime centuryStart = ZonedDateTime.now().minusYears(80);
+                final int ambiguous = centuryStart.getYear() % 100;
+                final int year = cal.get(Calendar.YEAR);
+                cal.set(Calendar.YEAR, centuryStart.getYear() / 100 * 100 + year + (year < ambiguous ? 100 : 0));
+                if (year == ambiguous && cal.getTimeInMillis() < centuryStart.toInstant().toEpochMilli()) {
+                    cal.add(Calendar.YEAR, 100);
+                }
+            }
+            final long time = cal.getTimeInMillis();
+            cal.setLenient(true);
+            cal.setTimeInMillis(time);
+            return cal;
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the number in the value range, or -1 if the range has any char other than ASCII digits
+     */
+    private static int digits(final CharSequence value, final int start, final int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
     /**
      * @since 6.4
      */
@@ -664,6 +882,167 @@ public class SwiftFormatUtils {
         return getCalendar(date, "HH");
     }
 
+    /**
+     * Parses a DATE2 string (accept dates in format YYMMDD) into a LocalDate.
+     *
+     * <p>As in {@link #getDate2(String)} the year is set within 80 years before and 20 years after the current date.
+     *
+     * @param yymmdd string to parse
+     * @return parsed date or null if the argument is not a valid date in the expected format
+     * @since 9.5.6
+     */
+    public static LocalDate getLocalDate2(final CharSequence yymmdd) {
+        if (yymmdd == null || yymmdd.length() != 6) {
+            return null;
+        }
+        return shortYearDate(yymmdd);
+    }
+
+    /**
+     * Parses a DATE4 string (accept dates in format YYYYMMDD) into a LocalDate.
+     *
+     * @param yyyymmdd string to parse
+     * @return parsed date or null if the argument is not a valid date in the expected format
+     * @since 9.5.6
+     */
+    public static LocalDate getLocalDate4(final CharSequence yyyymmdd) {
+        if (yyyymmdd == null || yyyymmdd.length() != 8) {
+            return null;
+        }
+        return localDate(digits(yyyymmdd, 0, 4), digits(yyyymmdd, 4, 6), digits(yyyymmdd, 6, 8));
+    }
+
+    /**
+     * Parses a MONTHDAY string (accepts dates in MMDD format) into a LocalDate.
+     *
+     * <p>As in {@link #getMonthDay(String)} the year is set to the current year, so 0229 is only valid in leap years.
+     *
+     * @param mmdd string to parse
+     * @return parsed date or null if the argument is not a valid date in the expected format
+     * @since 9.5.6
+     */
+    public static LocalDate getLocalMonthDay(final CharSequence mmdd) {
+        if (mmdd == null || mmdd.length() != 4) {
+            return null;
+        }
+        return localDate(Year.now().getValue(), digits(mmdd, 0, 2), digits(mmdd, 2, 4));
+    }
+
+    /**
+     * Parses a time string in HHMM format into a LocalTime.
+     *
+     * @param hhmm string to parse
+     * @return parsed time or null if the argument is not a valid time in the expected format
+     * @since 9.5.6
+     */
+    public static LocalTime getLocalTime(final CharSequence hhmm) {
+        if (hhmm == null || hhmm.length() != 4) {
+            return null;
+        }
+        return localTime(digits(hhmm, 0, 2), digits(hhmm, 2, 4), 0);
+    }
+
+    /**
+     * Parses a TIME2 string (accepts time in HHMMSS format) into a LocalTime.
+     *
+     * @param hhmmss string to parse
+     * @return parsed time or null if the argument is not a valid time in the expected format
+     * @since 9.5.6
+     */
+    public static LocalTime getLocalTime2(final CharSequence hhmmss) {
+        if (hhmmss == null || hhmmss.length() != 6) {
+            return null;
+        }
+        return localTime(digits(hhmmss, 0, 2), digits(hhmmss, 2, 4), digits(hhmmss, 4, 6));
+    }
+
+    /**
+     * Parses a DATETIME string (accepts dates with time in YYYYMMDDHHMM format) into a LocalDateTime.
+     *
+     * @param yyyymmddhhmm string to parse
+     * @return parsed date and time or null if the argument is not valid in the expected format
+     * @since 9.5.6
+     */
+    public static LocalDateTime getLocalDateTime(final CharSequence yyyymmddhhmm) {
+        if (yyyymmddhhmm == null || yyyymmddhhmm.length() != 12) {
+            return null;
+        }
+        final LocalDate date =
+                localDate(digits(yyyymmddhhmm, 0, 4), digits(yyyymmddhhmm, 4, 6), digits(yyyymmddhhmm, 6, 8));
+        final LocalTime time = localTime(digits(yyyymmddhhmm, 8, 10), digits(yyyymmddhhmm, 10, 12), 0);
+        return date != null && time != null ? LocalDateTime.of(date, time) : null;
+    }
+
+    /**
+     * Parses a DATETIME with short year string (accepts dates with time in YYMMDDHHMM format) into a LocalDateTime.
+     *
+     * <p>As in {@link #getDateTimeShortYear(String)} the year is set within 80 years before and 20 years after the
+     * current date.
+     *
+     * @param yymmddhhmm string to parse
+     * @return parsed date and time or null if the argument is not valid in the expected format
+     * @since 9.5.6
+     */
+    public static LocalDateTime getLocalDateTimeShortYear(final CharSequence yymmddhhmm) {
+        if (yymmddhhmm == null || yymmddhhmm.length() != 10) {
+            return null;
+        }
+        final LocalDate date = shortYearDate(yymmddhhmm);
+        final LocalTime time = localTime(digits(yymmddhhmm, 6, 8), digits(yymmddhhmm, 8, 10), 0);
+        return date != null && time != null ? LocalDateTime.of(date, time) : null;
+    }
+
+    /**
+     * @return the date in the first six chars of the value, in YYMMDD format, or null if not valid
+     */
+    private static LocalDate shortYearDate(final CharSequence value) {
+        final int year = digits(value, 0, 2);
+        final int month = digits(value, 2, 4);
+        final int day = digits(value, 4, 6);
+        if (year < 0) {
+            return null;
+        }
+        return localDate(fullYear(year, month, day), month, day);
+    }
+
+    /**
+     * @return the date or null if any of the numbers is not valid for a date
+     */
+    private static LocalDate localDate(final int year, final int month, final int day) {
+        if (year < 1 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        final int lastDay = month == 2 ? (Year.isLeap(year) ? 29 : 28) : 30 + ((month + (month >> 3)) & 1);
+        return day <= lastDay ? LocalDate.of(year, month, day) : null;
+    }
+
+    /**
+     * @return the time or null if any of the numbers is not valid for a time
+     */
+    private static LocalTime localTime(final int hour, final int minute, final int second) {
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second);
+    }
+
+    /**
+     * Sets the century of a two digits year as SimpleDateFormat does, within 80 years before and 20 years after the
+     * current date.
+     */
+    private static int fullYear(final int year, final int month, final int day) {
+        final LocalDate centuryStart = LocalDate.now().minusYears(80);
+        final int ambiguous = centuryStart.getYear() % 100;
+        final int result = centuryStart.getYear() / 100 * 100 + year;
+        if (year < ambiguous
+                || year == ambiguous
+                        && (month < centuryStart.getMonthValue()
+                                || month == centuryStart.getMonthValue() && day <= centuryStart.getDayOfMonth())) {
+            return result + 100;
+        }
+        return result;
+    }
+
     /**
      * Parses a string value into a MIR object.
      *
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.io.parser.SwiftParserConfiguration;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.utils.Lib;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for the {@link BulkMessageParser} class
+ *
+ * @since 9.5.6
+ */
+public class BulkMessageParserTest {
+
+    private static final String MT = "{1:F01AAAARUMMAXXX4313990000}{2:I103BBBBUS33XXXXN}{4:\r\n:20:REF%d\r\n-}";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testRJEResource() throws IOException {
+        final String rje = Lib.readResource("MT103-bulk-with-ack.rje");
+        final List<SwiftMessage> expected = new ArrayList<>();
+        for (String fin : new RJEReader(rje)) {
+            if (!fin.isEmpty()) {
+                expected.add(SwiftMessage.parse(fin));
+            }
+        }
+
+        final BulkMessageParser parser = new BulkMessageParser(BatchFormat.RJE);
+        parser.setBatchSize(1);
+        final List<BulkMessageParser.Result> results = parser.parse(new StringReader(rje));
+        assertEquals(expected.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getIndex());
+            assertEquals(expected.get(i), results.get(i).getMessage());
+            assertTrue(results.get(i).isSuccess());
+        }
+    }
+
+    @Test
+    public void testOrderAndIndex() throws IOException {
+        final StringBuilder rje = new StringBuilder();
+        final StringBuilder ppc = new StringBuilder("header");
+        for (int i = 0; i < 5000; i++) {
+            final String fin = String.format(MT, i);
+            rje.append(fin).append("\r\n$");
+            ppc.append((char) 0x01).append(fin).append((char) 0x03).append("   ");
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (BatchFormat format : BatchFormat.values()) {
+                final BulkMessageParser parser = new BulkMessageParser(format);
+                parser.setExecutor(executor);
+                parser.setBatchSize(7);
+                parser.setMaxPendingBatches(2);
+                final List<BulkMessageParser.Result> results =
+                        parser.parse(new StringReader((format == BatchFormat.RJE ? rje : ppc).toString()));
+                assertEquals(5000, results.size(), format.name());
+                for (int i = 0; i < results.size(); i++) {
+                    final BulkMessageParser.Result result = results.get(i);
+                    assertEquals(i, result.getIndex());
+                    assertEquals(String.format(MT, i), result.getContent());
+                    assertEquals("REF" + i, result.getMessage().getBlock4().getTagValue("20"));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testErrors() throws IOException {
+        final String rje = String.format(MT, 0) + "$" + "{1:F01AAAARUMMAXXX4313990000}{4:\r\n:20:REF\r\n" + "$ \r\n$"
+                + String.format(MT, 2);
+
+        final List<BulkMessageParser.Result> results =
+                new BulkMessageParser(BatchFormat.RJE).parse(new StringReader(rje));
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(1, results.get(1).getErrors().size());
+        assertNull(results.get(1).getException());
+        assertTrue(results.get(2).isSuccess());
+
+        final SwiftParserConfiguration config = new SwiftParserConfiguration();
+        config.setLenient(false);
+        final BulkMessageParser parser = new BulkMessageParser(BatchFormat.RJE);
+        parser.setConfiguration(config);
+        final List<BulkMessageParser.Result> strict = parser.parse(new StringReader(rje));
+        assertEquals(3, strict.size());
+        assertNull(strict.get(1).getMessage());
+        assertTrue(strict.get(1).getException() instanceof IllegalArgumentException);
+        assertEquals("REF2", strict.get(2).getMessage().getBlock4().getTagValue("20"));
+    }
+
+    @Test
+    public void testFile() throws IOException {
+        final File file = tempDir.resolve("batch.rje").toFile();
+        Files.write(
+                file.toPath(), (String.format(MT, 0) + "$" + String.format(MT, 1)).getBytes(StandardCharsets.UTF_8));
+        final List<Integer> indexes = new ArrayList<>();
+        new BulkMessageParser(BatchFormat.RJE).parse(file).forEach(r -> indexes.add(r.getIndex()));
+        assertEquals(2, indexes.size());
+        assertEquals(1, indexes.get(1));
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.utils.Lib;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for the {@link MappedBatchReader} class
+ *
+ * @since 9.5.6
+ */
+public class MappedBatchReaderTest {
+
+    private static final String MT =
+            "{1:F01AAAARUMMAXXX4313990000}{2:I103BBBBUS33XXXXN}{4:\r\n:20:REF%d\r\n:70:DOÉ\r\n-}";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testRJE() throws IOException {
+        final StringBuilder rje = new StringBuilder("\r\n");
+        for (int i = 0; i < 1000; i++) {
+            rje.append(String.format(MT, i)).append(i % 10 == 0 ? "\r\n$ \r\n$" : "\r\n$");
+        }
+        final File file = write("batch.rje", rje.toString());
+        final List<String> expected = new ArrayList<>();
+        for (String m : new RJEReader(rje.toString())) {
+            if (!m.isEmpty()) {
+                expected.add(m);
+            }
+        }
+        try (MappedBatchReader reader = new MappedBatchReader(file, BatchFormat.RJE)) {
+            assertEquals(1000, reader.count());
+            assertEquals(expected.size(), reader.count());
+            for (int i = 0; i < reader.count(); i++) {
+                assertEquals(expected.get(i), reader.get(i));
+            }
+            assertEquals("REF999", reader.getSwiftMessage(999).getBlock4().getTagValue("20"));
+            assertEquals(2, reader.getOffset(0));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.get(1000));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.get(-1));
+        }
+    }
+
+    @Test
+    public void testPPC() throws IOException {
+        final StringBuilder ppc = new StringBuilder("garbage");
+        for (int i = 0; i < 100; i++) {
+            ppc.append((char) 0x01)
+                    .append(String.format(MT, i))
+                    .append((char) 0x03)
+                    .append("  ");
+        }
+        ppc.append((char) 0x01).append((char) 0x03).append((char) 0x01).append(" unterminated ");
+        final File file = write("batch.ppc", ppc.toString());
+        final List<String> expected = new ArrayList<>();
+        for (String m : new PPCReader(ppc.toString())) {
+            if (!m.isEmpty()) {
+                expected.add(m);
+            }
+        }
+        try (MappedBatchReader reader = new MappedBatchReader(file, BatchFormat.PPC)) {
+            assertEquals(101, reader.count());
+            List<String> all = new ArrayList<>();
+            reader.forEach(all::add);
+            assertEquals(expected, all);
+            assertEquals("unterminated", reader.get(100));
+        }
+    }
+
+    @Test
+    public void testRangeIteration() throws IOException {
+        final StringBuilder rje = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            rje.append(String.format(MT, i)).append("$");
+        }
+        try (MappedBatchReader reader = new MappedBatchReader(write("range.rje", rje.toString()), BatchFormat.RJE)) {
+            final Iterator<String> it = reader.iterator(10, 13);
+            assertEquals(String.format(MT, 10), it.next());
+            assertEquals(String.format(MT, 11), it.next());
+            assertEquals(String.format(MT, 12), it.next());
+            assertFalse(it.hasNext());
+            assertFalse(reader.iterator(50, 50).hasNext());
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.iterator(10, 51));
+        }
+    }
+
+    @Test
+    public void testParallelStream() throws IOException {
+        final StringBuilder rje = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            rje.append(String.format(MT, i)).append("\r\n$");
+        }
+        try (MappedBatchReader reader = new MappedBatchReader(write("stream.rje", rje.toString()), BatchFormat.RJE)) {
+            final Spliterator<String> split = reader.stream().spliterator();
+            assertEquals(2000, split.getExactSizeIfKnown());
+            final Spliterator<String> prefix = split.trySplit();
+            assertNotNull(prefix);
+            assertEquals(1000, prefix.estimateSize());
+            assertEquals(1000, split.estimateSize());
+
+            final List<String> refs = reader.messageStream()
+                    .parallel()
+                    .map(m -> m.getBlock4().getTagValue("20"))
+                    .collect(Collectors.toList());
+            assertEquals(2000, refs.size());
+            for (int i = 0; i < refs.size(); i++) {
+                assertEquals("REF" + i, refs.get(i));
+            }
+            assertEquals(2000, reader.mtStream().parallel().count());
+            assertEquals(
+                    String.format(MT, 11),
+                    reader.stream(10, 20).skip(1).findFirst().orElse(null));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.stream(0, 2001));
+        }
+    }
+
+    @Test
+    public void testPersistentIndex() throws IOException {
+        final File file = write("persist.rje", String.format(MT, 0) + "$" + String.format(MT, 1));
+        final File index = MappedBatchReader.getIndexFile(file);
+        assertFalse(index.exists());
+        try (MappedBatchReader reader = new MappedBatchReader(file, BatchFormat.RJE, StandardCharsets.UTF_8, true)) {
+            assertEquals(2, reader.count());
+        }
+        assertTrue(index.exists());
+        try (MappedBatchReader reader = new MappedBatchReader(file, BatchFormat.RJE, StandardCharsets.UTF_8, true)) {
+            assertEquals(2, reader.count());
+            assertEquals(String.format(MT, 1), reader.get(1));
+        }
+
+        // the index is rebuilt when the file changes
+        Files.write(
+                file.toPath(),
+                ("$" + String.format(MT, 2)).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        try (MappedBatchReader reader = new MappedBatchReader(file, BatchFormat.RJE, StandardCharsets.UTF_8, true)) {
+            assertEquals(3, reader.count());
+            assertEquals(String.format(MT, 2), reader.get(2));
+        }
+
+        // an invalid index is ignored
+        Files.write(index.toPath(), new byte[] {1, 2, 3});
+        try (MappedBatchReader reader = new MappedBatchReader(file, BatchFormat.RJE, StandardCharsets.UTF_8, true)) {
+            assertEquals(3, reader.count());
+        }
+    }
+
+    @Test
+    public void testCorruptedIndex() throws IOException {
+        final File file = write("corrupted.rje", String.format(MT, 0) + "$" + String.format(MT, 1));
+        final File index = MappedBatchReader.getIndexFile(file);
+        try (MappedBatchReader reader = new MappedBatchReader(file, BatchFormat.RJE, StandardCharsets.UTF_8, true)) {
+            assertEquals(2, reader.count());
+        }
+        final byte[] valid = Files.readAllBytes(index.toPath());
+
+        // header is magic, version, format, file length and file last modified, followed by the message count
+        final int countPosition = 4 + 4 + 4 + 8 + 8;
+        for (int count : new int[] {-1, Integer.MAX_VALUE}) {
+            Files.write(index.toPath(), ByteBuffer.wrap(valid.clone()).putInt(countPosition, count).array());
+            try (MappedBatchReader reader =
+                    new MappedBatchReader(file, BatchFormat.RJE, StandardCharsets.UTF_8, true)) {
+                assertEquals(2, reader.count());
+            }
+        }
+
+        // entries are the message offset and length
+        final int entryPosition = countPosition + 4;
+        for (long offset : new long[] {-1, file.length()}) {
+            Files.write(index.toPath(), ByteBuffer.wrap(valid.clone()).putLong(entryPosition, offset).array());
+            try (MappedBatchReader reader =
+                    new MappedBatchReader(file, BatchFormat.RJE, StandardCharsets.UTF_8, true)) {
+                assertEquals(2, reader.count());
+                assertEquals(String.format(MT, 0), reader.get(0));
+            }
+        }
+        Files.write(index.toPath(), ByteBuffer.wrap(valid.clone()).putInt(entryPosition + 8, -1).array());
+        try (MappedBatchReader reader = new MappedBatchReader(file, BatchFormat.RJE, StandardCharsets.UTF_8, true)) {
+            assertEquals(String.format(MT, 0), reader.get(0));
+        }
+    }
+
+    @Test
+    public void testResource() throws IOException {
+        final File file = write("ack.rje", Lib.readResource("MT103-out-ack.rje"));
+        try (MappedBatchReader reader = new MappedBatchReader(file, BatchFormat.RJE)) {
+            assertEquals(13, reader.count());
+            assertEquals("22342343", reader.getSwiftMessage(0).getBlock4().getTagValue("20"));
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        try (MappedBatchReader reader = new MappedBatchReader(write("empty.rje", ""), BatchFormat.RJE)) {
+            assertEquals(0, reader.count());
+            assertFalse(reader.iterator().hasNext());
+        }
+    }
+
+    private File write(final String name, final String content) throws IOException {
+        final File file = tempDir.resolve(name).toFile();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -19,9 +19,13 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.prowidesoftware.swift.model.SwiftMessage;
 import com.prowidesoftware.swift.model.mt.AbstractMT;
-import java.io.IOException;
-import java.io.InputStream;
+import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -120,4 +124,103 @@ public class RJEReaderTest {
             assertEquals(3, count);
         }
     }
+
+    @Test
+    public void testStream() throws IOException {
+        try (InputStream inputStream = RJEReaderTest.class.getResourceAsStream("/MT103-out-ack.rje")) {
+            RJEReader r = new RJEReader(inputStream, StandardCharsets.US_ASCII);
+            assertEquals(13, r.stream().count());
+            assertThrows(IllegalStateException.class, r::stream);
+        }
+    }
+
+    @Test
+    public void testParallelMessageStream() throws IOException {
+        final StringBuilder rje = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            rje.append("{1:F01AAAARUMMAXXX4313990000}{2:I103BBBBUS33XXXXN}{4:\r\n:20:REF")
+                    .append(i)
+                    .append("\r\n-}\r\n$\r\n");
+        }
+        final List<String> refs = new RJEReader(rje.toString())
+                .messageStream()
+                .parallel()
+                .map(m -> m.getBlock4().getTagValue("20"))
+                .collect(Collectors.toList());
+        assertEquals(3000, refs.size());
+        for (int i = 0; i < refs.size(); i++) {
+            assertEquals("REF" + i, refs.get(i));
+        }
+    }
+
+    @Test
+    public void testMTStreamWithAcks() throws IOException {
+        try (InputStream inputStream = RJEReaderTest.class.getResourceAsStream("/MT103-bulk-with-ack.rje")) {
+            List<AbstractMT> mts = new RJEReader(inputStream, StandardCharsets.US_ASCII)
+                    .mtStream()
+                    .collect(Collectors.toList());
+            assertEquals(3, mts.size());
+            mts.forEach(mt -> assertEquals("103", mt.getMessageType()));
+        }
+    }
+
+    @Test
+    public void testGzipStream() throws IOException {
+        final StringBuilder rje = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            rje.append("{1:F01AAAARUMMAXXX4313990000}{2:I103BBBBUS33XXXXN}{4:\r\n:20:REF")
+                    .append(i)
+                    .append("\r\n-}\r\n$");
+        }
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(rje.toString().getBytes(StandardCharsets.US_ASCII));
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            final List<String> messages = new ArrayList<>();
+            new RJEReader(in, StandardCharsets.US_ASCII).forEach(messages::add);
+            // the content ends with a delimiter
+            assertEquals(5001, messages.size());
+            assertTrue(messages.get(4999).contains(":20:REF4999"));
+            assertEquals("", messages.get(5000));
+        }
+    }
+
+    @Test
+    public void testReaderNotReady() {
+        // a reader that never reports content available, as with pipes and sockets
+        final Reader notReady = new StringReader("foo$bar") {
+            @Override
+            public boolean ready() {
+                return false;
+            }
+
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                // deliver the content one char at a time
+                return super.read(cbuf, off, Math.min(len, 1));
+            }
+        };
+        final RJEReader r = new RJEReader(notReady);
+        assertTrue(r.hasNext());
+        assertEquals("foo", r.next());
+        assertTrue(r.hasNext());
+        assertEquals("bar", r.next());
+        assertFalse(r.hasNext());
+        assertNull(r.next());
+    }
+
+    @Test
+    public void testSplitCharAndEmptyInput() {
+        final RJEReader r = new RJEReader(" a #b# ");
+        r.setSplitChar('#');
+        final List<String> messages = new ArrayList<>();
+        r.forEach(messages::add);
+        assertEquals(3, messages.size());
+        assertEquals("a", messages.get(0));
+        assertEquals("b", messages.get(1));
+        assertEquals("", messages.get(2));
+
+        assertFalse(new RJEReader("").hasNext());
+    }
 }
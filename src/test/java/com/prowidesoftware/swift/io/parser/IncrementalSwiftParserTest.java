@@ -0,0 +1,175 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.io.RJEReader;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.utils.Lib;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link IncrementalSwiftParser}
+ *
+ * @since 9.5.6
+ */
+public class IncrementalSwiftParserTest {
+
+    private static final String MT103 = "{1:F01AAAARUMMAXXX4313990000}{2:I103BBBBUS33XXXXN}{3:{108:MUR1}}{4:\r\n"
+            + ":20:REF1\r\n"
+            + ":23B:CRED\r\n"
+            + ":70:FOO } BAR {\r\n"
+            + "-}{5:{CHK:F4B8A62C8AB8}}";
+
+    private static final String MT202 =
+            "{1:F01AAAARUMMAXXX4313990000}{2:O2021200130430BBBBUS33XXXX43139900001304301200N}"
+                    + "{4:\r\n"
+                    + ":20:REF2\r\n"
+                    + ":21:RELREF\r\n"
+                    + "-}{S:{SAC:}{COP:P}}";
+
+    private static final String ACK = "{1:F21AAAARUMMAXXX4313990000}{4:{177:1308090932}{451:0}}" + MT103;
+
+    private static final String SYSTEM =
+            "{1:F01AAAARUMMAXXX4313990000}{2:O0000932130809FOOLBEB0AXXX00000000001308090932N}"
+                    + "{4:{101:02}{102:ABCDEFGHIJKL}}";
+
+    @Test
+    public void testConcatenatedMessages() {
+        final List<String> messages = Arrays.asList(MT103, MT202, ACK, SYSTEM, MT202);
+        for (String separator : new String[] {"", "\r\n", "$", "\r\n$\r\n", "\u0003\r\n\u0001"}) {
+            final String content = String.join(separator, messages);
+            for (int chunk = 1; chunk < 8; chunk++) {
+                assertEquals(messages, feedChars(content, chunk), separator + " " + chunk);
+                assertEquals(messages, feedBytes(content.getBytes(StandardCharsets.UTF_8), chunk));
+            }
+        }
+    }
+
+    @Test
+    public void testSplitAtAnyPosition() {
+        final String content = MT103 + MT202 + ACK;
+        final List<String> expected = Arrays.asList(MT103, MT202, ACK);
+        for (int i = 0; i <= content.length(); i++) {
+            final List<String> result = new ArrayList<>();
+            final IncrementalSwiftParser parser = IncrementalSwiftParser.raw(result::add);
+            parser.feed(CharBuffer.wrap(content, 0, i));
+            parser.feed(CharBuffer.wrap(content, i, content.length()));
+            parser.finish();
+            assertEquals(expected, result, "split at " + i);
+        }
+    }
+
+    @Test
+    public void testParsedMessages() throws IOException {
+        final List<SwiftMessage> result = new ArrayList<>();
+        final IncrementalSwiftParser parser = new IncrementalSwiftParser(result::add);
+        parser.feed(CharBuffer.wrap(MT103 + "\r\n" + ACK));
+        assertEquals(1, result.size());
+        assertEquals(SwiftMessage.parse(MT103), result.get(0));
+        assertTrue(parser.getPendingLength() > 0);
+
+        parser.finish();
+        assertEquals(2, result.size());
+        assertEquals(SwiftMessage.parse(ACK), result.get(1));
+        assertTrue(result.get(1).isServiceMessage21());
+        assertEquals(0, parser.getPendingLength());
+    }
+
+    @Test
+    public void testRJEFile() throws IOException {
+        final String rje = Lib.readResource("MT103-bulk-with-ack.rje");
+        final List<SwiftMessage> expected = new ArrayList<>();
+        final RJEReader reader = new RJEReader(rje);
+        while (reader.hasNext()) {
+            expected.add(reader.nextSwiftMessage());
+        }
+
+        final List<SwiftMessage> result = new ArrayList<>();
+        final IncrementalSwiftParser parser = new IncrementalSwiftParser(result::add);
+        final byte[] bytes = rje.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i += 100) {
+            parser.feed(ByteBuffer.wrap(bytes, i, Math.min(100, bytes.length - i)));
+        }
+        parser.finish();
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testMultibyteCharacters() throws IOException {
+        final String fin = Lib.readResource("sample_JPchar.txt");
+        final byte[] bytes = (fin + "$" + fin).getBytes(StandardCharsets.UTF_8);
+        for (int chunk = 1; chunk < 5; chunk++) {
+            assertEquals(Arrays.asList(fin.trim(), fin.trim()), feedBytes(bytes, chunk));
+        }
+    }
+
+    @Test
+    public void testIncompleteMessage() {
+        final String incomplete = "{1:F01AAAARUMMAXXX4313990000}{2:I103BBBBUS33XXXXN}{4:\r\n:20:REF\r\n-";
+        final List<String> result = new ArrayList<>();
+        final IncrementalSwiftParser parser = IncrementalSwiftParser.raw(result::add);
+        parser.feed(CharBuffer.wrap(incomplete));
+        assertTrue(result.isEmpty());
+        parser.finish();
+        assertEquals(Arrays.asList(incomplete), result);
+
+        // reusable after finish
+        parser.feed(CharBuffer.wrap(MT202));
+        parser.finish();
+        assertEquals(Arrays.asList(incomplete, MT202), result);
+    }
+
+    @Test
+    public void testParseErrorIsNotRepeated() {
+        final List<SwiftMessage> result = new ArrayList<>();
+        final IncrementalSwiftParser parser = new IncrementalSwiftParser(result::add);
+        parser.getConfiguration().setLenient(false);
+        parser.feed(CharBuffer.wrap("{1:F01AAAARUMMAXXX4313990000}{2:I103BBBBUS33XXXXN}{4:\r\n:20:REF\r\n"));
+        assertThrows(IllegalArgumentException.class, () -> parser.feed(CharBuffer.wrap("$")));
+        parser.feed(CharBuffer.wrap(MT202 + "$"));
+        assertEquals(1, result.size());
+        assertEquals("REF2", result.get(0).getBlock4().getTagValue("20"));
+    }
+
+    private static List<String> feedChars(final String content, final int chunk) {
+        final List<String> result = new ArrayList<>();
+        final IncrementalSwiftParser parser = IncrementalSwiftParser.raw(result::add);
+        for (int i = 0; i < content.length(); i += chunk) {
+            parser.feed(CharBuffer.wrap(content, i, Math.min(i + chunk, content.length())));
+        }
+        parser.finish();
+        return result;
+    }
+
+    private static List<String> feedBytes(final byte[] content, final int chunk) {
+        final List<String> result = new ArrayList<>();
+        final IncrementalSwiftParser parser = IncrementalSwiftParser.raw(result::add);
+        for (int i = 0; i < content.length; i += chunk) {
+            parser.feed(ByteBuffer.wrap(content, i, Math.min(chunk, content.length - i)));
+        }
+        parser.finish();
+        return result;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.utils.Lib;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks the buffered scan mode produces exactly the same output as the char by char mode
+ *
+ * @since 9.5.6
+ */
+public class SwiftParserBufferedScanTest {
+
+    static final String[] MESSAGES = {
+        "",
+        "garbage with no blocks",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{3:{108:MUR123}{121:8d6a8c43-5e97-4b3f-8a2c-7f3d4e5f6a7b}}{4:\r\n"
+            + ":20:REF\r\n"
+            + ":21:RELREF\r\n"
+            + ":32A:130430EUR14500,\r\n"
+            + ":52A:CCCCDEFF\r\n"
+            + ":58A:DDDDGB2L\r\n"
+            + "-}{5:{CHK:F4B8A62C8AB8}}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\r\n"
+                + ":20:REF\r\n"
+                + ":79:line 1\r\n"
+                + "line 2 with } and {\r\n"
+                + "-}{S:{SAC:}{COP:P}}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\r\n:20:REF\r\n:21:RELREF\r\n",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\r\n:20:REF\r\n:21:RELREF\r\n}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{3:{108:MUR123}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\n:20:REF\n:21:RELREF\n-}",
+        "{1:F21FOOLBEB0AXXX0000000000}{4:{177:1308090932}{451:0}}{1:F01FOOLBEB0AXXX0000000000}{2:O0000932130809FOOLBEB0AXXX00000000001308090932N}{4:{175:0932}}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:O0000932130809FOOLBEB0AXXX00000000001308090932N}{4:{101:02}{102:ABCDEFGHIJKL}{1:F01BBBBXXXXXXXX0000000000}}",
+        "leading text{1:F01AAAARUMMAXXX4313990000} middle {2:I202BBBBUS33XXXXN}trailing text",
+        "{1:F01AAAARUMMAXXX4313990000}{2:X202BBBBUS33XXXXN}{ }{4:\r\n:20:REF\r\n-}",
+        "{1:F01AAAARUMMAXXX}{2:I202BBBBUS33XXXXNFOO}{4:\r\n:20:REF\r\n-}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\r\n"
+                + ":20:REF\r\n"
+                + "-}{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\r\n"
+                + ":20:REF2\r\n"
+                + "-}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:{1:F01AAAARUMMAXXX4313990000}\r\n:20:REF\r\n-}",
+        "{1:}{2:}{3:}{4:}{5:}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:",
+        "{{{}}}{4:{",
+    };
+
+    @Test
+    public void testSameOutputAsCharByCharScan() throws IOException {
+        for (String fin : MESSAGES) {
+            assertSameOutput(fin, true);
+            assertSameOutput(fin, false);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "MT101.fin",
+                "MT103-bulk-with-ack.rje",
+                "MT103-out-ack.rje",
+                "MT305.fin",
+                "MT306.fin",
+                "MT320.txt",
+                "MT340.fin",
+                "MT341.fin",
+                "MT360.fin",
+                "MT361.fin",
+                "MT362.fin",
+                "SWIFTMT300_0000039099_0002.txt",
+                "sample_JPchar.txt"
+            })
+    public void testSameOutputForResources(String resource) throws IOException {
+        final String fin = Lib.readResource(resource);
+        assertSameOutput(fin, true);
+        assertSameOutput(fin, false);
+    }
+
+    @Test
+    public void testLargeMessage() throws IOException {
+        // force the scan window to grow and to compact several times
+        StringBuilder b4 = new StringBuilder("{4:\r\n:20:REF\r\n");
+        for (int i = 0; i < 5000; i++) {
+            b4.append(":16R:SEQ\r\n:35B:ISIN XX0000000").append(i).append("\r\n:16S:SEQ\r\n");
+        }
+        b4.append("-}");
+        final String fin = "{1:F01AAAARUMMAXXX4313990000}{2:I535BBBBUS33XXXXN}" + b4 + "{5:{CHK:F4B8A62C8AB8}}";
+        assertSameOutput(fin, true);
+        assertSameOutput(fin + fin, true);
+
+        SwiftMessage msg = parse(new StringReader(fin), true, true).message();
+        assertEquals(15001, msg.getBlock4().size());
+    }
+
+    @Test
+    public void testReadBlockDirectly() throws IOException {
+        VisibleParser parser = new VisibleParser();
+        parser.setData("asdklajdkla{foobar}njdkasndkja}{not seen}");
+        assertEquals("asdklajdkla{foobar}njdkasndkja", parser.readUntilBlockEnds());
+        assertEquals("", parser.findBlockStart());
+        assertEquals("not seen", parser.readUntilBlockEnds());
+        assertEquals("", parser.findBlockStart());
+        assertEquals("", parser.readUntilBlockEnds());
+    }
+
+    private static void assertSameOutput(final String fin, final boolean lenient) throws IOException {
+        for (int chunk = 0; chunk < 4; chunk++) {
+            Result expected = result(parse(reader(fin, chunk), lenient, false));
+            Result actual = result(parse(reader(fin, chunk), lenient, true));
+            assertEquals(expected.exception, actual.exception, fin);
+            assertEquals(expected.message, actual.message, fin);
+            assertEquals(expected.errors, actual.errors, fin);
+        }
+    }
+
+    private static Reader reader(final String fin, final int chunk) {
+        if (chunk == 0) {
+            return new StringReader(fin);
+        }
+        // returns at most chunk chars per read to exercise the window boundaries
+        return new FilterReader(new StringReader(fin)) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, chunk));
+            }
+        };
+    }
+
+    private static SwiftParser parse(final Reader reader, final boolean lenient, final boolean buffered) {
+        SwiftParser parser = new SwiftParser(reader);
+        parser.getConfiguration().setLenient(lenient);
+        parser.getConfiguration().setBufferedScan(buffered);
+        return parser;
+    }
+
+    private static Result result(final SwiftParser parser) {
+        Result result = new Result();
+        try {
+            result.message = parser.message();
+        } catch (Exception e) {
+            result.exception = e.getClass().getName() + ": " + e.getMessage();
+        }
+        result.errors = parser.getErrors();
+        return result;
+    }
+
+    private static class Result {
+        SwiftMessage message;
+        List<String> errors;
+        String exception;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.utils.Lib;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the byte input of the parser, that must produce the same output as the char input
+ *
+ * @since 9.5.6
+ */
+public class SwiftParserByteInputTest {
+
+    private static final String[] NON_ASCII_MESSAGES = {
+        "tëxt{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\r\n:20:REF\r\n-}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{3:{108:MÜR}}{4:\r\n:20:REF\r\n:79:ñandú\r\n-}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:é\r\n:20:REF\r\n-}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\r\né:20:REF\r\n-}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\r\n:20:日本\r\n-}{5:{CHK:日本}}",
+        "{ä4:\r\n:20:REF\r\n-}{1:F01AAAARUMMAXXX4313990000}",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\r\n:20:REF\r\n-}{1:F01AAAARUMMAXXX4313990000}ö",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\r\n:20:REF\r\n:21:ÄÖÜ",
+        "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{€}{4:\r\n:20:REF\r\n-}",
+    };
+
+    @Test
+    public void testSameOutputAsCharInput() throws IOException {
+        for (String fin : SwiftParserBufferedScanTest.MESSAGES) {
+            assertSameOutput(fin);
+        }
+        for (String fin : NON_ASCII_MESSAGES) {
+            assertSameOutput(fin);
+        }
+        for (String resource :
+                new String[] {"MT101.fin", "MT103-bulk-with-ack.rje", "MT320.txt", "sample_JPchar.txt"}) {
+            assertSameOutput(Lib.readResource(resource));
+        }
+    }
+
+    @Test
+    public void testByteArrayWithOffset() throws IOException {
+        final String fin = "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\r\n:20:REF\r\n-}";
+        final byte[] data = ("garbage" + fin + "garbage").getBytes(StandardCharsets.UTF_8);
+        SwiftMessage msg = new SwiftParser(data, 7, fin.length()).message();
+        assertEquals(SwiftMessage.parse(fin), msg);
+        assertEquals("REF", msg.getBlock4().getTagValue("20"));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> new SwiftParser(data, 7, data.length));
+    }
+
+    @Test
+    public void testByteBuffer() throws IOException {
+        final String fin = "{1:F01AAAARUMMAXXX4313990000}{2:I202BBBBUS33XXXXN}{4:\r\n:20:REF\r\n-}";
+        final byte[] data = fin.getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer heap = ByteBuffer.wrap(data);
+        assertEquals(SwiftMessage.parse(fin), new SwiftParser(heap).message());
+        assertEquals(0, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        assertEquals(SwiftMessage.parse(fin), new SwiftParser(direct).message());
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    public void testChannel() throws IOException {
+        final String fin = Lib.readResource("MT103-bulk-with-ack.rje");
+        final byte[] data = fin.getBytes(StandardCharsets.UTF_8);
+        SwiftMessage msg = new SwiftParser(Channels.newChannel(new ByteArrayInputStream(data))).message();
+        assertEquals(SwiftMessage.parse(fin), msg);
+    }
+
+    @Test
+    public void testMissingClosingBracket() throws IOException {
+        final byte[] data = "{1:F01AAAARUMMAXXX4313990000}{4:\r\n:20:REF".getBytes(StandardCharsets.UTF_8);
+        SwiftParser parser = new SwiftParser(data, 0, data.length);
+        parser.message();
+        assertEquals(1, parser.getErrors().size());
+        assertEquals("Missing or invalid closing bracket in block 4", parser.getErrors().get(0));
+    }
+
+    private static void assertSameOutput(final String fin) {
+        final byte[] data = fin.getBytes(StandardCharsets.UTF_8);
+        for (boolean lenient : new boolean[] {true, false}) {
+            SwiftParser expectedParser = new SwiftParser(fin);
+            expectedParser.getConfiguration().setLenient(lenient);
+            SwiftParser actualParser = new SwiftParser(data, 0, data.length);
+            actualParser.getConfiguration().setLenient(lenient);
+
+            Object expected = parse(expectedParser);
+            Object actual = parse(actualParser);
+            assertEquals(expected, actual, fin);
+            assertEquals(expectedParser.getErrors(), actualParser.getErrors(), fin);
+        }
+    }
+
+    private static Object parse(final SwiftParser parser) {
+        try {
+            return parser.message();
+        } catch (Exception e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.io.ConversionService;
+import com.prowidesoftware.swift.io.writer.SwiftWriter;
+import com.prowidesoftware.swift.model.SwiftBlock4;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.model.Tag;
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the parser lazy text block option
+ *
+ * @since 9.5.6
+ */
+public class SwiftParserLazyTextBlockTest {
+
+    private static final String FIN = "{1:F01AAAARUMMAXXX4313990000}{2:I103BBBBUS33XXXXN}{3:{108:MUR123}}{4:\r\n"
+            + ":20:REF\r\n"
+            + ":23B:CRED\r\n"
+            + ":32A:130430EUR14500,\r\n"
+            + ":50K:/12345\r\n"
+            + "JOHN DOE\r\n"
+            + ":59:/54321\r\n"
+            + "JANE DOE\r\n"
+            + ":71A:OUR\r\n"
+            + "-}{5:{CHK:F4B8A62C8AB8}}";
+
+    private static SwiftMessage parseLazy(final String fin) throws IOException {
+        SwiftParser parser = new SwiftParser(fin);
+        parser.getConfiguration().setLazyTextBlock(true);
+        return parser.message();
+    }
+
+    @Test
+    public void testHeadersWithoutParsingBlock4() throws IOException {
+        SwiftMessage msg = parseLazy(FIN);
+        assertNotNull(msg.getBlock4Text());
+        assertTrue(msg.getBlock4Text().startsWith("4:\r\n:20:REF"));
+
+        assertEquals("103", msg.getType());
+        assertEquals("AAAARUMMAXXX", msg.getSender());
+        assertEquals("BBBBUS33XXXX", msg.getReceiver());
+        assertEquals("MUR123", msg.getMUR());
+        assertEquals("F4B8A62C8AB8", msg.getBlock5().getTagValue("CHK"));
+
+        // still pending
+        assertNotNull(msg.getBlock4Text());
+    }
+
+    @Test
+    public void testParsedOnFirstAccess() throws IOException {
+        SwiftMessage eager = SwiftMessage.parse(FIN);
+        SwiftMessage lazy = parseLazy(FIN);
+
+        assertEquals("REF", lazy.getBlock4().getTagValue("20"));
+        assertNull(lazy.getBlock4Text());
+        assertEquals(eager.getBlock4(), lazy.getBlock4());
+        assertEquals(eager, lazy);
+        assertEquals(eager.getBlock4().getTags(), parseLazy(FIN).getBlock4().getTags());
+
+        // the parsed tags are kept in the same block instance
+        lazy.getBlock4().append(new Tag("72:INFO"));
+        assertEquals(7, lazy.getBlock4().size());
+    }
+
+    @Test
+    public void testEquals() throws IOException {
+        assertEquals(SwiftMessage.parse(FIN), parseLazy(FIN));
+        assertEquals(parseLazy(FIN), SwiftMessage.parse(FIN));
+        assertEquals(SwiftMessage.parse(FIN).hashCode(), parseLazy(FIN).hashCode());
+    }
+
+    @Test
+    public void testTagApis() throws IOException {
+        assertEquals("REF", parseLazy(FIN).toMT().getSwiftMessage().getBlock4().getTagValue("20"));
+        assertEquals(1, parseLazy(FIN).fields("32A").size());
+        assertEquals(SwiftMessage.parse(FIN).getTagNames(), parseLazy(FIN).getTagNames());
+    }
+
+    @Test
+    public void testVisitor() throws IOException {
+        ConversionService srv = new ConversionService();
+        SwiftMessage msg = parseLazy(FIN);
+        assertEquals(srv.getXml(SwiftMessage.parse(FIN)), srv.getXml(msg));
+        assertNull(msg.getBlock4Text());
+    }
+
+    @Test
+    public void testWriteRawContent() throws IOException {
+        SwiftMessage msg = parseLazy(FIN);
+        assertEquals(FIN, msg.message());
+        assertNotNull(msg.getBlock4Text());
+
+        StringWriter writer = new StringWriter();
+        SwiftWriter.writeMessage(msg, writer);
+        assertEquals(FIN, writer.toString());
+        assertNotNull(msg.getBlock4Text());
+
+        // the raw content is written untouched
+        final String lf = FIN.replace("\r\n", "\n");
+        writer = new StringWriter();
+        SwiftWriter.writeMessage(parseLazy(lf), writer);
+        assertEquals(lf, writer.toString());
+
+        // trimming requires the block to be parsed
+        writer = new StringWriter();
+        msg = parseLazy(FIN.replace(":20:REF", ":20:REF  "));
+        SwiftWriter.writeMessage(msg, writer, false, true);
+        assertEquals(FIN, writer.toString());
+        assertNull(msg.getBlock4Text());
+    }
+
+    @Test
+    public void testEmptyBlock() throws IOException {
+        final String fin = "{1:F01AAAARUMMAXXX4313990000}{2:I103BBBBUS33XXXXN}{4:\r\n-}";
+        assertEquals(SwiftMessage.parse(fin).message(), parseLazy(fin).message());
+        assertTrue(parseLazy(fin).getBlock4().isEmpty());
+    }
+
+    @Test
+    public void testSystemMessage() throws IOException {
+        final String fin = "{1:F01AAAARUMMAXXX4313990000}{2:O0220932130809BBBBUS33AXXX00000000001308090932N}"
+                + "{4:{108:SYSMUR}{451:0}}";
+        SwiftMessage msg = parseLazy(fin);
+        assertNotNull(msg.getBlock4Text());
+        assertEquals("SYSMUR", msg.getMUR());
+        assertNull(msg.getBlock4Text());
+        assertEquals(SwiftMessage.parse(fin), msg);
+    }
+
+    @Test
+    public void testSetBlock4DiscardsPendingContent() throws IOException {
+        SwiftMessage msg = parseLazy(FIN);
+        msg.setBlock4(new com.prowidesoftware.swift.model.SwiftBlock4());
+        assertNull(msg.getBlock4Text());
+        assertTrue(msg.getBlock4().isEmpty());
+
+        msg = parseLazy(FIN);
+        msg.clear();
+        assertNull(msg.getBlock4Text());
+        assertNull(msg.getBlock4());
+    }
+
+    @Test
+    public void testJavaSerialization() throws Exception {
+        SwiftMessage msg = parseLazy(FIN);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(msg);
+        }
+        assertNotNull(msg.getBlock4Text());
+
+        SwiftMessage copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (SwiftMessage) in.readObject();
+        }
+        assertEquals(msg.getBlock4Text(), copy.getBlock4Text());
+        assertEquals(SwiftMessage.parse(FIN), copy);
+    }
+
+    @Test
+    public void testConcurrentFirstAccess() throws Exception {
+        final int expected = SwiftMessage.parse(FIN).getBlock4().size();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 500; i++) {
+                final SwiftMessage msg = parseLazy(FIN);
+                final List<Future<Integer>> results = new ArrayList<>();
+                for (int j = 0; j < 8; j++) {
+                    results.add(executor.submit(() -> msg.getBlock4().size()));
+                }
+                for (Future<Integer> result : results) {
+                    assertEquals(expected, result.get().intValue());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParserNotKeptForFirstAccess() throws IOException {
+        final List<String> parsed = new ArrayList<>();
+        SwiftParser parser = new SwiftParser(FIN) {
+            @Override
+            protected SwiftBlock4 consumeBlock4(final SwiftBlock4 b, final String s) {
+                parsed.add(s);
+                return super.consumeBlock4(b, s);
+            }
+        };
+        parser.getConfiguration().setLazyTextBlock(true);
+        SwiftMessage msg = parser.message();
+
+        // the parser is reused before the first message block 4 is accessed
+        parser.setData(FIN.replace(":20:REF", ":20:OTHER"));
+        SwiftMessage other = parser.message();
+        assertEquals("REF", msg.getBlock4().getTagValue("20"));
+        assertEquals("OTHER", other.getBlock4().getTagValue("20"));
+        assertTrue(parsed.isEmpty());
+        assertTrue(parser.getErrors().isEmpty());
+    }
+
+    @Test
+    public void testParseTextBlockDisabled() throws IOException {
+        SwiftParser parser = new SwiftParser(FIN);
+        parser.getConfiguration().setLazyTextBlock(true);
+        parser.getConfiguration().setParseTextBlock(false);
+        SwiftMessage msg = parser.message();
+        assertNull(msg.getBlock4Text());
+        assertTrue(msg.getBlock4().isEmpty());
+    }
+}
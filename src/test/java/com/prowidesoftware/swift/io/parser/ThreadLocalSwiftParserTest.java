@@ -0,0 +1,126 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.SwiftMessage;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the parser reuse and {@link ThreadLocalSwiftParser}
+ *
+ * @since 9.5.6
+ */
+public class ThreadLocalSwiftParserTest {
+
+    @Test
+    public void testResetAndReuse() throws IOException {
+        final SwiftParser parser = new SwiftParser();
+        for (int i = 0; i < 3; i++) {
+            for (String fin : SwiftParserBufferedScanTest.MESSAGES) {
+                final SwiftParser expected = new SwiftParser(new StringReader(fin));
+                final SwiftMessage msg = expected.message();
+
+                parser.reset();
+                assertTrue(parser.getErrors().isEmpty());
+                parser.setData(fin);
+                assertEquals(msg, parser.message(), fin);
+                assertEquals(expected.getErrors(), parser.getErrors(), fin);
+
+                parser.setData(fin.getBytes(StandardCharsets.UTF_8), 0, fin.length());
+                assertEquals(msg, parser.message(), fin);
+            }
+        }
+    }
+
+    @Test
+    public void testLargeString() throws IOException {
+        StringBuilder b4 = new StringBuilder("{4:\r\n:20:REF\r\n");
+        for (int i = 0; i < 20000; i++) {
+            b4.append(":16R:SEQ\r\n:35B:ISIN XX0000000").append(i).append("\r\n:16S:SEQ\r\n");
+        }
+        b4.append("-}");
+        final String fin = "{1:F01AAAARUMMAXXX4313990000}{2:I535BBBBUS33XXXXN}" + b4;
+
+        final SwiftParser parser = new SwiftParser();
+        parser.setData(fin);
+        assertEquals(60001, parser.message().getBlock4().size());
+        parser.setData(SwiftParserBufferedScanTest.MESSAGES[2]);
+        assertEquals("MUR123", parser.message().getMUR());
+        assertEquals(60001, ThreadLocalSwiftParser.parse(fin).getBlock4().size());
+    }
+
+    @Test
+    public void testParse() throws IOException {
+        for (String fin : SwiftParserBufferedScanTest.MESSAGES) {
+            final SwiftMessage expected = new SwiftParser(new StringReader(fin)).message();
+            assertEquals(expected, ThreadLocalSwiftParser.parse(fin), fin);
+            assertEquals(expected, ThreadLocalSwiftParser.parse(fin.getBytes(StandardCharsets.UTF_8)), fin);
+            assertEquals(expected, SwiftMessage.parse(fin), fin);
+        }
+    }
+
+    @Test
+    public void testParseWithConfiguration() throws IOException {
+        final String fin = SwiftParserBufferedScanTest.MESSAGES[2];
+        final SwiftParserConfiguration config = new SwiftParserConfiguration();
+        config.setParseTrailerBlock(false);
+        assertTrue(ThreadLocalSwiftParser.parse(fin, config).getBlock5().isEmpty());
+        // the default configuration is restored for the next call
+        assertFalse(ThreadLocalSwiftParser.parse(fin).getBlock5().isEmpty());
+
+        config.setLenient(false);
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ThreadLocalSwiftParser.parse(SwiftParserBufferedScanTest.MESSAGES[4], config));
+        assertEquals("MUR123", ThreadLocalSwiftParser.parse(fin).getMUR());
+    }
+
+    @Test
+    public void testThreads() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> {
+                    for (String fin : SwiftParserBufferedScanTest.MESSAGES) {
+                        if (!new SwiftParser(new StringReader(fin))
+                                .message()
+                                .equals(ThreadLocalSwiftParser.parse(fin))) {
+                            return false;
+                        }
+                    }
+                    ThreadLocalSwiftParser.remove();
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.field.*;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link ScaledAmount} and {@link AmountAccumulator}
+ */
+public class ScaledAmountTest {
+
+    @Test
+    public void testOfField() {
+        final Field[] fields = {
+            new Field32A("121212USD1234,"),
+            new Field32A("121212USD1234,56"),
+            new Field32B("EUR0,05"),
+            new Field33B("ARS1,"),
+            new Field19A(":AAAA//EUR567,8"),
+            new Field19A(":AAAA//NEUR567,8"),
+            new Field62F("C121212USD1234,"),
+            new Field62F("D121212USD1234,10"),
+            new Field62M("D121212JPY100,")
+        };
+        for (final Field f : fields) {
+            final Money money = Money.of(f);
+            final ScaledAmount amount = ScaledAmount.of(f);
+            assertEquals(money.getCurrency(), amount.getCurrency(), f.getValue());
+            assertEquals(money.getAmount(), amount.toBigDecimal(), f.getValue());
+            assertEquals(money.getAmount(), amount.toMoney().getAmount(), f.getValue());
+        }
+
+        final ScaledAmount amount = ScaledAmount.of(new Field62F("D121212USD1234,10"));
+        assertEquals(-123410, amount.getUnscaled());
+        assertEquals(2, amount.getScale());
+        assertEquals("USD-1234,1", amount.toString());
+
+        assertNull(ScaledAmount.of(null));
+        assertNull(ScaledAmount.of(new Field20("FOO")));
+        assertNull(ScaledAmount.of(new Field32A()));
+        assertNull(ScaledAmount.of(new Field32B("EUR")));
+    }
+
+    @Test
+    public void testParse() {
+        assertEquals(new ScaledAmount("USD", 12345, 1), ScaledAmount.parse("USD", "1234,5"));
+        assertEquals(new ScaledAmount("USD", 1234, 0), ScaledAmount.parse("USD", "1234"));
+        assertEquals(new ScaledAmount("USD", 5, 2), ScaledAmount.parse("USD", ",05"));
+        assertNull(ScaledAmount.parse("USD", null));
+        assertNull(ScaledAmount.parse("USD", ""));
+        assertNull(ScaledAmount.parse("USD", ","));
+        assertNull(ScaledAmount.parse("USD", "12.5"));
+        assertNull(ScaledAmount.parse("USD", "1,2,3"));
+        assertNull(ScaledAmount.parse("USD", "1234567890123456789"));
+        assertThrows(IllegalArgumentException.class, () -> new ScaledAmount("USD", 1, -1));
+    }
+
+    @Test
+    public void testMinorUnits() {
+        assertEquals(2, ScaledAmount.currencyExponent("USD"));
+        assertEquals(0, ScaledAmount.currencyExponent("JPY"));
+        assertEquals(3, ScaledAmount.currencyExponent("BHD"));
+        assertEquals(-1, ScaledAmount.currencyExponent("ZZZ"));
+        assertEquals(-1, ScaledAmount.currencyExponent(null));
+
+        assertEquals(123450, ScaledAmount.parse("USD", "1234,5").toMinorUnits());
+        assertEquals(123456, ScaledAmount.parse("USD", "1234,5600").toMinorUnits());
+        assertEquals(1234, ScaledAmount.parse("JPY", "1234,").toMinorUnits());
+        assertEquals(1234000, ScaledAmount.parse("BHD", "1234").toMinorUnits());
+        assertThrows(ArithmeticException.class, () -> ScaledAmount.parse("JPY", "1234,5").toMinorUnits());
+        assertThrows(ArithmeticException.class, () -> ScaledAmount.parse("ZZZ", "1").toMinorUnits());
+        assertThrows(ArithmeticException.class, () -> new ScaledAmount("USD", Long.MAX_VALUE, 0).toMinorUnits());
+    }
+
+    @Test
+    public void testAccumulator() {
+        final AmountAccumulator totals = new AmountAccumulator();
+        assertTrue(totals.add(new Field32A("121212USD1234,5")));
+        assertTrue(totals.add(new Field62F("D121212USD0,25")));
+        assertTrue(totals.add(new Field32B("EUR10,")));
+        assertTrue(totals.add(new Field19A(":AAAA//NEUR0,001")));
+        assertFalse(totals.add(new Field20("FOO")));
+        assertFalse(totals.add(new Field32A()));
+        assertFalse(totals.add((Field) null));
+        totals.add("JPY", 100, 0);
+        totals.add(new ScaledAmount("USD", 1, 3));
+
+        assertEquals(3, totals.size());
+        assertEquals(Arrays.asList("USD", "EUR", "JPY"), totals.getCurrencies());
+        assertEquals(new BigDecimal("1234.251"), totals.getTotal("USD"));
+        assertEquals(new BigDecimal("9.999"), totals.getTotal("EUR"));
+        assertEquals(new BigDecimal("100"), totals.getTotal("JPY"));
+        assertEquals(new ScaledAmount("USD", 1234251, 3), totals.getScaledTotal("USD"));
+        assertNull(totals.getTotal("GBP"));
+        assertNull(totals.getScaledTotal("GBP"));
+        assertEquals(Arrays.asList("USD", "EUR", "JPY"), Arrays.asList(totals.getTotals().keySet().toArray()));
+
+        totals.clear();
+        assertEquals(0, totals.size());
+        assertNull(totals.getTotal("USD"));
+        assertTrue(totals.getTotals().isEmpty());
+    }
+
+    @Test
+    public void testAccumulatorOverflow() {
+        final AmountAccumulator totals = new AmountAccumulator();
+        totals.add("USD", Long.MAX_VALUE, 0);
+        totals.add("USD", 1, 0);
+        final BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE);
+        assertEquals(expected, totals.getTotal("USD"));
+        assertNull(totals.getScaledTotal("USD"));
+        totals.add("USD", 5, 1);
+        assertEquals(expected.add(new BigDecimal("0.5")), totals.getTotal("USD"));
+
+        // rescaling overflow
+        totals.add("EUR", Long.MAX_VALUE / 2, 0);
+        totals.add("EUR", 1, 2);
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE / 2).add(new BigDecimal("0.01")), totals.getTotal("EUR"));
+
+        totals.add("GBP", new BigDecimal("1E+20"));
+        totals.add("GBP", new BigDecimal("1.5"));
+        assertEquals(0, new BigDecimal("100000000000000000001.5").compareTo(totals.getTotal("GBP")));
+    }
+
+    @Test
+    public void testAccumulatorGrow() {
+        final AmountAccumulator totals = new AmountAccumulator();
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 3; j++) {
+                totals.add("C" + i, i, j);
+            }
+        }
+        assertEquals(100, totals.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(BigDecimal.valueOf(i * 111L, 2), totals.getTotal("C" + i));
+        }
+        totals.add("C1", new BigDecimal("1E+30"));
+        totals.add("D", 1, 0);
+        assertEquals(101, totals.size());
+        assertEquals(0, new BigDecimal("1000000000000000000000000000001.11").compareTo(totals.getTotal("C1")));
+    }
+}
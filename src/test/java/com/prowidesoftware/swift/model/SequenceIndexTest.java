@@ -0,0 +1,236 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Sequence searches served by the {@link SequenceIndex} must return the same results as the plain scans, done on
+ * blocks with tags stored in a list not created by {@link SwiftTagListBlock}.
+ */
+public class SequenceIndexTest {
+
+    private SwiftTagListBlock indexed;
+
+    @BeforeEach
+    public void setUp() {
+        this.indexed = new SwiftBlock4();
+        this.indexed.append(new Tag("16R", "GENL"));
+        this.indexed.append(new Tag("20C", ":SEME//REF"));
+        this.indexed.append(new Tag("16R", "LINK"));
+        this.indexed.append(new Tag("20C", ":RELA//REL"));
+        this.indexed.append(new Tag("16S", "LINK"));
+        this.indexed.append(new Tag("16S", "GENL"));
+        for (int i = 0; i < 40; i++) {
+            this.indexed.append(new Tag("16R", "FIN"));
+            this.indexed.append(new Tag("35B", "ISIN XS000000000" + (i % 10)));
+            this.indexed.append(new Tag("16R", "SUBBAL"));
+            this.indexed.append(new Tag("93B", ":AGGR//UNIT/" + i + ","));
+            this.indexed.append(new Tag("16S", "SUBBAL\r"));
+            this.indexed.append(new Tag("16S", "FIN"));
+        }
+        this.indexed.append(new Tag("16R", "ADDINFO"));
+        this.indexed.append(new Tag("70E", ":ADTX//TEXT"));
+    }
+
+    private SwiftTagListBlock scanned() {
+        return new SwiftTagListBlock(new ArrayList<>(this.indexed.getTags()));
+    }
+
+    @Test
+    public void testIndexBuiltOnlyForLargeBlocks() {
+        assertNotNull(this.indexed.sequenceIndex());
+        assertNull(scanned().sequenceIndex());
+
+        final SwiftTagListBlock small = new SwiftTagListBlock();
+        small.append(new Tag("16R", "GENL"));
+        small.append(new Tag("16S", "GENL"));
+        assertNull(small.sequenceIndex());
+    }
+
+    @Test
+    public void testGetSubBlocks() {
+        final SwiftTagListBlock scanned = scanned();
+        for (String name : new String[] {"GENL", "LINK", "FIN", "SUBBAL", "SUBBAL\r", "ADDINFO", "FOO"}) {
+            assertEquals(scanned.getSubBlocks(name), this.indexed.getSubBlocks(name), name);
+            assertEquals(scanned.getSubBlock(name), this.indexed.getSubBlock(name), name);
+        }
+        assertEquals(40, this.indexed.getSubBlocks("FIN").size());
+        assertEquals(6, this.indexed.getSubBlocks("FIN").get(0).size());
+        // unterminated sequence extends to the end of the block
+        assertEquals(2, this.indexed.getSubBlock("ADDINFO").size());
+    }
+
+    @Test
+    public void testSubBlocksAreCopies() {
+        final SwiftTagListBlock fin = this.indexed.getSubBlocks("FIN").get(0);
+        final int size = this.indexed.size();
+        fin.append(new Tag("70E", ":FIAN//TEXT"));
+        assertEquals(size, this.indexed.size());
+        assertEquals(6, this.indexed.getSubBlocks("FIN").get(0).size());
+    }
+
+    @Test
+    public void testIndexInvalidatedOnModification() {
+        final SequenceIndex index = this.indexed.sequenceIndex();
+        assertSame(index, this.indexed.sequenceIndex());
+
+        this.indexed.append(new Tag("16S", "ADDINFO"));
+        assertNotSame(index, this.indexed.sequenceIndex());
+        assertEquals(scanned().getSubBlocks("ADDINFO"), this.indexed.getSubBlocks("ADDINFO"));
+
+        this.indexed.setTag(0, new Tag("16R", "OTHER"));
+        assertEquals(scanned().getSubBlocks("GENL"), this.indexed.getSubBlocks("GENL"));
+        assertEquals(1, this.indexed.getSubBlocks("OTHER").size());
+
+        this.indexed.getTags().remove(0);
+        assertEquals(scanned().getSubBlocks("OTHER"), this.indexed.getSubBlocks("OTHER"));
+        assertTrue(this.indexed.getSubBlocks("OTHER").isEmpty());
+    }
+
+    @Test
+    public void testTagModifiedInPlace() {
+        this.indexed.sequenceIndex();
+        this.indexed.getTags().get(0).setValue("OTHER");
+        assertEquals(scanned().getSubBlocks("GENL"), this.indexed.getSubBlocks("GENL"));
+    }
+
+    @Test
+    public void testSplitByField15() {
+        final SwiftTagListBlock block = new SwiftBlock4();
+        block.append(new Tag("15A", ""));
+        block.append(new Tag("20", "REF"));
+        for (int i = 0; i < 30; i++) {
+            block.append(new Tag("15B", ""));
+            block.append(new Tag("30T", "2023010" + (i % 9 + 1)));
+            block.append(new Tag("15C", ""));
+            block.append(new Tag("56A", "BANKUS33XXX"));
+        }
+        block.append(new Tag("15", ""));
+        block.append(new Tag("15E", ""));
+        assertNotNull(block.sequenceIndex());
+        final SwiftTagListBlock scanned = new SwiftTagListBlock(new ArrayList<>(block.getTags()));
+
+        assertEquals(SwiftMessageUtils.splitByField15(scanned), SwiftMessageUtils.splitByField15(block));
+        for (String letter : new String[] {"A", "B", "C", "D", "E"}) {
+            assertEquals(
+                    SwiftMessageUtils.splitByField15(scanned, letter),
+                    SwiftMessageUtils.splitByField15(block, letter),
+                    letter);
+        }
+        assertEquals(30, SwiftMessageUtils.splitByField15(block, "C").size());
+        // the tag without letter option does not split
+        assertEquals(3, SwiftMessageUtils.splitByField15(block, "C").get(29).size());
+    }
+
+    @Test
+    public void testSubBlocksDelimitedWithOptionalTail() {
+        final SwiftTagListBlock block = new SwiftBlock4();
+        block.append(new Tag("20", "REF"));
+        for (int i = 0; i < 30; i++) {
+            block.append(new Tag("21", "REL" + i));
+            block.append(new Tag("32B", "USD1,"));
+            block.append(new Tag("50K", "NAME"));
+            block.append(new Tag("59", "NAME"));
+            block.append(new Tag("70", "TEXT"));
+        }
+        assertNotNull(block.sequenceIndex());
+        final SwiftTagListBlock scanned = new SwiftTagListBlock(new ArrayList<>(block.getTags()));
+        final String[] start = {"21"};
+        final String[] end = {"59", "59A"};
+        final String[] tail = {"70", "71A"};
+
+        final List<SwiftTagListBlock> expected = scanned.getSubBlocksDelimitedWithOptionalTail(start, end, tail);
+        assertEquals(30, expected.size());
+        assertEquals(expected, block.getSubBlocksDelimitedWithOptionalTail(start, end, tail));
+        // served from the index on the second call
+        assertEquals(expected, block.getSubBlocksDelimitedWithOptionalTail(start, end, tail));
+        assertEquals(
+                scanned.getSubBlockDelimitedWithOptionalTail(start, end, tail),
+                block.getSubBlockDelimitedWithOptionalTail(start, end, tail));
+        assertEquals(
+                scanned.getSubBlocksDelimitedWithOptionalTail(start, end, null),
+                block.getSubBlocksDelimitedWithOptionalTail(start, end, null));
+
+        block.getSubBlocksDelimitedWithOptionalTail(start, end, tail).get(0).append(new Tag("72", "X"));
+        assertEquals(expected, block.getSubBlocksDelimitedWithOptionalTail(start, end, tail));
+
+        block.getTags().remove(1);
+        assertEquals(
+                29,
+                block.getSubBlocksDelimitedWithOptionalTail(start, end, tail).size());
+
+        // delimiter renamed in place
+        block.getTag(0).setName("20");
+        assertEquals(
+                new SwiftTagListBlock(new ArrayList<>(block.getTags()))
+                        .getSubBlocksDelimitedWithOptionalTail(start, end, tail),
+                block.getSubBlocksDelimitedWithOptionalTail(start, end, tail));
+    }
+
+    @Test
+    public void testDelimitersEditedInPlace() {
+        assertEquals(40, this.indexed.getSubBlocks("FIN").size());
+        assertTrue(this.indexed.getSubBlocks("FOO").isEmpty());
+
+        // the first FIN sequence renamed to FOO
+        this.indexed.getTag(6).setValue("FOO");
+        this.indexed.getTag(11).setValue("FOO");
+        assertEquals(1, this.indexed.getSubBlocks("FOO").size());
+        assertEquals(6, this.indexed.getSubBlock("FOO").size());
+        assertEquals(39, this.indexed.getSubBlocks("FIN").size());
+        assertEquals(scanned().getSubBlocks("FIN"), this.indexed.getSubBlocks("FIN"));
+
+        // a new sequence start created by renaming a tag
+        this.indexed.getTag(1).setNameValue("16R", "BAR");
+        assertEquals(scanned().getSubBlock("BAR"), this.indexed.getSubBlock("BAR"));
+        assertFalse(this.indexed.getSubBlock("BAR").isEmpty());
+        assertEquals(scanned().getSubBlocks("GENL"), this.indexed.getSubBlocks("GENL"));
+    }
+
+    @Test
+    public void testIndexKeptOnEditsOfOtherBlocks() {
+        final SequenceIndex index = this.indexed.sequenceIndex();
+        final SwiftTagListBlock other = new SwiftTagListBlock();
+        for (Tag t : this.indexed.getTags()) {
+            other.append(new Tag(t));
+        }
+        assertEquals(40, other.getSubBlocks("FIN").size());
+        other.getTag(6).setValue("FOO");
+        assertSame(index, this.indexed.sequenceIndex());
+        assertEquals(40, this.indexed.getSubBlocks("FIN").size());
+        assertEquals(39, other.getSubBlocks("FIN").size());
+    }
+
+    @Test
+    public void testDelimitersEditedThroughIndexedSubBlock() {
+        final SwiftTagListBlock sub = this.indexed.getSubBlockAfterFirst("20C", false);
+        assertEquals(40, sub.getSubBlocks("FIN").size());
+        assertEquals(40, this.indexed.getSubBlocks("FIN").size());
+
+        // the first FIN sequence renamed to FOO through the sub block
+        sub.getTag(4).setValue("FOO");
+        sub.getTag(9).setValue("FOO");
+        assertEquals(1, this.indexed.getSubBlocks("FOO").size());
+        assertEquals(39, this.indexed.getSubBlocks("FIN").size());
+        assertEquals(scanned().getSubBlocks("FIN"), this.indexed.getSubBlocks("FIN"));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.SwiftMessageHeaders.Item;
+import com.prowidesoftware.swift.utils.Lib;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test cases for {@link SwiftMessageHeaders}
+ *
+ * @since 9.5.6
+ */
+public class SwiftMessageHeadersTest {
+
+    private static final String MT103 = "{1:F01AAAARUMMAXXX4313990000}{2:I103BBBBUS33XXXXU}"
+            + "{3:{108:MUR123}{121:8d6a8c43-5e97-4b3f-8a2c-7f3d4e5f6a7b}}{4:\r\n"
+            + ":20:REF\r\n"
+            + ":23B:CRED\r\n"
+            + ":32A:130430EUR14500,\r\n"
+            + ":59:/54321\r\n"
+            + "JANE DOE\r\n"
+            + ":71A:OUR\r\n"
+            + "-}{5:{CHK:F4B8A62C8AB8}{PDE:}{PDM:1308090932FOOLBEB0AXXX}}";
+
+    @Test
+    public void testPeekAll() {
+        SwiftMessageHeaders h = SwiftMessageHeaders.peek(MT103);
+        assertEquals("103", h.getType());
+        assertEquals("AAAARUMMAXXX", h.getSender());
+        assertEquals("BBBBUS33XXXX", h.getReceiver());
+        assertEquals(MessageIOType.outgoing, h.getDirection());
+        assertEquals("U", h.getPriority());
+        assertEquals("MUR123", h.getMUR());
+        assertEquals("8d6a8c43-5e97-4b3f-8a2c-7f3d4e5f6a7b", h.getUETR());
+        assertEquals("REF", h.getReference());
+        assertEquals("", h.getPDE());
+        assertEquals("1308090932FOOLBEB0AXXX", h.getPDM());
+        assertSameAsParsed(MT103);
+    }
+
+    @Test
+    public void testPeekOutput() {
+        final String fin = "{1:F01BBBBUS33AXXX0000000000}"
+                + "{2:O1031200130430AAAARUMMAXXX43139900001304301200N}{4:\r\n"
+                + ":20:REF\r\n"
+                + "-}";
+        SwiftMessageHeaders h = SwiftMessageHeaders.peek(fin);
+        assertEquals(MessageIOType.incoming, h.getDirection());
+        assertEquals("AAAARUMMAXXX", h.getSender());
+        assertEquals("BBBBUS33AXXX", h.getReceiver());
+        assertEquals("N", h.getPriority());
+        assertSameAsParsed(fin);
+    }
+
+    @Test
+    public void testPeekRequestedItems() {
+        SwiftMessageHeaders h = SwiftMessageHeaders.peek(MT103, Item.SENDER, Item.UETR);
+        assertEquals("AAAARUMMAXXX", h.getSender());
+        assertEquals("8d6a8c43-5e97-4b3f-8a2c-7f3d4e5f6a7b", h.getUETR());
+        assertNull(h.getType());
+        assertNull(h.getDirection());
+        assertNull(h.getReceiver());
+        assertNull(h.getMUR());
+        assertNull(h.getReference());
+        assertNull(h.getPDE());
+    }
+
+    @Test
+    public void testStopsWhenResolved() {
+        // the scan never reaches the broken content after the requested items
+        final String fin =
+                "{1:F01AAAARUMMAXXX4313990000}{2:I103BBBBUS33XXXXN}{3:{108:MUR}}{4:\r\n" + ":20:REF\r\n" + ":23B:{{{{";
+        assertEquals("103", SwiftMessageHeaders.peek(fin, Item.TYPE).getType());
+        assertEquals("MUR", SwiftMessageHeaders.peek(fin, Item.MUR).getMUR());
+        assertEquals("REF", SwiftMessageHeaders.peek(fin, Item.REFERENCE).getReference());
+        assertNull(SwiftMessageHeaders.peek(fin, Item.PDE).getPDE());
+    }
+
+    @Test
+    public void testSystemMessage() {
+        final String fin = "{1:F01AAAARUMMAXXX4313990000}{2:O0220932130809BBBBUS33AXXX00000000001308090932N}"
+                + "{3:{108:USERMUR}}{4:{108:SYSMUR}{451:0}}";
+        assertEquals("SYSMUR", SwiftMessageHeaders.peek(fin).getMUR());
+        assertEquals("SYSMUR", SwiftMessageHeaders.peek(fin, Item.MUR).getMUR());
+        assertSameAsParsed(fin);
+    }
+
+    @Test
+    public void testServiceMessage() {
+        final String fin = "{1:F21AAAARUMMAXXX4313990000}{4:{177:1308090932}{451:0}{108:ACKMUR}}"
+                + "{1:F01AAAARUMMAXXX4313990000}{2:I103BBBBUS33XXXXN}{3:{108:MUR}}{4:\r\n"
+                + ":20:REF\r\n"
+                + "-}";
+        SwiftMessageHeaders h = SwiftMessageHeaders.peek(fin);
+        assertNull(h.getType());
+        assertEquals("AAAARUMMAXXX", h.getSender());
+        assertNull(h.getReceiver());
+        assertEquals("ACKMUR", h.getMUR());
+        assertNull(h.getReference());
+        assertSameAsParsed(fin);
+    }
+
+    @Test
+    public void testBytes() {
+        final String fin = MT103.replace("JANE DOE", "JANE DOÉ").replace(":20:REF", ":20:RÉF");
+        final byte[] bytes = fin.getBytes(StandardCharsets.UTF_8);
+        assertEquals(SwiftMessageHeaders.peek(fin), SwiftMessageHeaders.peek(bytes));
+        assertEquals("RÉF", SwiftMessageHeaders.peek(bytes).getReference());
+
+        byte[] padded = ("xx" + fin + "yy").getBytes(StandardCharsets.UTF_8);
+        assertEquals(
+                SwiftMessageHeaders.peek(fin), SwiftMessageHeaders.peek(padded, 2, padded.length - 4, Item.values()));
+        assertThrows(IndexOutOfBoundsException.class, () -> SwiftMessageHeaders.peek(bytes, 1, bytes.length));
+    }
+
+    @Test
+    public void testMalformed() {
+        for (String fin :
+                new String[] {"", "garbage", "{", "{1:", "{1:F01}", "{2:I", "{2:O103", "{3:{108:", "{4:\r\n:20:"}) {
+            SwiftMessageHeaders.peek(fin);
+        }
+        assertEquals("", SwiftMessageHeaders.peek("{4:\r\n:20:").getReference());
+        assertNull(SwiftMessageHeaders.peek("{1:F01}").getSender());
+        assertEquals(SwiftMessageHeaders.peek(""), SwiftMessageHeaders.peek("garbage"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "MT101.fin",
+                "MT103-out-ack.rje",
+                "MT305.fin",
+                "MT306.fin",
+                "MT320.txt",
+                "MT340.fin",
+                "MT341.fin",
+                "MT360.fin",
+                "MT361.fin",
+                "MT362.fin",
+                "SWIFTMT300_0000039099_0002.txt",
+                "sample_JPchar.txt"
+            })
+    public void testSameAsParsedForResources(String resource) throws IOException {
+        assertSameAsParsed(Lib.readResource(resource));
+    }
+
+    private static void assertSameAsParsed(final String fin) {
+        SwiftMessage msg;
+        try {
+            msg = SwiftMessage.parse(fin);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        SwiftMessageHeaders h = SwiftMessageHeaders.peek(fin);
+        assertEquals(msg.getType(), h.getType());
+        assertEquals(msg.getSender(), h.getSender());
+        assertEquals(msg.getReceiver(), h.getReceiver());
+        assertEquals(msg.getDirection(), h.getDirection());
+        assertEquals(msg.getBlock2() == null ? null : msg.getBlock2().getMessagePriority(), h.getPriority());
+        assertEquals(msg.getMUR(), h.getMUR());
+        assertEquals(msg.getUETR(), h.getUETR());
+        assertEquals(msg.getBlock4() == null ? null : msg.getBlock4().getTagValue("20"), h.getReference());
+        assertEquals(msg.getPDE(), h.getPDE());
+        assertEquals(msg.getPDM(), h.getPDM());
+    }
+}
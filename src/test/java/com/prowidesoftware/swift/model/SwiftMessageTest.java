@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.prowidesoftware.swift.Constants;
 import com.prowidesoftware.swift.io.ConversionService;
 import com.prowidesoftware.swift.io.parser.SwiftParser;
+import com.prowidesoftware.swift.io.parser.SwiftParserConfiguration;
 import com.prowidesoftware.swift.model.field.Field108;
 import com.prowidesoftware.swift.model.field.Field111;
 import com.prowidesoftware.swift.model.field.Field119;
@@ -527,6 +528,32 @@ public class SwiftMessageTest {
         assertEquals(1, m.getBlock3().countByName(Field108.NAME));
     }
 
+    @Test
+    public void testSetMURCompactBlock() throws IOException {
+        final String systemMessage =
+                "{1:F01AAAAUS30RXXX9999999999}{2:O0111549241112BBBBXXXXHXXX11119553512411121049S}{4:{175:1049}{106:241112CCCCUS30RXXX0426007639}{108:OLDMUR}{175:1549}}{5:{CHK:1234567891234}}";
+        final SwiftParserConfiguration configuration = new SwiftParserConfiguration();
+        configuration.setCompactTextBlock(true);
+        final SwiftParser parser = new SwiftParser(systemMessage);
+        parser.setConfiguration(configuration);
+        final SwiftMessage m = parser.message();
+        assertTrue(m.getBlock4().isCompact());
+
+        m.setMUR("NEWMUR");
+        assertEquals("NEWMUR", m.getMUR());
+        assertEquals(1, m.getBlock4().countByName(Field108.NAME));
+
+        m.getBlock5().compact();
+        m.getBlock5().setTag(SwiftBlock5Field.CHK, "ABCDEF123456");
+        assertEquals("ABCDEF123456", m.getBlock5().getTagValue("CHK"));
+
+        final SwiftBlock3 b3 = new SwiftBlock3();
+        b3.append(new Tag("108", "MUR"));
+        b3.compact();
+        b3.generateMUR(true);
+        assertNotEquals("MUR", b3.getTagValue("108"));
+    }
+
     @Test
     public void testIsGpi() {
         assertTrue(new MT103().getSwiftMessage().isGpi());
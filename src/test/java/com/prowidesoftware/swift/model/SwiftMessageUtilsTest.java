@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
@@ -245,6 +246,7 @@ public class SwiftMessageUtilsTest {
         Calendar date = SwiftMessageUtils.valueDate(sm);
         SimpleDateFormat sdf = new SimpleDateFormat("yyMMdd");
         assertEquals(date.getTime(), sdf.parse("201230"));
+        assertEquals(LocalDate.of(2020, 12, 30), SwiftMessageUtils.valueLocalDate(sm));
 
         // MT306
         sm = SwiftMessage.parse(Lib.readResource("MT306.fin"));
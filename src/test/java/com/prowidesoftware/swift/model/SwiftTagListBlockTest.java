@@ -1824,4 +1824,121 @@ public class SwiftTagListBlockTest {
         assertEquals("22M", list2.get(1).getTag(1).getName());
         assertEquals("95P", list2.get(1).getTag(2).getName());
     }
+
+    @Test
+    public void testCompact() {
+        b.append(new Tag("16R", "GENL"));
+        b.append(new Tag("20C", ":SEME//REF"));
+        b.append(new Tag("ZZ1", "unknown name"));
+        b.append(new Tag("98A", (String) null));
+        b.append(new Tag("98A", ""));
+        b.append(new Tag("16S", "GENL"));
+        final List<Tag> original = new java.util.ArrayList<>(b.getTags());
+
+        assertTrue(b.compact());
+        assertTrue(b.isCompact());
+        assertFalse(b.compact());
+
+        // read access works as before
+        assertEquals(original, b.getTags());
+        assertEquals(6, b.size());
+        assertEquals(":SEME//REF", b.getTagValue("20C"));
+        assertEquals("unknown name", b.getTagValue("ZZ1"));
+        assertEquals(2, b.countByName("98A"));
+        assertNull(b.getTag(3).getValue());
+        assertEquals("", b.getTag(4).getValue());
+        assertEquals(2, b.getTagsByNumber(16).size());
+        assertEquals(6, b.getSubBlock("GENL").size());
+        assertEquals(3, b.indexOfFirst("98A"));
+        assertEquals(-1, b.indexOfFirst("99A"));
+
+        // modifications expand the storage
+        assertEquals("unknown name", b.removeTag("ZZ1"));
+        assertFalse(b.isCompact());
+        b.append(new Tag("72", "FOO"));
+        assertEquals(6, b.size());
+        assertEquals("FOO", b.getTagValue("72"));
+        assertEquals("16S", b.getTag(4).getName());
+    }
+
+    @Test
+    public void testCompactTagEditedInPlace() {
+        b.append(new Tag("20", "REF"));
+        b.append(new Tag("32A", "240131USD1,"));
+        b.append(new Tag("72", "TEXT"));
+        assertTrue(b.compact());
+
+        final Tag t = b.getTagByName("32A");
+        t.setValue("240131EUR2,");
+        assertFalse(b.isCompact());
+        assertSame(t, b.getTag(1));
+        assertEquals("240131EUR2,", b.getTagValue("32A"));
+
+        // further changes to the same tag are kept since it is now in the list
+        t.setName("32B");
+        assertEquals("240131EUR2,", b.getTagValue("32B"));
+        assertNull(b.getTagByName("32A"));
+
+        final SwiftTagListBlock other = new SwiftTagListBlock();
+        other.append(new Tag("20", "REF"));
+        other.compact();
+        other.getTag(0).setNameValue("21", "REL");
+        assertEquals("REL", other.getTagValue("21"));
+        assertEquals(1, other.size());
+    }
+
+    @Test
+    public void testCompactTagsEditedThroughSubBlock() {
+        b.append(new Tag("20", "REF"));
+        for (int i = 0; i < 40; i++) {
+            b.append(new Tag("70", "TEXT" + i));
+        }
+        assertTrue(b.compact());
+        assertNull(b.nameIndex());
+
+        final SwiftTagListBlock sub = b.getSubBlockAfterFirst("20", false);
+        sub.getTag(0).setValue("FOO");
+        sub.getTag(1).setValue("BAR");
+        assertFalse(b.isCompact());
+        assertEquals("FOO", b.getTag(1).getValue());
+        assertEquals("BAR", b.getTag(2).getValue());
+
+        // the expanded block is indexed again
+        assertNotNull(b.nameIndex());
+        assertEquals(40, b.getTagsByName("70").length);
+
+        // a tag read while compact is written back to its shifted position
+        final SwiftTagListBlock other = new SwiftTagListBlock();
+        other.append(new Tag("20", "REF"));
+        other.append(new Tag("21", "REL"));
+        other.compact();
+        final Tag t = other.getTag(1);
+        other.addTag(0, new Tag("16R", "GENL"));
+        t.setValue("NEW");
+        assertEquals("NEW", other.getTagValue("21"));
+        assertEquals(3, other.size());
+
+        // unless the tag at its position was removed
+        final SwiftTagListBlock removed = new SwiftTagListBlock();
+        removed.append(new Tag("20", "REF"));
+        removed.append(new Tag("21", "REL"));
+        removed.compact();
+        final Tag lost = removed.getTag(0);
+        removed.removeTag("20");
+        lost.setValue("LOST");
+        assertNull(removed.getTagByName("20"));
+        assertEquals(1, removed.size());
+    }
+
+    @Test
+    public void testCompactNotAccepted() {
+        assertFalse(b.compact());
+
+        final Tag withUnparsed = new Tag("20", "REF");
+        withUnparsed.setUnparsedTexts(new UnparsedTextList());
+        withUnparsed.getUnparsedTexts().addText("{1:F01AAAAUSC0ADDD0344000050}");
+        b.append(withUnparsed);
+        assertFalse(b.compact());
+        assertFalse(b.isCompact());
+    }
 }
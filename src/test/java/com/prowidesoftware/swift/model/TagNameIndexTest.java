@@ -0,0 +1,171 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.field.Field98A;
+import java.util.ArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Searches by tag name and number served by the {@link TagNameIndex} must return the same results as the plain
+ * scans, done on blocks with tags stored in a list not created by {@link SwiftTagListBlock}.
+ */
+public class TagNameIndexTest {
+
+    private static final String[] NAMES = {"20C", "98A", "98C", "35B", "93B", "59", "59A", "FOO", "98a", "15A"};
+
+    private SwiftTagListBlock indexed;
+
+    @BeforeEach
+    public void setUp() {
+        this.indexed = new SwiftBlock4();
+        this.indexed.append(new Tag("20C", ":SEME//REF"));
+        for (int i = 0; i < 20; i++) {
+            this.indexed.append(new Tag("98A", ":SETT//2023010" + (i % 9 + 1)));
+            this.indexed.append(new Tag("35B", "ISIN XS000000000" + (i % 10)));
+            this.indexed.append(new Tag("93B", ":AGGR//UNIT/" + i + ","));
+        }
+        this.indexed.append(new Tag("98C", ":PREP//20230101120000"));
+        this.indexed.append(new Tag("59", "NAME"));
+        this.indexed.append(new Tag("59A", "BANKUS33XXX"));
+    }
+
+    private SwiftTagListBlock scanned() {
+        return new SwiftTagListBlock(new ArrayList<>(this.indexed.getTags()));
+    }
+
+    private void assertSameResults() {
+        final SwiftTagListBlock scanned = scanned();
+        for (String name : NAMES) {
+            assertEquals(scanned.getTagByName(name), this.indexed.getTagByName(name), name);
+            assertArrayEquals(scanned.getTagsByName(name), this.indexed.getTagsByName(name), name);
+            assertEquals(scanned.getTagValue(name), this.indexed.getTagValue(name), name);
+            assertEquals(scanned.containsTag(name), this.indexed.containsTag(name), name);
+            assertEquals(scanned.countByName(name), this.indexed.countByName(name), name);
+            assertEquals(scanned.indexOfFirst(name), this.indexed.indexOfFirst(name), name);
+            assertEquals(scanned.indexOfLast(name), this.indexed.indexOfLast(name), name);
+            assertEquals(scanned.getFieldByName(name), this.indexed.getFieldByName(name), name);
+            assertEquals(scanned.getFieldsByName(name, "SETT"), this.indexed.getFieldsByName(name, "SETT"), name);
+            assertEquals(scanned.getTagsByName(name, "AGGR"), this.indexed.getTagsByName(name, "AGGR"), name);
+        }
+        for (int number : new int[] {20, 98, 35, 59, 15}) {
+            assertEquals(scanned.getTagByNumber(number), this.indexed.getTagByNumber(number));
+            assertEquals(scanned.getTagsByNumber(number), this.indexed.getTagsByNumber(number));
+            assertEquals(scanned.containsTag(number), this.indexed.containsTag(number));
+        }
+    }
+
+    @Test
+    public void testIndexBuiltOnlyForLargeBlocks() {
+        assertNotNull(this.indexed.nameIndex());
+        assertNull(scanned().nameIndex());
+
+        final SwiftTagListBlock small = new SwiftTagListBlock();
+        small.append(new Tag("20", "REF"));
+        assertNull(small.nameIndex());
+    }
+
+    @Test
+    public void testLookups() {
+        assertSameResults();
+        assertEquals(20, this.indexed.countByName("98A"));
+        assertEquals(21, this.indexed.getTagsByNumber(98).size());
+        assertEquals(21, this.indexed.getFieldsByName("98a").length);
+    }
+
+    @Test
+    public void testAppendKeepsIndex() {
+        final TagNameIndex index = this.indexed.nameIndex();
+        this.indexed.append(new Tag("15A", ""));
+        this.indexed.append(new Field98A(":SETT//20231231"));
+        assertSame(index, this.indexed.nameIndex());
+        assertSameResults();
+        assertEquals(21, this.indexed.countByName("98A"));
+    }
+
+    @Test
+    public void testIndexInvalidatedOnModification() {
+        final TagNameIndex index = this.indexed.nameIndex();
+
+        this.indexed.addTag(0, new Tag("15A", ""));
+        assertNotSame(index, this.indexed.nameIndex());
+        assertSameResults();
+
+        this.indexed.setTag(1, new Tag("FOO", "BAR"));
+        assertSameResults();
+
+        assertEquals(":SETT//20230101", this.indexed.removeTag("98A"));
+        assertSameResults();
+
+        assertEquals(19, this.indexed.removeAll("98A"));
+        assertSameResults();
+
+        this.indexed.getTags().add(new Tag("20C", ":RELA//REL"));
+        assertSameResults();
+        assertEquals(1, this.indexed.countByName("20C"));
+    }
+
+    @Test
+    public void testTagRenamedInPlace() {
+        this.indexed.nameIndex();
+        this.indexed.getTags().get(1).setName("98C");
+        assertSameResults();
+        assertEquals(19, this.indexed.countByName("98A"));
+        assertEquals(2, this.indexed.countByName("98C"));
+    }
+
+    @Test
+    public void testTagRenamedInPlaceToSearchedName() {
+        this.indexed.append(new Tag("20", "REF"));
+        assertEquals(1, this.indexed.countByName("20"));
+        this.indexed.getTag(1).setName("20");
+        assertSameResults();
+        assertEquals(2, this.indexed.getTagsByName("20").length);
+        assertEquals(2, this.indexed.countByName("20"));
+
+        this.indexed.getTag(1).setNameValue("98A", ":SETT//20230101");
+        assertSameResults();
+        assertEquals(1, this.indexed.countByName("20"));
+        assertEquals(20, this.indexed.countByName("98A"));
+    }
+
+    @Test
+    public void testIndexKeptOnEditsOfOtherBlocks() {
+        final TagNameIndex index = this.indexed.nameIndex();
+        final SwiftTagListBlock other = new SwiftTagListBlock();
+        for (Tag t : this.indexed.getTags()) {
+            other.append(new Tag(t));
+        }
+        assertNotNull(other.nameIndex());
+        other.getTag(1).setName("FOO");
+        assertSame(index, this.indexed.nameIndex());
+        assertSameResults();
+    }
+
+    @Test
+    public void testTagRenamedThroughIndexedSubBlock() {
+        final SwiftTagListBlock sub = this.indexed.getSubBlockAfterFirst("20C", false);
+        assertNotNull(sub.nameIndex());
+        this.indexed.nameIndex();
+        sub.getTag(0).setName("98C");
+        assertSameResults();
+        assertEquals(19, this.indexed.countByName("98A"));
+        assertEquals(19, sub.countByName("98A"));
+    }
+}
@@ -125,6 +125,69 @@ public class TagTest {
         assertNull(t.getNumber());
     }
 
+    @Test
+    public void testNumberAndLetterOptionFollowName() {
+        Tag t = new Tag("98A", "value");
+        assertEquals(Integer.valueOf(98), t.getNumber());
+        assertEquals("A", t.getLetterOption());
+
+        t.setName("35B");
+        assertEquals(Integer.valueOf(35), t.getNumber());
+        assertEquals("B", t.getLetterOption());
+        assertTrue(t.isNumber(35));
+        assertFalse(t.isNumber(98));
+
+        // name set directly, as subclasses may do
+        t.name = "MUR";
+        assertNull(t.getNumber());
+        assertEquals("MUR", t.getLetterOption());
+        assertFalse(t.isNumber(-1));
+
+        t = new Tag();
+        assertNull(t.getNumber());
+        assertNull(t.getLetterOption());
+        assertFalse(t.isNumber(0));
+
+        t = new Tag("0058", "value");
+        assertEquals(Integer.valueOf(58), t.getNumber());
+        assertTrue(t.isNumber(58));
+
+        t = new Tag("99999999999A", "value");
+        assertNull(t.getNumber());
+        assertEquals("A", t.getLetterOption());
+
+        t = new Tag("5a1", "value");
+        assertEquals(Integer.valueOf(51), t.getNumber());
+        assertEquals("a", t.getLetterOption());
+    }
+
+    @Test
+    public void testCanonicalName() {
+        final Tag t1 = new Tag(new String("16R"), "GENL");
+        final Tag t2 = new Tag();
+        t2.setName(new StringBuilder("16").append('R').toString());
+        final Tag t3 = new Tag(new String("16R:GENL"));
+        assertSame(t1.getName(), t2.getName());
+        assertSame(t1.getName(), t3.getName());
+        assertSame(t1.tagName(), t2.tagName());
+        assertNotEquals(TagName.UNKNOWN_ID, t1.tagName().id);
+        assertTrue(t2.hasName(TagName.of("16R")));
+        assertFalse(t2.hasName(TagName.of("16S")));
+
+        // block 5 trailers are known too
+        assertNotEquals(TagName.UNKNOWN_ID, TagName.of("CHK").id);
+
+        // unknown names are still compared by value
+        final Tag u = new Tag("ZZ1", "value");
+        assertEquals(TagName.UNKNOWN_ID, u.tagName().id);
+        assertTrue(u.hasName(TagName.of(new String("ZZ1"))));
+        assertFalse(u.hasName(TagName.of("16R")));
+
+        // tags without name
+        assertTrue(new Tag().hasName(null));
+        assertFalse(t1.hasName(null));
+    }
+
     @Test
     public void testEquals() {
         assertEquals(new Tag(), new Tag());
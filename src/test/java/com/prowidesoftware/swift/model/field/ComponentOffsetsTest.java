@@ -0,0 +1,156 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for the fields created with {@link Field#getFieldWithOffsets(String, String)}
+ */
+public class ComponentOffsetsTest {
+
+    private static final String[] VALUES = {
+        "",
+        " ",
+        "/",
+        "//",
+        ":",
+        "::",
+        ":/",
+        "://",
+        "ABC",
+        "123",
+        "ABC/",
+        "/ABC",
+        "ABC/DEF",
+        "ABC//DEF",
+        "ABC/DEF/GHI",
+        "ABC/ /GHI",
+        "ABC/DEF//GHI/JKL",
+        ":QUAL//20240101",
+        ":QUAL//",
+        ":QUAL// ",
+        ":QUAL/SCHEME/CODE",
+        ":QUAL//CODE",
+        ":QUAL/ /CODE",
+        ":QUAL//N12,5",
+        ":QUAL//ABCD/EFGH",
+        ":QUAL//UNIT/1234,56",
+        ":QUAL///12,",
+        ":QUAL//PRCT/",
+        ":QUAL",
+        "QUAL//VALUE",
+        "USD1234,56",
+        "USD",
+        "1234,",
+        "N12,5",
+        "EUR 12",
+        "240101",
+        "2401",
+        "240101USD1234,56",
+        "240101USD",
+        "2401011234,",
+        "C240101EUR1234,56",
+        "D240101EUR",
+        "C24010",
+        "CD240101EUR1,ABC",
+        "C240101,EUR1,",
+        "FOO\nBAR",
+        ":QUAL//LINE1\nLINE2",
+        "ABC/DEF\nGHI/JKL",
+        "١٢ABC/٣"
+    };
+
+    @Test
+    public void testSameComponentsAsParse() {
+        int supported = 0;
+        for (final FieldEnum e : FieldEnum.values()) {
+            final String name = e.fieldName();
+            if (!ComponentOffsets.isSupported(name)) {
+                continue;
+            }
+            supported++;
+            for (final String value : VALUES) {
+                final Field parsed = Field.getField(name, value);
+                final Field offsets = Field.getFieldWithOffsets(name, value);
+                assertEquals(parsed.getComponents(), offsets.getComponents(), name + " [" + value + "]");
+                assertEquals(parsed.getValue(), offsets.getValue(), name + " [" + value + "]");
+                for (int i = 1; i <= parsed.componentsSize(); i++) {
+                    final String c = parsed.getComponent(i);
+                    assertEquals(c, toString(offsets.getComponentChars(i)), name + " [" + value + "] " + i);
+                    assertEquals(c == null ? -1 : c.length(), offsets.getComponentLength(i));
+                    assertTrue(offsets.is(i, c));
+                }
+            }
+        }
+        assertEquals(128, supported);
+    }
+
+    @Test
+    public void testNotSupported() {
+        final Field f = Field.getFieldWithOffsets("50K", "/12345\nFOO");
+        assertTrue(f instanceof Field50K);
+        assertEquals(Field.getField("50K", "/12345\nFOO"), f);
+        assertEquals("12345", f.getComponentChars(1));
+        assertNull(Field.getFieldWithOffsets("ZZZ", "FOO"));
+        assertNotNull(Field.getFieldWithOffsets("98A", null));
+    }
+
+    @Test
+    public void testComponentChars() {
+        final String value = ":SETT//20240131";
+        final Field f = Field.getFieldWithOffsets(new Tag("98A", value));
+        final CharSequence qualifier = f.getComponentChars(1);
+        assertEquals("SETT", qualifier.toString());
+        assertEquals(4, f.getComponentLength(1));
+        assertEquals(8, f.getComponentLength(2));
+        assertTrue(f.is("SETT"));
+        assertFalse(f.is("SET"));
+        assertFalse(f.is(1, null));
+        assertNull(f.getComponentChars(3));
+        assertEquals(-1, f.getComponentLength(3));
+        assertEquals(value, f.getValue());
+
+        // single component fields are parsed as is
+        final Field f20 = Field.getFieldWithOffsets("20", "REFERENCE");
+        assertEquals("REFERENCE", f20.getComponentChars(1));
+    }
+
+    @Test
+    public void testModifyComponents() {
+        final Field32A f = (Field32A) Field.getFieldWithOffsets("32A", "240131USD1234,56");
+        assertEquals("USD", f.getCurrency());
+        f.setComponent2("EUR");
+        assertEquals("EUR", f.getComponent(2));
+        assertEquals("EUR", f.getComponentChars(2));
+        assertTrue(f.is(2, "EUR"));
+        assertEquals("240131EUR1234,56", f.getValue());
+
+        f.setComponent3((String) null);
+        assertNull(f.getComponent(3));
+        assertEquals(-1, f.getComponentLength(3));
+        assertEquals("240131EUR", f.getValue());
+
+        assertEquals(Field.getField("32A", "240131EUR").getComponents(), f.getComponents());
+    }
+
+    private static String toString(final CharSequence s) {
+        return s == null ? null : s.toString();
+    }
+}
@@ -18,6 +18,10 @@ package com.prowidesoftware.swift.model.field;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.prowidesoftware.swift.utils.SwiftFormatUtils;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -71,5 +75,24 @@ public class DateResolverTest {
 
         // first date
         assertNull(field.date());
+        assertEquals(Arrays.asList((LocalDate) null), field.localDates());
+        assertNull(DateResolver.localDate(field));
+    }
+
+    @Test
+    public void testResolveLocalDates() {
+        final Field69A field = new Field69A("PWAL//20050701/20050723");
+        assertEquals(Arrays.asList(LocalDate.of(2005, 7, 1), LocalDate.of(2005, 7, 23)), field.localDates());
+        assertEquals(LocalDate.of(2005, 7, 1), DateResolver.localDate(field));
+        assertEquals(LocalDateTime.of(2005, 7, 1, 0, 0), field.localDateTimes().get(0));
+
+        final Field61 f61 = new Field61("2401310201DR1234,56NTRFNONREF");
+        assertEquals(
+                Arrays.asList(LocalDate.of(2024, 1, 31), LocalDate.of(Year.now().getValue(), 2, 1)), f61.localDates());
+
+        final Field98C f98C = new Field98C(":PREP//20240131101530");
+        assertEquals(LocalDate.of(2024, 1, 31), DateResolver.localDate(f98C));
+
+        assertNull(DateResolver.localDate(new Field20("REF")));
     }
 }
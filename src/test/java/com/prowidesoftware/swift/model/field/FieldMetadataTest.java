@@ -0,0 +1,130 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.utils.ResolverUtils;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link FieldMetadata}
+ */
+public class FieldMetadataTest {
+
+    @Test
+    public void testAllFields() {
+        for (final FieldEnum e : FieldEnum.values()) {
+            final String name = e.fieldName();
+            final Field f = Field.getField(name, null);
+            final FieldMetadata metadata = FieldMetadata.of(name);
+            if (f == null) {
+                assertNull(metadata, name);
+                continue;
+            }
+            assertSame(metadata, FieldMetadata.of(f));
+            assertSame(metadata, FieldMetadata.of(name));
+
+            assertEquals(name, metadata.getName());
+            assertEquals(f.getClass(), metadata.getFieldClass());
+            assertEquals(f.typesPattern(), metadata.getTypesPattern());
+            assertEquals(f.parserPattern(), metadata.getParserPattern());
+            assertEquals(f.validatorPattern(), metadata.getValidatorPattern());
+            assertEquals(f.componentsSize(), metadata.getComponentsSize());
+            assertEquals(f.isGeneric(), metadata.isGeneric());
+            assertEquals(f.getComponentLabels(), metadata.getComponentLabels());
+            assertEquals(f.getComponentMap(), metadata.getComponentMap());
+            assertEquals(f.getLabelMap(), metadata.getLabelMap());
+
+            for (int i = 1; i <= f.componentsSize(); i++) {
+                assertEquals(f.isOptional(i), metadata.isOptional(i), name + " " + i);
+            }
+            final String pattern = f.typesPattern();
+            assertEquals(ResolverUtils.findWantedTypesPosition(pattern, "DEFYAUPJ"), positions(metadata, 'D'), name);
+            assertEquals(ResolverUtils.findWantedTypesPosition(pattern, 'I'), positions(metadata, 'I'), name);
+            assertEquals(ResolverUtils.findWantedTypesPosition(pattern, 'C'), positions(metadata, 'C'), name);
+            assertEquals(ResolverUtils.findWantedTypesPosition(pattern, 'B'), positions(metadata, 'B'), name);
+        }
+    }
+
+    private static List<Integer> positions(final FieldMetadata metadata, final char type) {
+        final List<Integer> result = new ArrayList<>();
+        for (int i = 1; i <= metadata.getTypesPattern().length(); i++) {
+            if (type == 'D' && metadata.isDate(i)
+                    || type == 'I' && metadata.isAmount(i)
+                    || type == 'C' && metadata.isCurrency(i)
+                    || type == 'B' && metadata.isBic(i)) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testShared() {
+        final Field32A f = new Field32A("240131USD1234,56");
+        assertSame(f.getComponentLabels(), new Field32A().getComponentLabels());
+        assertSame(f.getLabelMap(), new Field32A().getLabelMap());
+        assertThrows(UnsupportedOperationException.class, () -> f.getComponentLabels().add("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> f.getLabelMap().put("foo", 1));
+        assertEquals(2, f.componentNameToNumber("Currency"));
+
+        final FieldMetadata metadata = FieldMetadata.of("32A");
+        assertEquals(0b001, metadata.getDateMask());
+        assertEquals(0b010, metadata.getCurrencyMask());
+        assertEquals(0b100, metadata.getAmountMask());
+        assertEquals(0, metadata.getBicMask());
+        assertEquals('C', metadata.getType(2));
+        assertEquals(0, metadata.getType(4));
+
+        assertNull(FieldMetadata.of("ZZZ"));
+        assertNull(FieldMetadata.of((String) null));
+    }
+
+    @Test
+    public void testAliases() {
+        final FieldMetadata metadata = FieldMetadata.of("27");
+        assertEquals(Integer.valueOf(1), metadata.getLabelMap().get("number"));
+        assertEquals(Integer.valueOf(1), metadata.getLabelMap().get("messagenumber"));
+        assertEquals(Integer.valueOf(2), metadata.getLabelMap().get("sequencenumber"));
+        assertEquals(4, metadata.getLabelMap().size());
+    }
+
+    @Test
+    public void testResolvers() {
+        final Field32A f = new Field32A("240131USD1234,56");
+        assertEquals(new BigDecimal("1234.56"), AmountResolver.amount(f));
+        assertEquals(1, AmountResolver.amounts(f).size());
+        assertEquals(2024, DateResolver.date(f).get(Calendar.YEAR));
+        assertEquals(1, DateResolver.dates(f).size());
+        assertEquals("USD", CurrencyResolver.currencyStrings(f).get(0));
+        CurrencyResolver.resolveSetCurrency(f, "EUR");
+        assertEquals("240131EUR1234,56", f.getValue());
+
+        final Field32A empty = new Field32A();
+        assertNull(AmountResolver.amount(empty));
+        assertTrue(AmountResolver.amounts(empty).isEmpty());
+        assertEquals(1, DateResolver.dates(empty).size());
+        assertNull(DateResolver.dates(empty).get(0));
+
+        assertNull(DateResolver.date(new Field20("REF")));
+        assertEquals("AAAAUS33XXX", BICResolver.bicStrings(new Field52A("AAAAUS33XXX")).get(0));
+    }
+}
@@ -19,7 +19,12 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.prowidesoftware.swift.model.Tag;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
@@ -212,6 +217,45 @@ public class FieldTest {
         assertNotNull(f);
     }
 
+    @Test
+    public void testFactoryMatchesFieldClasses() throws Exception {
+        int found = 0;
+        for (FieldEnum e : FieldEnum.values()) {
+            final String name = e.fieldName();
+            Class<?> c;
+            try {
+                c = Class.forName("com.prowidesoftware.swift.model.field.Field" + name);
+            } catch (ClassNotFoundException ex) {
+                c = null;
+            }
+            final Field f = Field.getField(name, null);
+            if (c == null) {
+                assertNull(f, name);
+                assertNull(Field.getFieldFactory(name), name);
+            } else {
+                found++;
+                assertNotNull(f, name);
+                assertEquals(c, f.getClass());
+                assertEquals(name, f.getName());
+                assertEquals(c, Field.getFieldFactory(name).apply(null).getClass());
+            }
+        }
+        assertTrue(found > 600);
+    }
+
+    @Test
+    public void testFactoryUnknownName() {
+        assertNull(Field.getField("99Z", "foo"));
+        assertNull(Field.getField("99Z", "foo"));
+        assertNull(Field.getField("Enum", "foo"));
+        assertNull(Field.getField((String) null, "foo"));
+        assertNull(Field.getFieldFactory("99Z"));
+        assertNull(Field.getFieldFactory(null));
+
+        final Field32A f = (Field32A) Field.getFieldFactory("32A").apply("130901USD10,1");
+        assertEquals("USD", f.getCurrency());
+    }
+
     @Test
     public void testValidName() {
         /*
@@ -311,4 +355,114 @@ public class FieldTest {
         // field getValue() is empty, not null, so the Tag ends up with empty as value
         assertEquals("", t.getValue());
     }
+
+    @Test
+    public void testLazyParsing() {
+        Field.setLazyParsing(true);
+        try {
+            // a value that would not be written back as is after the parse
+            final String value = "210518USD1234,56 ";
+            final Field32A f = (Field32A) Field.getField("32A", value);
+            assertEquals("32A", f.getName());
+            assertTrue(f.isNameAnyOf("32A"));
+            assertEquals(value, f.getValue());
+            assertEquals(value, f.asTag().getValue());
+
+            // reading the components does not change the value
+            assertEquals("USD", f.getCurrency());
+            assertEquals(new Field32A(value).getComponents(), f.getComponents());
+            assertEquals(value, f.getValue());
+
+            // modifying a component does
+            f.setComponent2("EUR");
+            assertEquals("210518EUR1234,56 ", f.getValue());
+            assertNull(f.getLazyValue());
+
+            // empty components are trimmed to null as in the eager parse
+            final Field98A f98 = new Field98A(":SETT//");
+            assertNull(f98.getComponent(2));
+            assertEquals(":SETT//", f98.getValue());
+
+            // parsing a new value discards the original
+            f98.parse(":TRAD//20240131");
+            assertEquals("20240131", f98.getComponent(2));
+            assertEquals(":TRAD//20240131", f98.getValue());
+
+            final Field20 f20 = new Field20("REF");
+            assertEquals(new Field20("REF"), f20);
+        } finally {
+            Field.setLazyParsing(false);
+        }
+        assertNull(new Field32A("210518USD1234,56").getLazyValue());
+    }
+
+    @Test
+    public void testLazyParsingConcurrentAccess() throws Exception {
+        Field.setLazyParsing(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 500; i++) {
+                final Field98A f = new Field98A(":SETT//20240131");
+                final List<Future<String>> results = new ArrayList<>();
+                for (int j = 0; j < 8; j++) {
+                    results.add(executor.submit(() -> f.getComponent(1) + f.getComponent(2)));
+                }
+                for (Future<String> result : results) {
+                    assertEquals("SETT20240131", result.get());
+                }
+                assertEquals(":SETT//20240131", f.getValue());
+            }
+        } finally {
+            executor.shutdown();
+            Field.setLazyParsing(false);
+        }
+    }
+
+    @Test
+    public void testEqualsHashCodeToString() {
+        final Field[] fields = {
+            new Field20("REF"),
+            new Field20("REF"),
+            new Field20("OTHER"),
+            new Field21("REF"),
+            new Field32A("210518USD1234,56"),
+            new Field32A("210518USD1234,56"),
+            Field.getFieldWithOffsets("32A", "210518USD1234,56"),
+            new Field32A("210518EUR1234,56"),
+            new Field32A().setComponent1("210518").setComponent2("USD"),
+            new Field32A().setComponent1("210518").setComponent2("USD").setComponent3(""),
+            new Field98A(":SETT//20240131"),
+            new Field98A(":SETT//"),
+            new Field98C(":SETT//20240131"),
+            new Field50K("/12345\nFOO\nBAR"),
+            new Field50K("/12345\nFOO"),
+            new Field50K()
+        };
+        for (final Field f1 : fields) {
+            assertFalse(f1.equals(null));
+            assertFalse(f1.equals(f1.getValue()));
+            assertEquals(
+                    org.apache.commons.lang3.builder.ToStringBuilder.reflectionToString(f1), f1.toString());
+            for (final Field f2 : fields) {
+                final boolean expected = org.apache.commons.lang3.builder.EqualsBuilder.reflectionEquals(f1, f2);
+                assertEquals(expected, f1.equals(f2), f1 + " " + f2);
+                if (expected) {
+                    assertEquals(f1.hashCode(), f2.hashCode());
+                }
+            }
+        }
+
+        // the cached label map is not part of the equality
+        final Field32A f1 = new Field32A("210518USD1234,56");
+        final Field32A f2 = new Field32A("210518USD1234,56");
+        f1.getLabelMap();
+        assertEquals(f1, f2);
+        assertEquals(f1.hashCode(), f2.hashCode());
+
+        // modifying the components changes the hash code
+        final int hash = f2.hashCode();
+        f2.getComponents().set(1, "EUR");
+        assertNotEquals(f1, f2);
+        assertNotEquals(hash, f2.hashCode());
+    }
 }
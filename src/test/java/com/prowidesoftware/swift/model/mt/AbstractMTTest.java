@@ -71,6 +71,64 @@ public class AbstractMTTest {
         assertEquals("bar2", Bs.get(1).getTag(2).getValue());
     }
 
+    @Test
+    public void testSequenceNames() {
+        AbstractMT mt = new MT547();
+        assertTrue(mt.getSequenceNames().contains("A"));
+        assertTrue(mt.getSequenceNames().contains("GENL"));
+        assertTrue(mt.getSequenceListNames().contains("A1"));
+        assertFalse(mt.getSequenceNames().contains("A1"));
+        assertFalse(mt.getSequenceNames().contains("Number"));
+        assertTrue(mt.containsSequence("B"));
+        assertTrue(mt.containsSequenceList("A1"));
+        assertFalse(mt.containsSequence("A1"));
+        assertFalse(mt.containsSequence("Number"));
+        assertFalse(mt.containsSequence(null));
+        assertNull(mt.getSequence("Z9"));
+        assertNull(mt.getSequenceList("Z9"));
+
+        assertTrue(new MT103().getSequenceNames().isEmpty());
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> new MT102().getSequenceNames().add("X"));
+
+        // same sequences found by reflection
+        for (MtSequenceEnum e : MtSequenceEnum.values()) {
+            AbstractMT o = MtFactory.create(e.name().substring(2), null, new SwiftMessage(true));
+            if (o == null) {
+                continue;
+            }
+            for (String path : e.sequences()) {
+                String name = path.substring(path.lastIndexOf('/') + 1);
+                assertEquals(hasMethod(o, "getSequence" + name), o.containsSequence(name), e + " " + name);
+                assertEquals(hasMethod(o, "getSequence" + name + "List"), o.containsSequenceList(name), e + " " + name);
+            }
+        }
+    }
+
+    private static boolean hasMethod(AbstractMT o, String name) {
+        try {
+            o.getClass().getMethod(name);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void testGetSequenceFromBlock() {
+        SwiftMessage m = new MT102()
+                .append(MT102.SequenceA.newInstance(Field32A.tag("foo"))
+                        .append(MT102.SequenceB.newInstance(Field32A.tag("bar")))
+                        .append(MT102.SequenceB.newInstance(Field32A.tag("bar1"))))
+                .getSwiftMessage();
+        AbstractMT o = m.toMT();
+        assertEquals(2, o.getSequenceList("B", m.getBlock4()).size());
+        assertEquals(o.getSequence("A"), o.getSequence("A", m.getBlock4()));
+        assertEquals(o.getSequenceList("B"), o.getSequenceList("B", null));
+        assertNull(o.getSequence("Z", m.getBlock4()));
+    }
+
     @Test
     public void test_conversin_to_xml() {
         String fin =
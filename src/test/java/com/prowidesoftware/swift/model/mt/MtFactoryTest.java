@@ -0,0 +1,81 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.mt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT103;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT103_STP;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT202COV;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link MtFactory} class
+ *
+ * @since 9.5.6
+ */
+public class MtFactoryTest {
+
+    private static final String[] SUFFIX = {"", "_STP", "_REMIT", "COV"};
+    private static final MTVariant[] VARIANT = {null, MTVariant.STP, MTVariant.REMIT, MTVariant.COV};
+
+    @Test
+    public void testFactoryMatchesModelClasses() {
+        int found = 0;
+        final SwiftMessage m = new SwiftMessage(true);
+        for (int i = 0; i < 1000; i++) {
+            final String type = String.format("%03d", i);
+            for (int v = 0; v < SUFFIX.length; v++) {
+                Class<?> c;
+                try {
+                    c = Class.forName("com.prowidesoftware.swift.model.mt.mt" + i / 100 + "xx.MT" + type + SUFFIX[v]);
+                } catch (ClassNotFoundException e) {
+                    c = null;
+                }
+                final AbstractMT mt = MtFactory.create(type, VARIANT[v], m);
+                assertEquals(c != null, MtFactory.isSupported(type, VARIANT[v]), type + SUFFIX[v]);
+                if (c == null) {
+                    assertNull(mt, type + SUFFIX[v]);
+                    assertNull(MtFactory.getFactory(type, VARIANT[v]));
+                } else {
+                    found++;
+                    assertEquals(c, mt.getClass());
+                    assertSame(m, mt.getSwiftMessage());
+                }
+            }
+        }
+        assertTrue(found > 270);
+        assertNull(MtFactory.create("10", null, m));
+        assertNull(MtFactory.create("103", MTVariant.RFDD, m));
+        assertFalse(MtFactory.isSupported(null, null));
+    }
+
+    @Test
+    public void testToMT() throws IOException {
+        final String stp = "{1:F01AAAAUSXXXXXX0000000000}{2:I103BBBBUSXXXXXXN}{3:{119:STP}}{4:\n:20:REF\n-}";
+        assertTrue(AbstractMT.parse(stp) instanceof MT103_STP);
+        assertTrue(AbstractMT.parse(stp.replace("{3:{119:STP}}", "")) instanceof MT103);
+        assertTrue(AbstractMT.parse(stp.replace("I103", "I202").replace("STP", "COV")) instanceof MT202COV);
+        // unexpected variant falls back to the base type
+        assertEquals("202", AbstractMT.parse(stp.replace("I103", "I202")).getMessageType());
+        assertNull(AbstractMT.parse(stp.replace("I103", "I1X3")));
+
+        final AbstractMT mt = MtFactory.getFactory("103", MTVariant.STP).apply(SwiftMessage.parse(stp));
+        assertTrue(mt instanceof MT103_STP);
+    }
+}
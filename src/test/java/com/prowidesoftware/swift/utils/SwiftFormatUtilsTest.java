@@ -18,6 +18,9 @@ package com.prowidesoftware.swift.utils;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.Year;
 import java.util.Calendar;
 import org.junit.jupiter.api.Test;
@@ -137,6 +140,79 @@ public class SwiftFormatUtilsTest {
         assertTrue(SwiftFormatUtils.isLeapYear(2016));
         assertFalse(SwiftFormatUtils.isLeapYear(2017));
         assertTrue(SwiftFormatUtils.isLeapYear(2020));
+        assertFalse(SwiftFormatUtils.isLeapYear(1900));
+        assertTrue(SwiftFormatUtils.isLeapYear(2000));
+        // julian calendar before the gregorian cutover
+        assertTrue(SwiftFormatUtils.isLeapYear(1500));
+    }
+
+    @Test
+    public void testGetLocalDates() {
+        assertEquals(LocalDate.of(2007, 1, 31), SwiftFormatUtils.getLocalDate2("070131"));
+        assertEquals(LocalDate.of(2008, 2, 29), SwiftFormatUtils.getLocalDate2("080229"));
+        assertNull(SwiftFormatUtils.getLocalDate2("070229"));
+        assertNull(SwiftFormatUtils.getLocalDate2("070132"));
+        assertNull(SwiftFormatUtils.getLocalDate2("071301"));
+        assertNull(SwiftFormatUtils.getLocalDate2("07013A"));
+        assertNull(SwiftFormatUtils.getLocalDate2("0701311"));
+        assertNull(SwiftFormatUtils.getLocalDate2(null));
+
+        // two digits years as in the calendar parsing
+        for (final String value : new String[] {"991231", "000101", "450615", "460101", "461231", "470101", "701020"}) {
+            final Calendar cal = SwiftFormatUtils.getDate2(value);
+            final LocalDate date = SwiftFormatUtils.getLocalDate2(value);
+            assertEquals(cal.get(Calendar.YEAR), date.getYear(), value);
+            assertEquals(cal.get(Calendar.MONTH) + 1, date.getMonthValue(), value);
+            assertEquals(cal.get(Calendar.DAY_OF_MONTH), date.getDayOfMonth(), value);
+        }
+
+        assertEquals(LocalDate.of(2024, 2, 29), SwiftFormatUtils.getLocalDate4("20240229"));
+        assertNull(SwiftFormatUtils.getLocalDate4("20230229"));
+        assertNull(SwiftFormatUtils.getLocalDate4("00000101"));
+        assertNull(SwiftFormatUtils.getLocalDate4("2024-1-1"));
+
+        assertEquals(LocalDate.of(Year.now().getValue(), 8, 27), SwiftFormatUtils.getLocalMonthDay("0827"));
+        assertEquals(Year.now().isLeap(), SwiftFormatUtils.getLocalMonthDay("0229") != null);
+        assertNull(SwiftFormatUtils.getLocalMonthDay("0832"));
+    }
+
+    @Test
+    public void testGetLocalTimes() {
+        assertEquals(LocalTime.of(23, 59), SwiftFormatUtils.getLocalTime("2359"));
+        assertEquals(LocalTime.MIDNIGHT, SwiftFormatUtils.getLocalTime("0000"));
+        assertNull(SwiftFormatUtils.getLocalTime("2400"));
+        assertNull(SwiftFormatUtils.getLocalTime("0060"));
+        assertNull(SwiftFormatUtils.getLocalTime("123"));
+
+        assertEquals(LocalTime.of(12, 30, 45), SwiftFormatUtils.getLocalTime2("123045"));
+        assertNull(SwiftFormatUtils.getLocalTime2("123060"));
+
+        assertEquals(LocalDateTime.of(2024, 1, 31, 10, 15), SwiftFormatUtils.getLocalDateTime("202401311015"));
+        assertNull(SwiftFormatUtils.getLocalDateTime("202401321015"));
+        assertNull(SwiftFormatUtils.getLocalDateTime("202401312415"));
+
+        assertEquals(LocalDateTime.of(2024, 1, 31, 10, 15), SwiftFormatUtils.getLocalDateTimeShortYear("2401311015"));
+        assertNull(SwiftFormatUtils.getLocalDateTimeShortYear("24013110"));
+    }
+
+    @Test
+    public void testGetCalendarFields() {
+        final Calendar cal = SwiftFormatUtils.getDateTime("202401311015");
+        assertEquals(2024, cal.get(Calendar.YEAR));
+        assertEquals(Calendar.JANUARY, cal.get(Calendar.MONTH));
+        assertEquals(31, cal.get(Calendar.DAY_OF_MONTH));
+        assertEquals(10, cal.get(Calendar.HOUR_OF_DAY));
+        assertEquals(15, cal.get(Calendar.MINUTE));
+        assertEquals(0, cal.get(Calendar.MILLISECOND));
+        assertTrue(cal.isLenient());
+
+        final Calendar time = SwiftFormatUtils.getTime2("123045");
+        assertEquals(1970, time.get(Calendar.YEAR));
+        assertEquals(12, time.get(Calendar.HOUR_OF_DAY));
+        assertEquals(45, time.get(Calendar.SECOND));
+
+        assertNull(SwiftFormatUtils.getDate4("20241301"));
+        assertNull(SwiftFormatUtils.getTime2("240000"));
     }
 
     @Test
@@ -186,4 +262,54 @@ public class SwiftFormatUtilsTest {
         assertEquals(6, SwiftFormatUtils.decimalsInAmount(new BigDecimal("1.000123")));
         assertEquals(8, SwiftFormatUtils.decimalsInAmount(new BigDecimal("1.00012300")));
     }
+
+    @Test
+    public void testGetBigDecimalScale() {
+        // the scale is the number of decimals present in the value
+        assertBigDecimal("1234", 0, SwiftFormatUtils.getBigDecimal("1234,"));
+        assertBigDecimal("1234.50", 2, SwiftFormatUtils.getBigDecimal("1234,50"));
+        assertBigDecimal("0.00", 2, SwiftFormatUtils.getBigDecimal("0,00"));
+        assertBigDecimal("12.3", 1, SwiftFormatUtils.getBigDecimal("00012,3"));
+        assertBigDecimal("0.5", 1, SwiftFormatUtils.getBigDecimal(",5"));
+        assertBigDecimal("123456789012345", 0, SwiftFormatUtils.getBigDecimal("123456789012345,"));
+        assertBigDecimal("123456789012345.12", 2, SwiftFormatUtils.getBigDecimal("123456789012345,12"));
+        assertBigDecimal("1234567890123456789012.5", 1, SwiftFormatUtils.getBigDecimal("1234567890123456789012,5"));
+
+        // values other than plain amounts are parsed as before
+        assertNull(SwiftFormatUtils.getBigDecimal(","));
+        assertNull(SwiftFormatUtils.getBigDecimal(""));
+        assertBigDecimal("12", 0, SwiftFormatUtils.getBigDecimal("12ABC"));
+        assertBigDecimal("12.34", 2, SwiftFormatUtils.getBigDecimal("12,34,56"));
+        assertBigDecimal("-12.5", 1, SwiftFormatUtils.getBigDecimal("-12,5"));
+        assertEquals(SwiftFormatUtils.getBigDecimal("1234,50"), SwiftFormatUtils.getNumber("1234,50"));
+    }
+
+    private static void assertBigDecimal(final String expected, final int scale, final BigDecimal actual) {
+        assertEquals(new BigDecimal(expected), actual);
+        assertEquals(scale, actual.scale());
+    }
+
+    @Test
+    public void testGetBigDecimalWriter() {
+        assertEquals("0,", SwiftFormatUtils.getBigDecimal(new BigDecimal("0.00")));
+        assertEquals("1000,", SwiftFormatUtils.getBigDecimal(new BigDecimal("1E+3")));
+        assertEquals("0,005", SwiftFormatUtils.getBigDecimal(new BigDecimal("0.00500")));
+        assertEquals("123456789012345,12", SwiftFormatUtils.getBigDecimal(new BigDecimal("123456789012345.12")));
+        assertEquals(
+                "1234567890123456789012,5",
+                SwiftFormatUtils.getBigDecimal(new BigDecimal("1234567890123456789012.50")));
+
+        // up to 10 decimals rounded half even
+        assertEquals("0,123456789", SwiftFormatUtils.getBigDecimal(new BigDecimal("0.12345678905")));
+        assertEquals("0,1234567892", SwiftFormatUtils.getBigDecimal(new BigDecimal("0.12345678915")));
+        assertEquals("1,", SwiftFormatUtils.getBigDecimal(new BigDecimal("0.99999999999")));
+
+        // negative values keep the sign even when rounded to zero
+        assertEquals("-12,5", SwiftFormatUtils.getBigDecimal(new BigDecimal("-12.5")));
+        assertEquals("-0,", SwiftFormatUtils.getBigDecimal(new BigDecimal("-0.00000000001")));
+
+        assertEquals("-5,", SwiftFormatUtils.getNumber(-5));
+        assertEquals("9223372036854775807,", SwiftFormatUtils.getNumber(Long.MAX_VALUE));
+        assertEquals("0,5", SwiftFormatUtils.getNumber(0.5d));
+    }
 }